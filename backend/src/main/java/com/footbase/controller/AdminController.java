@@ -3,13 +3,29 @@ package com.footbase.controller;
 import com.footbase.entity.Mac;
 import com.footbase.entity.Takim;
 import com.footbase.entity.Oyuncu;
+import com.footbase.patterns.chain.yorum.KufurFiltresiHandler;
+import com.footbase.patterns.chain.yorum.YorumHizSinirlayici;
 import com.footbase.patterns.command.dto.MacSonlandirDTO;
 import com.footbase.patterns.command.dto.SkorGirisiDTO;
 import com.footbase.patterns.command.service.MacCommandService;
 import com.footbase.security.JwtUtil;
+import com.footbase.security.KullaniciPrincipalOnbellegi;
+import com.footbase.service.CanliYorumYayini;
+import com.footbase.service.MacDurumServisi;
+import com.footbase.service.KarsilasmaGecmisi;
+import com.footbase.service.LiderlikTablolari;
+import com.footbase.service.LigPuanDurumu;
+import com.footbase.service.MacPuanToplamlari;
+import com.footbase.service.OyuncuIstatistikleri;
+import com.footbase.service.OyuncuYorumPuanlari;
 import com.footbase.service.MacService;
+import com.footbase.service.MacZamanCizelgesi;
+import com.footbase.service.TakimFormu;
 import com.footbase.service.TakimService;
+import com.footbase.service.YorumAlimServisi;
+import com.footbase.service.YorumBegeniSayaci;
 import com.footbase.service.OyuncuService;
+import com.footbase.service.SonYorumlarTamponu;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -42,6 +58,54 @@ public class AdminController {
     @Autowired
     private MacCommandService macCommandService;
 
+    @Autowired
+    private MacDurumServisi macDurumServisi;
+
+    @Autowired
+    private MacZamanCizelgesi macZamanCizelgesi;
+
+    @Autowired
+    private KullaniciPrincipalOnbellegi principalOnbellegi;
+
+    @Autowired
+    private KufurFiltresiHandler kufurFiltresiHandler;
+
+    @Autowired
+    private YorumHizSinirlayici yorumHizSinirlayici;
+
+    @Autowired
+    private YorumAlimServisi yorumAlimServisi;
+
+    @Autowired
+    private YorumBegeniSayaci yorumBegeniSayaci;
+
+    @Autowired
+    private CanliYorumYayini canliYorumYayini;
+
+    @Autowired
+    private SonYorumlarTamponu sonYorumlarTamponu;
+
+    @Autowired
+    private MacPuanToplamlari macPuanToplamlari;
+
+    @Autowired
+    private OyuncuIstatistikleri oyuncuIstatistikleri;
+
+    @Autowired
+    private OyuncuYorumPuanlari oyuncuYorumPuanlari;
+
+    @Autowired
+    private LigPuanDurumu ligPuanDurumu;
+
+    @Autowired
+    private LiderlikTablolari liderlikTablolari;
+
+    @Autowired
+    private KarsilasmaGecmisi karsilasmaGecmisi;
+
+    @Autowired
+    private TakimFormu takimFormu;
+
     /**
      * JWT token'dan kullanıcı ID'sini alır
      * @param request HTTP request
@@ -223,6 +287,324 @@ public class AdminController {
         }
     }
 
+    // ========== MAÇ GÜNCEL DURUM PROJEKSİYONU ==========
+
+    /**
+     * Güncel durum projeksiyonunu mac_durum_gecmisi ile karşılaştırır
+     * @return Tutarlılık raporu
+     */
+    @GetMapping("/match-status/consistency")
+    public ResponseEntity<?> durumProjeksiyonuKontrolEt() {
+        try {
+            return ResponseEntity.ok(macDurumServisi.tutarlilikKontrolu());
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.internalServerError().body(Map.of("hata", "Tutarlılık kontrolü yapılırken bir hata oluştu: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Güncel durum projeksiyonunu mac_durum_gecmisi tablosundan yeniden oluşturur
+     * @return Yeniden oluşturulan maç sayısı
+     */
+    @PostMapping("/match-status/rebuild")
+    public ResponseEntity<?> durumProjeksiyonunuYenidenOlustur() {
+        try {
+            int macSayisi = macDurumServisi.projeksiyonuYenidenOlustur();
+            return ResponseEntity.ok(Map.of("basarili", true, "macSayisi", macSayisi));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.internalServerError().body(Map.of("hata", "Projeksiyon yeniden oluşturulurken bir hata oluştu: " + e.getMessage()));
+        }
+    }
+
+    // ========== MAÇ ZAMAN ÇİZELGESİ (BELLEK İÇİ İNDEKS) ==========
+
+    /**
+     * Bellek içi maç zaman çizelgesini veritabanıyla karşılaştırır
+     * @return Doğrulama raporu (eksik, fazla ve zamanı farklı maç ID'leri)
+     */
+    @GetMapping("/timeline/verify")
+    public ResponseEntity<?> zamanCizelgesiniDogrula() {
+        try {
+            return ResponseEntity.ok(macZamanCizelgesi.dogrula());
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.internalServerError().body(Map.of("hata", "Zaman çizelgesi doğrulanırken bir hata oluştu: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Bellek içi maç zaman çizelgesini veritabanından yeniden oluşturur
+     * @return İndeksteki maç sayısı
+     */
+    @PostMapping("/timeline/rebuild")
+    public ResponseEntity<?> zamanCizelgesiniYenidenOlustur() {
+        try {
+            int macSayisi = macZamanCizelgesi.yenidenOlustur();
+            return ResponseEntity.ok(Map.of("basarili", true, "macSayisi", macSayisi));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.internalServerError().body(Map.of("hata", "Zaman çizelgesi yeniden oluşturulurken bir hata oluştu: " + e.getMessage()));
+        }
+    }
+
+    // ========== KİMLİK DOĞRULAMA ÖNBELLEĞİ ==========
+
+    /**
+     * Principal önbelleğinin isabet/ıska istatistiklerini getirir
+     * @return Önbellek istatistikleri
+     */
+    @GetMapping("/auth-cache/stats")
+    public ResponseEntity<?> principalOnbellegiIstatistikleri() {
+        return ResponseEntity.ok(principalOnbellegi.istatistikler());
+    }
+
+    /**
+     * Principal önbelleğini tamamen temizler
+     * @return İşlem sonucu
+     */
+    @PostMapping("/auth-cache/clear")
+    public ResponseEntity<?> principalOnbelleginiTemizle() {
+        principalOnbellegi.tumunuTemizle();
+        return ResponseEntity.ok(Map.of("basarili", true));
+    }
+
+    // ========== KÜFÜR SÖZLÜĞÜ ==========
+
+    /**
+     * Küfür sözlüğünü dosyadan yeniden yükler (uygulama yeniden başlatılmadan)
+     * Yükleme başarısız olursa mevcut sözlük kullanılmaya devam eder
+     * @return Yüklenen kelime sayısı
+     */
+    @PostMapping("/profanity/reload")
+    public ResponseEntity<?> kufurSozlugunuYenidenYukle() {
+        try {
+            int kelimeSayisi = kufurFiltresiHandler.sozluguYenidenYukle();
+            return ResponseEntity.ok(Map.of("basarili", true, "kelimeSayisi", kelimeSayisi));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.internalServerError().body(Map.of("hata", "Küfür sözlüğü yüklenirken bir hata oluştu: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Yorum hız sınırlayıcısının kabul/red sayaçlarını getirir
+     * @return Hız sınırlayıcı istatistikleri
+     */
+    @GetMapping("/comment-rate-limit/stats")
+    public ResponseEntity<?> yorumHizSiniriIstatistikleri() {
+        return ResponseEntity.ok(yorumHizSinirlayici.istatistikler());
+    }
+
+    /**
+     * Asenkron yorum alım kuyruğunun derinlik, parti ve yazma hızı istatistiklerini getirir
+     * @return Yorum alım istatistikleri
+     */
+    @GetMapping("/comment-ingest/stats")
+    public ResponseEntity<?> yorumAlimIstatistikleri() {
+        return ResponseEntity.ok(yorumAlimServisi.istatistikler());
+    }
+
+    /**
+     * Canlı yorum akışının kanal, abone ve düşürülen yavaş abone istatistiklerini getirir
+     * @return Canlı yayın istatistikleri
+     */
+    @GetMapping("/comment-stream/stats")
+    public ResponseEntity<?> canliYorumIstatistikleri() {
+        return ResponseEntity.ok(canliYorumYayini.istatistikler());
+    }
+
+    /**
+     * Ana sayfa son yorumlar tamponunun doluluk ve sürüm bilgisini getirir
+     * @return Tampon istatistikleri
+     */
+    @GetMapping("/recent-comments/stats")
+    public ResponseEntity<?> sonYorumlarIstatistikleri() {
+        return ResponseEntity.ok(sonYorumlarTamponu.istatistikler());
+    }
+
+    /**
+     * Yorum beğeni sayacının bekleyen fark ve yazma istatistiklerini getirir
+     * @return Beğeni sayacı istatistikleri
+     */
+    @GetMapping("/comment-likes/stats")
+    public ResponseEntity<?> yorumBegeniIstatistikleri() {
+        return ResponseEntity.ok(yorumBegeniSayaci.istatistikler());
+    }
+
+    /**
+     * Yorum beğeni sayaçlarını yorum_begenileri tablosundan yeniden hesaplar
+     * @return Düzeltilen yorum sayısı
+     */
+    @PostMapping("/comment-likes/reconcile")
+    public ResponseEntity<?> yorumBegeniSayaclariniUzlastir() {
+        try {
+            int duzeltilen = yorumBegeniSayaci.uzlastir();
+            return ResponseEntity.ok(Map.of("mesaj", "Beğeni sayaçları uzlaştırıldı", "duzeltilenYorum", duzeltilen));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("hata", e.getMessage()));
+        }
+    }
+
+    /**
+     * Maç puan toplamlarının bellek/okuma/uzlaştırma istatistiklerini getirir
+     * @return Toplam istatistikleri
+     */
+    @GetMapping("/match-ratings/stats")
+    public ResponseEntity<?> macPuanIstatistikleri() {
+        return ResponseEntity.ok(macPuanToplamlari.istatistikler());
+    }
+
+    /**
+     * Maç puan toplamlarını mac_puanlamalari tablosundan yeniden hesaplar
+     * @return Düzeltilen maç sayısı
+     */
+    @PostMapping("/match-ratings/reconcile")
+    public ResponseEntity<?> macPuanToplamlariniUzlastir() {
+        try {
+            int duzeltilen = macPuanToplamlari.uzlastir();
+            return ResponseEntity.ok(Map.of("mesaj", "Maç puan toplamları uzlaştırıldı", "duzeltilenMac", duzeltilen));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("hata", e.getMessage()));
+        }
+    }
+
+    /**
+     * Oyuncu istatistik sayaçlarının olay/okuma/yeniden hesaplama istatistiklerini getirir
+     * @return Sayaç istatistikleri
+     */
+    @GetMapping("/player-stats/stats")
+    public ResponseEntity<?> oyuncuIstatistikSayaclari() {
+        return ResponseEntity.ok(oyuncuIstatistikleri.istatistikler());
+    }
+
+    /**
+     * Oyuncu istatistik sayaçlarını olay ve kadro tablolarından yeniden hesaplar
+     * @return Yazılan istatistik satırı sayısı
+     */
+    @PostMapping("/player-stats/recompute")
+    public ResponseEntity<?> oyuncuIstatistikleriniYenidenHesapla() {
+        try {
+            int satir = oyuncuIstatistikleri.yenidenHesapla();
+            return ResponseEntity.ok(Map.of("mesaj", "Oyuncu istatistikleri yeniden hesaplandı", "satir", satir));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("hata", e.getMessage()));
+        }
+    }
+
+    /**
+     * Oyuncu yorum puanı özetlerinin istatistiklerini getirir
+     * @return Puan özeti istatistikleri
+     */
+    @GetMapping("/player-ratings/stats")
+    public ResponseEntity<?> oyuncuYorumPuaniIstatistikleri() {
+        return ResponseEntity.ok(oyuncuYorumPuanlari.istatistikler());
+    }
+
+    /**
+     * Oyuncu yorum puanı özetlerini oyuncu_yorumlari tablosundan yeniden hesaplar
+     * @return Silinen, eklenen veya düzeltilen özet satırı sayısı
+     */
+    @PostMapping("/player-ratings/recompute")
+    public ResponseEntity<?> oyuncuYorumPuanlariniYenidenHesapla() {
+        try {
+            int satir = oyuncuYorumPuanlari.yenidenHesapla();
+            return ResponseEntity.ok(Map.of("mesaj", "Oyuncu yorum puanları yeniden hesaplandı", "satir", satir));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("hata", e.getMessage()));
+        }
+    }
+
+    /**
+     * Bellekteki lig puan durumunun güncelleme/okuma istatistiklerini getirir
+     * @return Puan durumu istatistikleri
+     */
+    @GetMapping("/standings/stats")
+    public ResponseEntity<?> puanDurumuIstatistikleri() {
+        return ResponseEntity.ok(ligPuanDurumu.istatistikler());
+    }
+
+    /**
+     * Lig puan durumunu mac_takimlari tablosundan yeniden kurar (doğrulama)
+     * @return Maç, tablo ve bellektekiyle uyuşmayan tablo sayısı
+     */
+    @PostMapping("/standings/rebuild")
+    public ResponseEntity<?> puanDurumunuYenidenOlustur() {
+        try {
+            return ResponseEntity.ok(ligPuanDurumu.yenidenOlustur());
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("hata", e.getMessage()));
+        }
+    }
+
+    /**
+     * Gol krallığı ve disiplin tablolarının güncelleme/okuma istatistiklerini getirir
+     * @return Liderlik tablosu istatistikleri
+     */
+    @GetMapping("/leaderboards/stats")
+    public ResponseEntity<?> liderlikTablosuIstatistikleri() {
+        return ResponseEntity.ok(liderlikTablolari.istatistikler());
+    }
+
+    /**
+     * Liderlik tablolarını oyuncu_istatistikleri tablosundan yeniden kurar
+     * @return Yüklenen kayıt sayısı
+     */
+    @PostMapping("/leaderboards/rebuild")
+    public ResponseEntity<?> liderlikTablolariniYenidenOlustur() {
+        try {
+            int kayit = liderlikTablolari.yenidenOlustur();
+            return ResponseEntity.ok(Map.of("mesaj", "Liderlik tabloları yeniden oluşturuldu", "kayit", kayit));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("hata", e.getMessage()));
+        }
+    }
+
+    /**
+     * Takımlar arası karşılaşma geçmişinin güncelleme/okuma istatistiklerini getirir
+     * @return Karşılaşma geçmişi istatistikleri
+     */
+    @GetMapping("/head-to-head/stats")
+    public ResponseEntity<?> karsilasmaGecmisiIstatistikleri() {
+        return ResponseEntity.ok(karsilasmaGecmisi.istatistikler());
+    }
+
+    /**
+     * Karşılaşma geçmişini sonuçlanmış maçlardan yeniden kurar
+     * @return Maç ve takım çifti sayısı
+     */
+    @PostMapping("/head-to-head/rebuild")
+    public ResponseEntity<?> karsilasmaGecmisiniYenidenOlustur() {
+        try {
+            return ResponseEntity.ok(karsilasmaGecmisi.yenidenOlustur());
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("hata", e.getMessage()));
+        }
+    }
+
+    /**
+     * Takım form tamponlarının güncelleme/okuma istatistiklerini getirir
+     * @return Takım formu istatistikleri
+     */
+    @GetMapping("/team-form/stats")
+    public ResponseEntity<?> takimFormuIstatistikleri() {
+        return ResponseEntity.ok(takimFormu.istatistikler());
+    }
+
+    /**
+     * Takım form tamponlarını sonuçlanmış maçlardan yeniden kurar
+     * @return Maç ve takım sayısı
+     */
+    @PostMapping("/team-form/rebuild")
+    public ResponseEntity<?> takimFormlariniYenidenOlustur() {
+        try {
+            return ResponseEntity.ok(takimFormu.yenidenOlustur());
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("hata", e.getMessage()));
+        }
+    }
+
     // ========== MAÇ SKOR VE SONLANDIRMA İŞLEMLERİ (COMMAND PATTERN) ==========
 
     /**
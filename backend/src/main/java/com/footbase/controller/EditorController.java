@@ -6,7 +6,6 @@ import com.footbase.entity.Oyuncu;
 import com.footbase.patterns.command.dto.MacSonlandirDTO;
 import com.footbase.patterns.command.dto.SkorGirisiDTO;
 import com.footbase.patterns.command.service.MacCommandService;
-import com.footbase.repository.MacOyuncuOlaylariRepository;
 import com.footbase.repository.MacRepository;
 import com.footbase.repository.OyuncuRepository;
 import com.footbase.security.JwtUtil;
@@ -36,9 +35,6 @@ public class EditorController {
     @Autowired
     private MacRepository macRepository;
     
-    @Autowired
-    private MacOyuncuOlaylariRepository macOyuncuOlaylariRepository;
-    
     @Autowired
     private OyuncuRepository oyuncuRepository;
 
@@ -177,16 +173,38 @@ public class EditorController {
             olay.setOyuncu(oyuncu);
             olay.setOlayTuru(olayTuru);
             
-            macOyuncuOlaylariRepository.save(olay);
+            // Oyuncu istatistik sayaçları macOlayEkle içinde güncellenir
+            MacOyuncuOlaylari kaydedilenOlay = macService.macOlayEkle(olay, editorId);
             
             System.out.println("✓ Olay eklendi: " + olayTuru + " - Oyuncu: " + oyuncu.getAd());
-            return ResponseEntity.ok(Map.of("mesaj", olayTuru + " başarıyla eklendi"));
+            return ResponseEntity.ok(Map.of("mesaj", olayTuru + " başarıyla eklendi", "olayId", kaydedilenOlay.getId()));
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.internalServerError().body(Map.of("hata", e.getMessage()));
         }
     }
     
+    /**
+     * Maçtan olay siler
+     * DELETE /api/editor/matches/{id}/events/{olayId}
+     */
+    @DeleteMapping("/matches/{id}/events/{olayId}")
+    public ResponseEntity<?> olaySil(@PathVariable Long id,
+                                     @PathVariable Long olayId,
+                                     HttpServletRequest request) {
+        try {
+            Long editorId = getKullaniciIdFromToken(request);
+            if (editorId == null) {
+                return ResponseEntity.status(401).body(Map.of("hata", "Giriş yapmanız gerekiyor"));
+            }
+            
+            macService.macOlaySil(id, olayId, editorId);
+            return ResponseEntity.ok(Map.of("mesaj", "Olay başarıyla silindi"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("hata", e.getMessage()));
+        }
+    }
+    
     /**
      * Maçı başlatır
      * @param id Maç ID'si
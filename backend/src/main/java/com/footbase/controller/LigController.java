@@ -0,0 +1,90 @@
+package com.footbase.controller;
+
+import com.footbase.service.LiderlikTablolari;
+import com.footbase.service.LigPuanDurumu;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Lig controller'ı
+ * Lig puan durumu ve liderlik tablosu endpoint'lerini içerir
+ */
+@RestController
+@RequestMapping("/api/leagues")
+@CrossOrigin(origins = "http://localhost:3000")
+public class LigController {
+
+    @Autowired
+    private LigPuanDurumu ligPuanDurumu;
+
+    @Autowired
+    private LiderlikTablolari liderlikTablolari;
+
+    /**
+     * Ligin puan durumunu getirir
+     * Bellekteki puan durumundan okunur, veritabanı sorgusu yapılmaz
+     * @param id Lig ID'si
+     * @param sezon Sezonun başladığı yıl (verilmezse ligin en son sezonu)
+     * @return Sıralı puan tablosu ve ligin sezonları
+     */
+    @GetMapping("/{id}/standings")
+    public ResponseEntity<?> puanDurumunuGetir(@PathVariable Long id,
+                                               @RequestParam(required = false) Integer sezon) {
+        try {
+            var sezonlar = ligPuanDurumu.sezonlar(id);
+            Map<String, Object> sonuc = new LinkedHashMap<>();
+            sonuc.put("ligId", id);
+            sonuc.put("sezon", sezon != null ? sezon : (sezonlar.isEmpty() ? null : sezonlar.get(0)));
+            sonuc.put("sezonlar", sezonlar);
+            sonuc.put("puanDurumu", ligPuanDurumu.puanDurumu(id, sezon));
+            return ResponseEntity.ok(sonuc);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("hata", e.getMessage()));
+        }
+    }
+
+    /**
+     * Ligin gol krallığı tablosunu sayfa sayfa getirir
+     * Bellekteki sıralama ağacından okunur, veritabanı sorgusu yapılmaz
+     * @param id Lig ID'si
+     * @param sezon Sezonun başladığı yıl (verilmezse ligin en son sezonu)
+     * @param sayfa 0 tabanlı sayfa numarası
+     * @param boyut Sayfa boyutu (1-100)
+     * @return Toplam oyuncu sayısı ve sayfanın satırları
+     */
+    @GetMapping("/{id}/top-scorers")
+    public ResponseEntity<?> golKralliginiGetir(@PathVariable Long id,
+                                               @RequestParam(required = false) Integer sezon,
+                                               @RequestParam(defaultValue = "0") int sayfa,
+                                               @RequestParam(defaultValue = "20") int boyut) {
+        try {
+            return ResponseEntity.ok(liderlikTablolari.sayfa(id, sezon, LiderlikTablolari.Tur.GOL, sayfa, boyut));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("hata", e.getMessage()));
+        }
+    }
+
+    /**
+     * Ligin disiplin tablosunu (sarı kart + 3 x kırmızı kart) sayfa sayfa getirir
+     * @param id Lig ID'si
+     * @param sezon Sezonun başladığı yıl (verilmezse ligin en son sezonu)
+     * @param sayfa 0 tabanlı sayfa numarası
+     * @param boyut Sayfa boyutu (1-100)
+     * @return Toplam oyuncu sayısı ve sayfanın satırları
+     */
+    @GetMapping("/{id}/discipline")
+    public ResponseEntity<?> disiplinTablosunuGetir(@PathVariable Long id,
+                                                   @RequestParam(required = false) Integer sezon,
+                                                   @RequestParam(defaultValue = "0") int sayfa,
+                                                   @RequestParam(defaultValue = "20") int boyut) {
+        try {
+            return ResponseEntity.ok(liderlikTablolari.sayfa(id, sezon, LiderlikTablolari.Tur.KART, sayfa, boyut));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("hata", e.getMessage()));
+        }
+    }
+}
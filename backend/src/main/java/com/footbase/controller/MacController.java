@@ -4,13 +4,21 @@ import com.footbase.entity.Mac;
 import com.footbase.patterns.facade.MacIstatistikFacade;
 import com.footbase.repository.KullaniciRepository;
 import com.footbase.security.JwtUtil;
+import com.footbase.service.CanliYorumYayini;
+import com.footbase.service.MacSayfalamaServisi;
 import com.footbase.service.MacService;
+import com.footbase.service.YorumAlimServisi;
 import com.footbase.service.YorumService;
+import io.jsonwebtoken.Claims;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -45,6 +53,15 @@ public class MacController {
     @Autowired
     private MacIstatistikFacade macIstatistikFacade;
 
+    @Autowired
+    private MacSayfalamaServisi macSayfalamaServisi;
+
+    @Autowired
+    private YorumAlimServisi yorumAlimServisi;
+
+    @Autowired
+    private CanliYorumYayini canliYorumYayini;
+
     /**
      * Tüm maçları getirir
      * @return Maç listesi
@@ -54,6 +71,49 @@ public class MacController {
         return ResponseEntity.ok(macService.tumMaclariGetir());
     }
 
+    /**
+     * Maçları imleç (cursor) tabanlı sayfalama ile getirir
+     * Sıralama başlama zamanına göredir (tarih, saat, id); filtreler SQL'de uygulanır
+     * Tarihi olmayan maçlar en eski maçlar sayılır (asc'de başta, desc'de sonda; from verilirse listelenmez),
+     * saati olmayan maçlar gün başında (00:00) sıralanır
+     * 
+     * Örnek: GET /api/matches/page?size=20&teamId=5&from=2024-08-01
+     *        GET /api/matches/page?cursor={önceki yanıttaki sonrakiImlec}
+     * 
+     * @param cursor Önceki sayfadan dönen sonrakiImlec (ilk sayfa için boş)
+     * @param size Sayfa boyutu (varsayılan 20, en fazla 100)
+     * @param order asc (eskiden yeniye, varsayılan) veya desc (yeniden eskiye)
+     * @param teamId Takım filtresi
+     * @param leagueId Lig filtresi
+     * @param from Başlangıç tarihi (dahil)
+     * @param to Bitiş tarihi (dahil)
+     * @param status Durum filtresi (varsayılan YAYINDA)
+     * @return Maç sayfası
+     */
+    @GetMapping("/page")
+    public ResponseEntity<?> macSayfasiGetir(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + MacSayfalamaServisi.VARSAYILAN_SAYFA_BOYUTU) int size,
+            @RequestParam(defaultValue = "asc") String order,
+            @RequestParam(required = false) Long teamId,
+            @RequestParam(required = false) Long leagueId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String status) {
+        try {
+            MacSayfalamaServisi.MacFiltre filtre = new MacSayfalamaServisi.MacFiltre()
+                    .setTakimId(teamId)
+                    .setLigId(leagueId)
+                    .setBaslangicTarihi(from)
+                    .setBitisTarihi(to)
+                    .setDurum(status);
+            boolean artan = !"desc".equalsIgnoreCase(order);
+            return ResponseEntity.ok(macSayfalamaServisi.sayfaGetir(filtre, cursor, size, artan));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("hata", e.getMessage()));
+        }
+    }
+
     /**
      * ID'ye göre maç getirir (sadece temel bilgiler)
      * @param id Maç ID'si
@@ -82,12 +142,24 @@ public class MacController {
      * 
      * Frontend tek istekle tüm detayları alır → Performans artar! 🚀
      * 
+     * parallel=true ile bölümler paralel yüklenir; timeoutMs içinde gelmeyen
+     * bölümler boş döner ve yanıtta kismiSonuc/eksikBolumler ile işaretlenir.
+     * Her iki modda bölüm süreleri bolumSureleriMs alanında döner.
+     * 
      * @param id Maç ID'si
+     * @param parallel Paralel mod (varsayılan: false)
+     * @param timeoutMs Paralel modda toplam süre sınırı (ms)
      * @return Tüm maç detaylarını içeren DTO
      */
     @GetMapping("/{id}/detayli")
-    public ResponseEntity<?> macDetaylariniGetir(@PathVariable Long id) {
+    public ResponseEntity<?> macDetaylariniGetir(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean parallel,
+            @RequestParam(defaultValue = "" + MacIstatistikFacade.VARSAYILAN_ZAMAN_ASIMI_MS) long timeoutMs) {
         try {
+            if (parallel) {
+                return ResponseEntity.ok(macIstatistikFacade.macDetaylariniParalelGetir(id, timeoutMs));
+            }
             return ResponseEntity.ok(macIstatistikFacade.macDetaylariniGetir(id));
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(Map.of("hata", e.getMessage()));
@@ -96,32 +168,103 @@ public class MacController {
 
     /**
      * Maça ait yorumları getirir
+     * Giriş yapılmışsa her yorum için "begendim" bilgisi tek sorguyla doldurulur
      * @param id Maç ID'si
+     * @param request HTTP request (opsiyonel JWT token)
      * @return Yorum listesi
      */
     @GetMapping("/{id}/comments")
-    public ResponseEntity<?> macYorumlariniGetir(@PathVariable Long id) {
+    public ResponseEntity<?> macYorumlariniGetir(@PathVariable Long id, HttpServletRequest request) {
+        try {
+            return ResponseEntity.ok(yorumService.macYorumlariniGetir(id, tokendanKullaniciId(request)));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("hata", e.getMessage()));
+        }
+    }
+
+    /**
+     * Maçın yorum geçmişini sayfa sayfa getirir (yeniden eskiye, keyset sayfalama)
+     *
+     * Örnek: GET /api/matches/5/comments/page?size=20
+     *        GET /api/matches/5/comments/page?cursor={önceki yanıttaki sonrakiImlec}
+     *
+     * @param id Maç ID'si
+     * @param cursor Önceki sayfadan dönen sonrakiImlec (ilk sayfa için boş)
+     * @param size Sayfa boyutu (varsayılan 20, en fazla 100)
+     * @param request HTTP request (opsiyonel JWT token)
+     * @return Yorum sayfası (sonOlayNo canlı akışa bağlanırken lastEventId olarak kullanılır)
+     */
+    @GetMapping("/{id}/comments/page")
+    public ResponseEntity<?> macYorumSayfasiGetir(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + YorumService.VARSAYILAN_SAYFA_BOYUTU) int size,
+            HttpServletRequest request) {
         try {
-            return ResponseEntity.ok(yorumService.macYorumlariniGetir(id));
+            return ResponseEntity.ok(yorumService.macYorumSayfasiGetir(id, cursor, size, tokendanKullaniciId(request)));
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().body(Map.of("hata", e.getMessage()));
         }
     }
 
+    /**
+     * Maçın canlı yorum akışı (Server-Sent Events)
+     * Yeni kaydedilen her yorum "yorum" olayı olarak gelir; olay ID'si yeniden bağlanırken
+     * Last-Event-ID başlığında (EventSource bunu otomatik yapar) veya lastEventId parametresinde gönderilir.
+     * Kaçırılan olaylar artık tamponda değilse "yeniden-yukle" olayı gelir.
+     *
+     * @param id Maç ID'si
+     * @param sonOlayBasligi Last-Event-ID başlığı
+     * @param lastEventId İlk bağlantıda yorum sayfasındaki sonOlayNo
+     * @return SSE akışı
+     */
+    @GetMapping("/{id}/comments/stream")
+    public ResponseEntity<?> macYorumAkisi(
+            @PathVariable Long id,
+            @RequestHeader(value = "Last-Event-ID", required = false) String sonOlayBasligi,
+            @RequestParam(required = false) String lastEventId) {
+        String sonOlay = sonOlayBasligi != null && !sonOlayBasligi.isBlank() ? sonOlayBasligi : lastEventId;
+        Long sonOlayNo = null;
+        if (sonOlay != null && !sonOlay.isBlank()) {
+            try {
+                sonOlayNo = Long.parseLong(sonOlay.trim());
+            } catch (NumberFormatException e) {
+                // Tanınmayan olay ID'si: istemciye yeniden yükleme olayı gider
+                sonOlayNo = -1L;
+            }
+        }
+        try {
+            return ResponseEntity.ok(canliYorumYayini.aboneOl(id, sonOlayNo));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", "5")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(Map.of("hata", e.getMessage()));
+        }
+    }
+
     /**
      * Maça yorum ekler
      * @param id Maç ID'si
      * @param yorumBilgileri Yorum mesajı içeren map
+     * @param async true ise yorum kuyruğa alınır, 202 ile atanan ID hemen döner
+     *              (moderasyon ve kayıt arka planda yapılır; sonuç /api/matches/comments/{id}/ingest-status)
      * @param request HTTP request (JWT token içerir)
-     * @return Oluşturulan yorum
+     * @return Oluşturulan yorum (async modda atanan yorum ID'si)
      */
     @PostMapping("/{id}/comments")
-    public ResponseEntity<?> yorumEkle(@PathVariable Long id, @RequestBody Map<String, String> yorumBilgileri, HttpServletRequest request) {
+    public ResponseEntity<?> yorumEkle(@PathVariable Long id, @RequestBody Map<String, String> yorumBilgileri,
+                                       @RequestParam(defaultValue = "false") boolean async,
+                                       HttpServletRequest request) {
         try {
             String mesaj = yorumBilgileri.get("message");
             if (mesaj == null || mesaj.trim().isEmpty()) {
                 return ResponseEntity.badRequest().body(Map.of("hata", "Yorum mesajı gereklidir"));
             }
+
+            if (async) {
+                return yorumuKuyrugaAl(id, mesaj.trim(), request);
+            }
             
             // Kullanıcı ID'sini JWT token'dan al
             Long kullaniciId = null;
@@ -149,6 +292,39 @@ public class MacController {
         }
     }
 
+    /**
+     * Yorumu asenkron alım kuyruğuna ekler
+     * Kullanıcı ID'si token'daki claim'den alınır (veritabanına gidilmez)
+     */
+    private ResponseEntity<?> yorumuKuyrugaAl(Long macId, String mesaj, HttpServletRequest request) {
+        Long kullaniciId = tokendanKullaniciId(request);
+        if (kullaniciId == null) {
+            return ResponseEntity.badRequest().body(Map.of("hata", "Giriş yapmanız gerekiyor"));
+        }
+
+        Long yorumId = yorumAlimServisi.kuyrugaEkle(macId, kullaniciId, mesaj);
+        if (yorumId == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", "1")
+                    .body(Map.of("hata", "Yorum yoğunluğu nedeniyle şu an yorum alınamıyor, lütfen tekrar deneyiniz"));
+        }
+        return ResponseEntity.accepted().body(Map.of("yorumId", yorumId, "durum", "KUYRUKTA"));
+    }
+
+    /**
+     * Token'daki claim'den kullanıcı ID'sini alır (token yoksa veya geçersizse null)
+     */
+    private Long tokendanKullaniciId(HttpServletRequest request) {
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            Claims claims = jwtUtil.tokenDogrula(authHeader.substring(7));
+            if (claims != null) {
+                return jwtUtil.getKullaniciIdFromClaims(claims);
+            }
+        }
+        return null;
+    }
+
     /**
      * Maç takımlarını getirir
      * ✨ Facade Pattern ile refactor edildi
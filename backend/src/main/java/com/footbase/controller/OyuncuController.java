@@ -2,18 +2,19 @@ package com.footbase.controller;
 
 import com.footbase.entity.Oyuncu;
 import com.footbase.repository.KullaniciRepository;
-import com.footbase.repository.MacOyuncuOlaylariRepository;
 import com.footbase.repository.OyuncuMedyaRepository;
 import com.footbase.repository.OyuncuPuanlariRepository;
 import com.footbase.repository.OyuncuYorumlariRepository;
 import com.footbase.security.JwtUtil;
+import com.footbase.service.LiderlikTablolari;
+import com.footbase.service.OyuncuIstatistikleri;
 import com.footbase.service.OyuncuService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.servlet.http.HttpServletRequest;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -38,15 +39,18 @@ public class OyuncuController {
     @Autowired
     private OyuncuMedyaRepository oyuncuMedyaRepository;
     
-    @Autowired
-    private MacOyuncuOlaylariRepository macOyuncuOlaylariRepository;
-    
     @Autowired
     private OyuncuPuanlariRepository oyuncuPuanlariRepository;
     
     @Autowired
     private OyuncuYorumlariRepository oyuncuYorumlariRepository;
 
+    @Autowired
+    private OyuncuIstatistikleri oyuncuIstatistikleri;
+
+    @Autowired
+    private LiderlikTablolari liderlikTablolari;
+
     /**
      * Tüm oyuncuları getirir
      * @return Oyuncu listesi
@@ -71,34 +75,39 @@ public class OyuncuController {
     }
 
     /**
-     * Oyuncu istatistiklerini getirir (gol, kart sayıları)
+     * Oyuncu istatistiklerini getirir (gol, kart ve maç sayıları, sezon/lig kırılımı)
+     * Artımlı tutulan sayaçlardan okunur, oyuncunun olayları taranmaz
      * @param id Oyuncu ID'si
      * @return İstatistikler
      */
     @GetMapping("/{id}/statistics")
     public ResponseEntity<?> oyuncuIstatistikleriniGetir(@PathVariable Long id) {
         try {
-            int toplamGol = 0;
-            int toplamSariKart = 0;
-            int toplamKirmiziKart = 0;
-            
-            for (var event : macOyuncuOlaylariRepository.findByOyuncuId(id)) {
-                String olayTuru = event.getOlayTuru();
-                if ("GOL".equals(olayTuru)) {
-                    toplamGol++;
-                } else if ("SARI_KART".equals(olayTuru)) {
-                    toplamSariKart++;
-                } else if ("KIRMIZI_KART".equals(olayTuru)) {
-                    toplamKirmiziKart++;
-                }
-            }
-            
-            Map<String, Object> stats = new HashMap<>();
-            stats.put("toplam_gol", toplamGol);
-            stats.put("toplam_sari_kart", toplamSariKart);
-            stats.put("toplam_kirmizi_kart", toplamKirmiziKart);
-            
-            return ResponseEntity.ok(stats);
+            return ResponseEntity.ok(oyuncuIstatistikleri.getir(id));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("hata", e.getMessage()));
+        }
+    }
+
+    /**
+     * Oyuncunun ligdeki gol krallığı ve disiplin tablosu sırasını getirir
+     * Bellekteki sıralama ağacından O(log n) okunur
+     * @param id Oyuncu ID'si
+     * @param ligId Lig ID'si
+     * @param sezon Sezonun başladığı yıl (verilmezse ligin en son sezonu)
+     * @return gol ve disiplin satırları (tabloda yoksa null)
+     */
+    @GetMapping("/{id}/rankings")
+    public ResponseEntity<?> oyuncuSiralamasiniGetir(@PathVariable Long id,
+                                                    @RequestParam Long ligId,
+                                                    @RequestParam(required = false) Integer sezon) {
+        try {
+            Map<String, Object> sonuc = new LinkedHashMap<>();
+            sonuc.put("oyuncuId", id);
+            sonuc.put("ligId", ligId);
+            sonuc.put("gol", liderlikTablolari.oyuncuSirasi(ligId, sezon, LiderlikTablolari.Tur.GOL, id));
+            sonuc.put("disiplin", liderlikTablolari.oyuncuSirasi(ligId, sezon, LiderlikTablolari.Tur.KART, id));
+            return ResponseEntity.ok(sonuc);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("hata", e.getMessage()));
         }
@@ -3,8 +3,11 @@ package com.footbase.controller;
 import com.footbase.entity.Takim;
 import com.footbase.repository.MacTakimlariRepository;
 import com.footbase.repository.OyuncuRepository;
+import com.footbase.service.KarsilasmaGecmisi;
+import com.footbase.service.LigPuanDurumu;
+import com.footbase.service.MacSayfalamaServisi;
+import com.footbase.service.TakimFormu;
 import com.footbase.service.TakimService;
-import com.footbase.service.MacService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -26,13 +29,22 @@ public class TakimController {
     private TakimService takimService;
     
     @Autowired
-    private MacService macService;
+    private MacSayfalamaServisi macSayfalamaServisi;
     
     @Autowired
     private OyuncuRepository oyuncuRepository;
     
     @Autowired
     private MacTakimlariRepository macTakimlariRepository;
+    
+    @Autowired
+    private LigPuanDurumu ligPuanDurumu;
+    
+    @Autowired
+    private KarsilasmaGecmisi karsilasmaGecmisi;
+    
+    @Autowired
+    private TakimFormu takimFormu;
 
     /**
      * Tüm takımları getirir
@@ -72,79 +84,104 @@ public class TakimController {
     }
 
     /**
-     * Takım maçlarını getirir
+     * Takım maçlarını imleç (cursor) tabanlı sayfalama ile getirir (varsayılan: yeniden eskiye)
+     * Maçlar MacSayfalamaServisi ile SQL'de süzülür, takım/skor bilgileri toplu doldurulur
+     * Tarihi olmayan maçlar en eski maçlar sayılır (desc'de sonda, asc'de başta)
+     * 
+     * Örnek: GET /api/teams/5/matches?size=10
+     *        GET /api/teams/5/matches?cursor={önceki yanıttaki sonrakiImlec}
+     * 
      * @param id Takım ID'si
-     * @return Maç listesi
+     * @param cursor Önceki sayfadan dönen sonrakiImlec (ilk sayfa için boş)
+     * @param size Sayfa boyutu (varsayılan 20, en fazla 100)
+     * @param order desc (yeniden eskiye, varsayılan) veya asc
+     * @param status Durum filtresi (varsayılan YAYINDA)
+     * @return Maç sayfası
      */
     @GetMapping("/{id}/matches")
-    public ResponseEntity<?> takimMaclariniGetir(@PathVariable Long id) {
+    public ResponseEntity<?> takimMaclariniGetir(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + MacSayfalamaServisi.VARSAYILAN_SAYFA_BOYUTU) int size,
+            @RequestParam(defaultValue = "desc") String order,
+            @RequestParam(required = false) String status) {
         try {
-            System.out.println("========== TAKIM MAÇLARI GETİRİLİYOR ==========");
-            System.out.println("Takım ID: " + id);
-            
-            // Takımın oynadığı tüm maçları getir (mac_takimlari tablosundan)
-            var macTakimlari = macTakimlariRepository.findByTakimId(id);
-            System.out.println("Bulunan mac_takimlari kayıt sayısı: " + macTakimlari.size());
-            
-            var maclar = macTakimlari.stream()
-                .map(mt -> {
-                    var mac = mt.getMac();
-                    // Her maç için takım bilgilerini ve durumunu doldur
-                    if (mac != null) {
-                        try {
-                            // MacService'deki populateMacData metodunu kullan
-                            macService.populateMacDataPublic(mac);
-                            
-                            // Maçın durumunu da set et
-                            String durum = macService.getLatestDurum(mac.getId());
-                            mac.setOnayDurumu(durum != null ? durum : "YAYINDA");
-                            
-                            System.out.println("Maç " + mac.getId() + ": " + 
-                                (mac.getEvSahibiTakim() != null ? mac.getEvSahibiTakim().getAd() : "null") + 
-                                " vs " + 
-                                (mac.getDeplasmanTakim() != null ? mac.getDeplasmanTakim().getAd() : "null"));
-                        } catch (Exception e) {
-                            System.err.println("Maç " + mac.getId() + " için veri doldurulurken hata: " + e.getMessage());
-                            e.printStackTrace();
-                        }
-                    }
-                    return mac;
-                })
-                .filter(mac -> mac != null)
-                .distinct()
-                .toList();
-            
-            System.out.println("Döndürülen maç sayısı: " + maclar.size());
-            System.out.println("========== TAKIM MAÇLARI GETİRME TAMAMLANDI ==========");
-            
-            return ResponseEntity.ok(maclar);
+            MacSayfalamaServisi.MacFiltre filtre = new MacSayfalamaServisi.MacFiltre()
+                    .setTakimId(id)
+                    .setDurum(status);
+            boolean artan = "asc".equalsIgnoreCase(order);
+            return ResponseEntity.ok(macSayfalamaServisi.sayfaGetir(filtre, cursor, size, artan));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Map.of("hata", e.getMessage()));
+        }
+    }
+
+    /**
+     * Takımın son sonuçlarını (form) getirir
+     * Bellekteki halka tampondan okunur, veritabanı sorgusu yapılmaz
+     * @param id Takım ID'si
+     * @param adet Sonuç sayısı (varsayılan 5)
+     * @return G/B/M dizisi (en yeni önce), son maçlardan alınan puan ve sonuçlar (rakip, skor, tarih)
+     */
+    @GetMapping("/{id}/form")
+    public ResponseEntity<?> takimFormunuGetir(@PathVariable Long id, @RequestParam(defaultValue = "5") int adet) {
+        try {
+            return ResponseEntity.ok(takimFormu.form(id, adet));
         } catch (Exception e) {
-            System.err.println("Takım maçları getirilirken hata: " + e.getMessage());
-            e.printStackTrace();
             return ResponseEntity.badRequest().body(Map.of("hata", e.getMessage()));
         }
     }
 
     /**
      * Takım istatistiklerini getirir
+     * Toplam maç sayısı maç listesiyle aynı filtreli tek sayım sorgusuyla, lig sıralaması bellekteki
+     * puan durumundan okunur
      * @param id Takım ID'si
      * @return İstatistikler
      */
     @GetMapping("/{id}/statistics")
     public ResponseEntity<?> takimIstatistikleriniGetir(@PathVariable Long id) {
         try {
-            // Veritabanı fonksiyonunu kullanarak toplam maç sayısını al
-            int toplamMac = macTakimlariRepository.findByTakimId(id).size();
+            Takim takim = takimService.takimGetir(id);
             
             Map<String, Object> stats = new HashMap<>();
-            stats.put("toplam_mac", toplamMac);
+            // Maç listesi (/matches) ile aynı filtre: yalnızca listelenebilen (yayındaki) maçlar sayılır
+            stats.put("toplam_mac", macSayfalamaServisi.sayiGetir(new MacSayfalamaServisi.MacFiltre().setTakimId(id)));
+            
+            Long ligId = takim.getLig() != null ? takim.getLig().getId() : null;
+            LigPuanDurumu.Satir satir = ligPuanDurumu.takimSatiri(ligId, null, id);
+            if (satir != null) {
+                stats.put("lig_id", ligId);
+                stats.put("sira", satir.getSira());
+                stats.put("puan", satir.getPuan());
+                stats.put("oynanan", satir.getOynanan());
+                stats.put("galibiyet", satir.getGalibiyet());
+                stats.put("beraberlik", satir.getBeraberlik());
+                stats.put("maglubiyet", satir.getMaglubiyet());
+                stats.put("atilan_gol", satir.getAtilanGol());
+                stats.put("yenilen_gol", satir.getYenilenGol());
+                stats.put("averaj", satir.getAveraj());
+            }
             
             return ResponseEntity.ok(stats);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("hata", e.getMessage()));
         }
     }
-}
-
-
 
+    /**
+     * İki takım arasındaki karşılaşma geçmişini getirir (maç önizlemeleri için)
+     * Bellekteki karşılaşma geçmişinden okunur, veritabanı sorgusu yapılmaz
+     * @param id Takım ID'si
+     * @param rakipId Rakip takım ID'si
+     * @return Galibiyet/beraberlik/mağlubiyet, gol toplamları ve son karşılaşmalar (id'li takım açısından)
+     */
+    @GetMapping("/{id}/head-to-head/{rakipId}")
+    public ResponseEntity<?> karsilasmaGecmisiniGetir(@PathVariable Long id, @PathVariable Long rakipId) {
+        try {
+            return ResponseEntity.ok(karsilasmaGecmisi.ozet(id, rakipId));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("hata", e.getMessage()));
+        }
+    }
+}
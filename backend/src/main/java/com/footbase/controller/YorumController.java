@@ -2,12 +2,14 @@ package com.footbase.controller;
 
 import com.footbase.repository.KullaniciRepository;
 import com.footbase.security.JwtUtil;
+import com.footbase.service.YorumAlimServisi;
 import com.footbase.service.YorumService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.servlet.http.HttpServletRequest;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -28,6 +30,9 @@ public class YorumController {
     @Autowired
     private KullaniciRepository kullaniciRepository;
 
+    @Autowired
+    private YorumAlimServisi yorumAlimServisi;
+
     /**
      * Kullanıcı ID'sini JWT token'dan alır
      * @param request HTTP request (JWT token içerir)
@@ -116,6 +121,24 @@ public class YorumController {
             return ResponseEntity.badRequest().body(Map.of("hata", e.getMessage()));
         }
     }
-}
-
 
+    /**
+     * Asenkron alınan yorumun durumunu getirir (KUYRUKTA, KAYDEDILDI, REDDEDILDI, HATA)
+     * @param id Yorum ID'si (POST /api/matches/{id}/comments?async=true yanıtındaki yorumId)
+     * @return Yorum durumu ve varsa red/hata sebebi
+     */
+    @GetMapping("/{id}/ingest-status")
+    public ResponseEntity<?> yorumAlimDurumu(@PathVariable Long id) {
+        YorumAlimServisi.AlimDurumu durum = yorumAlimServisi.yorumDurumu(id);
+        if (durum == null) {
+            return ResponseEntity.badRequest().body(Map.of("hata", "Yorum durumu bulunamadı"));
+        }
+        Map<String, Object> sonuc = new LinkedHashMap<>();
+        sonuc.put("yorumId", id);
+        sonuc.put("durum", durum.getDurum());
+        if (durum.getSebep() != null) {
+            sonuc.put("sebep", durum.getSebep());
+        }
+        return ResponseEntity.ok(sonuc);
+    }
+}
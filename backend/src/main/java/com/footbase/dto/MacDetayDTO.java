@@ -6,7 +6,10 @@ import com.footbase.entity.MacMedya;
 import com.footbase.entity.MacOyuncuOlaylari;
 import com.footbase.entity.MacTakimlari;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Maç Detay DTO
@@ -20,6 +23,9 @@ import java.util.List;
  * - Durum geçmişi
  * 
  * Bu sayede frontend tek HTTP isteği ile tüm bilgileri alabilir.
+ * 
+ * Ek olarak her bölümün yüklenme süresi (ms) ve paralel modda zaman aşımına
+ * uğrayan/hata veren bölümler (kısmi sonuç) raporlanır.
  */
 public class MacDetayDTO {
     
@@ -29,6 +35,26 @@ public class MacDetayDTO {
     private List<MacMedya> medya;
     private List<MacDurumGecmisi> durumGecmisi;
     
+    /**
+     * Bir veya daha fazla bölüm zamanında yüklenemediyse true
+     */
+    private boolean kismiSonuc;
+    
+    /**
+     * Zaman aşımına uğrayan veya hata veren bölümlerin adları
+     */
+    private List<String> eksikBolumler = new ArrayList<>();
+    
+    /**
+     * Bölüm adı -> yüklenme süresi (ms)
+     */
+    private Map<String, Long> bolumSureleriMs = new LinkedHashMap<>();
+    
+    /**
+     * Tüm detayların toplanma süresi (ms)
+     */
+    private long toplamSureMs;
+    
     public MacDetayDTO() {
     }
     
@@ -82,5 +108,36 @@ public class MacDetayDTO {
     public void setDurumGecmisi(List<MacDurumGecmisi> durumGecmisi) {
         this.durumGecmisi = durumGecmisi;
     }
+    
+    public boolean isKismiSonuc() {
+        return kismiSonuc;
+    }
+    
+    public void setKismiSonuc(boolean kismiSonuc) {
+        this.kismiSonuc = kismiSonuc;
+    }
+    
+    public List<String> getEksikBolumler() {
+        return eksikBolumler;
+    }
+    
+    public void setEksikBolumler(List<String> eksikBolumler) {
+        this.eksikBolumler = eksikBolumler;
+    }
+    
+    public Map<String, Long> getBolumSureleriMs() {
+        return bolumSureleriMs;
+    }
+    
+    public void setBolumSureleriMs(Map<String, Long> bolumSureleriMs) {
+        this.bolumSureleriMs = bolumSureleriMs;
+    }
+    
+    public long getToplamSureMs() {
+        return toplamSureMs;
+    }
+    
+    public void setToplamSureMs(long toplamSureMs) {
+        this.toplamSureMs = toplamSureMs;
+    }
 }
-
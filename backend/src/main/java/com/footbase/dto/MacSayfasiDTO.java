@@ -0,0 +1,62 @@
+package com.footbase.dto;
+
+import com.footbase.entity.Mac;
+
+import java.util.List;
+
+/**
+ * Maç Sayfası DTO
+ * 
+ * Keyset (imleç) tabanlı sayfalamada tek bir sayfayı temsil eder.
+ * Sonraki sayfa için sonrakiImlec değeri aynen geri gönderilir;
+ * dahaFazlaVar false ise sonrakiImlec null'dır.
+ */
+public class MacSayfasiDTO {
+    
+    private List<Mac> maclar;
+    private String sonrakiImlec;
+    private boolean dahaFazlaVar;
+    private int boyut;
+    
+    public MacSayfasiDTO() {
+    }
+    
+    public MacSayfasiDTO(List<Mac> maclar, String sonrakiImlec, boolean dahaFazlaVar) {
+        this.maclar = maclar;
+        this.sonrakiImlec = sonrakiImlec;
+        this.dahaFazlaVar = dahaFazlaVar;
+        this.boyut = maclar != null ? maclar.size() : 0;
+    }
+    
+    public List<Mac> getMaclar() {
+        return maclar;
+    }
+    
+    public void setMaclar(List<Mac> maclar) {
+        this.maclar = maclar;
+    }
+    
+    public String getSonrakiImlec() {
+        return sonrakiImlec;
+    }
+    
+    public void setSonrakiImlec(String sonrakiImlec) {
+        this.sonrakiImlec = sonrakiImlec;
+    }
+    
+    public boolean isDahaFazlaVar() {
+        return dahaFazlaVar;
+    }
+    
+    public void setDahaFazlaVar(boolean dahaFazlaVar) {
+        this.dahaFazlaVar = dahaFazlaVar;
+    }
+    
+    public int getBoyut() {
+        return boyut;
+    }
+    
+    public void setBoyut(int boyut) {
+        this.boyut = boyut;
+    }
+}
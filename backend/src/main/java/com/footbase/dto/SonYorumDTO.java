@@ -0,0 +1,61 @@
+package com.footbase.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Son Yorum DTO
+ *
+ * Ana sayfadaki "son yorumlar" listesi için yorumun değişmez, kompakt hali.
+ * SonYorumlarTamponu'nda iş parçacıkları arasında kopyalanmadan paylaşıldığı için
+ * tüm alanları final'dır; değişiklik (ör. mesaj güncelleme) yeni bir nesneyle yapılır.
+ */
+public final class SonYorumDTO {
+
+    private final Long id;
+    private final Long macId;
+    private final String macBilgisi;
+    private final String kullaniciAdi;
+    private final String mesaj;
+    private final LocalDateTime yorumTarihi;
+
+    public SonYorumDTO(Long id, Long macId, String macBilgisi, String kullaniciAdi, String mesaj,
+                       LocalDateTime yorumTarihi) {
+        this.id = id;
+        this.macId = macId;
+        this.macBilgisi = macBilgisi;
+        this.kullaniciAdi = kullaniciAdi;
+        this.mesaj = mesaj;
+        this.yorumTarihi = yorumTarihi;
+    }
+
+    /**
+     * Mesajı değiştirilmiş kopya
+     */
+    public SonYorumDTO mesajIle(String yeniMesaj) {
+        return new SonYorumDTO(id, macId, macBilgisi, kullaniciAdi, yeniMesaj, yorumTarihi);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getMacId() {
+        return macId;
+    }
+
+    public String getMacBilgisi() {
+        return macBilgisi;
+    }
+
+    public String getKullaniciAdi() {
+        return kullaniciAdi;
+    }
+
+    public String getMesaj() {
+        return mesaj;
+    }
+
+    public LocalDateTime getYorumTarihi() {
+        return yorumTarihi;
+    }
+}
@@ -0,0 +1,129 @@
+package com.footbase.dto;
+
+import com.footbase.entity.Yorum;
+
+import java.time.LocalDateTime;
+
+/**
+ * Yorum DTO
+ *
+ * Canlı yorum akışı ve sayfalı yorum geçmişi için yorumun kompakt hali.
+ * Kullanıcı ve maç entity'leri yerine yalnızca ID ve kullanıcı adı taşınır,
+ * bu yüzden serileştirme sırasında lazy ilişkiler yüklenmez.
+ */
+public class YorumDTO {
+
+    private Long id;
+    private Long macId;
+    private Long kullaniciId;
+    private String kullaniciAdi;
+    private String mesaj;
+    private LocalDateTime yorumTarihi;
+    private String yorumTipi;
+    private int begeniSayisi;
+    private Boolean begendim;
+
+    public YorumDTO() {
+    }
+
+    public YorumDTO(Long id, Long macId, Long kullaniciId, String kullaniciAdi, String mesaj,
+                    LocalDateTime yorumTarihi, String yorumTipi) {
+        this.id = id;
+        this.macId = macId;
+        this.kullaniciId = kullaniciId;
+        this.kullaniciAdi = kullaniciAdi;
+        this.mesaj = mesaj;
+        this.yorumTarihi = yorumTarihi;
+        this.yorumTipi = yorumTipi;
+    }
+
+    /**
+     * Yorum entity'sinden DTO oluşturur
+     * Kullanıcı yüklenmemişse (proxy) yalnızca ID'si okunur
+     */
+    public static YorumDTO yorumdan(Yorum yorum) {
+        YorumDTO dto = new YorumDTO(
+                yorum.getId(),
+                yorum.getMac() != null ? yorum.getMac().getId() : null,
+                yorum.getKullanici() != null ? yorum.getKullanici().getId() : null,
+                yorum.getKullanici() != null ? yorum.getKullanici().getKullaniciAdi() : null,
+                yorum.getMesaj(),
+                yorum.getYorumTarihi(),
+                yorum.getYorumTipi());
+        dto.setBegeniSayisi(yorum.getBegeniSayisi());
+        dto.setBegendim(yorum.getBegendim());
+        return dto;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getMacId() {
+        return macId;
+    }
+
+    public void setMacId(Long macId) {
+        this.macId = macId;
+    }
+
+    public Long getKullaniciId() {
+        return kullaniciId;
+    }
+
+    public void setKullaniciId(Long kullaniciId) {
+        this.kullaniciId = kullaniciId;
+    }
+
+    public String getKullaniciAdi() {
+        return kullaniciAdi;
+    }
+
+    public void setKullaniciAdi(String kullaniciAdi) {
+        this.kullaniciAdi = kullaniciAdi;
+    }
+
+    public String getMesaj() {
+        return mesaj;
+    }
+
+    public void setMesaj(String mesaj) {
+        this.mesaj = mesaj;
+    }
+
+    public LocalDateTime getYorumTarihi() {
+        return yorumTarihi;
+    }
+
+    public void setYorumTarihi(LocalDateTime yorumTarihi) {
+        this.yorumTarihi = yorumTarihi;
+    }
+
+    public String getYorumTipi() {
+        return yorumTipi;
+    }
+
+    public void setYorumTipi(String yorumTipi) {
+        this.yorumTipi = yorumTipi;
+    }
+
+    public int getBegeniSayisi() {
+        return begeniSayisi;
+    }
+
+    public void setBegeniSayisi(int begeniSayisi) {
+        this.begeniSayisi = begeniSayisi;
+    }
+
+    public Boolean getBegendim() {
+        return begendim;
+    }
+
+    public void setBegendim(Boolean begendim) {
+        this.begendim = begendim;
+    }
+}
@@ -0,0 +1,71 @@
+package com.footbase.dto;
+
+import java.util.List;
+
+/**
+ * Yorum Sayfası DTO
+ *
+ * Bir maçın yorum geçmişinde (yeniden eskiye) keyset tabanlı tek bir sayfa.
+ * Sonraki (daha eski) sayfa için sonrakiImlec değeri aynen geri gönderilir.
+ * sonOlayNo, sayfa okunmadan hemen önceki canlı akış olay numarasıdır; istemci
+ * canlı akışa bu değeri lastEventId olarak vererek aradaki yorumları kaçırmaz.
+ */
+public class YorumSayfasiDTO {
+
+    private List<YorumDTO> yorumlar;
+    private String sonrakiImlec;
+    private boolean dahaFazlaVar;
+    private int boyut;
+    private Long sonOlayNo;
+
+    public YorumSayfasiDTO() {
+    }
+
+    public YorumSayfasiDTO(List<YorumDTO> yorumlar, String sonrakiImlec, boolean dahaFazlaVar, Long sonOlayNo) {
+        this.yorumlar = yorumlar;
+        this.sonrakiImlec = sonrakiImlec;
+        this.dahaFazlaVar = dahaFazlaVar;
+        this.boyut = yorumlar != null ? yorumlar.size() : 0;
+        this.sonOlayNo = sonOlayNo;
+    }
+
+    public List<YorumDTO> getYorumlar() {
+        return yorumlar;
+    }
+
+    public void setYorumlar(List<YorumDTO> yorumlar) {
+        this.yorumlar = yorumlar;
+    }
+
+    public String getSonrakiImlec() {
+        return sonrakiImlec;
+    }
+
+    public void setSonrakiImlec(String sonrakiImlec) {
+        this.sonrakiImlec = sonrakiImlec;
+    }
+
+    public boolean isDahaFazlaVar() {
+        return dahaFazlaVar;
+    }
+
+    public void setDahaFazlaVar(boolean dahaFazlaVar) {
+        this.dahaFazlaVar = dahaFazlaVar;
+    }
+
+    public int getBoyut() {
+        return boyut;
+    }
+
+    public void setBoyut(int boyut) {
+        this.boyut = boyut;
+    }
+
+    public Long getSonOlayNo() {
+        return sonOlayNo;
+    }
+
+    public void setSonOlayNo(Long sonOlayNo) {
+        this.sonOlayNo = sonOlayNo;
+    }
+}
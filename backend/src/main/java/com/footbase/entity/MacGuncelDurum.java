@@ -0,0 +1,108 @@
+package com.footbase.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Maç Güncel Durum entity sınıfı
+ * mac_durum_gecmisi tablosundaki her maçın en son durumunu tutan projeksiyon
+ * Kayıtlar sadece MacDurumServisi üzerinden (native SQL ile) yazılır
+ */
+@Entity
+@Table(name = "mac_guncel_durum")
+public class MacGuncelDurum {
+
+    /**
+     * Maç ID'si (her maç için tek satır)
+     */
+    @Id
+    @Column(name = "mac_id")
+    private Long macId;
+
+    /**
+     * En son durum (ONAY_BEKLIYOR, YAYINDA, REDDEDILDI)
+     * PostgreSQL enum tipi olduğu için yazma işlemleri native SQL ile yapılır
+     */
+    @Column(nullable = false, columnDefinition = "yayim_durumu_enum", insertable = false, updatable = false)
+    private String durum;
+
+    /**
+     * En son durum kaydının zamanı
+     */
+    @Column(name = "islem_tarihi", nullable = false)
+    private LocalDateTime islemTarihi;
+
+    /**
+     * En son durumu yazan kullanıcının ID'si
+     */
+    @Column(name = "islem_yapan_kullanici_id")
+    private Long islemYapanKullaniciId;
+
+    /**
+     * Maçı oluşturan kullanıcının ID'si (ilk durum kaydını yazan editör)
+     */
+    @Column(name = "olusturan_kullanici_id")
+    private Long olusturanKullaniciId;
+
+    /**
+     * İlk durum kaydının zamanı
+     */
+    @Column(name = "ilk_islem_tarihi")
+    private LocalDateTime ilkIslemTarihi;
+
+    /**
+     * Varsayılan constructor
+     */
+    public MacGuncelDurum() {
+    }
+
+    // Getter ve Setter metodları
+
+    public Long getMacId() {
+        return macId;
+    }
+
+    public void setMacId(Long macId) {
+        this.macId = macId;
+    }
+
+    public String getDurum() {
+        return durum;
+    }
+
+    public void setDurum(String durum) {
+        this.durum = durum;
+    }
+
+    public LocalDateTime getIslemTarihi() {
+        return islemTarihi;
+    }
+
+    public void setIslemTarihi(LocalDateTime islemTarihi) {
+        this.islemTarihi = islemTarihi;
+    }
+
+    public Long getIslemYapanKullaniciId() {
+        return islemYapanKullaniciId;
+    }
+
+    public void setIslemYapanKullaniciId(Long islemYapanKullaniciId) {
+        this.islemYapanKullaniciId = islemYapanKullaniciId;
+    }
+
+    public Long getOlusturanKullaniciId() {
+        return olusturanKullaniciId;
+    }
+
+    public void setOlusturanKullaniciId(Long olusturanKullaniciId) {
+        this.olusturanKullaniciId = olusturanKullaniciId;
+    }
+
+    public LocalDateTime getIlkIslemTarihi() {
+        return ilkIslemTarihi;
+    }
+
+    public void setIlkIslemTarihi(LocalDateTime ilkIslemTarihi) {
+        this.ilkIslemTarihi = ilkIslemTarihi;
+    }
+}
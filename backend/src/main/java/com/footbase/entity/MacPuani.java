@@ -33,6 +33,24 @@ public class MacPuani {
     @Column(nullable = false, precision = 5, scale = 2)
     private BigDecimal puan;
 
+    /**
+     * SUM(puan * agirlik) - puanlama yazılırken farkla güncellenir
+     */
+    @Column(name = "agirlikli_toplam", nullable = false)
+    private long agirlikliToplam;
+
+    /**
+     * SUM(agirlik)
+     */
+    @Column(name = "agirlik_toplami", nullable = false)
+    private long agirlikToplami;
+
+    /**
+     * Puanlama sayısı
+     */
+    @Column(name = "puanlama_sayisi", nullable = false)
+    private int puanlamaSayisi;
+
     /**
      * Varsayılan constructor
      */
@@ -64,5 +82,28 @@ public class MacPuani {
     public void setPuan(BigDecimal puan) {
         this.puan = puan;
     }
-}
 
+    public long getAgirlikliToplam() {
+        return agirlikliToplam;
+    }
+
+    public void setAgirlikliToplam(long agirlikliToplam) {
+        this.agirlikliToplam = agirlikliToplam;
+    }
+
+    public long getAgirlikToplami() {
+        return agirlikToplami;
+    }
+
+    public void setAgirlikToplami(long agirlikToplami) {
+        this.agirlikToplami = agirlikToplami;
+    }
+
+    public int getPuanlamaSayisi() {
+        return puanlamaSayisi;
+    }
+
+    public void setPuanlamaSayisi(int puanlamaSayisi) {
+        this.puanlamaSayisi = puanlamaSayisi;
+    }
+}
@@ -41,6 +41,12 @@ public class OyuncuYorumlari {
     @Column(name = "icerik", nullable = false, columnDefinition = "TEXT")
     private String icerik;
 
+    /**
+     * Yorumla verilen puan (1-10), puansız yorumda null
+     */
+    @Column(name = "puan")
+    private Integer puan;
+
     /**
      * Oluşturma tarihi
      */
@@ -88,6 +94,14 @@ public class OyuncuYorumlari {
         this.icerik = icerik;
     }
 
+    public Integer getPuan() {
+        return puan;
+    }
+
+    public void setPuan(Integer puan) {
+        this.puan = puan;
+    }
+
     public LocalDateTime getOlusturmaTarihi() {
         return olusturmaTarihi;
     }
@@ -3,8 +3,6 @@ package com.footbase.entity;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Yorum entity sınıfı
@@ -55,9 +53,18 @@ public class Yorum {
     @JoinColumn(name = "mac_id", nullable = false)
     private Mac mac;
 
-    // Yorum beğenileri için ayrı tablo yok, bu özellik şimdilik kaldırıldı
+    /**
+     * Beğeni sayısı (yorum_begenileri tablosunun denormalize sayacı)
+     * JPA tarafından yazılmaz; yalnızca YorumBegeniSayaci toplu güncelleme ile artırır/azaltır
+     */
+    @Column(name = "begeni_sayisi", nullable = false, insertable = false, updatable = false)
+    private int begeniSayisi;
+
+    /**
+     * İsteği yapan kullanıcı bu yorumu beğenmiş mi (kalıcı değil, yorum listesinde doldurulur)
+     */
     @Transient
-    private List<Kullanici> begenenKullanicilar = new ArrayList<>();
+    private Boolean begendim;
 
     /**
      * Varsayılan constructor
@@ -108,12 +115,20 @@ public class Yorum {
         this.mac = mac;
     }
 
-    public List<Kullanici> getBegenenKullanicilar() {
-        return begenenKullanicilar;
+    public int getBegeniSayisi() {
+        return begeniSayisi;
+    }
+
+    public void setBegeniSayisi(int begeniSayisi) {
+        this.begeniSayisi = begeniSayisi;
+    }
+
+    public Boolean getBegendim() {
+        return begendim;
     }
 
-    public void setBegenenKullanicilar(List<Kullanici> begenenKullanicilar) {
-        this.begenenKullanicilar = begenenKullanicilar;
+    public void setBegendim(Boolean begendim) {
+        this.begendim = begendim;
     }
 
     public String getYorumTipi() {
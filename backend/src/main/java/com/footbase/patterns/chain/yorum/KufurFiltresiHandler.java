@@ -2,58 +2,146 @@ package com.footbase.patterns.chain.yorum;
 
 import com.footbase.entity.Yorum;
 import com.footbase.patterns.chain.HandlerResult;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Küfür filtresi
+ *
+ * Yasaklı kelimeler sözlük dosyasından (yorum.kufur-sozlugu, varsayılan:
+ * classpath:kufur-sozlugu.txt) okunup bir Aho-Corasick otomatına (KufurOtomati)
+ * derlenir. Tespit ve maskeleme mesaj üzerinde tek doğrusal geçişle yapılır.
+ *
+ * Sözlük, uygulama yeniden başlatılmadan sozluguYenidenYukle() ile yenilenebilir;
+ * yeni otomat tamamen kurulduktan sonra atomik olarak devreye alınır.
+ */
 @Component
 public class KufurFiltresiHandler extends YorumHandler {
-    
-    private static final List<String> YASAKLI_KELIMELER = Arrays.asList(
-        "küfür1", "küfür2", "küfür3",
-        "aptal", "salak", "gerizekalı"
-    );
-    
+
+    @Value("${yorum.kufur-sozlugu:classpath:kufur-sozlugu.txt}")
+    private String sozlukYolu;
+
+    @Autowired
+    private ResourceLoader resourceLoader;
+
+    /**
+     * Aktif otomat (yeniden yüklemede bütün olarak değiştirilir)
+     */
+    private volatile KufurOtomati otomat = KufurOtomati.olustur(List.of());
+
     public KufurFiltresiHandler() {
         this.priority = 1;
         logger.info("🚫 KufurFiltresiHandler oluşturuldu");
     }
-    
+
+    @PostConstruct
+    public void sozluguYukle() {
+        try {
+            sozluguYenidenYukle();
+        } catch (IOException e) {
+            logger.error("❌ Küfür sözlüğü yüklenemedi: {} - {}", sozlukYolu, e.getMessage());
+        }
+    }
+
+    /**
+     * Sözlük dosyasını okuyup otomatı yeniden kurar
+     * Okuma veya kurulum başarısız olursa eski otomat kullanılmaya devam eder
+     *
+     * @return Yüklenen kelime sayısı
+     * @throws IOException Sözlük dosyası okunamazsa
+     */
+    public int sozluguYenidenYukle() throws IOException {
+        Resource kaynak = resourceLoader.getResource(sozlukYolu);
+        List<String> kelimeler = new ArrayList<>();
+        try (BufferedReader okuyucu = new BufferedReader(
+                new InputStreamReader(kaynak.getInputStream(), StandardCharsets.UTF_8))) {
+            String satir;
+            while ((satir = okuyucu.readLine()) != null) {
+                satir = satir.trim();
+                if (!satir.isEmpty() && !satir.startsWith("#")) {
+                    kelimeler.add(satir);
+                }
+            }
+        }
+
+        KufurOtomati yeniOtomat = KufurOtomati.olustur(kelimeler);
+        this.otomat = yeniOtomat;
+        logger.info("📖 Küfür sözlüğü yüklendi: {} kelime, {} durum ({})",
+                   yeniOtomat.kelimeSayisi(), yeniOtomat.durumSayisi(), sozlukYolu);
+        return yeniOtomat.kelimeSayisi();
+    }
+
     @Override
     protected HandlerResult doHandle(Yorum yorum) {
         String mesaj = yorum.getMesaj();
-        
+
         if (mesaj == null || mesaj.trim().isEmpty()) {
             return HandlerResult.failure("Yorum mesajı boş olamaz", getHandlerName());
         }
-        
-        String mesajLower = mesaj.toLowerCase();
-        
-        for (String yasakliKelime : YASAKLI_KELIMELER) {
-            if (mesajLower.contains(yasakliKelime.toLowerCase())) {
-                logYorumAction(yorum, "KÜFÜR TESPİT EDİLDİ: " + yasakliKelime);
-                return HandlerResult.failure(
-                    "Yorumunuz uygunsuz içerik barındırıyor. Lütfen düzenleyiniz.",
-                    getHandlerName()
-                );
-            }
+
+        KufurOtomati.TaramaSonucu sonuc = otomat.tara(mesaj);
+        if (sonuc.kufurVar()) {
+            logYorumAction(yorum, "KÜFÜR TESPİT EDİLDİ: " + sonuc.getBulunanKelimeler());
+            return HandlerResult.failure(
+                "Yorumunuz uygunsuz içerik barındırıyor. Lütfen düzenleyiniz.",
+                getHandlerName()
+            );
         }
-        
+
         logYorumAction(yorum, "Küfür kontrolü BAŞARILI");
         return HandlerResult.success();
     }
-    
-    public String maskProfanity(String mesaj) {
-        String masked = mesaj;
-        
-        for (String yasakliKelime : YASAKLI_KELIMELER) {
-            if (masked.toLowerCase().contains(yasakliKelime.toLowerCase())) {
-                String mask = "*".repeat(yasakliKelime.length());
-                masked = masked.replaceAll("(?i)" + yasakliKelime, mask);
-            }
+
+    @Override
+    protected HandlerResult ozelliklerdenKarar(Yorum yorum, YorumOzellikleri ozellikler) {
+        if (ozellikler.getMesaj() == null || ozellikler.getKirpilmisUzunluk() == 0) {
+            return HandlerResult.failure("Yorum mesajı boş olamaz", getHandlerName());
+        }
+        if (ozellikler.kufurVar()) {
+            return HandlerResult.failure(
+                "Yorumunuz uygunsuz içerik barındırıyor. Lütfen düzenleyiniz.",
+                getHandlerName()
+            );
         }
-        
-        return masked;
+        return HandlerResult.success();
+    }
+
+    /**
+     * Aktif otomat (tek geçişli tarama için)
+     */
+    KufurOtomati getOtomat() {
+        return otomat;
+    }
+
+    public String maskProfanity(String mesaj) {
+        return otomat.tara(mesaj).getMaskeliMetin();
+    }
+
+    /**
+     * Mesajı tek geçişte tarar (tespit + maskeleme)
+     *
+     * @param mesaj Mesaj
+     * @return Bulunan kelimeler ve maskelenmiş metin
+     */
+    public KufurOtomati.TaramaSonucu tara(String mesaj) {
+        return otomat.tara(mesaj);
+    }
+
+    /**
+     * Aktif sözlükteki kelime sayısı
+     */
+    public int getKelimeSayisi() {
+        return otomat.kelimeSayisi();
     }
 }
@@ -0,0 +1,505 @@
+package com.footbase.patterns.chain.yorum;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Küfür Otomatı (Aho-Corasick)
+ *
+ * Yasaklı kelime sözlüğünden bir kez kurulan, değişmez çoklu kalıp eşleştirme otomatı.
+ * Mesaj tek geçişte taranır; kelime sayısından bağımsız olarak maliyet mesaj
+ * uzunluğuyla doğrusaldır. Tespit ve maskeleme aynı taramanın sonucundan üretilir.
+ *
+ * NORMALİZASYON (hem sözlüğe hem mesaja aynı şekilde uygulanır, bkz. Tarayici):
+ * - Türkçe büyük/küçük harf katlama: I, İ, ı -> i
+ * - Aksan katlama: ş->s, ğ->g, ü->u, ö->o, ç->c, â->a, î->i, û->u
+ * - Leetspeak: 0->o, 1->i, 3->e, 4->a, 5->s, 7->t, @->a, $->s, !->i
+ *   Yalnızca kelime içinde uygulanır: rakam/sembol dizisinden sonra harf geliyorsa
+ *   ("4pt4l", "$alak") veya diziden önce harf varsa ve dizi yalnızca rakamsa ("apta1").
+ *   Tek başına sayılar ("17", "3-0") rakam olarak, sondaki '!' ayraç olarak kalır.
+ * - Harf/rakam olmayan karakterler tek bir ayraca (boşluk) indirgenir
+ * - Art arda tekrar eden karakterler tek karaktere indirgenir (aptaaal -> aptal)
+ *
+ * Eşleşmeler varsayılan olarak kelime içinde de aranır (Türkçe ekler nedeniyle "aptallık"
+ * da yakalanır). Kısa ve başka kelimelerin içinde geçen girdiler sözlükte '|' ile kelime
+ * sınırına bağlanır: "|it|" yalnızca tek başına "it"i, "|it" "it" ile başlayan kelimeleri
+ * yakalar ("itiraz", "gitti" yakalanmaz). Bunun için mesajın başına ve sonuna sanal bir
+ * ayraç eklenir; sınır ayraçları kalıbın parçasıdır ama maskelenmez.
+ *
+ * Maskeleme, eşleşmenin orijinal mesajdaki tüm karakterlerini (tekrarlar dahil) '*' yapar.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+public final class KufurOtomati {
+
+    private static final char AYRAC = ' ';
+    private static final char MASKE = '*';
+    private static final char SINIR = '|';
+
+    /**
+     * Durum -> (karakter -> sonraki durum) geçişleri
+     */
+    private final List<Map<Character, Integer>> gecisler;
+
+    /**
+     * Durum -> başarısızlık (failure) bağı
+     */
+    private final int[] basarisizlik;
+
+    /**
+     * Durum -> bu durumda biten kelimenin indeksi (yoksa -1)
+     */
+    private final int[] kelimeIndeksi;
+
+    /**
+     * Durum -> başarısızlık zincirinde kelime biten en yakın durum (yoksa -1)
+     */
+    private final int[] cikisBagi;
+
+    /**
+     * Sözlükteki (orijinal yazımıyla, '|' işaretleri olmadan) kelimeler,
+     * sınır ayraçları dahil kalıp uzunlukları ve baştaki/sondaki sınır ayracı sayısı (0 veya 1)
+     */
+    private final List<String> kelimeler;
+    private final int[] kelimeUzunlugu;
+    private final int[] basSiniri;
+    private final int[] sonSiniri;
+
+    private KufurOtomati(List<Map<Character, Integer>> gecisler, int[] basarisizlik, int[] kelimeIndeksi,
+                         int[] cikisBagi, List<String> kelimeler, int[] kelimeUzunlugu,
+                         int[] basSiniri, int[] sonSiniri) {
+        this.gecisler = gecisler;
+        this.basarisizlik = basarisizlik;
+        this.kelimeIndeksi = kelimeIndeksi;
+        this.cikisBagi = cikisBagi;
+        this.kelimeler = kelimeler;
+        this.kelimeUzunlugu = kelimeUzunlugu;
+        this.basSiniri = basSiniri;
+        this.sonSiniri = sonSiniri;
+    }
+
+    /**
+     * Sözlükten otomatı kurar
+     * Boş satırlar ve normalize edildikten sonra aynı olan tekrarlar yok sayılır.
+     * Girdinin başındaki/sonundaki '|' o taraftan kelime sınırı ister.
+     *
+     * @param sozluk Yasaklı kelimeler
+     * @return Kurulan otomat
+     */
+    public static KufurOtomati olustur(Collection<String> sozluk) {
+        List<Map<Character, Integer>> gecisler = new ArrayList<>();
+        gecisler.add(new HashMap<>());
+        List<Integer> kelimeIndeksleri = new ArrayList<>();
+        kelimeIndeksleri.add(-1);
+
+        List<String> kelimeler = new ArrayList<>();
+        List<int[]> uzunluklar = new ArrayList<>();
+        Set<String> gorulenler = new LinkedHashSet<>();
+
+        // 1. Trie
+        for (String girdi : sozluk) {
+            if (girdi == null) {
+                continue;
+            }
+            String kelime = girdi.trim();
+            int bas = kelime.startsWith(String.valueOf(SINIR)) ? 1 : 0;
+            int son = kelime.length() > bas && kelime.endsWith(String.valueOf(SINIR)) ? 1 : 0;
+            kelime = kelime.substring(bas, kelime.length() - son).trim();
+            String govde = normalizeEt(kelime).trim();
+            if (govde.isEmpty()) {
+                continue;
+            }
+            String normal = (bas == 1 ? String.valueOf(AYRAC) : "") + govde + (son == 1 ? String.valueOf(AYRAC) : "");
+            if (!gorulenler.add(normal)) {
+                continue;
+            }
+            int durum = 0;
+            for (int i = 0; i < normal.length(); i++) {
+                Integer sonraki = gecisler.get(durum).get(normal.charAt(i));
+                if (sonraki == null) {
+                    sonraki = gecisler.size();
+                    gecisler.add(new HashMap<>());
+                    kelimeIndeksleri.add(-1);
+                    gecisler.get(durum).put(normal.charAt(i), sonraki);
+                }
+                durum = sonraki;
+            }
+            kelimeIndeksleri.set(durum, kelimeler.size());
+            kelimeler.add(kelime);
+            uzunluklar.add(new int[]{normal.length(), bas, son});
+        }
+
+        int durumSayisi = gecisler.size();
+        int[] basarisizlik = new int[durumSayisi];
+        int[] kelimeIndeksi = new int[durumSayisi];
+        int[] cikisBagi = new int[durumSayisi];
+        for (int i = 0; i < durumSayisi; i++) {
+            kelimeIndeksi[i] = kelimeIndeksleri.get(i);
+            cikisBagi[i] = -1;
+        }
+
+        // 2. Başarısızlık ve çıkış bağları (genişlik öncelikli)
+        Queue<Integer> kuyruk = new ArrayDeque<>();
+        for (int cocuk : gecisler.get(0).values()) {
+            basarisizlik[cocuk] = 0;
+            kuyruk.add(cocuk);
+        }
+        while (!kuyruk.isEmpty()) {
+            int durum = kuyruk.poll();
+            for (Map.Entry<Character, Integer> gecis : gecisler.get(durum).entrySet()) {
+                char karakter = gecis.getKey();
+                int cocuk = gecis.getValue();
+
+                int f = basarisizlik[durum];
+                while (f != 0 && !gecisler.get(f).containsKey(karakter)) {
+                    f = basarisizlik[f];
+                }
+                Integer hedef = gecisler.get(f).get(karakter);
+                basarisizlik[cocuk] = hedef != null && hedef != cocuk ? hedef : 0;
+
+                int b = basarisizlik[cocuk];
+                cikisBagi[cocuk] = kelimeIndeksi[b] >= 0 ? b : cikisBagi[b];
+                kuyruk.add(cocuk);
+            }
+        }
+
+        int[] kelimeUzunlugu = uzunluklar.stream().mapToInt(u -> u[0]).toArray();
+        int[] basSiniri = uzunluklar.stream().mapToInt(u -> u[1]).toArray();
+        int[] sonSiniri = uzunluklar.stream().mapToInt(u -> u[2]).toArray();
+        return new KufurOtomati(gecisler, basarisizlik, kelimeIndeksi, cikisBagi,
+                Collections.unmodifiableList(kelimeler), kelimeUzunlugu, basSiniri, sonSiniri);
+    }
+
+    /**
+     * Mesajı tek geçişte tarar; bulunan kelimeleri ve maskelenmiş metni döndürür
+     *
+     * @param metin Taranacak metin
+     * @return Tarama sonucu
+     */
+    public TaramaSonucu tara(String metin) {
+        if (metin == null || metin.isEmpty() || kelimeler.isEmpty()) {
+            return new TaramaSonucu(Collections.emptyList(), metin);
+        }
+
+        Tarayici tarayici = new Tarayici();
+        tarayici.baslat(this, true);
+        for (int i = 0; i < metin.length(); i++) {
+            tarayici.ekle(metin.charAt(i), i);
+        }
+        tarayici.bitir();
+
+        if (tarayici.eslesmeSayisi == 0) {
+            return new TaramaSonucu(Collections.emptyList(), metin);
+        }
+        return new TaramaSonucu(new ArrayList<>(tarayici.bulunanlar), tarayici.maskele(metin));
+    }
+
+    /**
+     * Sözlükteki kelime sayısı
+     */
+    public int kelimeSayisi() {
+        return kelimeler.size();
+    }
+
+    /**
+     * Otomattaki durum sayısı
+     */
+    public int durumSayisi() {
+        return gecisler.size();
+    }
+
+    /**
+     * Normalize edilmiş tek karakterle otomatı bir adım ilerletir (başlangıç durumu 0)
+     */
+    private int ilerle(int durum, char karakter) {
+        while (true) {
+            Integer sonraki = gecisler.get(durum).get(karakter);
+            if (sonraki != null) {
+                return sonraki;
+            }
+            if (durum == 0) {
+                return 0;
+            }
+            durum = basarisizlik[durum];
+        }
+    }
+
+    /**
+     * Metni otomatın alfabesine normalize eder (katlama + tekrar indirgeme)
+     */
+    public static String normalizeEt(String metin) {
+        Tarayici tarayici = new Tarayici();
+        tarayici.baslat(null, false);
+        for (int i = 0; i < metin.length(); i++) {
+            tarayici.ekle(metin.charAt(i), i);
+        }
+        tarayici.bitir();
+        return tarayici.normal.toString();
+    }
+
+    /**
+     * Leetspeak adayı: yalnızca kelime içindeyse harfe katlanır
+     */
+    private static boolean leetAdayi(char karakter) {
+        return (karakter >= '0' && karakter <= '9') || karakter == '@' || karakter == '$' || karakter == '!';
+    }
+
+    /**
+     * Tek karakteri katlar: Türkçe küçük harf, aksan, leetspeak ve ayraç normalizasyonu
+     * (leetspeak'in kelime içinde uygulanması Tarayici'nin işidir)
+     */
+    static char katla(char karakter) {
+        switch (karakter) {
+            case 'I': case 'İ': case 'ı': case 'î': case 'Î': case '1': case '!':
+                return 'i';
+            case 'Ş': case 'ş': case '5': case '$':
+                return 's';
+            case 'Ğ': case 'ğ':
+                return 'g';
+            case 'Ü': case 'ü': case 'û': case 'Û':
+                return 'u';
+            case 'Ö': case 'ö': case '0':
+                return 'o';
+            case 'Ç': case 'ç':
+                return 'c';
+            case 'â': case 'Â': case '4': case '@':
+                return 'a';
+            case '3':
+                return 'e';
+            case '7':
+                return 't';
+            default:
+                if (!Character.isLetterOrDigit(karakter)) {
+                    return AYRAC;
+                }
+                return Character.toLowerCase(karakter);
+        }
+    }
+
+    /**
+     * Akış halinde tarayıcı: mesajı karakter karakter alır, normalize eder ve otomatı ilerletir
+     *
+     * tara(), normalizeEt() ve tek geçişli moderasyon (YorumOzellikleri) aynı tarayıcıyı
+     * kullanır; normalizasyon kuralları tek yerdedir. Rakam/sembol dizileri, kelime içinde
+     * olup olmadıkları dizinin ardından gelen karakterle belli olduğu için o karaktere kadar
+     * bekletilir. Nesne baslat() ile yeniden kullanılabilir; iş parçacığı güvenli değildir.
+     */
+    public static final class Tarayici {
+
+        private KufurOtomati otomat;
+        private boolean konumTut;
+
+        private int durum;
+        private char oncekiKatli;
+        private boolean oncekiHarf;
+
+        /**
+         * Bekleyen rakam/sembol dizisi ve ilk karakterinin mesajdaki indeksi
+         */
+        private final StringBuilder bekleyen = new StringBuilder(8);
+        private int bekleyenBas;
+
+        /**
+         * Normalize metin: her karakter bir birimdir (tekrarlar tek birimde)
+         */
+        private final StringBuilder normal = new StringBuilder(256);
+        private final Set<String> bulunanlar = new LinkedHashSet<>();
+
+        /**
+         * konumTut ise: birim -> mesajdaki ilk/son karakter, eşleşmeler [son konum, kelime] çiftleri
+         * (konum -1 baştaki, normal.length() sondaki sanal ayraçtır)
+         */
+        private int[] birimBaslangic = new int[0];
+        private int[] birimBitis = new int[0];
+        private int[] eslesmeler = new int[0];
+        private int eslesmeSayisi;
+
+        /**
+         * Yeni bir mesaj için sıfırlar
+         * @param otomat Küfür otomatı (null ise yalnızca normalize edilir)
+         * @param konumTut Maskeleme için birim ve eşleşme konumları tutulsun mu
+         */
+        public void baslat(KufurOtomati otomat, boolean konumTut) {
+            this.otomat = otomat;
+            this.konumTut = konumTut;
+            oncekiKatli = 0;
+            oncekiHarf = false;
+            bekleyen.setLength(0);
+            normal.setLength(0);
+            bulunanlar.clear();
+            eslesmeSayisi = 0;
+            // Baştaki sanal ayraç: "|kelime" kalıpları mesajın başında da eşleşir
+            durum = otomat != null ? otomat.ilerle(0, AYRAC) : 0;
+        }
+
+        /**
+         * Mesajın sıradaki karakterini işler
+         * @param karakter Ham karakter
+         * @param indeks Karakterin mesajdaki indeksi
+         */
+        public void ekle(char karakter, int indeks) {
+            if (leetAdayi(karakter)) {
+                if (bekleyen.length() == 0) {
+                    bekleyenBas = indeks;
+                }
+                bekleyen.append(karakter);
+                return;
+            }
+            boolean harf = Character.isLetter(karakter);
+            bekleyeniBosalt(harf);
+            birimEkle(katla(karakter), indeks);
+            oncekiHarf = harf;
+        }
+
+        /**
+         * Mesajın sonunu işler (bekleyen dizi ve sondaki sanal ayraç)
+         */
+        public void bitir() {
+            bekleyeniBosalt(false);
+            if (otomat != null) {
+                durum = otomat.ilerle(durum, AYRAC);
+                ciktilariTopla(normal.length());
+            }
+        }
+
+        private void bekleyeniBosalt(boolean harfIzliyor) {
+            if (bekleyen.length() == 0) {
+                return;
+            }
+            boolean sadeceRakam = true;
+            for (int k = 0; k < bekleyen.length(); k++) {
+                if (!Character.isDigit(bekleyen.charAt(k))) {
+                    sadeceRakam = false;
+                    break;
+                }
+            }
+            boolean katlanir = harfIzliyor || (oncekiHarf && sadeceRakam);
+            for (int k = 0; k < bekleyen.length(); k++) {
+                char ham = bekleyen.charAt(k);
+                char katli = katlanir ? katla(ham) : Character.isDigit(ham) ? ham : AYRAC;
+                birimEkle(katli, bekleyenBas + k);
+            }
+            bekleyen.setLength(0);
+        }
+
+        private void birimEkle(char katli, int indeks) {
+            int birim = normal.length();
+            if (katli == oncekiKatli && birim > 0) {
+                // Tekrar eden karakter: aynı birime dahil edilir, otomata verilmez
+                if (konumTut) {
+                    birimBitis[birim - 1] = indeks;
+                }
+                return;
+            }
+            oncekiKatli = katli;
+            normal.append(katli);
+            if (konumTut) {
+                if (birim == birimBaslangic.length) {
+                    int yeniBoyut = Math.max(64, birim * 2);
+                    birimBaslangic = Arrays.copyOf(birimBaslangic, yeniBoyut);
+                    birimBitis = Arrays.copyOf(birimBitis, yeniBoyut);
+                }
+                birimBaslangic[birim] = indeks;
+                birimBitis[birim] = indeks;
+            }
+            if (otomat != null) {
+                durum = otomat.ilerle(durum, katli);
+                ciktilariTopla(birim);
+            }
+        }
+
+        /**
+         * Mevcut durumda biten tüm kelimeleri (çıkış bağları dahil) toplar
+         * @param konum Son işlenen birimin konumu
+         */
+        private void ciktilariTopla(int konum) {
+            int cikis = otomat.kelimeIndeksi[durum] >= 0 ? durum : otomat.cikisBagi[durum];
+            while (cikis >= 0) {
+                int kelime = otomat.kelimeIndeksi[cikis];
+                bulunanlar.add(otomat.kelimeler.get(kelime));
+                if (konumTut) {
+                    if (eslesmeSayisi * 2 + 2 > eslesmeler.length) {
+                        eslesmeler = Arrays.copyOf(eslesmeler, Math.max(8, eslesmeler.length * 2));
+                    }
+                    eslesmeler[eslesmeSayisi * 2] = konum;
+                    eslesmeler[eslesmeSayisi * 2 + 1] = kelime;
+                }
+                eslesmeSayisi++;
+                cikis = otomat.cikisBagi[cikis];
+            }
+        }
+
+        /**
+         * Eşleşmelerin orijinal mesajdaki karakterlerini '*' yapar (sınır ayraçları hariç)
+         * Fark dizisi ile kapsanan aralıklar tek geçişte işlenir
+         */
+        private String maskele(String metin) {
+            int n = metin.length();
+            int[] fark = new int[n + 1];
+            for (int e = 0; e < eslesmeSayisi; e++) {
+                int konum = eslesmeler[e * 2];
+                int kelime = eslesmeler[e * 2 + 1];
+                int ilkBirim = konum - otomat.kelimeUzunlugu[kelime] + 1 + otomat.basSiniri[kelime];
+                int sonBirim = konum - otomat.sonSiniri[kelime];
+                fark[birimBaslangic[ilkBirim]]++;
+                fark[birimBitis[sonBirim] + 1]--;
+            }
+            StringBuilder maskeli = new StringBuilder(n);
+            int kapsam = 0;
+            for (int i = 0; i < n; i++) {
+                kapsam += fark[i];
+                maskeli.append(kapsam > 0 ? MASKE : metin.charAt(i));
+            }
+            return maskeli.toString();
+        }
+
+        /**
+         * Normalize metin (tekrarlar indirgenmiş, sanal ayraçlar hariç)
+         */
+        public CharSequence getNormalMetin() {
+            return normal;
+        }
+
+        /**
+         * Bulunan kelimeler (sözlükteki yazımıyla, bulunma sırasıyla)
+         */
+        public Set<String> getBulunanKelimeler() {
+            return bulunanlar;
+        }
+    }
+
+    /**
+     * Tarama sonucu: bulunan kelimeler (sözlükteki yazımıyla) ve maskelenmiş metin
+     */
+    public static final class TaramaSonucu {
+        private final List<String> bulunanKelimeler;
+        private final String maskeliMetin;
+
+        TaramaSonucu(List<String> bulunanKelimeler, String maskeliMetin) {
+            this.bulunanKelimeler = bulunanKelimeler;
+            this.maskeliMetin = maskeliMetin;
+        }
+
+        public boolean kufurVar() {
+            return !bulunanKelimeler.isEmpty();
+        }
+
+        public List<String> getBulunanKelimeler() {
+            return bulunanKelimeler;
+        }
+
+        public String getMaskeliMetin() {
+            return maskeliMetin;
+        }
+    }
+}
@@ -10,7 +10,7 @@ import java.util.regex.Pattern;
 @Component
 public class LinkKontrolHandler extends YorumHandler {
     
-    private static final Pattern URL_PATTERN = Pattern.compile(
+    static final Pattern URL_PATTERN = Pattern.compile(
         "((https?|ftp)://|(www\\.))[-a-zA-Z0-9+&@#/%?=~_|!:,.;]*[-a-zA-Z0-9+&@#/%=~_|]",
         Pattern.CASE_INSENSITIVE
     );
@@ -64,6 +64,29 @@ public class LinkKontrolHandler extends YorumHandler {
         return HandlerResult.success();
     }
     
+    @Override
+    protected HandlerResult ozelliklerdenKarar(Yorum yorum, YorumOzellikleri ozellikler) {
+        int linkSayisi = ozellikler.getLinkSayisi();
+        
+        if (linkSayisi > 0) {
+            if (!linkIzinVer) {
+                return HandlerResult.failure(
+                    "Yorumlarda link paylaşımı yasaktır",
+                    getHandlerName()
+                );
+            }
+            
+            if (linkSayisi > MAX_LINK_SAYISI) {
+                return HandlerResult.failure(
+                    String.format("En fazla %d link paylaşabilirsiniz", MAX_LINK_SAYISI),
+                    getHandlerName()
+                );
+            }
+        }
+        
+        return HandlerResult.success();
+    }
+    
     public void setLinkIzinVer(boolean izinVer) {
         this.linkIzinVer = izinVer;
         logger.info("Link izin durumu değiştirildi: {}", izinVer ? "İZİN VERİLDİ" : "ENGELLENDİ");
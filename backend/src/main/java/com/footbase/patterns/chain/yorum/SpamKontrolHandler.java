@@ -2,19 +2,17 @@ package com.footbase.patterns.chain.yorum;
 
 import com.footbase.entity.Yorum;
 import com.footbase.patterns.chain.HandlerResult;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
-
 @Component
 public class SpamKontrolHandler extends YorumHandler {
     
-    private static final Map<Long, LocalDateTime> SON_YORUM_ZAMANLARI = new HashMap<>();
-    private static final int MINIMUM_YORUM_ARALIGI_SANIYE = 10;
     private static final int MAX_TEKRAR_KARAKTER = 5;
     
+    @Autowired
+    private YorumHizSinirlayici hizSinirlayici;
+    
     public SpamKontrolHandler() {
         this.priority = 2;
         logger.info("🚨 SpamKontrolHandler oluşturuldu");
@@ -25,21 +23,13 @@ public class SpamKontrolHandler extends YorumHandler {
         String mesaj = yorum.getMesaj();
         Long kullaniciId = yorum.getKullanici() != null ? yorum.getKullanici().getId() : null;
         
-        if (kullaniciId != null) {
-            LocalDateTime sonYorum = SON_YORUM_ZAMANLARI.get(kullaniciId);
-            if (sonYorum != null) {
-                long saniyeFarki = java.time.Duration.between(sonYorum, LocalDateTime.now()).getSeconds();
-                
-                if (saniyeFarki < MINIMUM_YORUM_ARALIGI_SANIYE) {
-                    logYorumAction(yorum, "SPAM TESPİT EDİLDİ: Çok hızlı yorum");
-                    return HandlerResult.failure(
-                        String.format("Lütfen %d saniye bekleyiniz", MINIMUM_YORUM_ARALIGI_SANIYE - saniyeFarki),
-                        getHandlerName()
-                    );
-                }
-            }
-            
-            SON_YORUM_ZAMANLARI.put(kullaniciId, LocalDateTime.now());
+        YorumHizSinirlayici.Karar karar = hizSinirlayici.dene(kullaniciId);
+        if (!karar.izinVerildi()) {
+            logYorumAction(yorum, "SPAM TESPİT EDİLDİ: Çok hızlı yorum (" + karar.getSebep() + ")");
+            return HandlerResult.failure(
+                String.format("Lütfen %d saniye bekleyiniz", karar.getBekleSaniye()),
+                getHandlerName()
+            );
         }
         
         if (cokTekrarEdenKarakterVar(mesaj)) {
@@ -58,6 +48,28 @@ public class SpamKontrolHandler extends YorumHandler {
         return HandlerResult.success();
     }
     
+    @Override
+    protected HandlerResult ozelliklerdenKarar(Yorum yorum, YorumOzellikleri ozellikler) {
+        Long kullaniciId = yorum.getKullanici() != null ? yorum.getKullanici().getId() : null;
+        
+        YorumHizSinirlayici.Karar karar = hizSinirlayici.dene(kullaniciId);
+        if (!karar.izinVerildi()) {
+            return HandlerResult.failure(
+                String.format("Lütfen %d saniye bekleyiniz", karar.getBekleSaniye()),
+                getHandlerName()
+            );
+        }
+        
+        if (ozellikler.getEnUzunTekrar() > MAX_TEKRAR_KARAKTER) {
+            return HandlerResult.failure(
+                "Yorumunuzda çok fazla tekrar eden karakter var",
+                getHandlerName()
+            );
+        }
+        
+        return HandlerResult.success();
+    }
+    
     private boolean cokTekrarEdenKarakterVar(String mesaj) {
         if (mesaj == null || mesaj.length() < MAX_TEKRAR_KARAKTER) {
             return false;
@@ -95,6 +107,6 @@ public class SpamKontrolHandler extends YorumHandler {
     }
     
     public void clearSpamHistory(Long kullaniciId) {
-        SON_YORUM_ZAMANLARI.remove(kullaniciId);
+        hizSinirlayici.sifirla(kullaniciId);
     }
 }
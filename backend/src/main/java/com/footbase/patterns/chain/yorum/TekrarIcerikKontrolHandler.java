@@ -0,0 +1,110 @@
+package com.footbase.patterns.chain.yorum;
+
+import com.footbase.entity.Yorum;
+import com.footbase.patterns.chain.HandlerResult;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Yakın tekrar (kopyala-yapıştır) yorum kontrolü
+ *
+ * Her yorumun SimHash parmak izi son yorumların indeksinde aranır
+ * (bkz. YorumParmakIziIndeksi). Yorum reddedilir:
+ * - Aynı kullanıcının pencere içinde çok benzer bir yorumu varsa
+ * - Pencere içinde en az esik-sayisi kadar çok benzer yorum varsa (farklı maç/kullanıcı)
+ *
+ * Kısa yorumlar ("gooool", "harika maç") doğal olarak sık tekrarlandığı için kontrol edilmez.
+ */
+@Component
+public class TekrarIcerikKontrolHandler extends YorumHandler {
+
+    /**
+     * Kontrol edilecek en kısa normalize metin uzunluğu
+     */
+    private static final int MIN_KARAKTER = 15;
+
+    @Value("${yorum.tekrar.pencere-dakika:60}")
+    private int pencereDakika;
+
+    @Value("${yorum.tekrar.kapasite:50000}")
+    private int kapasite;
+
+    @Value("${yorum.tekrar.esik-sayisi:3}")
+    private int esikSayisi;
+
+    @Value("${yorum.tekrar.en-fazla-mesafe:3}")
+    private int enFazlaMesafe;
+
+    private YorumParmakIziIndeksi indeks;
+
+    public TekrarIcerikKontrolHandler() {
+        this.priority = 5;
+        logger.info("♻️ TekrarIcerikKontrolHandler oluşturuldu");
+    }
+
+    @PostConstruct
+    public void init() {
+        indeks = new YorumParmakIziIndeksi(kapasite, pencereDakika * 60_000L, System::currentTimeMillis);
+    }
+
+    @Override
+    protected HandlerResult doHandle(Yorum yorum) {
+        String mesaj = yorum.getMesaj();
+        if (mesaj == null) {
+            return HandlerResult.success();
+        }
+
+        return kararVer(yorum, KufurOtomati.normalizeEt(mesaj).trim(), true);
+    }
+
+    private HandlerResult kararVer(Yorum yorum, String normalMetin, boolean logla) {
+        if (normalMetin.length() < MIN_KARAKTER) {
+            return HandlerResult.success();
+        }
+
+        Long kullaniciId = yorum.getKullanici() != null ? yorum.getKullanici().getId() : null;
+        YorumParmakIziIndeksi.Eslesme eslesme = indeks.araVeEkle(
+                YorumParmakIziIndeksi.parmakIziHesapla(normalMetin), kullaniciId, enFazlaMesafe);
+
+        if (eslesme.getAyniKullaniciSayisi() > 0) {
+            if (logla) {
+                logYorumAction(yorum, "TEKRAR TESPİT EDİLDİ: Aynı kullanıcıdan benzer yorum");
+            }
+            return HandlerResult.failure(
+                "Bu yorumu kısa süre önce zaten paylaştınız",
+                getHandlerName()
+            );
+        }
+
+        if (eslesme.getBenzerSayisi() >= esikSayisi) {
+            if (logla) {
+                logYorumAction(yorum, String.format("TEKRAR TESPİT EDİLDİ: %d benzer yorum", eslesme.getBenzerSayisi()));
+            }
+            return HandlerResult.failure(
+                "Bu yorum kısa süre içinde çok sayıda kez paylaşıldı",
+                getHandlerName()
+            );
+        }
+
+        if (logla) {
+            logYorumAction(yorum, "Tekrar kontrolü BAŞARILI");
+        }
+        return HandlerResult.success();
+    }
+
+    @Override
+    protected HandlerResult ozelliklerdenKarar(Yorum yorum, YorumOzellikleri ozellikler) {
+        if (ozellikler.getMesaj() == null) {
+            return HandlerResult.success();
+        }
+        return kararVer(yorum, ozellikler.getKirpilmisNormalMetin(), false);
+    }
+
+    /**
+     * İndeksteki parmak izi sayısı
+     */
+    public int getIndeksBoyutu() {
+        return indeks.boyut();
+    }
+}
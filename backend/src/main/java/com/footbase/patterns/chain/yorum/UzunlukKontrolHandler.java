@@ -54,6 +54,37 @@ public class UzunlukKontrolHandler extends YorumHandler {
         return HandlerResult.success();
     }
     
+    @Override
+    protected HandlerResult ozelliklerdenKarar(Yorum yorum, YorumOzellikleri ozellikler) {
+        if (ozellikler.getMesaj() == null) {
+            return HandlerResult.failure("Yorum mesajı boş olamaz", getHandlerName());
+        }
+        
+        int uzunluk = ozellikler.getKirpilmisUzunluk();
+        if (uzunluk < MIN_UZUNLUK) {
+            return HandlerResult.failure(
+                String.format("Yorum en az %d karakter olmalıdır", MIN_UZUNLUK),
+                getHandlerName()
+            );
+        }
+        
+        if (uzunluk > MAX_UZUNLUK) {
+            return HandlerResult.failure(
+                String.format("Yorum en fazla %d karakter olabilir", MAX_UZUNLUK),
+                getHandlerName()
+            );
+        }
+        
+        if (ozellikler.isSadeceBosluk()) {
+            return HandlerResult.failure(
+                "Yorum sadece boşluk karakteri içeremez",
+                getHandlerName()
+            );
+        }
+        
+        return HandlerResult.success();
+    }
+    
     public int getMinUzunluk() {
         return MIN_UZUNLUK;
     }
@@ -2,9 +2,19 @@ package com.footbase.patterns.chain.yorum;
 
 import com.footbase.entity.Yorum;
 import com.footbase.patterns.chain.Handler;
+import com.footbase.patterns.chain.HandlerResult;
 
 public abstract class YorumHandler extends Handler<Yorum> {
     
+    /**
+     * Tek geçişte hesaplanmış özelliklerden karar verir (bkz. YorumModerationChain tek geçiş modu)
+     * Mesajı yeniden taramaz ve işlem başına log yazmaz.
+     * Varsayılan olarak klasik kontrole (doHandle) döner.
+     */
+    protected HandlerResult ozelliklerdenKarar(Yorum yorum, YorumOzellikleri ozellikler) {
+        return doHandle(yorum);
+    }
+    
     protected void logYorumAction(Yorum yorum, String action) {
         logger.info("💬 [{}] Yorum ID: {}, İşlem: {}", 
                    getHandlerName(), 
@@ -0,0 +1,333 @@
+package com.footbase.patterns.chain.yorum;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Kullanıcı başına kayan pencereli yorum hız sınırlayıcı
+ *
+ * İki pencere birlikte uygulanır:
+ * - Patlama (burst): kısa pencerede en fazla N yorum (varsayılan 10 saniyede 1)
+ * - Sürekli (sustained): uzun pencerede en fazla M yorum (varsayılan 10 dakikada 20)
+ *
+ * Her kullanıcının son yorum zamanları sabit boyutlu bir halka dizide tutulur.
+ * Okuma-karar-yazma adımı ConcurrentHashMap.compute içinde yapılır; böylece aynı
+ * kullanıcının eşzamanlı istekleri sıralanır, farklı kullanıcılar birbirini beklemez
+ * ve hiçbir güncelleme kaybolmaz.
+ *
+ * Bellek sınırlıdır: sürekli pencere boyunca yorum yapmayan kullanıcılar arka planda
+ * temizlenir, kapasite dolduğunda önce boşta kalanlar, yetmezse kayıtların bir kısmı çıkarılır.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@Component
+public class YorumHizSinirlayici {
+
+    private static final Logger logger = LoggerFactory.getLogger(YorumHizSinirlayici.class);
+
+    /**
+     * Kapasite dolduğunda boşta kayıt bulunmazsa tek seferde çıkarılacak kayıt oranı
+     */
+    private static final int TAHLIYE_ORANI = 10;
+
+    /**
+     * Boşta kalan kayıtların temizlenme aralığı
+     */
+    private static final long TEMIZLIK_ARALIGI_SANIYE = 60;
+
+    private final int patlamaLimiti;
+    private final long patlamaPenceresiMs;
+    private final int surekliLimit;
+    private final long surekliPenceresiMs;
+    private final int kapasite;
+    private final LongSupplier saat;
+
+    private final ConcurrentHashMap<Long, Pencere> pencereler = new ConcurrentHashMap<>();
+
+    private final AtomicLong kabul = new AtomicLong();
+    private final AtomicLong patlamaReddi = new AtomicLong();
+    private final AtomicLong surekliReddi = new AtomicLong();
+    private final AtomicLong tahliye = new AtomicLong();
+
+    private ScheduledExecutorService temizleyici;
+
+    @Autowired
+    public YorumHizSinirlayici(@Value("${yorum.hiz.patlama-limiti:1}") int patlamaLimiti,
+                               @Value("${yorum.hiz.patlama-penceresi-saniye:10}") int patlamaPenceresiSaniye,
+                               @Value("${yorum.hiz.surekli-limit:20}") int surekliLimit,
+                               @Value("${yorum.hiz.surekli-penceresi-saniye:600}") int surekliPenceresiSaniye,
+                               @Value("${yorum.hiz.kapasite:100000}") int kapasite) {
+        this(patlamaLimiti, patlamaPenceresiSaniye * 1000L, surekliLimit, surekliPenceresiSaniye * 1000L,
+             kapasite, System::currentTimeMillis);
+    }
+
+    YorumHizSinirlayici(int patlamaLimiti, long patlamaPenceresiMs, int surekliLimit, long surekliPenceresiMs,
+                        int kapasite, LongSupplier saat) {
+        if (patlamaLimiti < 1 || surekliLimit < 1 || kapasite < 1) {
+            throw new IllegalArgumentException("Hız sınırı limitleri ve kapasite pozitif olmalıdır");
+        }
+        this.patlamaLimiti = patlamaLimiti;
+        this.patlamaPenceresiMs = patlamaPenceresiMs;
+        this.surekliLimit = surekliLimit;
+        this.surekliPenceresiMs = Math.max(surekliPenceresiMs, patlamaPenceresiMs);
+        this.kapasite = kapasite;
+        this.saat = saat;
+    }
+
+    @PostConstruct
+    public void baslat() {
+        temizleyici = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "yorum-hiz-temizleyici");
+            thread.setDaemon(true);
+            return thread;
+        });
+        temizleyici.scheduleWithFixedDelay(this::bostakilerTemizle,
+                TEMIZLIK_ARALIGI_SANIYE, TEMIZLIK_ARALIGI_SANIYE, TimeUnit.SECONDS);
+        logger.info("⏱️ YorumHizSinirlayici başlatıldı: {} yorum/{} ms, {} yorum/{} ms, kapasite {}",
+                   patlamaLimiti, patlamaPenceresiMs, surekliLimit, surekliPenceresiMs, kapasite);
+    }
+
+    @PreDestroy
+    public void durdur() {
+        if (temizleyici != null) {
+            temizleyici.shutdownNow();
+        }
+    }
+
+    /**
+     * Kullanıcının şimdi yorum yapıp yapamayacağına karar verir; izin verilirse yorumu kaydeder
+     *
+     * @param kullaniciId Kullanıcı ID'si
+     * @return Karar (izin verilmediyse beklenmesi gereken süre ile)
+     */
+    public Karar dene(Long kullaniciId) {
+        if (kullaniciId == null) {
+            return Karar.IZIN;
+        }
+        long simdi = saat.getAsLong();
+        if (pencereler.size() >= kapasite && !pencereler.containsKey(kullaniciId)) {
+            yerAc(simdi);
+        }
+
+        Karar[] sonuc = new Karar[1];
+        pencereler.compute(kullaniciId, (id, pencere) -> {
+            if (pencere == null) {
+                pencere = new Pencere(Math.max(patlamaLimiti, surekliLimit));
+            }
+            sonuc[0] = pencere.dene(simdi);
+            return pencere;
+        });
+
+        Karar karar = sonuc[0];
+        if (karar.izinVerildi()) {
+            kabul.incrementAndGet();
+        } else if (karar.getSebep() == RedSebebi.PATLAMA) {
+            patlamaReddi.incrementAndGet();
+        } else {
+            surekliReddi.incrementAndGet();
+        }
+        return karar;
+    }
+
+    /**
+     * Kullanıcının yorum geçmişini siler
+     *
+     * @param kullaniciId Kullanıcı ID'si
+     */
+    public void sifirla(Long kullaniciId) {
+        if (kullaniciId != null) {
+            pencereler.remove(kullaniciId);
+        }
+    }
+
+    /**
+     * Sürekli pencere boyunca yorum yapmamış kullanıcıların kayıtlarını siler
+     *
+     * @return Silinen kayıt sayısı
+     */
+    public int bostakilerTemizle() {
+        long simdi = saat.getAsLong();
+        int silinen = 0;
+        for (Long kullaniciId : pencereler.keySet()) {
+            boolean[] silindi = new boolean[1];
+            pencereler.computeIfPresent(kullaniciId, (id, pencere) -> {
+                if (pencere.bosta(simdi)) {
+                    silindi[0] = true;
+                    return null;
+                }
+                return pencere;
+            });
+            if (silindi[0]) {
+                silinen++;
+            }
+        }
+        if (silinen > 0) {
+            tahliye.addAndGet(silinen);
+            logger.debug("🧹 Hız sınırlayıcıdan {} boşta kullanıcı temizlendi", silinen);
+        }
+        return silinen;
+    }
+
+    /**
+     * Kapasite dolduğunda yer açar: önce boşta kalanlar, yetmezse kayıtların bir kısmı
+     */
+    private void yerAc(long simdi) {
+        bostakilerTemizle();
+        if (pencereler.size() >= kapasite) {
+            int cikarilacak = Math.max(1, kapasite / TAHLIYE_ORANI);
+            int cikarilan = 0;
+            Iterator<Long> iterator = pencereler.keySet().iterator();
+            while (cikarilan < cikarilacak && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                cikarilan++;
+            }
+            tahliye.addAndGet(cikarilan);
+        }
+    }
+
+    /**
+     * Hız sınırlayıcı istatistiklerini döndürür
+     *
+     * @return boyut, kapasite, limitler, kabul ve red sayaçları
+     */
+    public Map<String, Object> istatistikler() {
+        Map<String, Object> istatistik = new LinkedHashMap<>();
+        istatistik.put("boyut", pencereler.size());
+        istatistik.put("kapasite", kapasite);
+        istatistik.put("patlamaLimiti", patlamaLimiti);
+        istatistik.put("patlamaPenceresiMs", patlamaPenceresiMs);
+        istatistik.put("surekliLimit", surekliLimit);
+        istatistik.put("surekliPenceresiMs", surekliPenceresiMs);
+        istatistik.put("kabul", kabul.get());
+        istatistik.put("patlamaReddi", patlamaReddi.get());
+        istatistik.put("surekliReddi", surekliReddi.get());
+        istatistik.put("tahliye", tahliye.get());
+        return istatistik;
+    }
+
+    long getKabulSayisi() {
+        return kabul.get();
+    }
+
+    long getRedSayisi() {
+        return patlamaReddi.get() + surekliReddi.get();
+    }
+
+    int getBoyut() {
+        return pencereler.size();
+    }
+
+    /**
+     * Tek kullanıcının kayan penceresi: son kabul edilen yorum zamanlarının halka dizisi
+     * Yalnızca ConcurrentHashMap.compute içinden erişilir
+     */
+    private final class Pencere {
+        private final long[] zamanlar;
+        private int bas;
+        private int adet;
+
+        Pencere(int boyut) {
+            this.zamanlar = new long[boyut];
+        }
+
+        Karar dene(long simdi) {
+            // Sürekli pencere: son surekliLimit yorumun en eskisi hâlâ pencere içindeyse red
+            if (adet >= surekliLimit) {
+                long enEski = sondanGetir(surekliLimit);
+                if (simdi - enEski < surekliPenceresiMs) {
+                    return Karar.red(RedSebebi.SUREKLI, enEski + surekliPenceresiMs - simdi);
+                }
+            }
+            // Patlama penceresi: son patlamaLimiti yorumun en eskisi hâlâ pencere içindeyse red
+            if (adet >= patlamaLimiti) {
+                long enEski = sondanGetir(patlamaLimiti);
+                if (simdi - enEski < patlamaPenceresiMs) {
+                    return Karar.red(RedSebebi.PATLAMA, enEski + patlamaPenceresiMs - simdi);
+                }
+            }
+
+            zamanlar[bas] = simdi;
+            bas = (bas + 1) % zamanlar.length;
+            if (adet < zamanlar.length) {
+                adet++;
+            }
+            return Karar.IZIN;
+        }
+
+        /**
+         * Sondan k'ıncı kaydı döndürür (k=1 en yeni)
+         */
+        private long sondanGetir(int k) {
+            return zamanlar[Math.floorMod(bas - k, zamanlar.length)];
+        }
+
+        boolean bosta(long simdi) {
+            return adet == 0 || simdi - sondanGetir(1) >= surekliPenceresiMs;
+        }
+    }
+
+    /**
+     * Red sebebi
+     */
+    public enum RedSebebi {
+        PATLAMA,
+        SUREKLI
+    }
+
+    /**
+     * Hız sınırı kararı
+     */
+    public static final class Karar {
+        static final Karar IZIN = new Karar(true, null, 0);
+
+        private final boolean izinVerildi;
+        private final RedSebebi sebep;
+        private final long bekleMs;
+
+        private Karar(boolean izinVerildi, RedSebebi sebep, long bekleMs) {
+            this.izinVerildi = izinVerildi;
+            this.sebep = sebep;
+            this.bekleMs = bekleMs;
+        }
+
+        static Karar red(RedSebebi sebep, long bekleMs) {
+            return new Karar(false, sebep, Math.max(0, bekleMs));
+        }
+
+        public boolean izinVerildi() {
+            return izinVerildi;
+        }
+
+        public RedSebebi getSebep() {
+            return sebep;
+        }
+
+        public long getBekleMs() {
+            return bekleMs;
+        }
+
+        /**
+         * Beklenmesi gereken süre (saniye, yukarı yuvarlanmış)
+         */
+        public long getBekleSaniye() {
+            return (bekleMs + 999) / 1000;
+        }
+    }
+}
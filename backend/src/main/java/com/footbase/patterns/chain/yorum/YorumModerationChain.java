@@ -5,13 +5,29 @@ import com.footbase.patterns.chain.HandlerResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
+/**
+ * Yorum moderasyon zinciri
+ *
+ * İki mod vardır (yorum.moderasyon.tek-gecis):
+ * - Tek geçiş (varsayılan): mesaj bir kez taranıp YorumOzellikleri doldurulur, işleyiciler
+ *   aynı sırayla bu kayıttan karar verir; yorum başına tek bir yapılandırılmış log satırı yazılır.
+ * - Klasik zincir: her işleyici mesajı kendisi tarar ve ayrıntılı log yazar.
+ */
 @Component
 public class YorumModerationChain {
     
     private static final Logger logger = LoggerFactory.getLogger(YorumModerationChain.class);
     
+    /**
+     * İş parçacığı başına yeniden kullanılan özellik kaydı
+     */
+    private static final ThreadLocal<YorumOzellikleri> OZELLIKLER = ThreadLocal.withInitial(YorumOzellikleri::new);
+    
     @Autowired
     private KufurFiltresiHandler kufurFiltresi;
     
@@ -24,8 +40,16 @@ public class YorumModerationChain {
     @Autowired
     private LinkKontrolHandler linkKontrol;
     
+    @Autowired
+    private TekrarIcerikKontrolHandler tekrarIcerikKontrol;
+    
+    @Value("${yorum.moderasyon.tek-gecis:true}")
+    private boolean tekGecis;
+    
     private YorumHandler chain;
     
+    private List<YorumHandler> handlerlar;
+    
     public YorumModerationChain() {
         logger.info("⛓️ YorumModerationChain oluşturuldu");
     }
@@ -36,14 +60,55 @@ public class YorumModerationChain {
         
         kufurFiltresi.setNext(spamKontrol)
                      .setNext(uzunlukKontrol)
-                     .setNext(linkKontrol);
+                     .setNext(linkKontrol)
+                     .setNext(tekrarIcerikKontrol);
         
         chain = kufurFiltresi;
+        handlerlar = List.of(kufurFiltresi, spamKontrol, uzunlukKontrol, linkKontrol, tekrarIcerikKontrol);
         
         logger.info("✅ Zincir kuruldu: {}", chain.visualizeChain());
     }
     
     public HandlerResult moderate(Yorum yorum) {
+        return tekGecis ? tekGeciseModerate(yorum) : zincirleModerate(yorum);
+    }
+    
+    /**
+     * Tek geçişli moderasyon: özellikler bir kez hesaplanır, işleyiciler kayıttan karar verir
+     */
+    public HandlerResult tekGeciseModerate(Yorum yorum) {
+        long baslangic = System.nanoTime();
+        YorumOzellikleri ozellikler = OZELLIKLER.get().hesapla(yorum.getMesaj(), kufurFiltresi.getOtomat());
+        
+        HandlerResult result = null;
+        for (YorumHandler handler : handlerlar) {
+            HandlerResult sonuc = handler.ozelliklerdenKarar(yorum, ozellikler);
+            if (!sonuc.isSuccess()) {
+                result = sonuc;
+                break;
+            }
+        }
+        long sureMikro = (System.nanoTime() - baslangic) / 1_000;
+        
+        if (result == null) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("💬 moderasyon sonuc=ONAY yorumId={} kullaniciId={} uzunluk={} link={} sureUs={}",
+                            yorum.getId(), kullaniciId(yorum), ozellikler.getKirpilmisUzunluk(),
+                            ozellikler.getLinkSayisi(), sureMikro);
+            }
+            return HandlerResult.success("Tüm kontroller başarılı");
+        }
+        
+        logger.info("💬 moderasyon sonuc=RED handler={} yorumId={} kullaniciId={} uzunluk={} link={} sureUs={} sebep=\"{}\"",
+                   result.getHandlerName(), yorum.getId(), kullaniciId(yorum), ozellikler.getKirpilmisUzunluk(),
+                   ozellikler.getLinkSayisi(), sureMikro, result.getMessage());
+        return result;
+    }
+    
+    /**
+     * Klasik zincir moderasyonu: her işleyici mesajı ayrı tarar ve ayrıntılı log yazar
+     */
+    public HandlerResult zincirleModerate(Yorum yorum) {
         logger.info("═══════════════════════════════════════════════════════");
         logger.info("💬 YORUM MODERASYONU BAŞLIYOR");
         logger.info("═══════════════════════════════════════════════════════");
@@ -65,7 +130,11 @@ public class YorumModerationChain {
     }
     
     public boolean quickCheck(Yorum yorum) {
-        return chain.handle(yorum).isSuccess();
+        return tekGecis ? tekGeciseModerate(yorum).isSuccess() : chain.handle(yorum).isSuccess();
+    }
+    
+    private static Long kullaniciId(Yorum yorum) {
+        return yorum.getKullanici() != null ? yorum.getKullanici().getId() : null;
     }
     
     public String getChainVisualization() {
@@ -0,0 +1,230 @@
+package com.footbase.patterns.chain.yorum;
+
+import java.util.Set;
+
+/**
+ * Yorum Özellik Kaydı (tek geçişli tarama)
+ *
+ * Moderasyon zincirindeki tüm işleyicilerin ihtiyaç duyduğu mesaj özelliklerini
+ * mesaj üzerinde TEK geçişte hesaplar:
+ * - Kırpılmış uzunluk ve sadece boşluk kontrolü (UzunlukKontrolHandler)
+ * - En uzun tekrar eden karakter dizisi ve büyük harf oranı (SpamKontrolHandler)
+ * - Link sayısı, LinkKontrolHandler'daki URL deseniyle aynı kurallar (LinkKontrolHandler)
+ * - Küfür otomatı adımları ve normalize metin, KufurOtomati.Tarayici ile
+ *   (KufurFiltresiHandler, TekrarIcerikKontrolHandler)
+ *
+ * Nesne yeniden kullanılabilir: hesapla() önceki sonuçları sıfırlar. İş parçacığı
+ * güvenli değildir; YorumModerationChain her iş parçacığı için ayrı bir örnek tutar.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+public final class YorumOzellikleri {
+
+    private static final String[] LINK_ONEKLERI = {"http://", "https://", "ftp://", "www."};
+
+    private String mesaj;
+    private int kirpilmisUzunluk;
+    private boolean sadeceBosluk;
+    private int enUzunTekrar;
+    private int harfSayisi;
+    private int buyukHarfSayisi;
+    private int linkSayisi;
+    private final KufurOtomati.Tarayici tarayici = new KufurOtomati.Tarayici();
+    private String kirpilmisNormalMetin;
+
+    /**
+     * Mesajın tüm özelliklerini tek geçişte hesaplar
+     *
+     * @param mesaj Yorum mesajı (null olabilir)
+     * @param otomat Küfür otomatı
+     * @return Bu nesne
+     */
+    public YorumOzellikleri hesapla(String mesaj, KufurOtomati otomat) {
+        this.mesaj = mesaj;
+        kirpilmisUzunluk = 0;
+        sadeceBosluk = true;
+        enUzunTekrar = 0;
+        harfSayisi = 0;
+        buyukHarfSayisi = 0;
+        linkSayisi = 0;
+        tarayici.baslat(otomat, false);
+        kirpilmisNormalMetin = null;
+
+        if (mesaj == null) {
+            return this;
+        }
+
+        int n = mesaj.length();
+        // String.trim() ile aynı kırpma: baştaki ve sondaki <= ' ' karakterler
+        int ilk = -1;
+        int son = -1;
+
+        int tekrar = 0;
+        char oncekiHam = 0;
+
+        // Link durumu: gövde başlangıcı ve geçerli son karakterin indeksi
+        int linkGovdeBasi = -1;
+        int linkGecerliSon = -1;
+
+        for (int i = 0; i < n; i++) {
+            char c = mesaj.charAt(i);
+
+            // Uzunluk
+            if (c > ' ') {
+                if (ilk < 0) {
+                    ilk = i;
+                }
+                son = i;
+            }
+            if (sadeceBosluk && !Character.isWhitespace(c)) {
+                sadeceBosluk = false;
+            }
+
+            // Tekrar eden karakterler
+            if (i > 0 && c == oncekiHam) {
+                tekrar++;
+            } else {
+                tekrar = 1;
+                oncekiHam = c;
+            }
+            if (tekrar > enUzunTekrar) {
+                enUzunTekrar = tekrar;
+            }
+
+            // Büyük harf oranı
+            if (Character.isLetter(c)) {
+                harfSayisi++;
+                if (Character.isUpperCase(c)) {
+                    buyukHarfSayisi++;
+                }
+            }
+
+            // Link
+            if (linkGovdeBasi >= 0) {
+                if (urlKarakteri(c)) {
+                    if (urlSonKarakteri(c)) {
+                        linkGecerliSon = i;
+                    }
+                } else {
+                    linkBitir(linkGecerliSon);
+                    linkGovdeBasi = -1;
+                    linkGecerliSon = -1;
+                }
+            }
+            if (linkGovdeBasi < 0) {
+                int onekUzunlugu = linkOnekiUzunlugu(mesaj, i);
+                if (onekUzunlugu > 0) {
+                    linkGovdeBasi = i + onekUzunlugu;
+                    linkGecerliSon = -1;
+                }
+            } else if (i < linkGovdeBasi) {
+                // Önek karakterleri gövdenin geçerli sonu sayılmaz
+                linkGecerliSon = -1;
+            }
+
+            // Küfür otomatı ve normalize metin
+            tarayici.ekle(c, i);
+        }
+        if (linkGovdeBasi >= 0) {
+            linkBitir(linkGecerliSon);
+        }
+        tarayici.bitir();
+
+        kirpilmisUzunluk = ilk < 0 ? 0 : son - ilk + 1;
+        return this;
+    }
+
+    private void linkBitir(int gecerliSon) {
+        if (gecerliSon >= 0) {
+            linkSayisi++;
+        }
+    }
+
+    private static int linkOnekiUzunlugu(String mesaj, int i) {
+        char c = mesaj.charAt(i);
+        if (c != 'h' && c != 'H' && c != 'f' && c != 'F' && c != 'w' && c != 'W') {
+            return 0;
+        }
+        for (String onek : LINK_ONEKLERI) {
+            if (mesaj.regionMatches(true, i, onek, 0, onek.length())) {
+                return onek.length();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * LinkKontrolHandler desenindeki [-a-zA-Z0-9+&@#/%?=~_|!:,.;] sınıfı
+     */
+    private static boolean urlKarakteri(char c) {
+        return urlSonKarakteri(c) || c == '?' || c == '!' || c == ':' || c == ',' || c == '.' || c == ';';
+    }
+
+    /**
+     * LinkKontrolHandler desenindeki [-a-zA-Z0-9+&@#/%=~_|] sınıfı
+     */
+    private static boolean urlSonKarakteri(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '+' || c == '&' || c == '@' || c == '#' || c == '/'
+                || c == '%' || c == '=' || c == '~' || c == '_' || c == '|';
+    }
+
+    public String getMesaj() {
+        return mesaj;
+    }
+
+    public int getKirpilmisUzunluk() {
+        return kirpilmisUzunluk;
+    }
+
+    /**
+     * Mesaj boş veya yalnızca boşluk karakterlerinden oluşuyorsa true
+     */
+    public boolean isSadeceBosluk() {
+        return sadeceBosluk;
+    }
+
+    public int getEnUzunTekrar() {
+        return enUzunTekrar;
+    }
+
+    public int getHarfSayisi() {
+        return harfSayisi;
+    }
+
+    public int getBuyukHarfSayisi() {
+        return buyukHarfSayisi;
+    }
+
+    public int getLinkSayisi() {
+        return linkSayisi;
+    }
+
+    public boolean kufurVar() {
+        return !tarayici.getBulunanKelimeler().isEmpty();
+    }
+
+    public Set<String> getKufurler() {
+        return tarayici.getBulunanKelimeler();
+    }
+
+    /**
+     * Baştaki ve sondaki ayraçları kırpılmış normalize metin (KufurOtomati.normalizeEt ile aynı)
+     */
+    public String getKirpilmisNormalMetin() {
+        if (kirpilmisNormalMetin == null) {
+            CharSequence normalMetin = tarayici.getNormalMetin();
+            int bas = 0;
+            int bit = normalMetin.length();
+            while (bas < bit && normalMetin.charAt(bas) <= ' ') {
+                bas++;
+            }
+            while (bit > bas && normalMetin.charAt(bit - 1) <= ' ') {
+                bit--;
+            }
+            kirpilmisNormalMetin = normalMetin.subSequence(bas, bit).toString();
+        }
+        return kirpilmisNormalMetin;
+    }
+}
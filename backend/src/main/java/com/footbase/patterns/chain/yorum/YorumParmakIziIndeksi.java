@@ -0,0 +1,247 @@
+package com.footbase.patterns.chain.yorum;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Yakın Tekrar Yorum İndeksi (SimHash)
+ *
+ * Yorumların 64 bitlik SimHash parmak izlerini sınırlı süre ve sınırlı sayıda tutar;
+ * yeni bir parmak izine küçük Hamming mesafesindeki (en fazla 3 bit) son yorumları bulur.
+ *
+ * ARAMA: Parmak izi 16 bitlik 4 banda bölünür. Güvercin yuvası ilkesi gereği mesafesi
+ * 3 veya daha az olan iki parmak izinin en az bir bandı birebir aynıdır; bu yüzden
+ * yalnızca aynı bant değerini paylaşan kayıtlar karşılaştırılır (tam tarama yapılmaz).
+ *
+ * SÜRE VE KAPASİTE: Kayıtlar ekleme sırasıyla tutulur. Süresi dolan veya kapasiteyi aşan
+ * en eski kayıt hem genel sıradan hem de bant kovalarının başından O(1) ile çıkarılır.
+ *
+ * Tüm işlemler nesne kilidi altında yapılır; tek işlem mikro saniyeler mertebesindedir.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+public final class YorumParmakIziIndeksi {
+
+    /**
+     * Desteklenen en büyük Hamming mesafesi (4 bant ile garanti edilebilen)
+     */
+    public static final int EN_FAZLA_MESAFE = 3;
+
+    private static final int BANT_SAYISI = 4;
+    private static final int BANT_BITI = 64 / BANT_SAYISI;
+    private static final int SINGIL_UZUNLUGU = 3;
+
+    /**
+     * Bir kovada karşılaştırılacak en fazla (en yeni) kayıt sayısı
+     * Aynı metnin sel gibi tekrarında tarama maliyetini sınırlar
+     */
+    private static final int KOVA_TARAMA_SINIRI = 64;
+
+    private final int kapasite;
+    private final long yasamSuresiMs;
+    private final LongSupplier saat;
+
+    private final ArrayDeque<Kayit> sira = new ArrayDeque<>();
+    @SuppressWarnings("unchecked")
+    private final Map<Integer, ArrayDeque<Kayit>>[] bantlar = new Map[BANT_SAYISI];
+
+    public YorumParmakIziIndeksi(int kapasite, long yasamSuresiMs, LongSupplier saat) {
+        if (kapasite < 1 || yasamSuresiMs < 1) {
+            throw new IllegalArgumentException("Kapasite ve yaşam süresi pozitif olmalıdır");
+        }
+        this.kapasite = kapasite;
+        this.yasamSuresiMs = yasamSuresiMs;
+        this.saat = saat;
+        for (int b = 0; b < BANT_SAYISI; b++) {
+            bantlar[b] = new HashMap<>();
+        }
+    }
+
+    /**
+     * Parmak izine yakın son kayıtları sayar ve parmak izini indekse ekler
+     *
+     * @param parmakIzi SimHash parmak izi
+     * @param kullaniciId Yorumu yazan kullanıcı (null olabilir)
+     * @param enFazlaMesafe Yakın sayılacak en büyük Hamming mesafesi (0..3)
+     * @return Eşleşme özeti (ekleme öncesi durum)
+     */
+    public synchronized Eslesme araVeEkle(long parmakIzi, Long kullaniciId, int enFazlaMesafe) {
+        long simdi = saat.getAsLong();
+        eskileriCikar(simdi);
+
+        int mesafeSiniri = Math.min(Math.max(enFazlaMesafe, 0), EN_FAZLA_MESAFE);
+        int benzer = 0;
+        int ayniKullanici = 0;
+        long esikZaman = simdi - yasamSuresiMs;
+
+        for (int b = 0; b < BANT_SAYISI; b++) {
+            ArrayDeque<Kayit> kova = bantlar[b].get(bantDegeri(parmakIzi, b));
+            if (kova == null) {
+                continue;
+            }
+            int taranan = 0;
+            Iterator<Kayit> iterator = kova.descendingIterator();
+            while (iterator.hasNext() && taranan++ < KOVA_TARAMA_SINIRI) {
+                Kayit kayit = iterator.next();
+                if (kayit.zaman <= esikZaman) {
+                    break;
+                }
+                // Aynı kayıt birden fazla bantta eşleşebilir; sadece ilk eşleşen bantta sayılır
+                if (oncekiBantEslesiyor(parmakIzi, kayit.parmakIzi, b)) {
+                    continue;
+                }
+                if (Long.bitCount(parmakIzi ^ kayit.parmakIzi) <= mesafeSiniri) {
+                    benzer++;
+                    if (kullaniciId != null && kullaniciId.equals(kayit.kullaniciId)) {
+                        ayniKullanici++;
+                    }
+                }
+            }
+        }
+
+        ekle(new Kayit(parmakIzi, kullaniciId, simdi));
+        return new Eslesme(benzer, ayniKullanici);
+    }
+
+    /**
+     * İndeksteki kayıt sayısı
+     */
+    public synchronized int boyut() {
+        return sira.size();
+    }
+
+    /**
+     * Tüm kayıtları siler
+     */
+    public synchronized void temizle() {
+        sira.clear();
+        for (Map<Integer, ArrayDeque<Kayit>> bant : bantlar) {
+            bant.clear();
+        }
+    }
+
+    private void ekle(Kayit kayit) {
+        sira.addLast(kayit);
+        for (int b = 0; b < BANT_SAYISI; b++) {
+            bantlar[b].computeIfAbsent(bantDegeri(kayit.parmakIzi, b), k -> new ArrayDeque<>()).addLast(kayit);
+        }
+        while (sira.size() > kapasite) {
+            enEskiyiCikar();
+        }
+    }
+
+    private void eskileriCikar(long simdi) {
+        long esikZaman = simdi - yasamSuresiMs;
+        while (!sira.isEmpty() && sira.peekFirst().zaman <= esikZaman) {
+            enEskiyiCikar();
+        }
+    }
+
+    /**
+     * En eski kayıt, ekleme sırası korunduğu için bulunduğu her kovanın da başındadır
+     */
+    private void enEskiyiCikar() {
+        Kayit kayit = sira.pollFirst();
+        for (int b = 0; b < BANT_SAYISI; b++) {
+            int deger = bantDegeri(kayit.parmakIzi, b);
+            ArrayDeque<Kayit> kova = bantlar[b].get(deger);
+            if (kova != null) {
+                kova.pollFirst();
+                if (kova.isEmpty()) {
+                    bantlar[b].remove(deger);
+                }
+            }
+        }
+    }
+
+    private static boolean oncekiBantEslesiyor(long a, long b, int bant) {
+        for (int i = 0; i < bant; i++) {
+            if (bantDegeri(a, i) == bantDegeri(b, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int bantDegeri(long parmakIzi, int bant) {
+        return (int) ((parmakIzi >>> (bant * BANT_BITI)) & 0xFFFF);
+    }
+
+    /**
+     * Normalize edilmiş metnin 64 bitlik SimHash parmak izini hesaplar
+     * Özellikler: 3 karakterlik örtüşen karakter dizileri (shingle), eşit ağırlıklı
+     *
+     * @param normalMetin KufurOtomati.normalizeEt ile normalize edilmiş metin
+     * @return Parmak izi
+     */
+    public static long parmakIziHesapla(String normalMetin) {
+        int[] agirliklar = new int[64];
+        int n = normalMetin.length();
+        int singilSayisi = Math.max(1, n - SINGIL_UZUNLUGU + 1);
+        for (int i = 0; i < singilSayisi; i++) {
+            long singil = 0;
+            for (int j = i; j < Math.min(n, i + SINGIL_UZUNLUGU); j++) {
+                singil = (singil << 16) | normalMetin.charAt(j);
+            }
+            long ozet = karistir(singil);
+            for (int bit = 0; bit < 64; bit++) {
+                agirliklar[bit] += ((ozet >>> bit) & 1L) != 0 ? 1 : -1;
+            }
+        }
+
+        long parmakIzi = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (agirliklar[bit] > 0) {
+                parmakIzi |= 1L << bit;
+            }
+        }
+        return parmakIzi;
+    }
+
+    /**
+     * 64 bitlik karıştırma (SplitMix64 son adımı)
+     */
+    private static long karistir(long x) {
+        x += 0x9E3779B97F4A7C15L;
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+
+    private static final class Kayit {
+        final long parmakIzi;
+        final Long kullaniciId;
+        final long zaman;
+
+        Kayit(long parmakIzi, Long kullaniciId, long zaman) {
+            this.parmakIzi = parmakIzi;
+            this.kullaniciId = kullaniciId;
+            this.zaman = zaman;
+        }
+    }
+
+    /**
+     * Arama sonucu: yakın kayıt sayısı ve bunlardan aynı kullanıcıya ait olanlar
+     */
+    public static final class Eslesme {
+        private final int benzerSayisi;
+        private final int ayniKullaniciSayisi;
+
+        Eslesme(int benzerSayisi, int ayniKullaniciSayisi) {
+            this.benzerSayisi = benzerSayisi;
+            this.ayniKullaniciSayisi = ayniKullaniciSayisi;
+        }
+
+        public int getBenzerSayisi() {
+            return benzerSayisi;
+        }
+
+        public int getAyniKullaniciSayisi() {
+            return ayniKullaniciSayisi;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.footbase.entity.MacTakimlari;
 import com.footbase.patterns.command.dto.MacSonlandirDTO;
 import com.footbase.repository.MacRepository;
 import com.footbase.repository.MacTakimlariRepository;
+import com.footbase.service.MacSonucuBildirici;
 
 import java.util.HashMap;
 import java.util.List;
@@ -21,21 +22,25 @@ public class MacSonlandirCommand extends MacCommand {
     
     private final MacRepository macRepository;
     private final MacTakimlariRepository macTakimlariRepository;
+    private final MacSonucuBildirici macSonucuBildirici;
     private final MacSonlandirDTO macSonlandirDTO;
     
     // Undo için önceki verileri sakla
     private Map<Long, Integer> oncekiSkorlar = new HashMap<>();
     private String oncekiDurum;
+    private boolean oncekiSonuclandi;
     
     public MacSonlandirCommand(
             MacSonlandirDTO macSonlandirDTO,
             Long kullaniciId,
             MacRepository macRepository,
-            MacTakimlariRepository macTakimlariRepository) {
+            MacTakimlariRepository macTakimlariRepository,
+            MacSonucuBildirici macSonucuBildirici) {
         super(kullaniciId);
         this.macSonlandirDTO = macSonlandirDTO;
         this.macRepository = macRepository;
         this.macTakimlariRepository = macTakimlariRepository;
+        this.macSonucuBildirici = macSonucuBildirici;
     }
     
     @Override
@@ -47,6 +52,7 @@ public class MacSonlandirCommand extends MacCommand {
             
             // Önceki durumu kaydet
             oncekiDurum = mac.getDurum();
+            oncekiSonuclandi = Boolean.TRUE.equals(macRepository.sonuclandiMi(mac.getId()));
             
             // Maç takımlarını getir
             List<MacTakimlari> macTakimlari = macTakimlariRepository.findByMacId(macSonlandirDTO.getMacId());
@@ -80,6 +86,10 @@ public class MacSonlandirCommand extends MacCommand {
             mac.setDurum(macSonlandirDTO.getDurum() != null ? macSonlandirDTO.getDurum() : "BITTI");
             macRepository.save(mac);
             
+            // BITTI durumundaki maç puan durumuna girer (commit'ten sonra)
+            macRepository.sonucDurumunuYaz(mac.getId(), "BITTI".equalsIgnoreCase(mac.getDurum()));
+            macSonucuBildirici.sonucDegisti(mac.getId());
+            
             logger.info("🏁 Maç sonlandırıldı: {} - {} (Durum: {} → {})", 
                     macSonlandirDTO.getEvSahibiSkor(), 
                     macSonlandirDTO.getDeplasmanSkor(),
@@ -108,6 +118,7 @@ public class MacSonlandirCommand extends MacCommand {
             // Önceki durumu geri yükle
             mac.setDurum(oncekiDurum);
             macRepository.save(mac);
+            macRepository.sonucDurumunuYaz(mac.getId(), oncekiSonuclandi);
             
             // Önceki skorları geri yükle
             for (Map.Entry<Long, Integer> entry : oncekiSkorlar.entrySet()) {
@@ -125,6 +136,9 @@ public class MacSonlandirCommand extends MacCommand {
                 logger.info("🔄 Skor geri alındı: {} (ID: {})", oncekiSkor, mt.getId());
             }
             
+            // Puan durumundan maçın katkısı commit'ten sonra geri alınır
+            macSonucuBildirici.sonucDegisti(mac.getId());
+            
             logger.info("✅ Maç sonlandırma başarıyla geri alındı! Durum: {} → {}", 
                     macSonlandirDTO.getDurum(), oncekiDurum);
             return true;
@@ -4,6 +4,7 @@ import com.footbase.entity.MacTakimlari;
 import com.footbase.patterns.command.dto.SkorGirisiDTO;
 import com.footbase.repository.MacRepository;
 import com.footbase.repository.MacTakimlariRepository;
+import com.footbase.service.MacSonucuBildirici;
 
 import java.util.HashMap;
 import java.util.List;
@@ -19,6 +20,7 @@ public class SkorGirisiCommand extends MacCommand {
     
     private final MacRepository macRepository;
     private final MacTakimlariRepository macTakimlariRepository;
+    private final MacSonucuBildirici macSonucuBildirici;
     private final SkorGirisiDTO skorGirisiDTO;
     
     // Undo için önceki skorları sakla
@@ -28,11 +30,13 @@ public class SkorGirisiCommand extends MacCommand {
             SkorGirisiDTO skorGirisiDTO,
             Long kullaniciId,
             MacRepository macRepository,
-            MacTakimlariRepository macTakimlariRepository) {
+            MacTakimlariRepository macTakimlariRepository,
+            MacSonucuBildirici macSonucuBildirici) {
         super(kullaniciId);
         this.skorGirisiDTO = skorGirisiDTO;
         this.macRepository = macRepository;
         this.macTakimlariRepository = macTakimlariRepository;
+        this.macSonucuBildirici = macSonucuBildirici;
     }
     
     @Override
@@ -74,6 +78,9 @@ public class SkorGirisiCommand extends MacCommand {
                     skorGirisiDTO.getEvSahibiSkor(), 
                     skorGirisiDTO.getDeplasmanSkor());
             
+            // Sonuçlanmış maçsa puan durumu commit'ten sonra güncellenir
+            macSonucuBildirici.sonucDegisti(skorGirisiDTO.getMacId());
+            
             return true;
             
         } catch (Exception e) {
@@ -101,6 +108,8 @@ public class SkorGirisiCommand extends MacCommand {
                 logger.info("🔄 Skor geri alındı: {} (ID: {})", oncekiSkor, mt.getId());
             }
             
+            macSonucuBildirici.sonucDegisti(skorGirisiDTO.getMacId());
+            
             logger.info("✅ Skor girişi başarıyla geri alındı!");
             return true;
             
@@ -8,6 +8,8 @@ import com.footbase.patterns.command.dto.MacSonlandirDTO;
 import com.footbase.patterns.command.dto.SkorGirisiDTO;
 import com.footbase.repository.MacRepository;
 import com.footbase.repository.MacTakimlariRepository;
+import com.footbase.service.AnaSayfaServisi;
+import com.footbase.service.MacSonucuBildirici;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -45,6 +47,12 @@ public class MacCommandService {
     @Autowired
     private MacTakimlariRepository macTakimlariRepository;
     
+    @Autowired
+    private AnaSayfaServisi anaSayfaServisi;
+    
+    @Autowired
+    private MacSonucuBildirici macSonucuBildirici;
+    
     /**
      * Skor girişi yapar
      * 
@@ -74,7 +82,8 @@ public class MacCommandService {
                     skorGirisiDTO,
                     kullaniciId,
                     macRepository,
-                    macTakimlariRepository
+                    macTakimlariRepository,
+                    macSonucuBildirici
             );
             
             // Command'i çalıştır
@@ -82,6 +91,7 @@ public class MacCommandService {
             
             if (basarili) {
                 sonuc.put("basarili", true);
+                anaSayfaServisi.yenidenOlusturmaIste(); // Skor değişti, ana sayfa commit'ten sonra yenilenir
                 sonuc.put("mesaj", "Skor girişi başarılı!");
                 sonuc.put("macId", skorGirisiDTO.getMacId());
                 sonuc.put("evSahibiSkor", skorGirisiDTO.getEvSahibiSkor());
@@ -135,7 +145,8 @@ public class MacCommandService {
                     macSonlandirDTO,
                     kullaniciId,
                     macRepository,
-                    macTakimlariRepository
+                    macTakimlariRepository,
+                    macSonucuBildirici
             );
             
             // Command'i çalıştır
@@ -149,6 +160,7 @@ public class MacCommandService {
                 );
                 
                 sonuc.put("basarili", true);
+                anaSayfaServisi.yenidenOlusturmaIste(); // Skor değişti, ana sayfa commit'ten sonra yenilenir
                 sonuc.put("mesaj", "Maç başarıyla sonlandırıldı!");
                 sonuc.put("macId", macSonlandirDTO.getMacId());
                 sonuc.put("evSahibiSkor", macSonlandirDTO.getEvSahibiSkor());
@@ -201,6 +213,7 @@ public class MacCommandService {
             
             if (basarili) {
                 sonuc.put("basarili", true);
+                anaSayfaServisi.yenidenOlusturmaIste(); // Skor değişti, ana sayfa commit'ten sonra yenilenir
                 sonuc.put("mesaj", "İşlem başarıyla geri alındı!");
                 sonuc.put("geriAlinanIslem", lastCommand.getDescription());
                 sonuc.put("islemTipi", lastCommand.getCommandType());
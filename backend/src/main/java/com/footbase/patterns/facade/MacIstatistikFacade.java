@@ -6,17 +6,38 @@ import com.footbase.entity.MacDurumGecmisi;
 import com.footbase.entity.MacMedya;
 import com.footbase.entity.MacOyuncuOlaylari;
 import com.footbase.entity.MacTakimlari;
+import com.footbase.entity.Takim;
 import com.footbase.repository.MacDurumGecmisiRepository;
 import com.footbase.repository.MacMedyaRepository;
 import com.footbase.repository.MacOyuncuOlaylariRepository;
 import com.footbase.repository.MacTakimlariRepository;
 import com.footbase.service.MacService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.hibernate.Hibernate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Maç İstatistik Facade
@@ -38,6 +59,14 @@ import java.util.List;
  * ✅ Performans artar (5 istek → 1 istek)
  * ✅ Kod tekrarı önlenir
  * ✅ Bakım kolaylaşır
+ * 
+ * PARALEL MOD:
+ * macDetaylariniParalelGetir() birbirinden bağımsız beş yüklemeyi aynı anda
+ * başlatır; gecikme toplam yerine en yavaş bölüm kadar olur. Süre sınırını
+ * aşan veya hata veren bölümler boş döner ve DTO'da kısmi sonuç olarak işaretlenir.
+ * Havuz kuyruğu doluysa bölüm istek thread'inde çalıştırılmaz, reddedilir ve
+ * zaman aşımına uğramış gibi eksik bölüm olarak raporlanır.
+ * Her iki modda da bölüm süreleri DTO'da raporlanır.
  */
 @Component
 public class MacIstatistikFacade {
@@ -59,10 +88,68 @@ public class MacIstatistikFacade {
     @Autowired
     private MacDurumGecmisiRepository macDurumGecmisiRepository;
     
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    /**
+     * Paralel modda varsayılan ve izin verilen süre sınırları (ms)
+     */
+    public static final long VARSAYILAN_ZAMAN_ASIMI_MS = 2000;
+    public static final long EN_KUCUK_ZAMAN_ASIMI_MS = 50;
+    public static final long EN_BUYUK_ZAMAN_ASIMI_MS = 10000;
+    
+    /**
+     * Bölüm yükleyici havuzu boyutu
+     * Veritabanı bağlantı havuzunu (Hikari varsayılanı 10) tüketmeyecek kadar küçük tutulur
+     */
+    private static final int HAVUZ_BOYUTU = 8;
+    private static final int KUYRUK_KAPASITESI = 256;
+    
+    static final String BOLUM_MAC = "mac";
+    static final String BOLUM_TAKIMLAR = "takimlar";
+    static final String BOLUM_OLAYLAR = "olaylar";
+    static final String BOLUM_MEDYA = "medya";
+    static final String BOLUM_DURUM_GECMISI = "durumGecmisi";
+    
+    private ThreadPoolExecutor bolumYukleyici;
+    
+    private TransactionTemplate okumaTransactioni;
+    
     public MacIstatistikFacade() {
         logger.info("🎭 MacIstatistikFacade oluşturuldu (Facade Pattern)");
     }
     
+    @PostConstruct
+    public void baslat() {
+        bolumYukleyici = havuzOlustur(HAVUZ_BOYUTU, KUYRUK_KAPASITESI);
+        okumaTransactioni = new TransactionTemplate(transactionManager);
+        okumaTransactioni.setReadOnly(true);
+    }
+    
+    /**
+     * Bölüm yükleyici havuzunu oluşturur
+     * Kuyruk dolarsa yeni bölüm reddedilir (AbortPolicy); çağıran thread'de çalıştırılmaz,
+     * böylece yoğunlukta da son tarih ve kısmi sonuç sözleşmesi korunur
+     */
+    static ThreadPoolExecutor havuzOlustur(int havuzBoyutu, int kuyrukKapasitesi) {
+        AtomicInteger sayac = new AtomicInteger();
+        ThreadPoolExecutor havuz = new ThreadPoolExecutor(havuzBoyutu, havuzBoyutu, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(kuyrukKapasitesi), r -> {
+                    Thread thread = new Thread(r, "mac-detay-" + sayac.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        havuz.allowCoreThreadTimeOut(true);
+        return havuz;
+    }
+    
+    @PreDestroy
+    public void durdur() {
+        if (bolumYukleyici != null) {
+            bolumYukleyici.shutdownNow();
+        }
+    }
+    
     /**
      * Maçın tüm detaylarını tek seferde getirir
      * 
@@ -79,33 +166,225 @@ public class MacIstatistikFacade {
      */
     public MacDetayDTO macDetaylariniGetir(Long macId) {
         logger.debug("Maç detayları getiriliyor: macId={}", macId);
+        long baslangic = System.nanoTime();
+        Map<String, Long> sureler = new LinkedHashMap<>();
         
         // 1. Maç bilgilerini al
-        Mac mac = macService.macGetir(macId);
+        Mac mac = sureliYukle(BOLUM_MAC, () -> macService.macGetir(macId), sureler);
         
         // 2. Takım bilgilerini al
-        List<MacTakimlari> takimlar = macTakimlariRepository.findByMacIdWithDetails(macId);
+        List<MacTakimlari> takimlar = sureliYukle(BOLUM_TAKIMLAR,
+                () -> macTakimlariRepository.findByMacIdWithDetails(macId), sureler);
         logger.debug("Takımlar bulundu: {} adet", takimlar.size());
         
         // 3. Maç olaylarını al (goller, kartlar)
-        List<MacOyuncuOlaylari> olaylar = macOyuncuOlaylariRepository.findByMacIdWithDetails(macId);
+        List<MacOyuncuOlaylari> olaylar = sureliYukle(BOLUM_OLAYLAR,
+                () -> macOyuncuOlaylariRepository.findByMacIdWithDetails(macId), sureler);
         logger.debug("Olaylar bulundu: {} adet", olaylar.size());
         
         // 4. Maç medyasını al
-        List<MacMedya> medya = macMedyaRepository.findByMacIdWithDetails(macId);
+        List<MacMedya> medya = sureliYukle(BOLUM_MEDYA,
+                () -> macMedyaRepository.findByMacIdWithDetails(macId), sureler);
         logger.debug("Medya bulundu: {} adet", medya.size());
         
         // 5. Maç durum geçmişini al
-        List<MacDurumGecmisi> durumGecmisi = macDurumGecmisiRepository.findByMacIdWithDetails(macId);
+        List<MacDurumGecmisi> durumGecmisi = sureliYukle(BOLUM_DURUM_GECMISI,
+                () -> macDurumGecmisiRepository.findByMacIdWithDetails(macId), sureler);
         logger.debug("Durum geçmişi bulundu: {} adet", durumGecmisi.size());
         
         // Tüm verileri tek bir DTO'da topla ve döndür
         MacDetayDTO detay = new MacDetayDTO(mac, takimlar, olaylar, medya, durumGecmisi);
-        logger.info("✅ Maç detayları başarıyla toplandı: macId={}", macId);
+        detay.setBolumSureleriMs(sureler);
+        detay.setToplamSureMs(msGecen(baslangic));
+        logger.info("✅ Maç detayları başarıyla toplandı: macId={}, süre={}ms", macId, detay.getToplamSureMs());
+        
+        return detay;
+    }
+    
+    /**
+     * Maçın tüm detaylarını paralel olarak getirir
+     * 
+     * Beş bölüm (maç, takımlar, olaylar, medya, durum geçmişi) aynı anda,
+     * her biri kendi salt okunur transaction'ında yüklenir. Tüm bölümler için
+     * tek bir son tarih uygulanır:
+     * - Maç bölümü zorunludur; yüklenemezse hata fırlatılır
+     * - Diğer bölümler zamanında gelmezse, hata verirse veya havuz dolu olduğu için
+     *   reddedilirse boş liste döner, bölüm adı eksikBolumler'e eklenir ve kismiSonuc true olur
+     * 
+     * @param macId Maç ID'si
+     * @param zamanAsimiMs Toplam süre sınırı (ms), EN_KUCUK..EN_BUYUK aralığına çekilir
+     * @return Maç detayları (gerekirse kısmi)
+     * @throws RuntimeException Maç bulunamazsa, maç bölümü zaman aşımına uğrarsa veya reddedilirse
+     */
+    public MacDetayDTO macDetaylariniParalelGetir(Long macId, long zamanAsimiMs) {
+        long sinir = Math.max(EN_KUCUK_ZAMAN_ASIMI_MS, Math.min(EN_BUYUK_ZAMAN_ASIMI_MS, zamanAsimiMs));
+        logger.debug("Maç detayları paralel getiriliyor: macId={}, sınır={}ms", macId, sinir);
+        long baslangic = System.nanoTime();
+        long sonTarih = baslangic + TimeUnit.MILLISECONDS.toNanos(sinir);
+        Map<String, Long> sureler = new ConcurrentHashMap<>();
+        
+        Future<Mac> macGorevi = bolumBaslat(BOLUM_MAC, () -> macService.macGetir(macId), sureler);
+        Future<List<MacTakimlari>> takimGorevi = bolumBaslat(BOLUM_TAKIMLAR,
+                () -> macTakimlariRepository.findByMacIdWithDetails(macId), sureler);
+        Future<List<MacOyuncuOlaylari>> olayGorevi = bolumBaslat(BOLUM_OLAYLAR,
+                () -> macOyuncuOlaylariRepository.findByMacIdWithDetails(macId), sureler);
+        Future<List<MacMedya>> medyaGorevi = bolumBaslat(BOLUM_MEDYA,
+                () -> macMedyaRepository.findByMacIdWithDetails(macId), sureler);
+        Future<List<MacDurumGecmisi>> durumGorevi = bolumBaslat(BOLUM_DURUM_GECMISI,
+                () -> macDurumGecmisiRepository.findByMacIdWithDetails(macId), sureler);
+        
+        List<String> eksikBolumler = new ArrayList<>();
+        Mac mac;
+        try {
+            mac = macGorevi.get(kalanSure(sonTarih), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            tumunuIptalEt(macGorevi, takimGorevi, olayGorevi, medyaGorevi, durumGorevi);
+            throw new RuntimeException("Maç bilgileri " + sinir + " ms içinde yüklenemedi");
+        } catch (ExecutionException e) {
+            tumunuIptalEt(takimGorevi, olayGorevi, medyaGorevi, durumGorevi);
+            Throwable neden = e.getCause();
+            if (neden instanceof RejectedExecutionException) {
+                throw new RuntimeException("Maç detayları şu anda yüklenemiyor (yükleyici havuzu dolu)");
+            }
+            throw neden instanceof RuntimeException ? (RuntimeException) neden : new RuntimeException(neden);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            tumunuIptalEt(macGorevi, takimGorevi, olayGorevi, medyaGorevi, durumGorevi);
+            throw new RuntimeException("Maç detayları yüklenirken işlem kesildi");
+        }
+        
+        List<MacTakimlari> takimlar = bolumuBekle(BOLUM_TAKIMLAR, takimGorevi, sonTarih, eksikBolumler);
+        List<MacOyuncuOlaylari> olaylar = bolumuBekle(BOLUM_OLAYLAR, olayGorevi, sonTarih, eksikBolumler);
+        List<MacMedya> medya = bolumuBekle(BOLUM_MEDYA, medyaGorevi, sonTarih, eksikBolumler);
+        List<MacDurumGecmisi> durumGecmisi = bolumuBekle(BOLUM_DURUM_GECMISI, durumGorevi, sonTarih, eksikBolumler);
+        
+        MacDetayDTO detay = new MacDetayDTO(mac, takimlar, olaylar, medya, durumGecmisi);
+        detay.setKismiSonuc(!eksikBolumler.isEmpty());
+        detay.setEksikBolumler(eksikBolumler);
+        detay.setBolumSureleriMs(siraliSureler(sureler));
+        detay.setToplamSureMs(msGecen(baslangic));
         
+        if (detay.isKismiSonuc()) {
+            logger.warn("⚠️ Maç detayları kısmi döndü: macId={}, eksik={}, süreler={}",
+                    macId, eksikBolumler, detay.getBolumSureleriMs());
+        } else {
+            logger.info("✅ Maç detayları paralel toplandı: macId={}, süre={}ms", macId, detay.getToplamSureMs());
+        }
         return detay;
     }
     
+    /**
+     * Bir bölümü havuzda, kendi salt okunur transaction'ı içinde yükler
+     * İstek thread'inin oturumu (open-in-view) işçi thread'lerde olmadığından,
+     * JSON'a yazılacak tembel ilişkiler transaction kapanmadan yüklenir.
+     * Havuz bölümü reddederse RejectedExecutionException ile tamamlanmış bir görev döner.
+     */
+    private <T> Future<T> bolumBaslat(String bolum, Supplier<T> yukleyici, Map<String, Long> sureler) {
+        try {
+            return bolumYukleyici.submit(() -> okumaTransactioni.execute(durum -> {
+                T sonuc = sureliYukle(bolum, yukleyici, sureler);
+                iliskileriYukle(sonuc);
+                return sonuc;
+            }));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+    
+    /**
+     * Bölümü son tarihe kadar bekler; gelmezse veya hata verirse boş liste döner
+     */
+    private <T> List<T> bolumuBekle(String bolum, Future<List<T>> gorev, long sonTarih, List<String> eksikBolumler) {
+        try {
+            return gorev.get(kalanSure(sonTarih), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            gorev.cancel(true);
+            logger.warn("⏱️ Bölüm zaman aşımına uğradı: {}", bolum);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RejectedExecutionException) {
+                logger.warn("🚫 Bölüm reddedildi (yükleyici havuzu dolu): {}", bolum);
+            } else {
+                logger.error("Bölüm yüklenemedi: {} - {}", bolum, e.getCause().getMessage());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            gorev.cancel(true);
+        }
+        eksikBolumler.add(bolum);
+        return Collections.emptyList();
+    }
+    
+    private <T> T sureliYukle(String bolum, Supplier<T> yukleyici, Map<String, Long> sureler) {
+        long baslangic = System.nanoTime();
+        try {
+            return yukleyici.get();
+        } finally {
+            sureler.put(bolum, msGecen(baslangic));
+        }
+    }
+    
+    /**
+     * JSON serileştirmede erişilen tembel (LAZY) ilişkileri yükler
+     */
+    private static void iliskileriYukle(Object sonuc) {
+        if (sonuc instanceof List<?> liste) {
+            liste.forEach(MacIstatistikFacade::iliskileriYukle);
+        } else if (sonuc instanceof Mac mac) {
+            Hibernate.initialize(mac.getHakem());
+            takimIliskileriniYukle(mac.getEvSahibiTakim());
+            takimIliskileriniYukle(mac.getDeplasmanTakim());
+        } else if (sonuc instanceof MacTakimlari macTakim) {
+            Hibernate.initialize(macTakim.getMac().getHakem());
+            takimIliskileriniYukle(macTakim.getTakim());
+        } else if (sonuc instanceof MacOyuncuOlaylari olay) {
+            Hibernate.initialize(olay.getMac().getHakem());
+            if (olay.getOyuncu() != null) {
+                takimIliskileriniYukle(olay.getOyuncu().getTakim());
+            }
+        } else if (sonuc instanceof MacMedya medya) {
+            Hibernate.initialize(medya.getMac().getHakem());
+            Hibernate.initialize(medya.getEditor());
+        } else if (sonuc instanceof MacDurumGecmisi gecmis) {
+            Hibernate.initialize(gecmis.getMac().getHakem());
+            Hibernate.initialize(gecmis.getIslemYapanKullanici());
+        }
+    }
+    
+    private static void takimIliskileriniYukle(Takim takim) {
+        if (takim == null) {
+            return;
+        }
+        Hibernate.initialize(takim);
+        Hibernate.initialize(takim.getStadyum());
+        Hibernate.initialize(takim.getLig());
+        Hibernate.initialize(takim.getTeknikDirektor());
+    }
+    
+    private static Map<String, Long> siraliSureler(Map<String, Long> sureler) {
+        Map<String, Long> sirali = new LinkedHashMap<>();
+        for (String bolum : List.of(BOLUM_MAC, BOLUM_TAKIMLAR, BOLUM_OLAYLAR, BOLUM_MEDYA, BOLUM_DURUM_GECMISI)) {
+            Long sure = sureler.get(bolum);
+            if (sure != null) {
+                sirali.put(bolum, sure);
+            }
+        }
+        return sirali;
+    }
+    
+    private static void tumunuIptalEt(Future<?>... gorevler) {
+        for (Future<?> gorev : gorevler) {
+            gorev.cancel(true);
+        }
+    }
+    
+    private static long kalanSure(long sonTarih) {
+        return Math.max(0, sonTarih - System.nanoTime());
+    }
+    
+    private static long msGecen(long baslangicNano) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - baslangicNano);
+    }
+    
     /**
      * Sadece takım bilgilerini getirir
      * 
@@ -0,0 +1,67 @@
+package com.footbase.patterns.observer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+
+/**
+ * Ana Sayfa Gözlemci Sınıfı (Concrete Observer)
+ * 
+ * Ana sayfa görüntüsünü (snapshot) etkileyen maç olaylarını dinler ve
+ * görüntünün arka planda yeniden oluşturulmasını ister.
+ * 
+ * DİNLENEN OLAYLAR:
+ * - MAC_ONAYLANDI: Yeni maç yayına girdi
+ * - GOL_ATILDI: Skor değişti
+ * - MAC_BITTI: Maç sonuçlandı
+ * 
+ * Yeni yorumlar görüntüyü yeniden oluşturmaz; son yorumlar SonYorumlarTamponu'ndan okunur.
+ * 
+ * OBSERVER PATTERN'DEKİ ROLÜ:
+ * Bu sınıf "Concrete Observer" rolündedir. Uygulama açılışında
+ * MacOnayKonusu'na bir kez kaydedilir ve uygulama boyunca kayıtlı kalır.
+ * Asıl yeniden oluşturma işini kendisine verilen Runnable yapar; gözlemci
+ * sadece hangi olayların önemli olduğuna karar verir.
+ * 
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+public class AnaSayfaGozlemci implements Gozlemci {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AnaSayfaGozlemci.class);
+    
+    /**
+     * Ana sayfa görüntüsünü etkileyen olay tipleri
+     */
+    private static final Set<String> ILGILI_OLAYLAR = Set.of(
+            "MAC_ONAYLANDI", "GOL_ATILDI", "MAC_BITTI");
+    
+    /**
+     * Yeniden oluşturma isteği (AnaSayfaServisi.yenidenOlusturmaIste)
+     */
+    private final Runnable yenidenOlusturmaIstegi;
+    
+    /**
+     * Parametreli Constructor
+     * 
+     * @param yenidenOlusturmaIstegi Olay geldiğinde çağrılacak yeniden oluşturma isteği
+     */
+    public AnaSayfaGozlemci(Runnable yenidenOlusturmaIstegi) {
+        this.yenidenOlusturmaIstegi = yenidenOlusturmaIstegi;
+    }
+    
+    /**
+     * Güncelleme Metodunu İşler (Observer Pattern)
+     * 
+     * @param olayTipi Olay tipi
+     * @param veri Olayla ilgili veri (kullanılmaz)
+     */
+    @Override
+    public void guncelle(String olayTipi, Object veri) {
+        if (olayTipi != null && ILGILI_OLAYLAR.contains(olayTipi)) {
+            logger.debug("🏠 Ana sayfa görüntüsü yenilenecek: Olay={}", olayTipi);
+            yenidenOlusturmaIstegi.run();
+        }
+    }
+}
@@ -296,25 +296,6 @@ public class MacOnayKonusu implements Konu {
         gozlemcileriBilgilendir();
     }
     
-    /**
-     * Yeni yorum eklendiğinde çağrılır
-     * 
-     * Takipçilere "yeni yorum" bildirimi gönderilir.
-     * 
-     * @param mac Yorum eklenen maç
-     */
-    public void yeniYorum(Mac mac) {
-        if (mac == null) {
-            logger.error("Null maç ile yeniYorum çağrıldı!");
-            return;
-        }
-        
-        logger.info("💬 Yeni yorum eklendi: Mac ID={}", mac.getId());
-        this.aktifMac = mac;
-        this.aktifOlayTipi = "YENI_YORUM";
-        gozlemcileriBilgilendir();
-    }
-    
     /**
      * Mevcut gözlemci sayısını döndürür
      * 
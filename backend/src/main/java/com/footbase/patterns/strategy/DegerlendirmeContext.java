@@ -12,10 +12,15 @@ import org.springframework.stereotype.Component;
  * Kullanıcı tipine göre doğru stratejiyi seçer ve kullanır.
  * 
  * KULLANIM:
- * 1. Kullanıcı rolüne göre strateji seç
+ * 1. Kullanıcı rolüne göre strateji seç (seçilen strateji çağırana döner)
  * 2. Strateji ile puanı hesapla
  * 3. Toplam değerlendirmeyi hesapla
  * 
+ * Bean tekildir, eşzamanlı isteklerce paylaşılır ve durum tutmaz: seçim saklanmaz, her çağrı
+ * rolü parametre olarak alır. hesapla(), toplamPuanHesapla() ve ortalamaPuanHesapla()
+ * durumsuz DegerlendirmePuanlayici'ya devreder.
+ * Çok sayıda değerlendirme için DegerlendirmePuanlayici'nın dizi API'si tercih edilmelidir.
+ * 
  * @author FootBase Takımı
  * @version 1.0
  */
@@ -33,60 +38,30 @@ public class DegerlendirmeContext {
     @Autowired
     private NormalKullaniciDegerlendirmeStrateji normalKullaniciStrateji;
     
-    private DegerlendirmeStrateji aktifStrateji;
+    @Autowired
+    private DegerlendirmePuanlayici puanlayici;
     
     public DegerlendirmeContext() {
         logger.info("🎯 DegerlendirmeContext oluşturuldu (Strategy Pattern)");
     }
     
     /**
-     * Kullanıcı rolüne göre strateji seçer
+     * Kullanıcı rolüne göre stratejiyi seçip döndürür
+     * Seçim context'te saklanmaz; dönen strateji çağıranın elinde kalır
      * 
      * @param rol Kullanıcı rolü ("ADMIN", "EDITOR", "USER")
+     * @return Role ait strateji
+     * @throws IllegalArgumentException Rol boş veya geçersizse
      */
-    public void stratejiSec(String rol) {
-        if (rol == null || rol.trim().isEmpty()) {
-            logger.error("❌ Rol boş olamaz!");
-            throw new IllegalArgumentException("Rol boş olamaz!");
-        }
-        
-        String normalizedRol = rol.toUpperCase().trim();
-        
-        aktifStrateji = switch (normalizedRol) {
-            case "ADMIN", "YONETICI" -> {
-                logger.info("👑 Admin stratejisi seçildi (3x ağırlık)");
-                yield adminStrateji;
-            }
-            case "EDITOR", "EDITÖR" -> {
-                logger.info("✏️ Editör stratejisi seçildi (2x ağırlık)");
-                yield editorStrateji;
-            }
-            case "USER", "KULLANICI", "NORMAL" -> {
-                logger.info("👤 Normal kullanıcı stratejisi seçildi (1x ağırlık)");
-                yield normalKullaniciStrateji;
-            }
-            default -> {
-                logger.error("❌ Bilinmeyen rol: {}", rol);
-                throw new IllegalArgumentException("Geçersiz rol: " + rol);
-            }
+    public DegerlendirmeStrateji stratejiSec(String rol) {
+        DegerlendirmeStrateji strateji = switch (puanlayici.rolKodu(rol)) {
+            case DegerlendirmePuanlayici.ADMIN -> adminStrateji;
+            case DegerlendirmePuanlayici.EDITOR -> editorStrateji;
+            default -> normalKullaniciStrateji;
         };
         
-        logger.debug("✓ Strateji değiştirildi: {}", aktifStrateji.getStratejAdi());
-    }
-    
-    /**
-     * Aktif strateji ile puanı hesaplar
-     * 
-     * @param yildizSayisi Verilen yıldız sayısı (1-5)
-     * @return Ağırlıklandırılmış puan
-     */
-    public double puanHesapla(int yildizSayisi) {
-        if (aktifStrateji == null) {
-            logger.error("❌ Strateji seçilmedi! Önce stratejiSec() çağırın.");
-            throw new IllegalStateException("Strateji seçilmedi!");
-        }
-        
-        return aktifStrateji.puanHesapla(yildizSayisi);
+        logger.debug("✓ Strateji seçildi: {} ({}x ağırlık)", strateji.getStratejAdi(), strateji.getAgirlik());
+        return strateji;
     }
     
     /**
@@ -97,34 +72,30 @@ public class DegerlendirmeContext {
      * @return Ağırlıklandırılmış puan
      */
     public double hesapla(String rol, int yildizSayisi) {
-        stratejiSec(rol);
-        return puanHesapla(yildizSayisi);
+        return puanlayici.puanHesapla(rol, yildizSayisi);
     }
     
     /**
-     * Aktif stratejinin bilgilerini döndürür
+     * Rolün strateji bilgisini döndürür
      * 
+     * @param rol Kullanıcı rolü
      * @return Strateji bilgisi
      */
-    public String getAktifStrateji() {
-        if (aktifStrateji == null) {
-            return "Strateji seçilmedi";
-        }
+    public String stratejiBilgisi(String rol) {
+        DegerlendirmeStrateji strateji = stratejiSec(rol);
         return String.format("%s (Ağırlık: %.1fx)", 
-                           aktifStrateji.getStratejAdi(), 
-                           aktifStrateji.getAgirlik());
+                           strateji.getStratejAdi(), 
+                           strateji.getAgirlik());
     }
     
     /**
-     * Aktif stratejinin ağırlığını döndürür
+     * Rolün ağırlığını döndürür
      * 
+     * @param rol Kullanıcı rolü
      * @return Ağırlık katsayısı
      */
-    public double getAgirlik() {
-        if (aktifStrateji == null) {
-            throw new IllegalStateException("Strateji seçilmedi!");
-        }
-        return aktifStrateji.getAgirlik();
+    public double getAgirlik(String rol) {
+        return puanlayici.agirlik(puanlayici.rolKodu(rol));
     }
     
     /**
@@ -134,34 +105,24 @@ public class DegerlendirmeContext {
      * @return Toplam ağırlıklandırılmış puan
      */
     public double toplamPuanHesapla(java.util.List<Degerlendirme> degerlendirmeler) {
-        logger.info("📊 Toplam {} değerlendirme hesaplanıyor...", degerlendirmeler.size());
+        int adet = degerlendirmeler.size();
+        int[] rolKodlari = new int[adet];
+        int[] yildizlar = new int[adet];
+        sutunlaraAyir(degerlendirmeler, rolKodlari, yildizlar);
         
-        double toplam = 0.0;
-        int adminSayisi = 0;
-        int editorSayisi = 0;
-        int normalSayisi = 0;
+        double toplam = puanlayici.toplamPuanHesapla(rolKodlari, yildizlar, adet);
         
-        for (Degerlendirme deg : degerlendirmeler) {
-            double puan = hesapla(deg.getRol(), deg.getYildizSayisi());
-            toplam += puan;
-            
-            // İstatistik
-            String rol = deg.getRol().toUpperCase();
-            if (rol.equals("ADMIN") || rol.equals("YONETICI")) {
-                adminSayisi++;
-            } else if (rol.equals("EDITOR") || rol.equals("EDITÖR")) {
-                editorSayisi++;
-            } else {
-                normalSayisi++;
+        if (logger.isDebugEnabled()) {
+            int[] rolSayilari = new int[3];
+            for (int rolKodu : rolKodlari) {
+                rolSayilari[rolKodu]++;
             }
+            logger.debug("📊 {} değerlendirme: 👑 {} admin, ✏️ {} editör, 👤 {} normal, 💯 toplam {}",
+                         adet, rolSayilari[DegerlendirmePuanlayici.ADMIN],
+                         rolSayilari[DegerlendirmePuanlayici.EDITOR],
+                         rolSayilari[DegerlendirmePuanlayici.NORMAL], toplam);
         }
         
-        logger.info("📈 Değerlendirme İstatistikleri:");
-        logger.info("   👑 Admin: {} değerlendirme (3x ağırlık)", adminSayisi);
-        logger.info("   ✏️ Editör: {} değerlendirme (2x ağırlık)", editorSayisi);
-        logger.info("   👤 Normal: {} değerlendirme (1x ağırlık)", normalSayisi);
-        logger.info("   💯 Toplam Puan: {}", toplam);
-        
         return toplam;
     }
     
@@ -177,23 +138,31 @@ public class DegerlendirmeContext {
             return 0.0;
         }
         
-        double toplamPuan = toplamPuanHesapla(degerlendirmeler);
-        
-        // Ağırlıkları topla
-        double toplamAgirlik = 0.0;
-        for (Degerlendirme deg : degerlendirmeler) {
-            stratejiSec(deg.getRol());
-            toplamAgirlik += getAgirlik();
-        }
+        int adet = degerlendirmeler.size();
+        int[] rolKodlari = new int[adet];
+        int[] yildizlar = new int[adet];
+        sutunlaraAyir(degerlendirmeler, rolKodlari, yildizlar);
         
-        // Normalize et (0-5 arası)
-        double ortalama = (toplamPuan / toplamAgirlik);
+        // Toplam puan ve toplam ağırlık tek geçişte
+        double ortalama = puanlayici.ortalamaPuanHesapla(rolKodlari, yildizlar, adet);
         
-        logger.info("⭐ Ortalama Puan: {}/5.0", String.format("%.2f", ortalama));
+        logger.debug("⭐ Ortalama Puan: {}/5.0", String.format("%.2f", ortalama));
         
         return ortalama;
     }
     
+    /**
+     * Değerlendirme listesini rol kodu ve yıldız sütunlarına ayırır
+     */
+    private void sutunlaraAyir(java.util.List<Degerlendirme> degerlendirmeler, int[] rolKodlari, int[] yildizlar) {
+        int i = 0;
+        for (Degerlendirme deg : degerlendirmeler) {
+            rolKodlari[i] = puanlayici.rolKodu(deg.getRol());
+            yildizlar[i] = deg.getYildizSayisi();
+            i++;
+        }
+    }
+    
     /**
      * Değerlendirme sınıfı (iç sınıf)
      */
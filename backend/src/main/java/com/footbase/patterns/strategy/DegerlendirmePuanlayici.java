@@ -0,0 +1,226 @@
+package com.footbase.patterns.strategy;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Değerlendirme Puanlayıcı (durumsuz puanlama motoru)
+ *
+ * DegerlendirmeContext'in aksine seçili bir strateji tutmaz; her çağrı rolü parametre olarak alır,
+ * bu yüzden tek bir bean eşzamanlı isteklerde güvenle paylaşılır.
+ *
+ * - Rol -> ağırlık tablosu uygulama açılışında stratejilerden bir kez oluşturulur
+ * - Her (rol, yıldız) çiftinin puanı önceden hesaplanır; puanlama tek dizi okumasıdır
+ * - Toplu API rol kodlarını ve yıldızları sütun halinde (ilkel diziler) alır, öğe başına
+ *   nesne oluşturmaz ve log yazmaz
+ *
+ * Rol kodları: ADMIN (3x), EDITOR (2x), NORMAL (1x). Metin rolden kod için rolKodu() kullanılır.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@Component
+public class DegerlendirmePuanlayici {
+
+    private static final Logger logger = LoggerFactory.getLogger(DegerlendirmePuanlayici.class);
+
+    public static final int ADMIN = 0;
+    public static final int EDITOR = 1;
+    public static final int NORMAL = 2;
+
+    private static final int ROL_SAYISI = 3;
+    private static final int EN_AZ_YILDIZ = 1;
+    private static final int EN_FAZLA_YILDIZ = 5;
+    private static final int SATIR = EN_FAZLA_YILDIZ + 1;
+
+    /**
+     * Kabul edilen rol adları (büyük harf) -> rol kodu
+     */
+    private static final Map<String, Integer> ROL_KODLARI = Map.of(
+            "ADMIN", ADMIN, "YONETICI", ADMIN,
+            "EDITOR", EDITOR, "EDITÖR", EDITOR,
+            "USER", NORMAL, "KULLANICI", NORMAL, "NORMAL", NORMAL);
+
+    @Autowired
+    private AdminDegerlendirmeStrateji adminStrateji;
+
+    @Autowired
+    private EditorDegerlendirmeStrateji editorStrateji;
+
+    @Autowired
+    private NormalKullaniciDegerlendirmeStrateji normalKullaniciStrateji;
+
+    /**
+     * Rol kodu -> ağırlık
+     */
+    private double[] agirliklar;
+
+    /**
+     * [rolKodu * SATIR + yildiz] -> yildiz * agirlik
+     */
+    private double[] puanTablosu;
+
+    /**
+     * Ağırlık ve puan tablolarını stratejilerden oluşturur
+     */
+    @PostConstruct
+    public void tabloyuOlustur() {
+        double[] yeniAgirliklar = new double[ROL_SAYISI];
+        yeniAgirliklar[ADMIN] = adminStrateji.getAgirlik();
+        yeniAgirliklar[EDITOR] = editorStrateji.getAgirlik();
+        yeniAgirliklar[NORMAL] = normalKullaniciStrateji.getAgirlik();
+
+        double[] yeniTablo = new double[ROL_SAYISI * SATIR];
+        for (int rol = 0; rol < ROL_SAYISI; rol++) {
+            for (int yildiz = EN_AZ_YILDIZ; yildiz <= EN_FAZLA_YILDIZ; yildiz++) {
+                yeniTablo[rol * SATIR + yildiz] = yildiz * yeniAgirliklar[rol];
+            }
+        }
+        agirliklar = yeniAgirliklar;
+        puanTablosu = yeniTablo;
+        logger.info("🎯 DegerlendirmePuanlayici hazır (ağırlıklar: admin {}x, editör {}x, normal {}x)",
+                agirliklar[ADMIN], agirliklar[EDITOR], agirliklar[NORMAL]);
+    }
+
+    /**
+     * Rol adını rol koduna çevirir
+     *
+     * @param rol Kullanıcı rolü ("ADMIN", "EDITOR", "USER" ve eş anlamlıları)
+     * @return Rol kodu
+     * @throws IllegalArgumentException Boş veya bilinmeyen rol için
+     */
+    public int rolKodu(String rol) {
+        if (rol == null || rol.trim().isEmpty()) {
+            throw new IllegalArgumentException("Rol boş olamaz!");
+        }
+        Integer kod = ROL_KODLARI.get(rol.trim().toUpperCase(Locale.ROOT));
+        if (kod == null) {
+            throw new IllegalArgumentException("Geçersiz rol: " + rol);
+        }
+        return kod;
+    }
+
+    /**
+     * Rolün ağırlık katsayısı
+     */
+    public double agirlik(int rolKodu) {
+        if (rolKodu < 0 || rolKodu >= ROL_SAYISI) {
+            throw new IllegalArgumentException("Geçersiz rol kodu: " + rolKodu);
+        }
+        return agirliklar[rolKodu];
+    }
+
+    /**
+     * Tek değerlendirmenin ağırlıklandırılmış puanı
+     *
+     * @param rolKodu Rol kodu
+     * @param yildizSayisi Verilen yıldız sayısı (1-5)
+     * @return Ağırlıklandırılmış puan
+     */
+    public double puanHesapla(int rolKodu, int yildizSayisi) {
+        gecerliMi(rolKodu, yildizSayisi, -1);
+        return puanTablosu[rolKodu * SATIR + yildizSayisi];
+    }
+
+    /**
+     * Tek değerlendirmenin ağırlıklandırılmış puanı (rol adıyla)
+     */
+    public double puanHesapla(String rol, int yildizSayisi) {
+        return puanHesapla(rolKodu(rol), yildizSayisi);
+    }
+
+    /**
+     * Değerlendirmelerin puanlarını tek tek hesaplayıp verilen diziye yazar
+     *
+     * @param rolKodlari Rol kodları
+     * @param yildizlar Yıldız sayıları
+     * @param puanlar Sonuç dizisi (en az adet uzunluğunda)
+     * @param adet İşlenecek değerlendirme sayısı
+     */
+    public void puanlariHesapla(int[] rolKodlari, int[] yildizlar, double[] puanlar, int adet) {
+        boyutKontrol(rolKodlari, yildizlar, adet);
+        if (puanlar.length < adet) {
+            throw new IllegalArgumentException("Sonuç dizisi yetersiz: " + puanlar.length + " < " + adet);
+        }
+        double[] tablo = puanTablosu;
+        for (int i = 0; i < adet; i++) {
+            int rol = rolKodlari[i];
+            int yildiz = yildizlar[i];
+            gecerliMi(rol, yildiz, i);
+            puanlar[i] = tablo[rol * SATIR + yildiz];
+        }
+    }
+
+    /**
+     * Değerlendirmelerin toplam ağırlıklandırılmış puanı
+     *
+     * @param rolKodlari Rol kodları
+     * @param yildizlar Yıldız sayıları
+     * @param adet İşlenecek değerlendirme sayısı
+     * @return Toplam puan
+     */
+    public double toplamPuanHesapla(int[] rolKodlari, int[] yildizlar, int adet) {
+        boyutKontrol(rolKodlari, yildizlar, adet);
+        double[] tablo = puanTablosu;
+        double toplam = 0.0;
+        for (int i = 0; i < adet; i++) {
+            int rol = rolKodlari[i];
+            int yildiz = yildizlar[i];
+            gecerliMi(rol, yildiz, i);
+            toplam += tablo[rol * SATIR + yildiz];
+        }
+        return toplam;
+    }
+
+    /**
+     * Değerlendirmelerin ağırlıklı ortalama yıldızı (0-5 arası), tek geçişte
+     *
+     * @param rolKodlari Rol kodları
+     * @param yildizlar Yıldız sayıları
+     * @param adet İşlenecek değerlendirme sayısı
+     * @return Ortalama puan (değerlendirme yoksa 0.0)
+     */
+    public double ortalamaPuanHesapla(int[] rolKodlari, int[] yildizlar, int adet) {
+        boyutKontrol(rolKodlari, yildizlar, adet);
+        if (adet == 0) {
+            return 0.0;
+        }
+        double[] tablo = puanTablosu;
+        double[] agirlikTablosu = agirliklar;
+        double toplamPuan = 0.0;
+        double toplamAgirlik = 0.0;
+        for (int i = 0; i < adet; i++) {
+            int rol = rolKodlari[i];
+            int yildiz = yildizlar[i];
+            gecerliMi(rol, yildiz, i);
+            toplamPuan += tablo[rol * SATIR + yildiz];
+            toplamAgirlik += agirlikTablosu[rol];
+        }
+        return toplamPuan / toplamAgirlik;
+    }
+
+    private static void gecerliMi(int rolKodu, int yildizSayisi, int sira) {
+        if (rolKodu < 0 || rolKodu >= ROL_SAYISI) {
+            throw new IllegalArgumentException("Geçersiz rol kodu: " + rolKodu + siraBilgisi(sira));
+        }
+        if (yildizSayisi < EN_AZ_YILDIZ || yildizSayisi > EN_FAZLA_YILDIZ) {
+            throw new IllegalArgumentException("Yıldız sayısı 1-5 arasında olmalı!" + siraBilgisi(sira));
+        }
+    }
+
+    private static String siraBilgisi(int sira) {
+        return sira < 0 ? "" : " (sıra " + sira + ")";
+    }
+
+    private static void boyutKontrol(int[] rolKodlari, int[] yildizlar, int adet) {
+        if (adet < 0 || rolKodlari.length < adet || yildizlar.length < adet) {
+            throw new IllegalArgumentException("Geçersiz değerlendirme sayısı: " + adet);
+        }
+    }
+}
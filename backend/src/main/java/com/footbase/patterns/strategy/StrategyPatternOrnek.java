@@ -66,18 +66,15 @@ public class StrategyPatternOrnek implements CommandLineRunner {
         logger.info("─────────────────────────────────────────────────────");
         
         // Admin değerlendirmesi
-        context.stratejiSec("ADMIN");
-        double adminPuan = context.puanHesapla(5);
+        double adminPuan = context.stratejiSec("ADMIN").puanHesapla(5);
         logger.info("Sonuç: {} puan\n", adminPuan);
         
         // Editör değerlendirmesi
-        context.stratejiSec("EDITOR");
-        double editorPuan = context.puanHesapla(5);
+        double editorPuan = context.stratejiSec("EDITOR").puanHesapla(5);
         logger.info("Sonuç: {} puan\n", editorPuan);
         
         // Normal kullanıcı değerlendirmesi
-        context.stratejiSec("USER");
-        double normalPuan = context.puanHesapla(5);
+        double normalPuan = context.stratejiSec("USER").puanHesapla(5);
         logger.info("Sonuç: {} puan", normalPuan);
     }
     
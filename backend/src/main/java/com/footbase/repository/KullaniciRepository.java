@@ -2,8 +2,12 @@ package com.footbase.repository;
 
 import com.footbase.entity.Kullanici;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -48,6 +52,14 @@ public interface KullaniciRepository extends JpaRepository<Kullanici, Long> {
      * @return Kullanıcı adı varsa true, yoksa false
      */
     boolean existsByKullaniciAdi(String kullaniciAdi);
+
+    /**
+     * Verilen ID'lerden veritabanında var olanların kullanıcı adlarını getirir (entity yüklemeden)
+     * @param idler Kullanıcı ID'leri
+     * @return [kullaniciId, kullaniciAdi] satırları (yalnızca var olan kullanıcılar)
+     */
+    @Query("SELECT k.id, k.kullaniciAdi FROM Kullanici k WHERE k.id IN :idler")
+    List<Object[]> findKullaniciAdlari(@Param("idler") Collection<Long> idler);
 }
 
 
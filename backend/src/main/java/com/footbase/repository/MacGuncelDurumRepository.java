@@ -0,0 +1,153 @@
+package com.footbase.repository;
+
+import com.footbase.entity.MacGuncelDurum;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Maç güncel durum repository interface'i
+ * mac_guncel_durum projeksiyonu üzerindeki işlemleri yönetir
+ * PostgreSQL enum tipi nedeniyle tüm yazma işlemleri native SQL ile yapılır
+ */
+@Repository
+public interface MacGuncelDurumRepository extends JpaRepository<MacGuncelDurum, Long> {
+
+    /**
+     * Maçın güncel durumunu yazar (yoksa ekler, varsa günceller)
+     * Daha eski tarihli bir kayıt, daha yeni tarihli durumu ezmez
+     * İlk kayıt (en eski tarihli) maçı oluşturan kullanıcı olarak saklanır
+     * Parametre sırası: macId, durum, islemTarihi, islemYapanKullaniciId
+     */
+    @Modifying
+    @Query(value = "INSERT INTO mac_guncel_durum (mac_id, durum, islem_tarihi, islem_yapan_kullanici_id, " +
+           "olusturan_kullanici_id, ilk_islem_tarihi) " +
+           "VALUES (?1, CAST(?2 AS yayim_durumu_enum), ?3, ?4, ?4, ?3) " +
+           "ON CONFLICT (mac_id) DO UPDATE SET " +
+           "durum = CASE WHEN mac_guncel_durum.islem_tarihi <= EXCLUDED.islem_tarihi " +
+           "    THEN EXCLUDED.durum ELSE mac_guncel_durum.durum END, " +
+           "islem_yapan_kullanici_id = CASE WHEN mac_guncel_durum.islem_tarihi <= EXCLUDED.islem_tarihi " +
+           "    THEN EXCLUDED.islem_yapan_kullanici_id ELSE mac_guncel_durum.islem_yapan_kullanici_id END, " +
+           "islem_tarihi = GREATEST(mac_guncel_durum.islem_tarihi, EXCLUDED.islem_tarihi), " +
+           "olusturan_kullanici_id = CASE WHEN mac_guncel_durum.ilk_islem_tarihi IS NULL " +
+           "    OR EXCLUDED.ilk_islem_tarihi < mac_guncel_durum.ilk_islem_tarihi " +
+           "    THEN EXCLUDED.olusturan_kullanici_id ELSE mac_guncel_durum.olusturan_kullanici_id END, " +
+           "ilk_islem_tarihi = LEAST(mac_guncel_durum.ilk_islem_tarihi, EXCLUDED.ilk_islem_tarihi)",
+           nativeQuery = true)
+    int guncelDurumuYaz(Long macId, String durum, LocalDateTime islemTarihi, Long islemYapanKullaniciId);
+
+    /**
+     * Belirli bir durumdaki maçların ID'lerini getirir (idx_mac_guncel_durum_durum indeksi kullanılır)
+     * @param durum Durum (ONAY_BEKLIYOR, YAYINDA, REDDEDILDI)
+     * @return Maç ID'leri
+     */
+    @Query(value = "SELECT mgd.mac_id FROM mac_guncel_durum mgd " +
+           "WHERE mgd.durum = CAST(?1 AS yayim_durumu_enum)",
+           nativeQuery = true)
+    List<Long> findMacIdsByDurum(String durum);
+
+    /**
+     * Bir maçın güncel durumunu getirir
+     * @param macId Maç ID'si
+     * @return Güncel durum
+     */
+    @Query(value = "SELECT CAST(mgd.durum AS TEXT) FROM mac_guncel_durum mgd WHERE mgd.mac_id = ?1",
+           nativeQuery = true)
+    Optional<String> findDurumByMacId(Long macId);
+
+    /**
+     * Birden fazla maçın güncel durumunu tek sorguda getirir
+     * @param macIds Maç ID'leri
+     * @return [mac_id, durum] satırları
+     */
+    @Query(value = "SELECT mgd.mac_id, CAST(mgd.durum AS TEXT) FROM mac_guncel_durum mgd " +
+           "WHERE mgd.mac_id IN (?1)",
+           nativeQuery = true)
+    List<Object[]> findDurumlarByMacIdIn(Collection<Long> macIds);
+
+    /**
+     * Verilen kullanıcıların oluşturduğu ve belirli durumdaki maçların ID'lerini getirir
+     * (idx_mac_guncel_durum_olusturan_durum indeksi kullanılır)
+     * @param durum Durum (ONAY_BEKLIYOR, YAYINDA, REDDEDILDI)
+     * @param olusturanKullaniciIds Maçı oluşturan kullanıcı ID'leri
+     * @return Maç ID'leri (artan sırada)
+     */
+    @Query(value = "SELECT mgd.mac_id FROM mac_guncel_durum mgd " +
+           "WHERE mgd.durum = CAST(?1 AS yayim_durumu_enum) AND mgd.olusturan_kullanici_id IN (?2) " +
+           "ORDER BY mgd.mac_id",
+           nativeQuery = true)
+    List<Long> findMacIdsByDurumAndOlusturanIn(String durum, Collection<Long> olusturanKullaniciIds);
+
+    /**
+     * Bir kullanıcının oluşturduğu tüm maçların güncel durumlarını getirir
+     * @param olusturanKullaniciId Maçı oluşturan kullanıcı ID'si
+     * @return [mac_id, durum] satırları (artan maç ID sırasında)
+     */
+    @Query(value = "SELECT mgd.mac_id, CAST(mgd.durum AS TEXT) FROM mac_guncel_durum mgd " +
+           "WHERE mgd.olusturan_kullanici_id = ?1 " +
+           "ORDER BY mgd.mac_id",
+           nativeQuery = true)
+    List<Object[]> findDurumlarByOlusturan(Long olusturanKullaniciId);
+
+    /**
+     * Projeksiyonu tamamen temizler (yeniden oluşturma öncesi)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM mac_guncel_durum", nativeQuery = true)
+    int tumunuSil();
+
+    /**
+     * Projeksiyonu mac_durum_gecmisi tablosundan yeniden doldurur
+     * Her maç için en son (eşitlikte en büyük ID'li) geçmiş kaydı güncel durum,
+     * en eski (eşitlikte en küçük ID'li) kayıt oluşturan kullanıcı olarak alınır
+     * @return Yazılan satır sayısı
+     */
+    @Modifying
+    @Query(value = "INSERT INTO mac_guncel_durum (mac_id, durum, islem_tarihi, islem_yapan_kullanici_id, " +
+           "olusturan_kullanici_id, ilk_islem_tarihi) " +
+           "SELECT son.mac_id, son.durum, son.islem_tarihi, son.islem_yapan_kullanici_id, " +
+           "ilk.islem_yapan_kullanici_id, ilk.islem_tarihi " +
+           "FROM (SELECT DISTINCT ON (mdg.mac_id) mdg.mac_id, mdg.durum, COALESCE(mdg.islem_tarihi, now()) AS islem_tarihi, " +
+           "      mdg.islem_yapan_kullanici_id " +
+           "      FROM mac_durum_gecmisi mdg " +
+           "      ORDER BY mdg.mac_id, mdg.islem_tarihi DESC NULLS LAST, mdg.id DESC) son " +
+           "JOIN (SELECT DISTINCT ON (mdg.mac_id) mdg.mac_id, COALESCE(mdg.islem_tarihi, now()) AS islem_tarihi, " +
+           "      mdg.islem_yapan_kullanici_id " +
+           "      FROM mac_durum_gecmisi mdg " +
+           "      ORDER BY mdg.mac_id, mdg.islem_tarihi ASC NULLS LAST, mdg.id ASC) ilk ON ilk.mac_id = son.mac_id",
+           nativeQuery = true)
+    int gecmistenDoldur();
+
+    /**
+     * Projeksiyon ile geçmiş tablosu arasındaki tutarsızlıkları getirir
+     * Projeksiyonda eksik, fazla veya farklı durumda olan maçlar döner
+     * @return [mac_id, gecmisteki_durum, projeksiyondaki_durum] satırları
+     */
+    @Query(value = "SELECT COALESCE(son.mac_id, mgd.mac_id), son.durum, CAST(mgd.durum AS TEXT) " +
+           "FROM (SELECT DISTINCT ON (mdg.mac_id) mdg.mac_id, CAST(mdg.durum AS TEXT) AS durum " +
+           "      FROM mac_durum_gecmisi mdg " +
+           "      ORDER BY mdg.mac_id, mdg.islem_tarihi DESC NULLS LAST, mdg.id DESC) son " +
+           "FULL OUTER JOIN mac_guncel_durum mgd ON mgd.mac_id = son.mac_id " +
+           "WHERE son.durum IS DISTINCT FROM CAST(mgd.durum AS TEXT)",
+           nativeQuery = true)
+    List<Object[]> findTutarsizliklar();
+
+    /**
+     * Projeksiyondaki oluşturan kullanıcısı geçmişteki ilk kayıtla uyuşmayan maçları getirir
+     * @return Maç ID'leri
+     */
+    @Query(value = "SELECT mgd.mac_id FROM mac_guncel_durum mgd " +
+           "JOIN (SELECT DISTINCT ON (mdg.mac_id) mdg.mac_id, mdg.islem_yapan_kullanici_id " +
+           "      FROM mac_durum_gecmisi mdg " +
+           "      ORDER BY mdg.mac_id, mdg.islem_tarihi ASC NULLS LAST, mdg.id ASC) ilk ON ilk.mac_id = mgd.mac_id " +
+           "WHERE ilk.islem_yapan_kullanici_id IS DISTINCT FROM mgd.olusturan_kullanici_id " +
+           "ORDER BY mgd.mac_id",
+           nativeQuery = true)
+    List<Long> findOlusturanTutarsizliklari();
+}
@@ -4,7 +4,9 @@ import com.footbase.entity.Mac;
 import com.footbase.entity.MacOyuncuOlaylari;
 import com.footbase.entity.Oyuncu;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -26,5 +28,113 @@ public interface MacOyuncuOlaylariRepository extends JpaRepository<MacOyuncuOlay
            "WHERE mo.mac.id = :macId " +
            "ORDER BY mo.id")
     List<MacOyuncuOlaylari> findByMacIdWithDetails(Long macId);
-}
 
+    /**
+     * Oyuncunun satırını transaction sonuna kadar kilitler
+     * Aynı oyuncunun olay ekleme/silme işlemleri sıraya girer; böylece "maçtaki ilk/son olay mı?"
+     * kontrolü ile maç sayısı farkı tutarlı kalır
+     */
+    @Query(value = "SELECT id FROM oyuncular WHERE id = :oyuncuId FOR NO KEY UPDATE", nativeQuery = true)
+    Long oyuncuyuKilitle(@Param("oyuncuId") Long oyuncuId);
+
+    /**
+     * Oyuncunun maçta verilen olay dışında başka olayı veya kadro kaydı var mı?
+     * @param haricOlayId Hesaba katılmayacak olay ID'si
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM mac_oyuncu_olaylari " +
+           "WHERE oyuncu_id = :oyuncuId AND mac_id = :macId AND id <> :haricOlayId) " +
+           "OR EXISTS (SELECT 1 FROM mac_kadrolari WHERE oyuncu_id = :oyuncuId AND mac_id = :macId)",
+           nativeQuery = true)
+    boolean mactaBaskaKaydiVar(@Param("oyuncuId") Long oyuncuId, @Param("macId") Long macId,
+                               @Param("haricOlayId") Long haricOlayId);
+
+    /**
+     * Oyuncunun tüm zamanlar satırına ve maçın (sezon, lig) satırına farkları ekler (UPSERT)
+     * Sezon maç tarihinden, lig ev sahibi takımın liginden belirlenir
+     * @return Etkilenen satır sayısı (2)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO oyuncu_istatistikleri (oyuncu_id, sezon, lig_id, gol, sari_kart, kirmizi_kart, mac_sayisi) " +
+           "SELECT :oyuncuId, k.sezon, k.lig_id, :golFark, :sariKartFark, :kirmiziKartFark, :macFark " +
+           "FROM maclar m " +
+           "LEFT JOIN LATERAL (SELECT t.lig_id FROM mac_takimlari mt JOIN takimlar t ON t.id = mt.takim_id " +
+           "    WHERE mt.mac_id = m.id AND mt.ev_sahibi LIMIT 1) ml ON TRUE " +
+           "CROSS JOIN LATERAL (VALUES (CAST(0 AS smallint), CAST(0 AS bigint)), " +
+           "    (fn_sezon(m.tarih), COALESCE(ml.lig_id, 0))) k(sezon, lig_id) " +
+           "WHERE m.id = :macId " +
+           "ON CONFLICT (oyuncu_id, sezon, lig_id) DO UPDATE SET " +
+           "gol = oyuncu_istatistikleri.gol + EXCLUDED.gol, " +
+           "sari_kart = oyuncu_istatistikleri.sari_kart + EXCLUDED.sari_kart, " +
+           "kirmizi_kart = oyuncu_istatistikleri.kirmizi_kart + EXCLUDED.kirmizi_kart, " +
+           "mac_sayisi = oyuncu_istatistikleri.mac_sayisi + EXCLUDED.mac_sayisi",
+           nativeQuery = true)
+    int istatistikFarkEkle(@Param("oyuncuId") Long oyuncuId, @Param("macId") Long macId,
+                           @Param("golFark") int golFark, @Param("sariKartFark") int sariKartFark,
+                           @Param("kirmiziKartFark") int kirmiziKartFark, @Param("macFark") int macFark);
+
+    /**
+     * Oyuncunun istatistik satırları (önce tüm zamanlar satırı, sonra yeniden eskiye sezonlar)
+     * @return [sezon, lig_id, lig_adi, gol, sari_kart, kirmizi_kart, mac_sayisi]
+     */
+    @Query(value = "SELECT oi.sezon, oi.lig_id, l.lig_adi, oi.gol, oi.sari_kart, oi.kirmizi_kart, oi.mac_sayisi " +
+           "FROM oyuncu_istatistikleri oi LEFT JOIN ligler l ON l.lig_id = oi.lig_id " +
+           "WHERE oi.oyuncu_id = :oyuncuId " +
+           "ORDER BY oi.sezon = 0 DESC, oi.sezon DESC, oi.lig_id",
+           nativeQuery = true)
+    List<Object[]> findIstatistiklerByOyuncuId(@Param("oyuncuId") Long oyuncuId);
+
+    /**
+     * Tüm istatistik satırlarını siler (yeniden hesaplamadan önce)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM oyuncu_istatistikleri", nativeQuery = true)
+    int istatistikleriTemizle();
+
+    /**
+     * Tüm oyuncuların istatistiklerini olaylardan ve kadrolardan yeniden hesaplar
+     * @return Yazılan satır sayısı
+     */
+    @Modifying
+    @Query(value = "INSERT INTO oyuncu_istatistikleri (oyuncu_id, sezon, lig_id, gol, sari_kart, kirmizi_kart, mac_sayisi) " +
+           "SELECT x.oyuncu_id, COALESCE(fn_sezon(m.tarih), 0), COALESCE(ml.lig_id, 0), " +
+           "SUM(x.gol), SUM(x.sari_kart), SUM(x.kirmizi_kart), COUNT(*) " +
+           "FROM (SELECT oyuncu_id, mac_id, " +
+           "    COUNT(*) FILTER (WHERE olay_turu = 'GOL') AS gol, " +
+           "    COUNT(*) FILTER (WHERE olay_turu = 'SARI_KART') AS sari_kart, " +
+           "    COUNT(*) FILTER (WHERE olay_turu = 'KIRMIZI_KART') AS kirmizi_kart " +
+           "    FROM (SELECT oyuncu_id, mac_id, olay_turu FROM mac_oyuncu_olaylari " +
+           "          UNION ALL SELECT oyuncu_id, mac_id, NULL FROM mac_kadrolari) olay_ve_kadro " +
+           "    GROUP BY oyuncu_id, mac_id) x " +
+           "JOIN maclar m ON m.id = x.mac_id " +
+           "LEFT JOIN LATERAL (SELECT t.lig_id FROM mac_takimlari mt JOIN takimlar t ON t.id = mt.takim_id " +
+           "    WHERE mt.mac_id = m.id AND mt.ev_sahibi LIMIT 1) ml ON TRUE " +
+           "GROUP BY GROUPING SETS ((x.oyuncu_id), (x.oyuncu_id, fn_sezon(m.tarih), ml.lig_id))",
+           nativeQuery = true)
+    int istatistikleriYenidenHesapla();
+
+    /**
+     * Oyuncunun maçın (sezon, lig) kırılımındaki güncel sayaçları (liderlik tabloları için)
+     * @return [lig_id, sezon, ad, soyad, gol, sari_kart, kirmizi_kart] (satır yoksa sayaçlar 0)
+     */
+    @Query(value = "SELECT k.lig_id, k.sezon, o.ad, o.soyad, " +
+           "COALESCE(oi.gol, 0), COALESCE(oi.sari_kart, 0), COALESCE(oi.kirmizi_kart, 0) " +
+           "FROM maclar m " +
+           "LEFT JOIN LATERAL (SELECT t.lig_id FROM mac_takimlari mt JOIN takimlar t ON t.id = mt.takim_id " +
+           "    WHERE mt.mac_id = m.id AND mt.ev_sahibi LIMIT 1) ml ON TRUE " +
+           "CROSS JOIN LATERAL (SELECT fn_sezon(m.tarih) AS sezon, COALESCE(ml.lig_id, 0) AS lig_id) k " +
+           "JOIN oyuncular o ON o.id = :oyuncuId " +
+           "LEFT JOIN oyuncu_istatistikleri oi ON oi.oyuncu_id = o.id AND oi.sezon = k.sezon AND oi.lig_id = k.lig_id " +
+           "WHERE m.id = :macId",
+           nativeQuery = true)
+    List<Object[]> findLiderlikSatiri(@Param("oyuncuId") Long oyuncuId, @Param("macId") Long macId);
+
+    /**
+     * Gol veya kartı olan tüm (oyuncu, sezon, lig) satırları (liderlik tablolarının kurulması için)
+     * @return [lig_id, sezon, oyuncu_id, ad, soyad, gol, sari_kart, kirmizi_kart]
+     */
+    @Query(value = "SELECT oi.lig_id, oi.sezon, oi.oyuncu_id, o.ad, o.soyad, oi.gol, oi.sari_kart, oi.kirmizi_kart " +
+           "FROM oyuncu_istatistikleri oi JOIN oyuncular o ON o.id = oi.oyuncu_id " +
+           "WHERE oi.sezon <> 0 AND oi.lig_id <> 0 AND (oi.gol > 0 OR oi.sari_kart > 0 OR oi.kirmizi_kart > 0)",
+           nativeQuery = true)
+    List<Object[]> findTumLiderlikSatirlari();
+}
@@ -4,6 +4,7 @@ import com.footbase.entity.Mac;
 import com.footbase.entity.MacTakimlari;
 import com.footbase.entity.Takim;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -121,5 +122,131 @@ public interface MacRepository extends JpaRepository<Mac, Long> {
            "WHERE (m.tarih < :simdiTarih) OR (m.tarih = :simdiTarih AND m.saat < :simdiSaat) " +
            "ORDER BY m.tarih DESC, m.saat DESC")
     List<Mac> findGecmisMaclar(@Param("simdiTarih") java.time.LocalDate simdiTarih, @Param("simdiSaat") java.time.LocalTime simdiSaat);
-}
 
+    /**
+     * Maçları ID listesine göre getirir (hakem bilgisiyle birlikte)
+     * Takım/skor bilgileri MacVeriDoldurucu ile ayrıca toplu doldurulur
+     * @param idler Maç ID'leri
+     * @return Maçlar (sıra garanti edilmez)
+     */
+    @Query("SELECT m FROM Mac m LEFT JOIN FETCH m.hakem WHERE m.id IN :idler")
+    List<Mac> findByIdIn(@Param("idler") java.util.Collection<Long> idler);
+
+    /**
+     * Verilen ID'lerden veritabanında var olanları getirir (entity yüklemeden)
+     * @param idler Maç ID'leri
+     * @return Var olan maç ID'leri
+     */
+    @Query("SELECT m.id FROM Mac m WHERE m.id IN :idler")
+    List<Long> findMevcutIdler(@Param("idler") java.util.Collection<Long> idler);
+
+    /**
+     * Keyset sayfalama: (tarih, saat, id) sırasında imleçten SONRAKİ maç ID'lerini getirir
+     * Filtreler SQL'de uygulanır; kullanılmayan filtreler için sentinel değerler gönderilir
+     * (takimId/ligId = 0, tarih aralığı = 1900-01-01 .. 9999-12-31)
+     * Tarihi olmayan maç 1900-01-01, saati olmayan maç 00:00 kabul edilir (en eski maçlar; sıra ve
+     * imleç aynı ifadeyi kullanır, NULL satır atlanmaz); başlangıç tarihi filtresi bu maçları dışarıda bırakır
+     * @return En fazla limit kadar maç ID'si (artan sırada)
+     */
+    @Query(value = "SELECT m.id FROM maclar m " +
+           "JOIN mac_guncel_durum mgd ON mgd.mac_id = m.id " +
+           "WHERE mgd.durum = CAST(:durum AS yayim_durumu_enum) " +
+           "AND (:takimId = 0 OR EXISTS (SELECT 1 FROM mac_takimlari mt WHERE mt.mac_id = m.id AND mt.takim_id = :takimId)) " +
+           "AND (:ligId = 0 OR EXISTS (SELECT 1 FROM mac_takimlari mt2 JOIN takimlar t ON t.id = mt2.takim_id " +
+           "     WHERE mt2.mac_id = m.id AND t.lig_id = :ligId)) " +
+           "AND COALESCE(m.tarih, DATE '1900-01-01') BETWEEN :baslangicTarihi AND :bitisTarihi " +
+           "AND (COALESCE(m.tarih, DATE '1900-01-01'), COALESCE(m.saat, TIME '00:00'), m.id) " +
+           "    > (:imlecTarih, :imlecSaat, :imlecId) " +
+           "ORDER BY COALESCE(m.tarih, DATE '1900-01-01') ASC, COALESCE(m.saat, TIME '00:00') ASC, m.id ASC " +
+           "LIMIT :limit",
+           nativeQuery = true)
+    List<Long> findSayfaIdleriArtan(@Param("durum") String durum,
+                                   @Param("takimId") Long takimId,
+                                   @Param("ligId") Long ligId,
+                                   @Param("baslangicTarihi") LocalDate baslangicTarihi,
+                                   @Param("bitisTarihi") LocalDate bitisTarihi,
+                                   @Param("imlecTarih") LocalDate imlecTarih,
+                                   @Param("imlecSaat") java.time.LocalTime imlecSaat,
+                                   @Param("imlecId") Long imlecId,
+                                   @Param("limit") int limit);
+
+    /**
+     * Keyset sayfalama: (tarih, saat, id) sırasında imleçten ÖNCEKİ maç ID'lerini getirir
+     * findSayfaIdleriArtan ile aynı filtreler, ters sıralama
+     * @return En fazla limit kadar maç ID'si (azalan sırada)
+     */
+    @Query(value = "SELECT m.id FROM maclar m " +
+           "JOIN mac_guncel_durum mgd ON mgd.mac_id = m.id " +
+           "WHERE mgd.durum = CAST(:durum AS yayim_durumu_enum) " +
+           "AND (:takimId = 0 OR EXISTS (SELECT 1 FROM mac_takimlari mt WHERE mt.mac_id = m.id AND mt.takim_id = :takimId)) " +
+           "AND (:ligId = 0 OR EXISTS (SELECT 1 FROM mac_takimlari mt2 JOIN takimlar t ON t.id = mt2.takim_id " +
+           "     WHERE mt2.mac_id = m.id AND t.lig_id = :ligId)) " +
+           "AND COALESCE(m.tarih, DATE '1900-01-01') BETWEEN :baslangicTarihi AND :bitisTarihi " +
+           "AND (COALESCE(m.tarih, DATE '1900-01-01'), COALESCE(m.saat, TIME '00:00'), m.id) " +
+           "    < (:imlecTarih, :imlecSaat, :imlecId) " +
+           "ORDER BY COALESCE(m.tarih, DATE '1900-01-01') DESC, COALESCE(m.saat, TIME '00:00') DESC, m.id DESC " +
+           "LIMIT :limit",
+           nativeQuery = true)
+    List<Long> findSayfaIdleriAzalan(@Param("durum") String durum,
+                                    @Param("takimId") Long takimId,
+                                    @Param("ligId") Long ligId,
+                                    @Param("baslangicTarihi") LocalDate baslangicTarihi,
+                                    @Param("bitisTarihi") LocalDate bitisTarihi,
+                                    @Param("imlecTarih") LocalDate imlecTarih,
+                                    @Param("imlecSaat") java.time.LocalTime imlecSaat,
+                                    @Param("imlecId") Long imlecId,
+                                    @Param("limit") int limit);
+
+    /**
+     * findSayfaIdleriArtan/Azalan ile aynı filtrelere uyan maç sayısı (imleç ve limit yok)
+     * Sayfalı listelerin toplamı bununla verilir; listelenemeyen maçlar sayılmaz
+     */
+    @Query(value = "SELECT COUNT(*) FROM maclar m " +
+           "JOIN mac_guncel_durum mgd ON mgd.mac_id = m.id " +
+           "WHERE mgd.durum = CAST(:durum AS yayim_durumu_enum) " +
+           "AND (:takimId = 0 OR EXISTS (SELECT 1 FROM mac_takimlari mt WHERE mt.mac_id = m.id AND mt.takim_id = :takimId)) " +
+           "AND (:ligId = 0 OR EXISTS (SELECT 1 FROM mac_takimlari mt2 JOIN takimlar t ON t.id = mt2.takim_id " +
+           "     WHERE mt2.mac_id = m.id AND t.lig_id = :ligId)) " +
+           "AND COALESCE(m.tarih, DATE '1900-01-01') BETWEEN :baslangicTarihi AND :bitisTarihi",
+           nativeQuery = true)
+    long countFiltreli(@Param("durum") String durum,
+                       @Param("takimId") Long takimId,
+                       @Param("ligId") Long ligId,
+                       @Param("baslangicTarihi") LocalDate baslangicTarihi,
+                       @Param("bitisTarihi") LocalDate bitisTarihi);
+
+    /**
+     * Yayındaki (güncel durumu YAYINDA olan) tüm maçların başlama zamanlarını getirir
+     * Zaman çizelgesi indeksinin yüklenmesi ve doğrulanması için kullanılır
+     * @return [id, tarih, saat] satırları
+     */
+    @Query("SELECT m.id, m.tarih, m.saat FROM Mac m " +
+           "WHERE m.id IN (SELECT mgd.macId FROM MacGuncelDurum mgd WHERE mgd.durum = 'YAYINDA')")
+    List<Object[]> findYayindakiMacZamanlari();
+
+    /**
+     * Verilen maçların başlama zamanlarını getirir
+     * @param idler Maç ID'leri
+     * @return [id, tarih, saat] satırları
+     */
+    @Query("SELECT m.id, m.tarih, m.saat FROM Mac m WHERE m.id IN :idler")
+    List<Object[]> findMacZamanlari(@Param("idler") java.util.Collection<Long> idler);
+
+    /**
+     * Maçın sonucu kesinleşmiş mi? (puan durumuna dahil mi)
+     * @param macId Maç ID'si
+     * @return sonuclandi kolonu, maç yoksa null
+     */
+    @Query(value = "SELECT sonuclandi FROM maclar WHERE id = :macId", nativeQuery = true)
+    Boolean sonuclandiMi(@Param("macId") Long macId);
+
+    /**
+     * Maçın sonuç durumunu yazar
+     * @param macId Maç ID'si
+     * @param sonuclandi Sonuç kesinleşti mi
+     * @return Güncellenen satır sayısı
+     */
+    @Modifying
+    @Query(value = "UPDATE maclar SET sonuclandi = :sonuclandi WHERE id = :macId", nativeQuery = true)
+    int sonucDurumunuYaz(@Param("macId") Long macId, @Param("sonuclandi") boolean sonuclandi);
+}
@@ -5,8 +5,10 @@ import com.footbase.entity.MacTakimlari;
 import com.footbase.entity.Takim;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,5 +32,92 @@ public interface MacTakimlariRepository extends JpaRepository<MacTakimlari, Long
            "LEFT JOIN FETCH mt.takim " +
            "WHERE mt.mac.id = :macId")
     List<MacTakimlari> findByMacIdWithDetails(Long macId);
-}
+    
+    /**
+     * Birden fazla maçın takım kayıtlarını tek sorguda getirir
+     * Takım, stadyum ve lig bilgileri de aynı sorguda yüklenir (toplu doldurma için)
+     */
+    @Query("SELECT mt FROM MacTakimlari mt " +
+           "JOIN FETCH mt.takim t " +
+           "LEFT JOIN FETCH t.stadyum " +
+           "LEFT JOIN FETCH t.lig " +
+           "WHERE mt.mac.id IN :macIds")
+    List<MacTakimlari> findByMacIdInWithDetails(Collection<Long> macIds);
+
+    /**
+     * Sonuçlanmış tüm lig maçlarının sonuçları (puan durumunun yeniden kurulması için)
+     * İki takımı aynı ligde olan maçlar o ligin puan durumuna girer
+     * @return [mac_id, sezon, lig_id, ev_takim_id, ev_takim_adi, ev_skor, dep_takim_id, dep_takim_adi, dep_skor]
+     */
+    @Query(value = "SELECT m.id, fn_sezon(m.tarih), evt.lig_id, " +
+           "ev.takim_id, evt.ad, COALESCE(ev.skor, 0), dep.takim_id, dept.ad, COALESCE(dep.skor, 0) " +
+           "FROM maclar m " +
+           "JOIN mac_takimlari ev ON ev.mac_id = m.id AND ev.ev_sahibi " +
+           "JOIN takimlar evt ON evt.id = ev.takim_id " +
+           "JOIN mac_takimlari dep ON dep.mac_id = m.id AND NOT dep.ev_sahibi " +
+           "JOIN takimlar dept ON dept.id = dep.takim_id " +
+           "WHERE m.sonuclandi AND evt.lig_id IS NOT NULL AND evt.lig_id = dept.lig_id",
+           nativeQuery = true)
+    List<Object[]> findLigMacSonuclari();
+
+    /**
+     * Tek maçın lig sonucu (maç sonuçlanmamışsa veya lig maçı değilse boş liste)
+     * @return [mac_id, sezon, lig_id, ev_takim_id, ev_takim_adi, ev_skor, dep_takim_id, dep_takim_adi, dep_skor]
+     */
+    @Query(value = "SELECT m.id, fn_sezon(m.tarih), evt.lig_id, " +
+           "ev.takim_id, evt.ad, COALESCE(ev.skor, 0), dep.takim_id, dept.ad, COALESCE(dep.skor, 0) " +
+           "FROM maclar m " +
+           "JOIN mac_takimlari ev ON ev.mac_id = m.id AND ev.ev_sahibi " +
+           "JOIN takimlar evt ON evt.id = ev.takim_id " +
+           "JOIN mac_takimlari dep ON dep.mac_id = m.id AND NOT dep.ev_sahibi " +
+           "JOIN takimlar dept ON dept.id = dep.takim_id " +
+           "WHERE m.sonuclandi AND evt.lig_id IS NOT NULL AND evt.lig_id = dept.lig_id AND m.id = :macId",
+           nativeQuery = true)
+    List<Object[]> findLigMacSonucu(@Param("macId") Long macId);
 
+    /**
+     * Sonuçlanmış tüm maçların sonuçları (lig ayrımı olmadan; karşılaşma geçmişinin yeniden kurulması için)
+     * @return [mac_id, tarih, ev_takim_id, ev_takim_adi, ev_skor, dep_takim_id, dep_takim_adi, dep_skor]
+     */
+    @Query(value = "SELECT m.id, m.tarih, " +
+           "ev.takim_id, evt.ad, COALESCE(ev.skor, 0), dep.takim_id, dept.ad, COALESCE(dep.skor, 0) " +
+           "FROM maclar m " +
+           "JOIN mac_takimlari ev ON ev.mac_id = m.id AND ev.ev_sahibi " +
+           "JOIN takimlar evt ON evt.id = ev.takim_id " +
+           "JOIN mac_takimlari dep ON dep.mac_id = m.id AND NOT dep.ev_sahibi " +
+           "JOIN takimlar dept ON dept.id = dep.takim_id " +
+           "WHERE m.sonuclandi",
+           nativeQuery = true)
+    List<Object[]> findMacSonuclari();
+
+    /**
+     * Tek maçın sonucu (maç sonuçlanmamışsa boş liste)
+     * @return [mac_id, tarih, ev_takim_id, ev_takim_adi, ev_skor, dep_takim_id, dep_takim_adi, dep_skor]
+     */
+    @Query(value = "SELECT m.id, m.tarih, " +
+           "ev.takim_id, evt.ad, COALESCE(ev.skor, 0), dep.takim_id, dept.ad, COALESCE(dep.skor, 0) " +
+           "FROM maclar m " +
+           "JOIN mac_takimlari ev ON ev.mac_id = m.id AND ev.ev_sahibi " +
+           "JOIN takimlar evt ON evt.id = ev.takim_id " +
+           "JOIN mac_takimlari dep ON dep.mac_id = m.id AND NOT dep.ev_sahibi " +
+           "JOIN takimlar dept ON dept.id = dep.takim_id " +
+           "WHERE m.sonuclandi AND m.id = :macId",
+           nativeQuery = true)
+    List<Object[]> findMacSonucu(@Param("macId") Long macId);
+
+    /**
+     * Takımın sonuçlanmış son maçları (yeniden eskiye; form tamponunun yeniden doldurulması için)
+     * @return [mac_id, tarih, ev_takim_id, ev_takim_adi, ev_skor, dep_takim_id, dep_takim_adi, dep_skor]
+     */
+    @Query(value = "SELECT m.id, m.tarih, " +
+           "ev.takim_id, evt.ad, COALESCE(ev.skor, 0), dep.takim_id, dept.ad, COALESCE(dep.skor, 0) " +
+           "FROM maclar m " +
+           "JOIN mac_takimlari ev ON ev.mac_id = m.id AND ev.ev_sahibi " +
+           "JOIN takimlar evt ON evt.id = ev.takim_id " +
+           "JOIN mac_takimlari dep ON dep.mac_id = m.id AND NOT dep.ev_sahibi " +
+           "JOIN takimlar dept ON dept.id = dep.takim_id " +
+           "WHERE m.sonuclandi AND (ev.takim_id = :takimId OR dep.takim_id = :takimId) " +
+           "ORDER BY m.tarih DESC NULLS LAST, m.id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<Object[]> findTakimSonMacSonuclari(@Param("takimId") Long takimId, @Param("limit") int limit);
+}
@@ -4,6 +4,7 @@ import com.footbase.entity.Kullanici;
 import com.footbase.entity.Oyuncu;
 import com.footbase.entity.OyuncuYorumlari;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -48,5 +49,69 @@ public interface OyuncuYorumlariRepository extends JpaRepository<OyuncuYorumlari
            "WHERE oy.kullanici = :kullanici " +
            "ORDER BY oy.olusturmaTarihi DESC")
     List<OyuncuYorumlari> findByKullaniciOrderByOlusturmaTarihiDesc(Kullanici kullanici);
-}
 
+    /**
+     * Oyuncunun puan özetine yeni puanı ekler (satır yoksa oluşturur)
+     * @param oyuncuId Oyuncu ID'si
+     * @param puan Puan (1-10)
+     * @return Etkilenen satır sayısı
+     */
+    @Modifying
+    @Query(value = "INSERT INTO oyuncu_yorum_puanlari (oyuncu_id, puan_toplami, puan_sayisi) " +
+           "VALUES (:oyuncuId, :puan, 1) " +
+           "ON CONFLICT (oyuncu_id) DO UPDATE SET " +
+           "puan_toplami = oyuncu_yorum_puanlari.puan_toplami + EXCLUDED.puan_toplami, " +
+           "puan_sayisi = oyuncu_yorum_puanlari.puan_sayisi + 1",
+           nativeQuery = true)
+    int puanOzetineEkle(Long oyuncuId, int puan);
+
+    /**
+     * Oyuncunun puan özetini getirir (birincil anahtarla tek satır)
+     * @param oyuncuId Oyuncu ID'si
+     * @return [puan_toplami, puan_sayisi], puanlı yorum yoksa boş liste
+     */
+    @Query(value = "SELECT puan_toplami, puan_sayisi FROM oyuncu_yorum_puanlari WHERE oyuncu_id = :oyuncuId",
+           nativeQuery = true)
+    List<Object[]> findPuanOzeti(Long oyuncuId);
+
+    /**
+     * Puan özeti tablosunu transaction sonuna kadar kilitler (yeniden hesaplamadan önce)
+     * Puan ekleyen transaction'lar (puanOzetineEkle) kilidi bırakana kadar bekler, kilit alınırken
+     * açık olanlar ise önce commit edilir; böylece yeniden sayım, özete eklenmiş ama sayımda
+     * görünmeyen (veya tersi) bir puan bırakmaz
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE oyuncu_yorum_puanlari IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    void puanOzetleriniKilitle();
+
+    /**
+     * Puanlı yorumu kalmamış oyuncuların özet satırlarını siler
+     * (ör. kullanıcı silinince CASCADE ile giden yorumlar)
+     * @return Silinen satır sayısı
+     */
+    @Modifying
+    @Query(value = "DELETE FROM oyuncu_yorum_puanlari p " +
+           "WHERE NOT EXISTS (SELECT 1 FROM oyuncu_yorumlari oy " +
+           "WHERE oy.oyuncu_id = p.oyuncu_id AND oy.puan IS NOT NULL)",
+           nativeQuery = true)
+    int bosPuanOzetleriniSil();
+
+    /**
+     * Puan özetlerini oyuncu_yorumlari tablosundan yeniden hesaplar
+     * Yalnızca eksik veya sapmış satırlar yazılır
+     * @return Eklenen veya düzeltilen satır sayısı
+     */
+    @Modifying
+    @Query(value = "INSERT INTO oyuncu_yorum_puanlari (oyuncu_id, puan_toplami, puan_sayisi) " +
+           "SELECT oy.oyuncu_id, SUM(oy.puan), COUNT(oy.puan) " +
+           "FROM oyuncu_yorumlari oy " +
+           "WHERE oy.puan IS NOT NULL " +
+           "GROUP BY oy.oyuncu_id " +
+           "ON CONFLICT (oyuncu_id) DO UPDATE SET " +
+           "puan_toplami = EXCLUDED.puan_toplami, " +
+           "puan_sayisi = EXCLUDED.puan_sayisi " +
+           "WHERE oyuncu_yorum_puanlari.puan_toplami <> EXCLUDED.puan_toplami " +
+           "OR oyuncu_yorum_puanlari.puan_sayisi <> EXCLUDED.puan_sayisi",
+           nativeQuery = true)
+    int puanOzetleriniYenidenHesapla();
+}
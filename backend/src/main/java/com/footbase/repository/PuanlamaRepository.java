@@ -2,7 +2,10 @@ package com.footbase.repository;
 
 import com.footbase.entity.Mac;
 import com.footbase.entity.Puanlama;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -54,5 +57,78 @@ public interface PuanlamaRepository extends JpaRepository<Puanlama, Long> {
      * @return Puanlama sayısı
      */
     long countByMacId(Long macId);
-}
 
+    /**
+     * Kullanıcının maça verdiği puanlamayı satır kilidiyle bulur
+     * Aynı kullanıcının eşzamanlı iki puanlaması aynı eski değere göre fark hesaplamasın diye
+     * transaction sonuna kadar satır kilitlenir
+     * @param kullaniciId Kullanıcı ID'si
+     * @param macId Maç ID'si
+     * @return Bulunan puanlama
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Puanlama p WHERE p.kullanici.id = :kullaniciId AND p.mac.id = :macId")
+    Optional<Puanlama> findKilitliByKullaniciIdAndMacId(@Param("kullaniciId") Long kullaniciId,
+                                                        @Param("macId") Long macId);
+
+    /**
+     * Maçın puan toplamlarına farkı ekler (satır yoksa oluşturur)
+     * Ağırlıklı ortalama aynı ifadede yeni toplamlardan hesaplanır
+     * @param macId Maç ID'si
+     * @param agirlikliFark puan*agirlik farkı
+     * @param agirlikFark agirlik farkı
+     * @param sayiFark Puanlama sayısı farkı (yeni puanlamada 1, güncellemede 0)
+     * @return Etkilenen satır sayısı
+     */
+    @Modifying
+    @Query(value = "INSERT INTO mac_puanlari (mac_id, puan, agirlikli_toplam, agirlik_toplami, puanlama_sayisi) " +
+           "VALUES (:macId, COALESCE(ROUND(CAST(:agirlikliFark AS numeric) / NULLIF(:agirlikFark, 0), 2), 0), " +
+           ":agirlikliFark, :agirlikFark, :sayiFark) " +
+           "ON CONFLICT (mac_id) DO UPDATE SET " +
+           "agirlikli_toplam = mac_puanlari.agirlikli_toplam + EXCLUDED.agirlikli_toplam, " +
+           "agirlik_toplami = mac_puanlari.agirlik_toplami + EXCLUDED.agirlik_toplami, " +
+           "puanlama_sayisi = mac_puanlari.puanlama_sayisi + EXCLUDED.puanlama_sayisi, " +
+           "puan = COALESCE(ROUND(CAST(mac_puanlari.agirlikli_toplam + EXCLUDED.agirlikli_toplam AS numeric) " +
+           "/ NULLIF(mac_puanlari.agirlik_toplami + EXCLUDED.agirlik_toplami, 0), 2), 0)",
+           nativeQuery = true)
+    int toplamaFarkEkle(@Param("macId") Long macId, @Param("agirlikliFark") long agirlikliFark,
+                        @Param("agirlikFark") long agirlikFark, @Param("sayiFark") int sayiFark);
+
+    /**
+     * Maçın puan toplamlarını getirir (birincil anahtarla tek satır)
+     * @param macId Maç ID'si
+     * @return [agirlikli_toplam, agirlik_toplami, puanlama_sayisi], maç puanlanmamışsa boş liste
+     */
+    @Query(value = "SELECT agirlikli_toplam, agirlik_toplami, puanlama_sayisi FROM mac_puanlari WHERE mac_id = :macId",
+           nativeQuery = true)
+    List<Object[]> findToplamByMacId(@Param("macId") Long macId);
+
+    /**
+     * Tüm maçların puan toplamlarını mac_puanlamalari tablosundan yeniden hesaplar
+     * Yalnızca eksik veya sapmış satırlar yazılır
+     * @return Düzeltilen maç sayısı
+     */
+    @Modifying
+    @Query(value = "INSERT INTO mac_puanlari (mac_id, puan, agirlikli_toplam, agirlik_toplami, puanlama_sayisi) " +
+           "SELECT mp.mac_id, COALESCE(ROUND(CAST(SUM(mp.puan * mp.agirlik) AS numeric) / NULLIF(SUM(mp.agirlik), 0), 2), 0), " +
+           "SUM(mp.puan * mp.agirlik), SUM(mp.agirlik), COUNT(*) " +
+           "FROM mac_puanlamalari mp GROUP BY mp.mac_id " +
+           "ON CONFLICT (mac_id) DO UPDATE SET puan = EXCLUDED.puan, " +
+           "agirlikli_toplam = EXCLUDED.agirlikli_toplam, agirlik_toplami = EXCLUDED.agirlik_toplami, " +
+           "puanlama_sayisi = EXCLUDED.puanlama_sayisi " +
+           "WHERE mac_puanlari.agirlikli_toplam <> EXCLUDED.agirlikli_toplam " +
+           "OR mac_puanlari.agirlik_toplami <> EXCLUDED.agirlik_toplami " +
+           "OR mac_puanlari.puanlama_sayisi <> EXCLUDED.puanlama_sayisi",
+           nativeQuery = true)
+    int puanToplamlariniUzlastir();
+
+    /**
+     * Puanlaması kalmamış maçların toplam satırlarını siler
+     * @return Silinen satır sayısı
+     */
+    @Modifying
+    @Query(value = "DELETE FROM mac_puanlari p " +
+           "WHERE NOT EXISTS (SELECT 1 FROM mac_puanlamalari mp WHERE mp.mac_id = p.mac_id)",
+           nativeQuery = true)
+    int bosPuanToplamlariniSil();
+}
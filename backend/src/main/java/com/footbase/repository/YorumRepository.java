@@ -5,9 +5,12 @@ import com.footbase.entity.Mac;
 import com.footbase.entity.Yorum;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -43,15 +46,31 @@ public interface YorumRepository extends JpaRepository<Yorum, Long> {
     List<Yorum> findByMacOrderByYorumTarihiDesc(Mac mac);
     
     /**
-     * En son yorumları getirir (tarihe göre azalan sırada)
-     * @param pageable Sayfalama bilgisi (limit için)
-     * @return En son yorumlar listesi
+     * Keyset sayfalama: maçın (yorumTarihi, id) sırasında imleçten ÖNCEKİ (daha eski) yorumları getirir
+     * (idx_yorumlar_mac_tarih_id indeksi kullanılır, OFFSET yoktur)
+     * @param macId Maç ID'si
+     * @param imlecTarihi İmleç yorumunun tarihi
+     * @param imlecId İmleç yorumunun ID'si
+     * @param pageable Yalnızca sayfa boyutu (limit) için
+     * @return Yorumlar (yeniden eskiye, kullanıcı yüklenmiş)
      */
-    @Query("SELECT DISTINCT y FROM Yorum y " +
+    @Query("SELECT y FROM Yorum y " +
            "LEFT JOIN FETCH y.kullanici " +
-           "LEFT JOIN FETCH y.mac " +
-           "ORDER BY y.yorumTarihi DESC")
-    List<Yorum> findTopByOrderByYorumTarihiDesc(Pageable pageable);
+           "WHERE y.mac.id = :macId " +
+           "AND (y.yorumTarihi < :imlecTarihi OR (y.yorumTarihi = :imlecTarihi AND y.id < :imlecId)) " +
+           "ORDER BY y.yorumTarihi DESC, y.id DESC")
+    List<Yorum> findSayfaImlectenOnce(Long macId, LocalDateTime imlecTarihi, Long imlecId, Pageable pageable);
+
+    /**
+     * En son yorumların özetini getirir (entity yüklemeden, LIMIT veritabanında uygulanır)
+     * SonYorumlarTamponu'nu doldurmak için kullanılır (idx_yorumlar_tarih_id indeksi)
+     * @param pageable Yalnızca sayfa boyutu (limit) için
+     * @return [yorumId, macId, kullaniciAdi, mesaj, yorumTarihi] satırları (yeniden eskiye)
+     */
+    @Query("SELECT y.id, y.mac.id, k.kullaniciAdi, y.mesaj, y.yorumTarihi FROM Yorum y " +
+           "LEFT JOIN y.kullanici k " +
+           "ORDER BY y.yorumTarihi DESC, y.id DESC")
+    List<Object[]> findSonYorumOzetleri(Pageable pageable);
 
     /**
      * Kullanıcıya göre yorumları bulur (tarihe göre sıralı)
@@ -63,6 +82,54 @@ public interface YorumRepository extends JpaRepository<Yorum, Long> {
            "WHERE y.kullanici = :kullanici " +
            "ORDER BY y.yorumTarihi DESC")
     List<Yorum> findByKullaniciOrderByYorumTarihiDesc(Kullanici kullanici);
-}
 
+    /**
+     * Beğeni ekler (yorum varsa ve kullanıcı daha önce beğenmemişse)
+     * Yorum ve kullanıcı nesneleri yüklenmez; tek bir koşullu INSERT çalışır
+     * @param yorumId Yorum ID'si
+     * @param kullaniciId Kullanıcı ID'si
+     * @return Eklenen satır sayısı (0: yorum yok veya zaten beğenilmiş)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO yorum_begenileri (yorum_id, kullanici_id) " +
+           "SELECT y.yorum_id, :kullaniciId FROM yorumlar y WHERE y.yorum_id = :yorumId " +
+           "ON CONFLICT (yorum_id, kullanici_id) DO NOTHING",
+           nativeQuery = true)
+    int begeniEkle(Long yorumId, Long kullaniciId);
+
+    /**
+     * Beğeniyi kaldırır
+     * @param yorumId Yorum ID'si
+     * @param kullaniciId Kullanıcı ID'si
+     * @return Silinen satır sayısı (0: beğeni yoktu)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM yorum_begenileri WHERE yorum_id = :yorumId AND kullanici_id = :kullaniciId",
+           nativeQuery = true)
+    int begeniSil(Long yorumId, Long kullaniciId);
 
+    /**
+     * Verilen yorumlardan kullanıcının beğendiklerini tek sorguda bulur
+     * (idx_yorum_begenileri_kullanici_yorum indeksi kullanılır)
+     * @param kullaniciId Kullanıcı ID'si
+     * @param yorumIdleri Sayfadaki yorum ID'leri
+     * @return Beğenilen yorum ID'leri
+     */
+    @Query(value = "SELECT yb.yorum_id FROM yorum_begenileri yb " +
+           "WHERE yb.kullanici_id = :kullaniciId AND yb.yorum_id IN (:yorumIdleri)",
+           nativeQuery = true)
+    List<Long> findBegenilenYorumIdleri(Long kullaniciId, Collection<Long> yorumIdleri);
+
+    /**
+     * Tüm yorumların beğeni sayacını yorum_begenileri tablosundan yeniden hesaplar
+     * Yalnızca sapmış satırlar güncellenir
+     * @return Düzeltilen yorum sayısı
+     */
+    @Modifying
+    @Query(value = "UPDATE yorumlar y SET begeni_sayisi = COALESCE(b.sayi, 0) " +
+           "FROM yorumlar y2 LEFT JOIN (SELECT yorum_id, COUNT(*) AS sayi FROM yorum_begenileri GROUP BY yorum_id) b " +
+           "ON b.yorum_id = y2.yorum_id " +
+           "WHERE y2.yorum_id = y.yorum_id AND y.begeni_sayisi <> COALESCE(b.sayi, 0)",
+           nativeQuery = true)
+    int begeniSayilariniUzlastir();
+}
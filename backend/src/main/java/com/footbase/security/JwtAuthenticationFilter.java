@@ -1,5 +1,6 @@
 package com.footbase.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,7 +9,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -23,7 +23,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     @Autowired
-    private UserDetailsService kullaniciDetayServisi;
+    private KullaniciDetayServisi kullaniciDetayServisi;
 
     @Autowired
     private JwtUtil jwtUtil;
@@ -48,30 +48,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         // Authorization header'ından token'ı al
         final String authHeader = request.getHeader("Authorization");
-        String email = null;
-        String jwt = null;
+        Claims claims = null;
 
-        // Bearer token formatını kontrol et
+        // Bearer token formatını kontrol et ve token'ı tek seferde doğrula
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            jwt = authHeader.substring(7);
-            try {
-                email = jwtUtil.getKullaniciEmailFromToken(jwt);
-            } catch (Exception e) {
-                // Token geçersizse devam et
-            }
+            claims = jwtUtil.tokenDogrula(authHeader.substring(7));
         }
+        String email = claims != null ? claims.getSubject() : null;
 
         // Token geçerliyse ve kullanıcı henüz authenticate edilmemişse
         if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails kullaniciDetaylari = this.kullaniciDetayServisi.loadUserByUsername(email);
+            // kullaniciId claim'i varsa principal önbelleği kullanılır (tekrar eden isteklerde veritabanına gidilmez)
+            Long kullaniciId = jwtUtil.getKullaniciIdFromClaims(claims);
+            UserDetails kullaniciDetaylari = kullaniciId != null
+                    ? this.kullaniciDetayServisi.kullaniciIdIleYukle(kullaniciId, email)
+                    : this.kullaniciDetayServisi.loadUserByUsername(email);
 
-            // Token'ı doğrula
-            if (jwtUtil.validateToken(jwt)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        kullaniciDetaylari, null, kullaniciDetaylari.getAuthorities());
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                    kullaniciDetaylari, null, kullaniciDetaylari.getAuthorities());
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
         }
 
         filterChain.doFilter(request, response);
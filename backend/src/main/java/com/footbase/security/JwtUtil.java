@@ -1,20 +1,32 @@
 package com.footbase.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
  * JWT token işlemlerini yöneten yardımcı sınıf
+ * 
+ * İmza anahtarı ve parser uygulama açılışında bir kez oluşturulur.
+ * Doğrulanmış token'lar, token'ın SHA-256 özeti anahtarıyla küçük ve sınırlı bir
+ * önbellekte son kullanma tarihlerine kadar tutulur; aynı token ile gelen
+ * sonraki istekler imza doğrulaması ve JSON çözümlemesi yapmaz.
  */
 @Component
 public class JwtUtil {
@@ -32,12 +44,42 @@ public class JwtUtil {
     private Long gecerlilikSuresi;
 
     /**
-     * Gizli anahtardan SecretKey oluşturur
+     * Doğrulanmış token önbelleğinin en büyük boyutu
+     */
+    static final int ONBELLEK_KAPASITESI = 10_000;
+
+    /**
+     * Önbellekte süresi dolmuş kayıt bulunmazsa tek seferde çıkarılacak kayıt oranı
+     */
+    private static final int TAHLIYE_ORANI = 10;
+
+    private SecretKey imzaAnahtari;
+
+    private JwtParser parser;
+
+    /**
+     * Token özeti -> doğrulanmış claim'ler
+     */
+    private final ConcurrentHashMap<String, DogrulanmisToken> dogrulanmisTokenlar = new ConcurrentHashMap<>();
+
+    /**
+     * İmza anahtarını ve parser'ı bir kez oluşturur
+     */
+    @PostConstruct
+    public void init() {
+        imzaAnahtari = Keys.hmacShaKeyFor(gizliAnahtar.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser()
+                .verifyWith(imzaAnahtari)
+                .build();
+        dogrulanmisTokenlar.clear();
+    }
+
+    /**
+     * Önceden oluşturulmuş imza anahtarını döndürür
      * @return SecretKey
      */
     private SecretKey getSigningKey() {
-        byte[] keyBytes = gizliAnahtar.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return imzaAnahtari;
     }
 
     /**
@@ -55,7 +97,15 @@ public class JwtUtil {
      * @return Kullanıcı ID'si
      */
     public Long getKullaniciIdFromToken(String token) {
-        Claims claims = getAllClaimsFromToken(token);
+        return getKullaniciIdFromClaims(getAllClaimsFromToken(token));
+    }
+
+    /**
+     * Doğrulanmış claim'lerden kullanıcı ID'sini çıkarır
+     * @param claims Token claim'leri
+     * @return Kullanıcı ID'si, claim yoksa null
+     */
+    public Long getKullaniciIdFromClaims(Claims claims) {
         Object kullaniciIdObj = claims.get("kullaniciId");
         if (kullaniciIdObj instanceof Integer) {
             return ((Integer) kullaniciIdObj).longValue();
@@ -78,15 +128,43 @@ public class JwtUtil {
 
     /**
      * Token'dan tüm claim'leri çıkarır
+     * Token daha önce doğrulanmış ve süresi dolmamışsa önbellekten döner,
+     * aksi halde imzası doğrulanıp çözümlenir ve önbelleğe eklenir
      * @param token JWT token
      * @return Tüm claim'ler
+     * @throws io.jsonwebtoken.JwtException Token geçersizse veya süresi dolmuşsa
      */
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        String ozet = ozetle(token);
+        long simdi = System.currentTimeMillis();
+        DogrulanmisToken kayit = dogrulanmisTokenlar.get(ozet);
+        if (kayit != null) {
+            if (kayit.sonKullanmaMs > simdi) {
+                return kayit.claims;
+            }
+            dogrulanmisTokenlar.remove(ozet, kayit);
+        }
+
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        // Son kullanma tarihi olmayan token'lar önbelleğe alınmaz
+        if (claims.getExpiration() != null) {
+            onbellegeEkle(ozet, new DogrulanmisToken(claims, claims.getExpiration().getTime()), simdi);
+        }
+        return claims;
+    }
+
+    /**
+     * Token'ı tek seferde doğrular ve claim'lerini döndürür
+     * İstek başına tek çözümleme için filtre bu metodu kullanır
+     * @param token JWT token
+     * @return Token geçerliyse claim'ler, değilse null
+     */
+    public Claims tokenDogrula(String token) {
+        try {
+            return getAllClaimsFromToken(token);
+        } catch (Exception e) {
+            return null;
+        }
     }
 
     /**
@@ -95,11 +173,45 @@ public class JwtUtil {
      * @return Token geçerliyse true, değilse false
      */
     public Boolean validateToken(String token) {
+        return tokenDogrula(token) != null;
+    }
+
+    /**
+     * Önbellekteki kayıt sayısı
+     */
+    int onbellekBoyutu() {
+        return dogrulanmisTokenlar.size();
+    }
+
+    /**
+     * Kaydı önbelleğe ekler; kapasite dolduysa önce süresi dolmuş kayıtları,
+     * yine yer açılmazsa kayıtların bir kısmını çıkarır
+     */
+    private void onbellegeEkle(String ozet, DogrulanmisToken kayit, long simdi) {
+        if (dogrulanmisTokenlar.size() >= ONBELLEK_KAPASITESI) {
+            dogrulanmisTokenlar.values().removeIf(k -> k.sonKullanmaMs <= simdi);
+            if (dogrulanmisTokenlar.size() >= ONBELLEK_KAPASITESI) {
+                int cikarilacak = ONBELLEK_KAPASITESI / TAHLIYE_ORANI;
+                Iterator<String> iterator = dogrulanmisTokenlar.keySet().iterator();
+                while (cikarilacak-- > 0 && iterator.hasNext()) {
+                    iterator.next();
+                    iterator.remove();
+                }
+            }
+        }
+        dogrulanmisTokenlar.put(ozet, kayit);
+    }
+
+    /**
+     * Token'ın SHA-256 özetini döndürür (ham token bellekte anahtar olarak tutulmaz)
+     */
+    private static String ozetle(String token) {
         try {
-            getAllClaimsFromToken(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] ozet = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(ozet);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 desteklenmiyor", e);
         }
     }
 
@@ -149,5 +261,17 @@ public class JwtUtil {
                 .signWith(getSigningKey())
                 .compact();
     }
-}
 
+    /**
+     * Önbellekteki doğrulanmış token kaydı
+     */
+    private static final class DogrulanmisToken {
+        final Claims claims;
+        final long sonKullanmaMs;
+
+        DogrulanmisToken(Claims claims, long sonKullanmaMs) {
+            this.claims = claims;
+            this.sonKullanmaMs = sonKullanmaMs;
+        }
+    }
+}
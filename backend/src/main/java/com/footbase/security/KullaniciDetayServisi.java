@@ -3,6 +3,8 @@ package com.footbase.security;
 import com.footbase.entity.Kullanici;
 import com.footbase.repository.KullaniciRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -10,6 +12,8 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Spring Security için kullanıcı detay servisi
@@ -21,6 +25,9 @@ public class KullaniciDetayServisi implements UserDetailsService {
     @Autowired
     private KullaniciRepository kullaniciRepository;
 
+    @Autowired
+    private KullaniciPrincipalOnbellegi principalOnbellegi;
+
     /**
      * E-posta adresine göre kullanıcı detaylarını yükler
      * @param email Kullanıcı e-posta adresi
@@ -32,13 +39,44 @@ public class KullaniciDetayServisi implements UserDetailsService {
         Kullanici kullanici = kullaniciRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("Kullanıcı bulunamadı: " + email));
 
+        return kullaniciDetaylariniOlustur(kullanici);
+    }
+
+    /**
+     * JWT'deki kullanıcı ID'sine göre kullanıcı detaylarını yükler
+     * Önce principal önbelleğine bakılır; sadece ıskada veritabanına gidilir
+     * @param kullaniciId Kullanıcı ID'si (kullaniciId claim'i)
+     * @param email Token'daki e-posta (subject); önbellekteki kayıtla uyuşmazsa kayıt yenilenir
+     * @return Kullanıcı detayları
+     * @throws UsernameNotFoundException Kullanıcı bulunamazsa
+     */
+    public UserDetails kullaniciIdIleYukle(Long kullaniciId, String email) throws UsernameNotFoundException {
+        UserDetails onbellekteki = principalOnbellegi.getir(kullaniciId);
+        if (onbellekteki != null && onbellekteki.getUsername().equals(email)) {
+            return onbellekteki;
+        }
+
+        Kullanici kullanici = kullaniciRepository.findById(kullaniciId)
+                .orElseThrow(() -> new UsernameNotFoundException("Kullanıcı bulunamadı: ID=" + kullaniciId));
+        UserDetails kullaniciDetaylari = kullaniciDetaylariniOlustur(kullanici);
+        principalOnbellegi.koy(kullaniciId, kullaniciDetaylari);
+        return kullaniciDetaylari;
+    }
+
+    /**
+     * Kullanıcı entity'sinden Spring Security kullanıcı detaylarını oluşturur
+     * Rol, "ROLE_" önekiyle yetki olarak eklenir (ör. ADMIN -> ROLE_ADMIN)
+     */
+    private UserDetails kullaniciDetaylariniOlustur(Kullanici kullanici) {
+        List<GrantedAuthority> yetkiler = new ArrayList<>();
+        if (kullanici.getRol() != null && !kullanici.getRol().isBlank()) {
+            yetkiler.add(new SimpleGrantedAuthority("ROLE_" + kullanici.getRol().trim().toUpperCase(Locale.ROOT)));
+        }
+
         return new User(
                 kullanici.getEmail(),
                 kullanici.getSifre(),
-                new ArrayList<>() // Roller (şimdilik boş)
+                yetkiler
         );
     }
 }
-
-
-
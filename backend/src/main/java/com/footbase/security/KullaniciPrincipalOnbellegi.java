@@ -0,0 +1,149 @@
+package com.footbase.security;
+
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Kimliği doğrulanmış kullanıcı (principal) önbelleği
+ *
+ * JWT'deki kullaniciId claim'i anahtarıyla UserDetails nesnelerini (roller dahil)
+ * sınırlı süre ve sınırlı sayıda tutar. Böylece aynı kullanıcının art arda gelen
+ * isteklerinde veritabanına gidilmez.
+ *
+ * Şifre, rol veya hesap bilgisi değiştiğinde ilgili kayıt gecersizKil ile silinmelidir
+ * (bkz. AuthService.sifreSifirla, KullaniciService.kullaniciGuncelle).
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@Component
+public class KullaniciPrincipalOnbellegi {
+
+    /**
+     * Bir kaydın önbellekte kalabileceği en uzun süre
+     */
+    static final long YASAM_SURESI_MS = 5 * 60 * 1000L;
+
+    /**
+     * Önbellekteki en büyük kayıt sayısı
+     */
+    static final int KAPASITE = 10_000;
+
+    /**
+     * Süresi dolmuş kayıt bulunmazsa tek seferde çıkarılacak kayıt oranı
+     */
+    private static final int TAHLIYE_ORANI = 10;
+
+    private final ConcurrentHashMap<Long, Kayit> kayitlar = new ConcurrentHashMap<>();
+
+    private final AtomicLong isabet = new AtomicLong();
+    private final AtomicLong iska = new AtomicLong();
+    private final AtomicLong tahliye = new AtomicLong();
+    private final AtomicLong gecersizKilma = new AtomicLong();
+
+    /**
+     * Kullanıcının önbellekteki detaylarını getirir
+     * @param kullaniciId Kullanıcı ID'si
+     * @return Kullanıcı detayları, yoksa veya süresi dolmuşsa null
+     */
+    public UserDetails getir(Long kullaniciId) {
+        if (kullaniciId == null) {
+            return null;
+        }
+        Kayit kayit = kayitlar.get(kullaniciId);
+        if (kayit != null) {
+            if (kayit.sonGecerlilikMs > System.currentTimeMillis()) {
+                isabet.incrementAndGet();
+                return kayit.kullaniciDetaylari;
+            }
+            kayitlar.remove(kullaniciId, kayit);
+        }
+        iska.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Kullanıcı detaylarını önbelleğe koyar
+     * Kapasite dolduysa önce süresi dolmuş kayıtlar, yer açılmazsa kayıtların bir kısmı çıkarılır
+     * @param kullaniciId Kullanıcı ID'si
+     * @param kullaniciDetaylari Kullanıcı detayları
+     */
+    public void koy(Long kullaniciId, UserDetails kullaniciDetaylari) {
+        if (kullaniciId == null || kullaniciDetaylari == null) {
+            return;
+        }
+        long simdi = System.currentTimeMillis();
+        if (kayitlar.size() >= KAPASITE && !kayitlar.containsKey(kullaniciId)) {
+            int onceki = kayitlar.size();
+            kayitlar.values().removeIf(k -> k.sonGecerlilikMs <= simdi);
+            if (kayitlar.size() >= KAPASITE) {
+                int cikarilacak = KAPASITE / TAHLIYE_ORANI;
+                Iterator<Long> iterator = kayitlar.keySet().iterator();
+                while (cikarilacak-- > 0 && iterator.hasNext()) {
+                    iterator.next();
+                    iterator.remove();
+                }
+            }
+            tahliye.addAndGet(Math.max(0, onceki - kayitlar.size()));
+        }
+        kayitlar.put(kullaniciId, new Kayit(kullaniciDetaylari, simdi + YASAM_SURESI_MS));
+    }
+
+    /**
+     * Kullanıcının önbellek kaydını siler
+     * Şifre, rol veya hesap durumu değiştiğinde çağrılmalıdır
+     * @param kullaniciId Kullanıcı ID'si
+     */
+    public void gecersizKil(Long kullaniciId) {
+        if (kullaniciId != null && kayitlar.remove(kullaniciId) != null) {
+            gecersizKilma.incrementAndGet();
+        }
+    }
+
+    /**
+     * Tüm önbelleği temizler
+     */
+    public void tumunuTemizle() {
+        kayitlar.clear();
+    }
+
+    /**
+     * Önbellek istatistiklerini döndürür
+     * @return boyut, kapasite, isabet, iska, isabetOrani, tahliye, gecersizKilma
+     */
+    public Map<String, Object> istatistikler() {
+        long isabetSayisi = isabet.get();
+        long iskaSayisi = iska.get();
+        long toplam = isabetSayisi + iskaSayisi;
+
+        Map<String, Object> istatistik = new LinkedHashMap<>();
+        istatistik.put("boyut", kayitlar.size());
+        istatistik.put("kapasite", KAPASITE);
+        istatistik.put("yasamSuresiMs", YASAM_SURESI_MS);
+        istatistik.put("isabet", isabetSayisi);
+        istatistik.put("iska", iskaSayisi);
+        istatistik.put("isabetOrani", toplam == 0 ? 0.0 : (double) isabetSayisi / toplam);
+        istatistik.put("tahliye", tahliye.get());
+        istatistik.put("gecersizKilma", gecersizKilma.get());
+        return istatistik;
+    }
+
+    /**
+     * Önbellek kaydı: kullanıcı detayları ve son geçerlilik zamanı
+     */
+    private static final class Kayit {
+        final UserDetails kullaniciDetaylari;
+        final long sonGecerlilikMs;
+
+        Kayit(UserDetails kullaniciDetaylari, long sonGecerlilikMs) {
+            this.kullaniciDetaylari = kullaniciDetaylari;
+            this.sonGecerlilikMs = sonGecerlilikMs;
+        }
+    }
+}
@@ -0,0 +1,411 @@
+package com.footbase.service;
+
+import com.footbase.dto.SonYorumDTO;
+import com.footbase.entity.Mac;
+import com.footbase.patterns.observer.AnaSayfaGozlemci;
+import com.footbase.patterns.observer.MacOnayKonusu;
+import com.footbase.repository.OyuncuRepository;
+import com.footbase.repository.TakimRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Ana Sayfa Servisi
+ *
+ * /api/home yanıtını her istekte yeniden hesaplamak yerine önceden hazırlanmış,
+ * değişmez bir görüntü (snapshot) olarak tutar. Okumalar veritabanına gitmez;
+ * sadece atomik referanstaki hazır veriyi döndürür.
+ *
+ * Görüntü şu durumlarda arka planda yeniden oluşturulur:
+ * - Maç onaylandığında, gol/skor girildiğinde, maç bittiğinde (AnaSayfaGozlemci)
+ * - Skor girişi / maç sonlandırma / geri alma komutlarından sonra (MacCommandService)
+ * - Görüntü EN_FAZLA_BAYATLIK_SANIYE'den eski olduğunda (zamanlanmış kontrol)
+ *
+ * Art arda gelen istekler YENIDEN_OLUSTURMA_GECIKMESI_MS içinde tek bir yeniden
+ * oluşturmada birleştirilir. Transaction içinden gelen istekler commit'ten sonra işlenir.
+ *
+ * Son yorumlar görüntüye dahil edilmez; SonYorumlarTamponu'ndan okunup tampon sürümü
+ * değişmedikçe aynı yanıt nesnesi döndürülür (yorum eklemek görüntüyü yeniden oluşturmaz).
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@Service
+public class AnaSayfaServisi {
+
+    /**
+     * Görüntünün olay gelmese bile yenilendiği en büyük yaş
+     */
+    static final long EN_FAZLA_BAYATLIK_SANIYE = 60;
+
+    /**
+     * Bayatlık kontrolünün çalışma aralığı
+     */
+    private static final long BAYATLIK_KONTROL_ARALIGI_SANIYE = 5;
+
+    /**
+     * Art arda gelen yeniden oluşturma isteklerini birleştirme süresi
+     */
+    private static final long YENIDEN_OLUSTURMA_GECIKMESI_MS = 500;
+
+    private static final int SON_YORUM_SAYISI = 10;
+
+    @Autowired
+    private MacService macService;
+
+    @Autowired
+    private OyuncuRepository oyuncuRepository;
+
+    @Autowired
+    private TakimRepository takimRepository;
+
+    @Autowired
+    private SonYorumlarTamponu sonYorumlarTamponu;
+
+    @Autowired
+    private MacOnayKonusu macOnayKonusu;
+
+    /**
+     * Son oluşturulan görüntü (henüz oluşturulmadıysa null)
+     */
+    private final AtomicReference<Goruntu> goruntu = new AtomicReference<>();
+
+    /**
+     * Görüntü + son yorumlar birleşimi (görüntü veya tampon sürümü değişince yeniden hazırlanır)
+     */
+    private final AtomicReference<Yanit> yanit = new AtomicReference<>();
+
+    /**
+     * Bekleyen bir yeniden oluşturma zamanlanmış mı?
+     */
+    private final AtomicBoolean yenidenOlusturmaBekliyor = new AtomicBoolean(false);
+
+    private final Object olusturmaKilidi = new Object();
+
+    private ScheduledExecutorService zamanlayici;
+
+    @PostConstruct
+    public void baslat() {
+        zamanlayici = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "ana-sayfa-goruntusu");
+            thread.setDaemon(true);
+            return thread;
+        });
+        zamanlayici.scheduleWithFixedDelay(this::bayatsaYenile,
+                BAYATLIK_KONTROL_ARALIGI_SANIYE, BAYATLIK_KONTROL_ARALIGI_SANIYE, TimeUnit.SECONDS);
+        macOnayKonusu.ekle(new AnaSayfaGozlemci(this::yenidenOlusturmaIste));
+    }
+
+    @PreDestroy
+    public void durdur() {
+        if (zamanlayici != null) {
+            zamanlayici.shutdownNow();
+        }
+    }
+
+    /**
+     * Uygulama açıldığında ilk görüntüyü oluşturur
+     * (Maç zaman çizelgesi daha önce yüklenir; bkz. MacZamanCizelgesi.baslangictaYukle)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void baslangictaOlustur() {
+        try {
+            yenidenOlustur();
+            System.out.println("✓ Ana sayfa görüntüsü oluşturuldu");
+        } catch (Exception e) {
+            System.err.println("✗ Ana sayfa görüntüsü oluşturulamadı: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Ana sayfa verilerini döndürür
+     * Görüntü hazırsa veritabanına gidilmez; sadece ilk istekte (görüntü yoksa) senkron oluşturulur
+     * @return Ana sayfa verileri (değiştirilemez)
+     */
+    public Map<String, Object> anaSayfaVerileriniGetir() {
+        Goruntu mevcut = goruntu.get();
+        if (mevcut == null) {
+            mevcut = yenidenOlustur();
+        }
+
+        long yorumSurumu = sonYorumlarTamponu.surum();
+        Yanit onceki = yanit.get();
+        if (onceki != null && onceki.goruntu == mevcut && onceki.yorumSurumu == yorumSurumu) {
+            return onceki.veriler;
+        }
+
+        Map<String, Object> veriler = new HashMap<>(mevcut.veriler);
+        veriler.put("comments", yorumlariDonustur(sonYorumlarTamponu.sonYorumlar(SON_YORUM_SAYISI)));
+        Yanit yeni = new Yanit(mevcut, yorumSurumu, Collections.unmodifiableMap(veriler));
+        yanit.compareAndSet(onceki, yeni);
+        return yeni.veriler;
+    }
+
+    /**
+     * Görüntünün yeniden oluşturulmasını ister
+     * Aktif bir transaction varsa istek commit'ten sonra işlenir; art arda gelen istekler birleştirilir
+     */
+    public void yenidenOlusturmaIste() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    zamanla();
+                }
+            });
+        } else {
+            zamanla();
+        }
+    }
+
+    /**
+     * Görüntünün ne zaman oluşturulduğu (henüz yoksa null)
+     */
+    public LocalDateTime goruntuZamani() {
+        Goruntu mevcut = goruntu.get();
+        return mevcut != null ? mevcut.olusturmaZamani : null;
+    }
+
+    private void zamanla() {
+        if (zamanlayici == null || zamanlayici.isShutdown()) {
+            return;
+        }
+        if (yenidenOlusturmaBekliyor.compareAndSet(false, true)) {
+            zamanlayici.schedule(this::arkaPlandaYenidenOlustur, YENIDEN_OLUSTURMA_GECIKMESI_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void bayatsaYenile() {
+        Goruntu mevcut = goruntu.get();
+        if (mevcut == null
+                || mevcut.olusturmaZamani.isBefore(LocalDateTime.now().minusSeconds(EN_FAZLA_BAYATLIK_SANIYE))) {
+            zamanla();
+        }
+    }
+
+    private void arkaPlandaYenidenOlustur() {
+        // Bayrak oluşturma başlamadan indirilir; oluşturma sırasında gelen olaylar yeni bir tur zamanlar
+        yenidenOlusturmaBekliyor.set(false);
+        try {
+            yenidenOlustur();
+        } catch (Exception e) {
+            // Eski görüntü kullanılmaya devam eder
+            System.err.println("✗ Ana sayfa görüntüsü yenilenemedi: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Görüntüyü veritabanından oluşturur ve atomik olarak yayınlar
+     */
+    Goruntu yenidenOlustur() {
+        synchronized (olusturmaKilidi) {
+            LocalDateTime zaman = LocalDateTime.now();
+            Goruntu yeni = new Goruntu(verileriOlustur(), zaman);
+            goruntu.set(yeni);
+            return yeni;
+        }
+    }
+
+    private Map<String, Object> verileriOlustur() {
+        Map<String, Object> veriler = new HashMap<>();
+
+        // Maçları frontend'in beklediği formata dönüştür
+        List<Map<String, Object>> gelecekMaclar = Collections.emptyList();
+        List<Map<String, Object>> gecmisMaclar = Collections.emptyList();
+
+        try {
+            gelecekMaclar = maclariDonustur(macService.gelecekMaclariGetir());
+        } catch (Exception e) {
+            e.printStackTrace();
+            // Hata durumunda boş liste kullan
+        }
+
+        try {
+            gecmisMaclar = maclariDonustur(macService.gecmisMaclariGetir());
+        } catch (Exception e) {
+            e.printStackTrace();
+            // Hata durumunda boş liste kullan
+        }
+
+        // Frontend'in beklediği alan adları
+        veriler.put("upcomingMatches", gelecekMaclar);
+        veriler.put("matches", gelecekMaclar); // Alternatif alan adı
+        veriler.put("pastMatches", gecmisMaclar);
+        veriler.put("gelecekMaclar", gelecekMaclar); // Türkçe alan adı (geriye dönük uyumluluk)
+        veriler.put("gecmisMaclar", gecmisMaclar); // Türkçe alan adı (geriye dönük uyumluluk)
+
+        // Sayılar COUNT(*) ile hesaplanır (tüm satırları yüklemeden)
+        long playerCount = 0;
+        long teamCount = 0;
+        try {
+            playerCount = oyuncuRepository.count();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        try {
+            teamCount = takimRepository.count();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+
+        // Diğer alanlar (frontend'in beklediği)
+        veriler.put("playerCount", playerCount);
+        veriler.put("teamCount", teamCount);
+        veriler.put("topRatedPlayer", null); // Oyuncu puanlaması veritabanında yok, şimdilik null
+
+        return Collections.unmodifiableMap(veriler);
+    }
+
+    private List<Map<String, Object>> maclariDonustur(List<Mac> maclar) {
+        List<Map<String, Object>> sonuc = new ArrayList<>(maclar.size());
+        for (Mac mac : maclar) {
+            Map<String, Object> macMap = macToMap(mac);
+            if (macMap != null) {
+                sonuc.add(macMap);
+            }
+        }
+        return Collections.unmodifiableList(sonuc);
+    }
+
+    private List<Map<String, Object>> yorumlariDonustur(List<SonYorumDTO> yorumlar) {
+        List<Map<String, Object>> sonuc = new ArrayList<>(yorumlar.size());
+        for (SonYorumDTO yorum : yorumlar) {
+            Map<String, Object> yorumMap = new HashMap<>();
+            yorumMap.put("id", yorum.getId());
+            yorumMap.put("message", yorum.getMesaj());
+            yorumMap.put("mesaj", yorum.getMesaj());
+            yorumMap.put("author", yorum.getKullaniciAdi());
+            yorumMap.put("createdAt", yorum.getYorumTarihi());
+            yorumMap.put("yorumTarihi", yorum.getYorumTarihi());
+            if (yorum.getMacId() != null) {
+                yorumMap.put("macId", yorum.getMacId());
+                yorumMap.put("macBilgisi", yorum.getMacBilgisi());
+            }
+            sonuc.add(yorumMap);
+        }
+        return Collections.unmodifiableList(sonuc);
+    }
+
+    /**
+     * Mac entity'sini frontend'in beklediği formata dönüştürür
+     * @param mac Maç entity'si
+     * @return Map formatında maç bilgileri
+     */
+    private Map<String, Object> macToMap(Mac mac) {
+        if (mac == null) {
+            return null;
+        }
+
+        try {
+            Map<String, Object> macMap = new HashMap<>();
+            macMap.put("id", mac.getId());
+
+            // Ev sahibi takım bilgileri
+            String homeTeamName = null;
+            String homeTeamLogo = null;
+            String stadium = null;
+            try {
+                if (mac.getEvSahibiTakim() != null) {
+                    homeTeamName = mac.getEvSahibiTakim().getAd();
+                    homeTeamLogo = mac.getEvSahibiTakim().getLogo();
+                    // Stadyum bilgisini önce Mac'ten, yoksa ev sahibi takımdan al
+                    if (mac.getStadyum() != null) {
+                        stadium = mac.getStadyum().getStadyumAdi();
+                    } else if (mac.getEvSahibiTakim().getStadyum() != null) {
+                        stadium = mac.getEvSahibiTakim().getStadyum().getStadyumAdi();
+                    }
+                }
+            } catch (Exception e) {
+                // Takım bilgileri alınamazsa null kullan
+            }
+            macMap.put("homeTeam", homeTeamName);
+            macMap.put("homeTeamLogo", homeTeamLogo);
+            macMap.put("stadium", stadium);
+
+            // Deplasman takım bilgileri
+            String awayTeamName = null;
+            String awayTeamLogo = null;
+            try {
+                if (mac.getDeplasmanTakim() != null) {
+                    awayTeamName = mac.getDeplasmanTakim().getAd();
+                    awayTeamLogo = mac.getDeplasmanTakim().getLogo();
+                }
+            } catch (Exception e) {
+                // Takım bilgileri alınamazsa null kullan
+            }
+            macMap.put("awayTeam", awayTeamName);
+            macMap.put("awayTeamLogo", awayTeamLogo);
+
+            macMap.put("homeScore", mac.getEvSahibiSkor());
+            macMap.put("awayScore", mac.getDeplasmanSkor());
+            macMap.put("date", mac.getTarih() != null ? mac.getTarih().toString() : null);
+            macMap.put("time", mac.getSaat() != null ? mac.getSaat().toString() : null);
+            macMap.put("status", mac.getDurum() != null ? mac.getDurum() : "PLANLI");
+
+            // Frontend'in beklediği kickoffAt (tarih + saat birleşik)
+            if (mac.getTarih() != null && mac.getSaat() != null) {
+                macMap.put("kickoffAt", LocalDateTime.of(mac.getTarih(), mac.getSaat()).toString());
+            } else {
+                macMap.put("kickoffAt", null);
+            }
+
+            return macMap;
+        } catch (Exception e) {
+            e.printStackTrace();
+            // Hata durumunda minimum bilgi ile map döndür
+            Map<String, Object> errorMap = new HashMap<>();
+            errorMap.put("id", mac.getId());
+            errorMap.put("homeTeam", null);
+            errorMap.put("awayTeam", null);
+            errorMap.put("status", "ERROR");
+            return errorMap;
+        }
+    }
+
+    /**
+     * Ana sayfa yanıtı: hangi görüntü ve tampon sürümünden hazırlandığı
+     */
+    private static final class Yanit {
+        final Goruntu goruntu;
+        final long yorumSurumu;
+        final Map<String, Object> veriler;
+
+        Yanit(Goruntu goruntu, long yorumSurumu, Map<String, Object> veriler) {
+            this.goruntu = goruntu;
+            this.yorumSurumu = yorumSurumu;
+            this.veriler = veriler;
+        }
+    }
+
+    /**
+     * Değişmez ana sayfa görüntüsü
+     */
+    static final class Goruntu {
+        final Map<String, Object> veriler;
+        final LocalDateTime olusturmaZamani;
+
+        Goruntu(Map<String, Object> veriler, LocalDateTime olusturmaZamani) {
+            this.veriler = veriler;
+            this.olusturmaZamani = olusturmaZamani;
+        }
+    }
+}
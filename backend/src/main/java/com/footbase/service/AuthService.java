@@ -3,6 +3,7 @@ package com.footbase.service;
 import com.footbase.entity.Kullanici;
 import com.footbase.repository.KullaniciRepository;
 import com.footbase.security.JwtUtil;
+import com.footbase.security.KullaniciPrincipalOnbellegi;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -26,6 +27,9 @@ public class AuthService {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private KullaniciPrincipalOnbellegi principalOnbellegi;
+
     /**
      * Kullanıcı girişi yapar
      * @param email Kullanıcı e-posta adresi
@@ -57,6 +61,7 @@ public class AuthService {
             if (sifreDogru) {
                 kullanici.setSifre(passwordEncoder.encode(sifre));
                 kullaniciRepository.save(kullanici);
+                principalOnbellegi.gecersizKil(kullanici.getId());
             }
         }
         
@@ -138,6 +143,9 @@ public class AuthService {
         // Yeni şifreyi hash'le ve kaydet
         kullanici.setSifre(passwordEncoder.encode(yeniSifre));
         kullaniciRepository.save(kullanici);
+
+        // Önbellekteki eski kimlik bilgileri kullanılmasın
+        principalOnbellegi.gecersizKil(kullanici.getId());
     }
 
     /**
@@ -0,0 +1,81 @@
+package com.footbase.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+/**
+ * Bellek İndeksi (commit sonrası beslenen indekslerin ortak tabanı)
+ *
+ * Puan durumu, karşılaşma geçmişi, takım formu ve liderlik tabloları değişen kaydın güncel
+ * satırını veritabanından okuyup bellekteki görüntüye uygular. Ortak kısımlar burada toplanır:
+ * - oku: ayrı, salt okunur (REQUIRES_NEW) bir transaction; commit sonrasında da güvenle çağrılır
+ * - yazmaKilidi: tüm yazmalar bu kilit altında yapılır. Güncel satır da kilit altında okunursa
+ *   sonra uygulanan her zaman sonra okunmuş (en güncel) satırdır
+ * - commitSonrasi: işi transaction içindeyse commit'ten sonra, değilse hemen çalıştırır;
+ *   geri alınan transaction indekslere yansımaz
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+public abstract class BellekIndeksi {
+
+    protected final Logger logger = LoggerFactory.getLogger(getClass());
+
+    protected final Object yazmaKilidi = new Object();
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate okumaTemplate;
+
+    @PostConstruct
+    public void baslat() {
+        okumaTemplate = new TransactionTemplate(transactionManager);
+        okumaTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        okumaTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Okumayı ayrı, salt okunur bir transaction'da yapar
+     */
+    protected <T> T oku(TransactionCallback<T> okuma) {
+        return okumaTemplate.execute(okuma);
+    }
+
+    /**
+     * Kaydın indekse uygulanmış halini yenisiyle değiştirir (yazma kilidi altında çağrılır)
+     * @param uygulananlar Kayıt ID'si -> uygulanmış hali
+     * @param yeni Güncel hali (kayıt artık indekse girmiyorsa null)
+     * @return Önceki uygulanmış hali (yoksa null)
+     */
+    protected static <T> T uygulananiDegistir(Map<Long, T> uygulananlar, Long id, T yeni) {
+        return yeni != null ? uygulananlar.put(id, yeni) : uygulananlar.remove(id);
+    }
+
+    /**
+     * İşi aktif transaction commit edildikten sonra, transaction yoksa hemen çalıştırır
+     * @param is Çalıştırılacak iş (hatalarını kendisi ele almalıdır)
+     */
+    static void commitSonrasi(Runnable is) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    is.run();
+                }
+            });
+        } else {
+            is.run();
+        }
+    }
+}
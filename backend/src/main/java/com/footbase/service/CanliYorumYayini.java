@@ -0,0 +1,543 @@
+package com.footbase.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.footbase.dto.YorumDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Canlı yorum yayını (Server-Sent Events)
+ *
+ * İstemciler maç yorumlarını yoklamak (polling) yerine GET /api/matches/{id}/comments/stream
+ * ile abone olur; kaydedilen her yeni yorum o maçın abonelerine "yorum" olayı olarak itilir.
+ *
+ * - Maç başına kanal: abone listesi ve son olayların sınırlı tekrar tamponu
+ * - Olay numaraları süreç genelinde artan sayılardır (başlangıç değeri zaman damgasından türetilir,
+ *   böylece yeniden başlatmadan sonra da eski numaralardan büyük kalır)
+ * - Yeniden bağlanan istemci Last-Event-ID ile kaldığı yerden devam eder; istenen olay tampondan
+ *   düşmüşse "yeniden-yukle" olayı gönderilir ve istemci yorum geçmişini baştan okur
+ * - Yayıncı hiçbir zaman ağ yazımı yapmaz: olaylar abonenin sınırlı kuyruğuna eklenir, gönderim
+ *   ortak gönderici havuzunda yapılır. Kuyruğu dolan (yavaş) abone düşürülür.
+ * - Her gönderimin yazma zaman aşımı vardır: gönderimi süreyi aşan abone tek başına düşürülür,
+ *   iş parçacığı kesilir ve yazma dönene kadar havuza yerine bir gönderici eklenir. Böylece takılan
+ *   TCP istemcileri diğer maçların ve sağlıklı abonelerin gönderimini durduramaz.
+ * - Periyodik nabız kopmuş bağlantıları ortaya çıkarır ve uzun süre boş kalan kanalları siler
+ */
+@Service
+public class CanliYorumYayini {
+
+    /**
+     * Abonesi olmayan kanalın silinmeden önce bekleyeceği süre (tamponu yeniden bağlanmalar için tutulur)
+     */
+    private static final long BOS_KANAL_OMRU_MS = TimeUnit.MINUTES.toMillis(10);
+
+    private static final String YORUM_OLAYI = "yorum";
+    private static final String YENIDEN_YUKLE_OLAYI = "yeniden-yukle";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${yorum.canli.tampon-boyutu:200}")
+    private int tamponBoyutu;
+
+    @Value("${yorum.canli.abone-kuyrugu:64}")
+    private int aboneKuyrugu;
+
+    @Value("${yorum.canli.en-fazla-abone:5000}")
+    private int enFazlaAbone;
+
+    @Value("${yorum.canli.zaman-asimi-dakika:30}")
+    private long zamanAsimiDakika;
+
+    @Value("${yorum.canli.gonderici-sayisi:4}")
+    private int gondericiSayisi;
+
+    @Value("${yorum.canli.nabiz-saniye:20}")
+    private int nabizSaniye;
+
+    @Value("${yorum.canli.yazma-zaman-asimi-ms:5000}")
+    private long yazmaZamanAsimiMs;
+
+    private final ConcurrentHashMap<Long, MacKanali> kanallar = new ConcurrentHashMap<>();
+    private final AtomicLong olayNo = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final AtomicInteger aboneSayisi = new AtomicInteger();
+
+    private final AtomicLong yayinlanan = new AtomicLong();
+    private final AtomicLong gonderilen = new AtomicLong();
+    private final AtomicLong yavasDusurulen = new AtomicLong();
+    private final AtomicLong yenidenYuklemeIstenen = new AtomicLong();
+    private final AtomicLong reddedilenAbone = new AtomicLong();
+    private final AtomicLong zamanAsimiDusurulen = new AtomicLong();
+
+    /**
+     * Şu an emitter.send içinde olan aboneler (yazma zaman aşımı kontrolü için)
+     */
+    private final Set<Abone> gonderimdekiler = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger takiliGonderim = new AtomicInteger();
+
+    private ThreadPoolExecutor gonderici;
+    private ScheduledExecutorService nabiz;
+
+    @PostConstruct
+    public void baslat() {
+        AtomicInteger siraNo = new AtomicInteger();
+        gonderici = new ThreadPoolExecutor(gondericiSayisi, gondericiSayisi, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    Thread thread = new Thread(r, "canli-yorum-gonderici-" + siraNo.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        nabiz = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "canli-yorum-nabiz");
+            thread.setDaemon(true);
+            return thread;
+        });
+        nabiz.scheduleWithFixedDelay(this::nabizGonder, nabizSaniye, nabizSaniye, TimeUnit.SECONDS);
+        long kontrolMs = Math.max(50, yazmaZamanAsimiMs / 4);
+        nabiz.scheduleWithFixedDelay(this::takilanGonderimleriDusur, kontrolMs, kontrolMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void durdur() {
+        nabiz.shutdownNow();
+        for (MacKanali kanal : kanallar.values()) {
+            List<Abone> aboneler;
+            synchronized (kanal) {
+                kanal.kapali = true;
+                aboneler = new ArrayList<>(kanal.aboneler);
+                kanal.aboneler.clear();
+            }
+            aboneler.forEach(Abone::kapat);
+        }
+        kanallar.clear();
+        gonderici.shutdown();
+    }
+
+    /**
+     * Maçın canlı yorum akışına abone olur
+     *
+     * @param macId Maç ID'si
+     * @param sonOlayNo İstemcinin aldığı son olay numarası (Last-Event-ID); ilk bağlantıda null
+     * @return SSE bağlantısı
+     * @throws RuntimeException Abone sınırı aşıldıysa
+     */
+    public SseEmitter aboneOl(Long macId, Long sonOlayNo) {
+        return aboneOl(macId, sonOlayNo, new SseEmitter(TimeUnit.MINUTES.toMillis(zamanAsimiDakika)));
+    }
+
+    /**
+     * Verilen SSE bağlantısını maçın akışına ekler
+     */
+    SseEmitter aboneOl(Long macId, Long sonOlayNo, SseEmitter emitter) {
+        if (aboneSayisi.incrementAndGet() > enFazlaAbone) {
+            aboneSayisi.decrementAndGet();
+            reddedilenAbone.incrementAndGet();
+            throw new RuntimeException("Canlı yorum akışı şu an dolu, lütfen daha sonra tekrar deneyiniz");
+        }
+
+        Abone abone = new Abone(macId, emitter, tamponBoyutu + aboneKuyrugu);
+        emitter.onCompletion(() -> aboneyiCikar(macId, abone));
+        emitter.onTimeout(() -> aboneyiCikar(macId, abone));
+        emitter.onError(hata -> aboneyiCikar(macId, abone));
+
+        while (true) {
+            MacKanali kanal = kanallar.computeIfAbsent(macId, id -> new MacKanali(olayNo.get()));
+            synchronized (kanal) {
+                if (kanal.kapali) {
+                    continue;
+                }
+                kanal.aboneler.add(abone);
+                kanal.sonEtkinlik = System.currentTimeMillis();
+                if (sonOlayNo != null) {
+                    tekrarGonder(kanal, abone, sonOlayNo);
+                }
+                break;
+            }
+        }
+        abone.planla();
+        return emitter;
+    }
+
+    /**
+     * Kaçırılan olayları aboneye kuyruğa alır (kanal kilidi altında çağrılır)
+     */
+    private void tekrarGonder(MacKanali kanal, Abone abone, long sonOlayNo) {
+        if (sonOlayNo < kanal.taban || sonOlayNo > kanal.sonNo) {
+            // İstenen olaylar tamponda değil (düşmüş veya başka bir sunucu ömrüne ait)
+            yenidenYuklemeIstenen.incrementAndGet();
+            abone.kuyrugaAl(new Olay(kanal.sonNo, YENIDEN_YUKLE_OLAYI, "{\"sonOlayNo\":" + kanal.sonNo + "}"));
+            return;
+        }
+        for (Olay olay : kanal.tampon) {
+            if (olay.no > sonOlayNo) {
+                abone.kuyrugaAl(olay);
+            }
+        }
+    }
+
+    /**
+     * Yeni kaydedilen yorumu maçın abonelerine iter
+     * Çağıran iş parçacığı ağ yazımı beklemez
+     *
+     * @param yorum Kaydedilen yorum
+     */
+    public void yorumYayinla(YorumDTO yorum) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(yorum);
+        } catch (JsonProcessingException e) {
+            System.err.println("❌ Canlı yorum olayı oluşturulamadı: " + e.getMessage());
+            return;
+        }
+
+        List<Abone> alicilar = new ArrayList<>();
+        List<Abone> dusurulenler = new ArrayList<>();
+        while (true) {
+            MacKanali kanal = kanallar.computeIfAbsent(yorum.getMacId(), id -> new MacKanali(olayNo.get()));
+            synchronized (kanal) {
+                if (kanal.kapali) {
+                    continue;
+                }
+                Olay olay = new Olay(olayNo.incrementAndGet(), YORUM_OLAYI, json);
+                kanal.tampon.addLast(olay);
+                if (kanal.tampon.size() > tamponBoyutu) {
+                    kanal.taban = kanal.tampon.pollFirst().no;
+                }
+                kanal.sonNo = olay.no;
+                kanal.sonEtkinlik = System.currentTimeMillis();
+
+                for (Abone abone : kanal.aboneler) {
+                    if (abone.kuyrugaAl(olay)) {
+                        alicilar.add(abone);
+                    } else {
+                        dusurulenler.add(abone);
+                    }
+                }
+                kanal.aboneler.removeAll(dusurulenler);
+                break;
+            }
+        }
+        yayinlanan.incrementAndGet();
+
+        alicilar.forEach(Abone::planla);
+        if (!dusurulenler.isEmpty()) {
+            yavasDusurulen.addAndGet(dusurulenler.size());
+            dusurulenler.forEach(Abone::kapat);
+        }
+    }
+
+    /**
+     * Maç kanalının son olay numarası
+     * Yorum geçmişi okunmadan önce alınır; istemci akışa bu numarayla bağlanırsa arada kaydedilen
+     * yorumları tekrar alır, hiçbirini kaçırmaz
+     *
+     * @param macId Maç ID'si
+     * @return Son olay numarası
+     */
+    public long sonOlayNo(Long macId) {
+        while (true) {
+            MacKanali kanal = kanallar.computeIfAbsent(macId, id -> new MacKanali(olayNo.get()));
+            synchronized (kanal) {
+                if (!kanal.kapali) {
+                    kanal.sonEtkinlik = System.currentTimeMillis();
+                    return kanal.sonNo;
+                }
+            }
+        }
+    }
+
+    /**
+     * Tüm abonelere nabız gönderir, yavaş aboneleri düşürür ve boş kanalları siler
+     */
+    void nabizGonder() {
+        long simdi = System.currentTimeMillis();
+        for (Map.Entry<Long, MacKanali> giris : kanallar.entrySet()) {
+            MacKanali kanal = giris.getValue();
+            List<Abone> alicilar;
+            List<Abone> dusurulenler = new ArrayList<>();
+            synchronized (kanal) {
+                if (kanal.aboneler.isEmpty()) {
+                    if (simdi - kanal.sonEtkinlik > BOS_KANAL_OMRU_MS) {
+                        kanal.kapali = true;
+                        kanallar.remove(giris.getKey(), kanal);
+                    }
+                    continue;
+                }
+                alicilar = new ArrayList<>(kanal.aboneler.size());
+                for (Abone abone : kanal.aboneler) {
+                    if (abone.kuyrugaAl(Olay.NABIZ)) {
+                        alicilar.add(abone);
+                    } else {
+                        dusurulenler.add(abone);
+                    }
+                }
+                kanal.aboneler.removeAll(dusurulenler);
+            }
+            alicilar.forEach(Abone::planla);
+            if (!dusurulenler.isEmpty()) {
+                yavasDusurulen.addAndGet(dusurulenler.size());
+                dusurulenler.forEach(Abone::kapat);
+            }
+        }
+    }
+
+    /**
+     * Gönderimi yazma zaman aşımını geçen aboneleri düşürür
+     * Abone kanaldan çıkarılır ve gönderen iş parçacığı kesilir; yazma kesmeye rağmen dönmezse
+     * (bağlantının kendi yazma zaman aşımına kadar) havuza yerine bir gönderici eklenmiş olur
+     */
+    void takilanGonderimleriDusur() {
+        long sinir = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(yazmaZamanAsimiMs);
+        for (Abone abone : gonderimdekiler) {
+            if (abone.zamanAsimindaKes(sinir)) {
+                zamanAsimiDusurulen.incrementAndGet();
+                yavasDusurulen.incrementAndGet();
+                aboneyiCikar(abone.macId, abone);
+            }
+        }
+    }
+
+    /**
+     * Gönderici havuzunu takılı gönderim sayısı kadar büyütür veya küçültür
+     */
+    private synchronized void havuzuAyarla() {
+        int boyut = gondericiSayisi + takiliGonderim.get();
+        if (boyut > gonderici.getMaximumPoolSize()) {
+            gonderici.setMaximumPoolSize(boyut);
+            gonderici.setCorePoolSize(boyut);
+        } else {
+            gonderici.setCorePoolSize(boyut);
+            gonderici.setMaximumPoolSize(boyut);
+        }
+    }
+
+    private void aboneyiCikar(Long macId, Abone abone) {
+        abone.kapali = true;
+        if (!abone.cikarildi.compareAndSet(false, true)) {
+            return;
+        }
+        aboneSayisi.decrementAndGet();
+        MacKanali kanal = kanallar.get(macId);
+        if (kanal != null) {
+            synchronized (kanal) {
+                kanal.aboneler.remove(abone);
+                kanal.sonEtkinlik = System.currentTimeMillis();
+            }
+        }
+    }
+
+    /**
+     * Yayın istatistikleri (admin paneli)
+     */
+    public Map<String, Object> istatistikler() {
+        int tamponlananOlay = 0;
+        for (MacKanali kanal : kanallar.values()) {
+            synchronized (kanal) {
+                tamponlananOlay += kanal.tampon.size();
+            }
+        }
+        Map<String, Object> istatistik = new LinkedHashMap<>();
+        istatistik.put("kanalSayisi", kanallar.size());
+        istatistik.put("aboneSayisi", aboneSayisi.get());
+        istatistik.put("enFazlaAbone", enFazlaAbone);
+        istatistik.put("tamponlananOlay", tamponlananOlay);
+        istatistik.put("yayinlanan", yayinlanan.get());
+        istatistik.put("gonderilen", gonderilen.get());
+        istatistik.put("yavasDusurulen", yavasDusurulen.get());
+        istatistik.put("zamanAsimiDusurulen", zamanAsimiDusurulen.get());
+        istatistik.put("takiliGonderim", takiliGonderim.get());
+        istatistik.put("yenidenYuklemeIstenen", yenidenYuklemeIstenen.get());
+        istatistik.put("reddedilenAbone", reddedilenAbone.get());
+        return istatistik;
+    }
+
+    /**
+     * Maç kanalı: aboneler ve tekrar tamponu (kanal nesnesi üzerinde kilitlenerek erişilir)
+     */
+    private static final class MacKanali {
+        final ArrayDeque<Olay> tampon = new ArrayDeque<>();
+        final List<Abone> aboneler = new ArrayList<>();
+        /**
+         * Bu numaraya kadar (dahil) olan olaylar tamponda bulunmayabilir
+         */
+        long taban;
+        long sonNo;
+        long sonEtkinlik = System.currentTimeMillis();
+        boolean kapali;
+
+        MacKanali(long baslangicNo) {
+            this.taban = baslangicNo;
+            this.sonNo = baslangicNo;
+        }
+    }
+
+    /**
+     * Gönderilecek olay (JSON yayında bir kez üretilir, tüm abonelerde paylaşılır)
+     */
+    private static final class Olay {
+        static final Olay NABIZ = new Olay(-1, null, null);
+
+        final long no;
+        final String ad;
+        final String veri;
+
+        Olay(long no, String ad, String veri) {
+            this.no = no;
+            this.ad = ad;
+            this.veri = veri;
+        }
+
+        SseEmitter.SseEventBuilder sseOlayi() {
+            if (this == NABIZ) {
+                return SseEmitter.event().comment("nabiz");
+            }
+            return SseEmitter.event().id(Long.toString(no)).name(ad).data(veri);
+        }
+    }
+
+    /**
+     * Tek bir SSE bağlantısı
+     * Olaylar sınırlı kuyruğa eklenir; kuyruk gönderici havuzunda tek seferde bir iş parçacığı
+     * tarafından boşaltılır. Bağlantı yalnızca gönderici iş parçacığında kapatılır, böylece yayıncı
+     * yavaş bir bağlantının yazma kilidini hiç beklemez.
+     * Gönderim durumu (başlangıç zamanı, gönderen iş parçacığı) gönderim kilidi altında tutulur;
+     * zaman aşımı kontrolü yalnızca hâlâ bu abone için yazan iş parçacığını keser.
+     */
+    private final class Abone {
+        final Long macId;
+        final SseEmitter emitter;
+        final BlockingQueue<Olay> kuyruk;
+        final AtomicBoolean planlandi = new AtomicBoolean();
+        final AtomicBoolean tamamlandi = new AtomicBoolean();
+        final AtomicBoolean cikarildi = new AtomicBoolean();
+        volatile boolean kapali;
+
+        private final Object gonderimKilidi = new Object();
+        private Thread gonderen;
+        private long gonderimBaslangici;
+        private boolean takildi;
+
+        Abone(Long macId, SseEmitter emitter, int kapasite) {
+            this.macId = macId;
+            this.emitter = emitter;
+            this.kuyruk = new ArrayBlockingQueue<>(kapasite);
+        }
+
+        boolean kuyrugaAl(Olay olay) {
+            return !kapali && kuyruk.offer(olay);
+        }
+
+        void planla() {
+            if (planlandi.compareAndSet(false, true)) {
+                try {
+                    gonderici.execute(this::bosalt);
+                } catch (RuntimeException e) {
+                    planlandi.set(false);
+                }
+            }
+        }
+
+        /**
+         * Bağlantıyı kapatılmak üzere işaretler; asıl kapatma gönderici iş parçacığında yapılır
+         */
+        void kapat() {
+            kapali = true;
+            kuyruk.clear();
+            planla();
+        }
+
+        /**
+         * Gönderim verilen zamandan önce başladıysa aboneyi kapatır, gönderen iş parçacığını keser ve
+         * havuza yerine bir gönderici ekler
+         *
+         * @return Abone bu çağrıda düşürüldüyse true
+         */
+        boolean zamanAsimindaKes(long sinirNs) {
+            synchronized (gonderimKilidi) {
+                if (gonderen == null || takildi || gonderimBaslangici - sinirNs > 0) {
+                    return false;
+                }
+                takildi = true;
+                kapali = true;
+                kuyruk.clear();
+                takiliGonderim.incrementAndGet();
+                havuzuAyarla();
+                gonderen.interrupt();
+                return true;
+            }
+        }
+
+        private void gonder(Olay olay) throws IOException {
+            synchronized (gonderimKilidi) {
+                gonderen = Thread.currentThread();
+                gonderimBaslangici = System.nanoTime();
+            }
+            gonderimdekiler.add(this);
+            try {
+                emitter.send(olay.sseOlayi());
+            } finally {
+                gonderimdekiler.remove(this);
+                synchronized (gonderimKilidi) {
+                    gonderen = null;
+                    if (takildi) {
+                        // Kesme bu gönderime aitti; iş parçacığı havuza temiz dönsün
+                        Thread.interrupted();
+                        takiliGonderim.decrementAndGet();
+                        havuzuAyarla();
+                    }
+                }
+            }
+        }
+
+        private void bosalt() {
+            while (true) {
+                Olay olay;
+                while (!kapali && (olay = kuyruk.poll()) != null) {
+                    try {
+                        gonder(olay);
+                        if (olay != Olay.NABIZ) {
+                            gonderilen.incrementAndGet();
+                        }
+                    } catch (IOException | IllegalStateException e) {
+                        // İstemci bağlantıyı kapatmış; onError/onCompletion aboneyi çıkarır
+                        kapali = true;
+                    }
+                }
+                if (kapali) {
+                    if (tamamlandi.compareAndSet(false, true)) {
+                        emitter.complete();
+                    }
+                    return;
+                }
+                planlandi.set(false);
+                if (kuyruk.isEmpty() || !planlandi.compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,446 @@
+package com.footbase.service;
+
+import com.footbase.repository.MacTakimlariRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Karşılaşma Geçmişi (iki takım arasındaki maçlar, bellekte, artımlı)
+ *
+ * Sırasız takım çifti (küçük ID, büyük ID) anahtarıyla, çiftin sonuçlanmış (maclar.sonuclandi)
+ * tüm maçlarından galibiyet/beraberlik/mağlubiyet sayıları, gol toplamları ve son N karşılaşma
+ * tutulur. Lig ayrımı yapılmaz; hazırlık ve kupa maçları da sayılır.
+ *
+ * Güncelleme LigPuanDurumu ile aynı noktalardan (MacSonucuBildirici) commit'ten sonra yapılır:
+ * maçın güncel sonucu tek satır olarak okunur, daha önce uygulanan hali düşülüp yenisi eklenir.
+ * Skor düzeltmesi, geri alma ve maç silme de böylece tutarlı yansır.
+ *
+ * Okumalar veritabanına gitmez: her çiftin değişmez bir özeti yazmadan sonra yayınlanır,
+ * okuma tek bir hash araması ve (ters sırada istenirse) özetin çevrilmesidir.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@Service
+public class KarsilasmaGecmisi extends BellekIndeksi implements MacSonucuDinleyicisi {
+
+    static final Comparator<Karsilasma> TARIH_SIRASI = Comparator
+            .comparing(Karsilasma::getTarih, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparingLong(Karsilasma::getMacId);
+
+    @Autowired
+    private MacTakimlariRepository macTakimlariRepository;
+
+    @Value("${karsilasma.son-mac-sayisi:5}")
+    private int sonMacSayisi;
+
+    /**
+     * Takım çifti -> karşılaşmaları
+     */
+    private volatile ConcurrentHashMap<Cift, Gecmis> ciftler = new ConcurrentHashMap<>();
+
+    /**
+     * Maç ID'si -> geçmişe uygulanmış sonucu (yazma kilidi altında)
+     */
+    private Map<Long, Karsilasma> uygulananSonuclar = new HashMap<>();
+
+    private final AtomicLong guncellemeSayisi = new AtomicLong();
+    private final AtomicLong okumaSayisi = new AtomicLong();
+    private final AtomicLong yenidenOlusturmaSayisi = new AtomicLong();
+
+    /**
+     * Uygulama açıldığında karşılaşma geçmişini veritabanından yükler
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void baslangictaYukle() {
+        try {
+            Map<String, Object> sonuc = yenidenOlustur();
+            logger.info("✓ Karşılaşma geçmişi yüklendi: {} maç, {} takım çifti", sonuc.get("mac"), sonuc.get("cift"));
+        } catch (Exception e) {
+            logger.error("✗ Karşılaşma geçmişi yüklenemedi: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Maçın güncel sonucunu okur ve takım çiftinin geçmişine uygular
+     * Takımları değişen maç eski çiftten çıkarılıp yenisine eklenir
+     * @param macId Maç ID'si
+     */
+    @Override
+    public void sonucDegisti(Long macId) {
+        synchronized (yazmaKilidi) {
+            List<Object[]> satirlar = oku(durum -> macTakimlariRepository.findMacSonucu(macId));
+            Karsilasma yeni = satirlar == null || satirlar.isEmpty() ? null : karsilasma(satirlar.get(0));
+            Karsilasma eski = uygulananiDegistir(uygulananSonuclar, macId, yeni);
+            if (Objects.equals(eski, yeni)) {
+                return;
+            }
+            if (eski != null) {
+                Cift cift = Cift.of(eski.evSahibiTakimId, eski.deplasmanTakimId);
+                Gecmis gecmis = ciftler.get(cift);
+                if (gecmis != null) {
+                    gecmis.cikar(eski);
+                    if (gecmis.karsilasmalar.isEmpty()) {
+                        ciftler.remove(cift);
+                    } else {
+                        gecmis.yayinla(sonMacSayisi);
+                    }
+                }
+            }
+            if (yeni != null) {
+                Gecmis gecmis = ciftler.computeIfAbsent(Cift.of(yeni.evSahibiTakimId, yeni.deplasmanTakimId), Gecmis::new);
+                gecmis.ekle(yeni);
+                gecmis.yayinla(sonMacSayisi);
+            }
+            guncellemeSayisi.incrementAndGet();
+        }
+    }
+
+    /**
+     * İki takım arasındaki karşılaşma özetini getirir (veritabanına gitmez)
+     * Özet takim1 açısından verilir (takim1Galibiyet, takim1Gol ...)
+     * @param takim1Id Birinci takım
+     * @param takim2Id İkinci takım
+     * @return Özet (hiç karşılaşmamışlarsa sıfır sayaçlı özet)
+     */
+    public Ozet ozet(Long takim1Id, Long takim2Id) {
+        if (takim1Id == null || takim2Id == null) {
+            throw new IllegalArgumentException("İki takım ID'si de gerekli!");
+        }
+        if (takim1Id.equals(takim2Id)) {
+            throw new IllegalArgumentException("Takım kendisiyle karşılaştırılamaz!");
+        }
+        okumaSayisi.incrementAndGet();
+        Cift cift = Cift.of(takim1Id, takim2Id);
+        Gecmis gecmis = ciftler.get(cift);
+        Ozet ozet = gecmis != null ? gecmis.ozet : null;
+        if (ozet == null) {
+            ozet = new Ozet(cift.kucuk, null, cift.buyuk, null, 0, 0, 0, 0, 0, 0, List.of());
+        }
+        return ozet.takim1Id == takim1Id ? ozet : ozet.cevir();
+    }
+
+    /**
+     * Karşılaşma geçmişini mac_takimlari tablosundan sıfırdan kurar
+     * @return mac ve cift sayıları
+     */
+    public Map<String, Object> yenidenOlustur() {
+        synchronized (yazmaKilidi) {
+            List<Object[]> satirlar = oku(durum -> macTakimlariRepository.findMacSonuclari());
+
+            ConcurrentHashMap<Cift, Gecmis> yeniCiftler = new ConcurrentHashMap<>();
+            Map<Long, Karsilasma> yeniSonuclar = new HashMap<>();
+            if (satirlar != null) {
+                for (Object[] satir : satirlar) {
+                    Karsilasma karsilasma = karsilasma(satir);
+                    if (karsilasma == null || yeniSonuclar.putIfAbsent(karsilasma.macId, karsilasma) != null) {
+                        continue;
+                    }
+                    yeniCiftler.computeIfAbsent(Cift.of(karsilasma.evSahibiTakimId, karsilasma.deplasmanTakimId), Gecmis::new)
+                            .ekle(karsilasma);
+                }
+            }
+            for (Gecmis gecmis : yeniCiftler.values()) {
+                gecmis.yayinla(sonMacSayisi);
+            }
+
+            ciftler = yeniCiftler;
+            uygulananSonuclar = yeniSonuclar;
+            yenidenOlusturmaSayisi.incrementAndGet();
+
+            Map<String, Object> sonuc = new LinkedHashMap<>();
+            sonuc.put("mac", yeniSonuclar.size());
+            sonuc.put("cift", yeniCiftler.size());
+            return sonuc;
+        }
+    }
+
+    /**
+     * Sorgu satırını karşılaşmaya çevirir (takım kendisiyle eşleşmişse null)
+     * Satır: [mac_id, tarih, ev_takim_id, ev_takim_adi, ev_skor, dep_takim_id, dep_takim_adi, dep_skor]
+     * TakimFormu da aynı satırları kullanır
+     */
+    static Karsilasma karsilasma(Object[] satir) {
+        long evTakimId = ((Number) satir[2]).longValue();
+        long depTakimId = ((Number) satir[5]).longValue();
+        if (evTakimId == depTakimId) {
+            return null;
+        }
+        return new Karsilasma(((Number) satir[0]).longValue(), tarih(satir[1]),
+                evTakimId, (String) satir[3], ((Number) satir[4]).intValue(),
+                depTakimId, (String) satir[6], ((Number) satir[7]).intValue());
+    }
+
+    static LocalDate tarih(Object deger) {
+        if (deger instanceof LocalDate) {
+            return (LocalDate) deger;
+        }
+        if (deger instanceof java.sql.Date) {
+            return ((java.sql.Date) deger).toLocalDate();
+        }
+        return null;
+    }
+
+    /**
+     * Karşılaşma geçmişi istatistikleri (admin paneli için)
+     */
+    public Map<String, Object> istatistikler() {
+        Map<String, Object> istatistik = new LinkedHashMap<>();
+        istatistik.put("cift", ciftler.size());
+        synchronized (yazmaKilidi) {
+            istatistik.put("mac", uygulananSonuclar.size());
+        }
+        istatistik.put("sonMacSayisi", sonMacSayisi);
+        istatistik.put("guncellemeSayisi", guncellemeSayisi.get());
+        istatistik.put("okumaSayisi", okumaSayisi.get());
+        istatistik.put("yenidenOlusturmaSayisi", yenidenOlusturmaSayisi.get());
+        return istatistik;
+    }
+
+    /**
+     * Sırasız takım çifti (küçük ID önce)
+     */
+    private record Cift(long kucuk, long buyuk) {
+        static Cift of(long takim1Id, long takim2Id) {
+            return takim1Id < takim2Id ? new Cift(takim1Id, takim2Id) : new Cift(takim2Id, takim1Id);
+        }
+    }
+
+    /**
+     * Bir çiftin karşılaşmaları ve sayaçları (küçük ID'li takım açısından)
+     * Sayaçlar yazma kilidi altında değişir; okuyucular yalnızca yayınlanan özeti görür
+     */
+    private static final class Gecmis {
+        private final Cift cift;
+        private final TreeSet<Karsilasma> karsilasmalar = new TreeSet<>(TARIH_SIRASI);
+        private int galibiyet;
+        private int beraberlik;
+        private int maglubiyet;
+        private int atilanGol;
+        private int yenilenGol;
+        private volatile Ozet ozet;
+
+        Gecmis(Cift cift) {
+            this.cift = cift;
+        }
+
+        void ekle(Karsilasma karsilasma) {
+            karsilasmalar.add(karsilasma);
+            uygula(karsilasma, 1);
+        }
+
+        void cikar(Karsilasma karsilasma) {
+            if (karsilasmalar.remove(karsilasma)) {
+                uygula(karsilasma, -1);
+            }
+        }
+
+        private void uygula(Karsilasma karsilasma, int yon) {
+            boolean evSahibi = karsilasma.evSahibiTakimId == cift.kucuk;
+            int atilan = evSahibi ? karsilasma.evSahibiSkor : karsilasma.deplasmanSkor;
+            int yenilen = evSahibi ? karsilasma.deplasmanSkor : karsilasma.evSahibiSkor;
+            atilanGol += yon * atilan;
+            yenilenGol += yon * yenilen;
+            if (atilan > yenilen) {
+                galibiyet += yon;
+            } else if (atilan == yenilen) {
+                beraberlik += yon;
+            } else {
+                maglubiyet += yon;
+            }
+        }
+
+        void yayinla(int sonMacSayisi) {
+            List<Karsilasma> son = new ArrayList<>(Math.min(sonMacSayisi, karsilasmalar.size()));
+            for (Karsilasma karsilasma : karsilasmalar.descendingSet()) {
+                if (son.size() >= sonMacSayisi) {
+                    break;
+                }
+                son.add(karsilasma);
+            }
+            // Takım adları en son karşılaşmadan alınır
+            Karsilasma enSon = karsilasmalar.last();
+            boolean evSahibi = enSon.evSahibiTakimId == cift.kucuk;
+            ozet = new Ozet(cift.kucuk, evSahibi ? enSon.evSahibiTakimAdi : enSon.deplasmanTakimAdi,
+                    cift.buyuk, evSahibi ? enSon.deplasmanTakimAdi : enSon.evSahibiTakimAdi,
+                    karsilasmalar.size(), galibiyet, beraberlik, maglubiyet, atilanGol, yenilenGol,
+                    Collections.unmodifiableList(son));
+        }
+    }
+
+    /**
+     * Tek karşılaşma (değişmez)
+     */
+    public static final class Karsilasma {
+        private final long macId;
+        private final LocalDate tarih;
+        private final long evSahibiTakimId;
+        private final String evSahibiTakimAdi;
+        private final int evSahibiSkor;
+        private final long deplasmanTakimId;
+        private final String deplasmanTakimAdi;
+        private final int deplasmanSkor;
+
+        Karsilasma(long macId, LocalDate tarih, long evSahibiTakimId, String evSahibiTakimAdi, int evSahibiSkor,
+                   long deplasmanTakimId, String deplasmanTakimAdi, int deplasmanSkor) {
+            this.macId = macId;
+            this.tarih = tarih;
+            this.evSahibiTakimId = evSahibiTakimId;
+            this.evSahibiTakimAdi = evSahibiTakimAdi;
+            this.evSahibiSkor = evSahibiSkor;
+            this.deplasmanTakimId = deplasmanTakimId;
+            this.deplasmanTakimAdi = deplasmanTakimAdi;
+            this.deplasmanSkor = deplasmanSkor;
+        }
+
+        public long getMacId() {
+            return macId;
+        }
+
+        public LocalDate getTarih() {
+            return tarih;
+        }
+
+        public long getEvSahibiTakimId() {
+            return evSahibiTakimId;
+        }
+
+        public String getEvSahibiTakimAdi() {
+            return evSahibiTakimAdi;
+        }
+
+        public int getEvSahibiSkor() {
+            return evSahibiSkor;
+        }
+
+        public long getDeplasmanTakimId() {
+            return deplasmanTakimId;
+        }
+
+        public String getDeplasmanTakimAdi() {
+            return deplasmanTakimAdi;
+        }
+
+        public int getDeplasmanSkor() {
+            return deplasmanSkor;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Karsilasma)) return false;
+            Karsilasma diger = (Karsilasma) o;
+            return macId == diger.macId && evSahibiTakimId == diger.evSahibiTakimId
+                    && evSahibiSkor == diger.evSahibiSkor && deplasmanTakimId == diger.deplasmanTakimId
+                    && deplasmanSkor == diger.deplasmanSkor && Objects.equals(tarih, diger.tarih)
+                    && Objects.equals(evSahibiTakimAdi, diger.evSahibiTakimAdi)
+                    && Objects.equals(deplasmanTakimAdi, diger.deplasmanTakimAdi);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(macId);
+        }
+    }
+
+    /**
+     * İki takımın karşılaşma özeti (takim1 açısından, değişmez)
+     */
+    public static final class Ozet {
+        private final long takim1Id;
+        private final String takim1Adi;
+        private final long takim2Id;
+        private final String takim2Adi;
+        private final int macSayisi;
+        private final int takim1Galibiyet;
+        private final int beraberlik;
+        private final int takim2Galibiyet;
+        private final int takim1Gol;
+        private final int takim2Gol;
+        private final List<Karsilasma> sonKarsilasmalar;
+
+        Ozet(long takim1Id, String takim1Adi, long takim2Id, String takim2Adi, int macSayisi,
+             int takim1Galibiyet, int beraberlik, int takim2Galibiyet, int takim1Gol, int takim2Gol,
+             List<Karsilasma> sonKarsilasmalar) {
+            this.takim1Id = takim1Id;
+            this.takim1Adi = takim1Adi;
+            this.takim2Id = takim2Id;
+            this.takim2Adi = takim2Adi;
+            this.macSayisi = macSayisi;
+            this.takim1Galibiyet = takim1Galibiyet;
+            this.beraberlik = beraberlik;
+            this.takim2Galibiyet = takim2Galibiyet;
+            this.takim1Gol = takim1Gol;
+            this.takim2Gol = takim2Gol;
+            this.sonKarsilasmalar = sonKarsilasmalar;
+        }
+
+        /**
+         * Aynı özetin takim2 açısından hali (karşılaşma listesi paylaşılır)
+         */
+        Ozet cevir() {
+            return new Ozet(takim2Id, takim2Adi, takim1Id, takim1Adi, macSayisi,
+                    takim2Galibiyet, beraberlik, takim1Galibiyet, takim2Gol, takim1Gol, sonKarsilasmalar);
+        }
+
+        public long getTakim1Id() {
+            return takim1Id;
+        }
+
+        public String getTakim1Adi() {
+            return takim1Adi;
+        }
+
+        public long getTakim2Id() {
+            return takim2Id;
+        }
+
+        public String getTakim2Adi() {
+            return takim2Adi;
+        }
+
+        public int getMacSayisi() {
+            return macSayisi;
+        }
+
+        public int getTakim1Galibiyet() {
+            return takim1Galibiyet;
+        }
+
+        public int getBeraberlik() {
+            return beraberlik;
+        }
+
+        public int getTakim2Galibiyet() {
+            return takim2Galibiyet;
+        }
+
+        public int getTakim1Gol() {
+            return takim1Gol;
+        }
+
+        public int getTakim2Gol() {
+            return takim2Gol;
+        }
+
+        public List<Karsilasma> getSonKarsilasmalar() {
+            return sonKarsilasmalar;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.footbase.entity.Yorum;
 import com.footbase.repository.KullaniciRepository;
 import com.footbase.repository.OyuncuYorumlariRepository;
 import com.footbase.repository.YorumRepository;
+import com.footbase.security.KullaniciPrincipalOnbellegi;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -27,6 +28,9 @@ public class KullaniciService {
     @Autowired
     private YorumRepository yorumRepository;
 
+    @Autowired
+    private KullaniciPrincipalOnbellegi principalOnbellegi;
+
     @Autowired
     private OyuncuYorumlariRepository oyuncuYorumlariRepository;
 
@@ -83,6 +87,7 @@ public class KullaniciService {
         }
 
         Kullanici guncellenmisKullanici = kullaniciRepository.save(mevcutKullanici);
+        principalOnbellegi.gecersizKil(id); // Önbellekteki kullanıcı detayları yenilensin
         return kullaniciBilgileriniMaple(guncellenmisKullanici);
     }
 
@@ -0,0 +1,452 @@
+package com.footbase.service;
+
+import com.footbase.repository.MacOyuncuOlaylariRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Liderlik Tabloları (gol krallığı ve disiplin)
+ *
+ * Her (lig, sezon) için iki sıralama tutulur:
+ * - GOL: gol sayısı
+ * - KART: disiplin puanı (sarı kart + 3 x kırmızı kart), eşitlikte kırmızı kart sayısı
+ * Eşit puanda oyuncu ID'si artan sırada yer alır, paylaşılan sıra numarası aynıdır (1, 2, 2, 4).
+ *
+ * Her sıralama bir SiralamaAgaci (order-statistic AVL) ve oyuncu ID'si -> kayıt indeksinden
+ * oluşur: puan değişimi eski kaydın silinip yenisinin eklenmesidir (O(log n)); sayfa okuması
+ * O(log n + sayfa boyutu), tek oyuncunun sırası O(log n).
+ *
+ * Tablolar MacService.macOlayEkle / macOlaySil ile oyuncu sayaçları (OyuncuIstatistikleri)
+ * güncellendikten sonra commit'te beslenir: oyuncunun ilgili (sezon, lig) satırı tek satır olarak
+ * okunur ve mutlak değerleri yazılır. Sayfa ve sıra okumaları veritabanına gitmez.
+ * Tablolar açılışta ve sayaçlar yeniden hesaplandığında oyuncu_istatistikleri tablosundan kurulur.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@Service
+public class LiderlikTablolari extends BellekIndeksi {
+
+    private static final int KIRMIZI_KART_AGIRLIGI = 3;
+    private static final int EN_FAZLA_SAYFA_BOYUTU = 100;
+
+    /**
+     * Sıralama türü
+     */
+    public enum Tur {
+        GOL, KART;
+
+        int puan(Kayit kayit) {
+            return this == GOL ? kayit.gol : kayit.sariKart + KIRMIZI_KART_AGIRLIGI * kayit.kirmiziKart;
+        }
+
+        int ikincil(Kayit kayit) {
+            return this == GOL ? 0 : kayit.kirmiziKart;
+        }
+
+        /**
+         * Puana göre azalan, eşitlikte oyuncu ID'sine göre artan sıra
+         */
+        Comparator<Kayit> karsilastirici() {
+            return (a, b) -> {
+                int karsilastirma = Integer.compare(puan(b), puan(a));
+                if (karsilastirma != 0) {
+                    return karsilastirma;
+                }
+                karsilastirma = Integer.compare(ikincil(b), ikincil(a));
+                if (karsilastirma != 0) {
+                    return karsilastirma;
+                }
+                return Long.compare(a.oyuncuId, b.oyuncuId);
+            };
+        }
+    }
+
+    @Autowired
+    private MacOyuncuOlaylariRepository macOyuncuOlaylariRepository;
+
+    /**
+     * Lig ID'si -> sezon -> o sezonun tabloları
+     */
+    private volatile ConcurrentHashMap<Long, ConcurrentSkipListMap<Integer, SezonTablolari>> ligler = new ConcurrentHashMap<>();
+
+    private final AtomicLong guncellemeSayisi = new AtomicLong();
+    private final AtomicLong okumaSayisi = new AtomicLong();
+    private final AtomicLong yenidenOlusturmaSayisi = new AtomicLong();
+
+    /**
+     * Uygulama açıldığında tabloları oyuncu_istatistikleri tablosundan kurar
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void baslangictaYukle() {
+        try {
+            int kayit = yenidenOlustur();
+            logger.info("✓ Liderlik tabloları yüklendi: {} oyuncu/sezon kaydı", kayit);
+        } catch (Exception e) {
+            logger.error("✗ Liderlik tabloları yüklenemedi: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Oyuncunun maçtaki olayları değiştiğinde çağrılır (sayaçlar yazıldıktan sonra)
+     * Transaction içindeyse commit'ten sonra, değilse hemen uygulanır
+     * @param oyuncuId Oyuncu ID'si
+     * @param macId Olayın maçı
+     */
+    public void oyuncuDegisti(Long oyuncuId, Long macId) {
+        if (oyuncuId == null || macId == null) {
+            return;
+        }
+        commitSonrasi(() -> {
+            try {
+                yenile(oyuncuId, macId);
+            } catch (RuntimeException e) {
+                logger.error("❌ Liderlik tablosu güncellenemedi (oyuncu {}): {}", oyuncuId, e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Oyuncunun güncel sayaçlarını okur ve tablolara yazar
+     */
+    private void yenile(Long oyuncuId, Long macId) {
+        synchronized (yazmaKilidi) {
+            List<Object[]> satirlar = oku(durum ->
+                    macOyuncuOlaylariRepository.findLiderlikSatiri(oyuncuId, macId));
+            if (satirlar == null || satirlar.isEmpty()) {
+                return;
+            }
+            Object[] satir = satirlar.get(0);
+            oyuncuGuncelle(((Number) satir[0]).longValue(), ((Number) satir[1]).intValue(), oyuncuId,
+                    adSoyad(satir[2], satir[3]), ((Number) satir[4]).intValue(),
+                    ((Number) satir[5]).intValue(), ((Number) satir[6]).intValue());
+        }
+    }
+
+    /**
+     * Oyuncunun bir (lig, sezon) içindeki sayaçlarını tablolara yazar
+     * Gol ve disiplin puanı sıfır olan oyuncu ilgili tablodan çıkarılır
+     * @param ligId Lig ID'si (0 ise ligsiz maç, tabloya yazılmaz)
+     * @param sezon Sezonun başladığı yıl
+     */
+    public void oyuncuGuncelle(long ligId, int sezon, long oyuncuId, String oyuncuAdi,
+                               int gol, int sariKart, int kirmiziKart) {
+        if (ligId == 0) {
+            return;
+        }
+        Kayit kayit = new Kayit(oyuncuId, oyuncuAdi, gol, sariKart, kirmiziKart);
+        synchronized (yazmaKilidi) {
+            ConcurrentSkipListMap<Integer, SezonTablolari> sezonlar = ligler.computeIfAbsent(ligId,
+                    id -> new ConcurrentSkipListMap<>());
+            SezonTablolari tablolar = sezonlar.get(sezon);
+            if (tablolar == null) {
+                if (kayit.bosMu()) {
+                    return;
+                }
+                tablolar = new SezonTablolari();
+                sezonlar.put(sezon, tablolar);
+            }
+            tablolar.gol.yaz(kayit);
+            tablolar.kart.yaz(kayit);
+            guncellemeSayisi.incrementAndGet();
+        }
+    }
+
+    /**
+     * Liderlik tablosunun bir sayfasını getirir (veritabanına gitmez)
+     * @param ligId Lig ID'si
+     * @param sezon Sezonun başladığı yıl (null ise ligin en son sezonu)
+     * @param tur GOL veya KART
+     * @param sayfa 0 tabanlı sayfa numarası
+     * @param boyut Sayfa boyutu (1-100)
+     * @return ligId, sezon, tur, sayfa, boyut, toplam ve satirlar
+     */
+    public Map<String, Object> sayfa(Long ligId, Integer sezon, Tur tur, int sayfa, int boyut) {
+        if (sayfa < 0) {
+            throw new IllegalArgumentException("Sayfa numarası negatif olamaz!");
+        }
+        if (boyut < 1 || boyut > EN_FAZLA_SAYFA_BOYUTU) {
+            throw new IllegalArgumentException("Sayfa boyutu 1-" + EN_FAZLA_SAYFA_BOYUTU + " arasında olmalı!");
+        }
+        okumaSayisi.incrementAndGet();
+        Map.Entry<Integer, SezonTablolari> tablolar = sezonBul(ligId, sezon);
+
+        Map<String, Object> sonuc = new LinkedHashMap<>();
+        sonuc.put("ligId", ligId);
+        sonuc.put("sezon", tablolar != null ? tablolar.getKey() : sezon);
+        sonuc.put("tur", tur.name());
+        sonuc.put("sayfa", sayfa);
+        sonuc.put("boyut", boyut);
+        if (tablolar == null) {
+            sonuc.put("toplam", 0);
+            sonuc.put("satirlar", List.of());
+            return sonuc;
+        }
+        Tablo tablo = tablolar.getValue().tablo(tur);
+        tablo.kilit.readLock().lock();
+        try {
+            sonuc.put("toplam", tablo.agac.boyut());
+            sonuc.put("satirlar", tablo.satirlar((long) sayfa * boyut, boyut));
+        } finally {
+            tablo.kilit.readLock().unlock();
+        }
+        return sonuc;
+    }
+
+    /**
+     * Oyuncunun liderlik tablosundaki sırası (veritabanına gitmez, O(log n))
+     * @param ligId Lig ID'si
+     * @param sezon Sezon (null ise ligin en son sezonu)
+     * @param tur GOL veya KART
+     * @param oyuncuId Oyuncu ID'si
+     * @return Oyuncunun satırı, tabloda yoksa null
+     */
+    public Satir oyuncuSirasi(Long ligId, Integer sezon, Tur tur, Long oyuncuId) {
+        okumaSayisi.incrementAndGet();
+        Map.Entry<Integer, SezonTablolari> tablolar = sezonBul(ligId, sezon);
+        if (tablolar == null || oyuncuId == null) {
+            return null;
+        }
+        Tablo tablo = tablolar.getValue().tablo(tur);
+        tablo.kilit.readLock().lock();
+        try {
+            Kayit kayit = tablo.kayitlar.get(oyuncuId);
+            return kayit != null ? tablo.satir(kayit, tablo.paylasilanSira(kayit)) : null;
+        } finally {
+            tablo.kilit.readLock().unlock();
+        }
+    }
+
+    private Map.Entry<Integer, SezonTablolari> sezonBul(Long ligId, Integer sezon) {
+        ConcurrentSkipListMap<Integer, SezonTablolari> sezonlar = ligId != null ? ligler.get(ligId) : null;
+        if (sezonlar == null || sezonlar.isEmpty()) {
+            return null;
+        }
+        if (sezon == null) {
+            return sezonlar.lastEntry();
+        }
+        SezonTablolari tablolar = sezonlar.get(sezon);
+        return tablolar != null ? Map.entry(sezon, tablolar) : null;
+    }
+
+    /**
+     * Tabloları oyuncu_istatistikleri tablosundan sıfırdan kurar
+     * @return Yüklenen (oyuncu, sezon, lig) kaydı sayısı
+     */
+    public int yenidenOlustur() {
+        synchronized (yazmaKilidi) {
+            List<Object[]> satirlar = oku(durum -> macOyuncuOlaylariRepository.findTumLiderlikSatirlari());
+            ConcurrentHashMap<Long, ConcurrentSkipListMap<Integer, SezonTablolari>> yeniLigler = new ConcurrentHashMap<>();
+            int kayitSayisi = 0;
+            if (satirlar != null) {
+                for (Object[] satir : satirlar) {
+                    long ligId = ((Number) satir[0]).longValue();
+                    int sezon = ((Number) satir[1]).intValue();
+                    Kayit kayit = new Kayit(((Number) satir[2]).longValue(), adSoyad(satir[3], satir[4]),
+                            ((Number) satir[5]).intValue(), ((Number) satir[6]).intValue(),
+                            ((Number) satir[7]).intValue());
+                    SezonTablolari tablolar = yeniLigler.computeIfAbsent(ligId, id -> new ConcurrentSkipListMap<>())
+                            .computeIfAbsent(sezon, s -> new SezonTablolari());
+                    tablolar.gol.yaz(kayit);
+                    tablolar.kart.yaz(kayit);
+                    kayitSayisi++;
+                }
+            }
+            ligler = yeniLigler;
+            yenidenOlusturmaSayisi.incrementAndGet();
+            return kayitSayisi;
+        }
+    }
+
+    private static String adSoyad(Object ad, Object soyad) {
+        return (ad != null ? ad : "") + (soyad != null ? " " + soyad : "");
+    }
+
+    /**
+     * Liderlik tablosu istatistikleri (admin paneli için)
+     */
+    public Map<String, Object> istatistikler() {
+        Map<String, Object> istatistik = new LinkedHashMap<>();
+        int tablo = 0;
+        for (ConcurrentSkipListMap<Integer, SezonTablolari> sezonlar : ligler.values()) {
+            tablo += sezonlar.size();
+        }
+        istatistik.put("lig", ligler.size());
+        istatistik.put("sezonTablosu", tablo);
+        istatistik.put("guncellemeSayisi", guncellemeSayisi.get());
+        istatistik.put("okumaSayisi", okumaSayisi.get());
+        istatistik.put("yenidenOlusturmaSayisi", yenidenOlusturmaSayisi.get());
+        return istatistik;
+    }
+
+    /**
+     * Bir (lig, sezon) için gol ve disiplin tabloları
+     */
+    private static final class SezonTablolari {
+        private final Tablo gol = new Tablo(Tur.GOL);
+        private final Tablo kart = new Tablo(Tur.KART);
+
+        Tablo tablo(Tur tur) {
+            return tur == Tur.GOL ? gol : kart;
+        }
+    }
+
+    /**
+     * Tek sıralama: order-statistic ağacı + oyuncu ID'si indeksi
+     */
+    private static final class Tablo {
+        private final Tur tur;
+        private final SiralamaAgaci<Kayit> agac;
+        private final Map<Long, Kayit> kayitlar = new HashMap<>();
+        private final ReentrantReadWriteLock kilit = new ReentrantReadWriteLock();
+
+        Tablo(Tur tur) {
+            this.tur = tur;
+            this.agac = new SiralamaAgaci<>(tur.karsilastirici());
+        }
+
+        /**
+         * Oyuncunun kaydını yenisiyle değiştirir (puanı sıfırsa çıkarır)
+         */
+        void yaz(Kayit yeni) {
+            kilit.writeLock().lock();
+            try {
+                Kayit eski = kayitlar.remove(yeni.oyuncuId);
+                if (eski != null) {
+                    agac.sil(eski);
+                }
+                if (tur.puan(yeni) > 0) {
+                    agac.ekle(yeni);
+                    kayitlar.put(yeni.oyuncuId, yeni);
+                }
+            } finally {
+                kilit.writeLock().unlock();
+            }
+        }
+
+        /**
+         * Kayıttan önce, puanı kesin olarak daha yüksek olan oyuncu sayısı + 1
+         */
+        int paylasilanSira(Kayit kayit) {
+            return agac.kucukSay(new Kayit(Long.MIN_VALUE, null, kayit.gol, kayit.sariKart, kayit.kirmiziKart)) + 1;
+        }
+
+        List<Satir> satirlar(long baslangic, int adet) {
+            if (baslangic >= agac.boyut()) {
+                return List.of();
+            }
+            List<Kayit> kayitSayfasi = agac.aralik((int) baslangic, adet);
+            List<Satir> satirlar = new ArrayList<>(kayitSayfasi.size());
+            Kayit onceki = null;
+            int sira = 0;
+            for (int i = 0; i < kayitSayfasi.size(); i++) {
+                Kayit kayit = kayitSayfasi.get(i);
+                if (onceki == null) {
+                    sira = paylasilanSira(kayit);
+                } else if (tur.puan(kayit) != tur.puan(onceki) || tur.ikincil(kayit) != tur.ikincil(onceki)) {
+                    sira = (int) baslangic + i + 1;
+                }
+                satirlar.add(satir(kayit, sira));
+                onceki = kayit;
+            }
+            return satirlar;
+        }
+
+        Satir satir(Kayit kayit, int sira) {
+            return new Satir(sira, kayit.oyuncuId, kayit.oyuncuAdi, kayit.gol, kayit.sariKart, kayit.kirmiziKart,
+                    Tur.KART.puan(kayit));
+        }
+    }
+
+    /**
+     * Oyuncunun bir (lig, sezon) içindeki sayaçları (değişmez)
+     */
+    static final class Kayit {
+        private final long oyuncuId;
+        private final String oyuncuAdi;
+        private final int gol;
+        private final int sariKart;
+        private final int kirmiziKart;
+
+        Kayit(long oyuncuId, String oyuncuAdi, int gol, int sariKart, int kirmiziKart) {
+            this.oyuncuId = oyuncuId;
+            this.oyuncuAdi = oyuncuAdi;
+            this.gol = gol;
+            this.sariKart = sariKart;
+            this.kirmiziKart = kirmiziKart;
+        }
+
+        boolean bosMu() {
+            return gol <= 0 && sariKart <= 0 && kirmiziKart <= 0;
+        }
+
+        @Override
+        public String toString() {
+            return "Kayit{oyuncuId=" + oyuncuId + ", gol=" + gol + ", sari=" + sariKart + ", kirmizi=" + kirmiziKart + "}";
+        }
+    }
+
+    /**
+     * Liderlik tablosu satırı
+     */
+    public static final class Satir {
+        private final int sira;
+        private final long oyuncuId;
+        private final String oyuncuAdi;
+        private final int gol;
+        private final int sariKart;
+        private final int kirmiziKart;
+        private final int disiplinPuani;
+
+        Satir(int sira, long oyuncuId, String oyuncuAdi, int gol, int sariKart, int kirmiziKart, int disiplinPuani) {
+            this.sira = sira;
+            this.oyuncuId = oyuncuId;
+            this.oyuncuAdi = oyuncuAdi;
+            this.gol = gol;
+            this.sariKart = sariKart;
+            this.kirmiziKart = kirmiziKart;
+            this.disiplinPuani = disiplinPuani;
+        }
+
+        public int getSira() {
+            return sira;
+        }
+
+        public long getOyuncuId() {
+            return oyuncuId;
+        }
+
+        public String getOyuncuAdi() {
+            return oyuncuAdi;
+        }
+
+        public int getGol() {
+            return gol;
+        }
+
+        public int getSariKart() {
+            return sariKart;
+        }
+
+        public int getKirmiziKart() {
+            return kirmiziKart;
+        }
+
+        public int getDisiplinPuani() {
+            return disiplinPuani;
+        }
+    }
+}
@@ -0,0 +1,467 @@
+package com.footbase.service;
+
+import com.footbase.repository.MacTakimlariRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lig Puan Durumu (bellekte, artımlı)
+ *
+ * Her (lig, sezon) için takım başına oynanan, galibiyet, beraberlik, mağlubiyet, atılan ve
+ * yenilen gol tutulur. Sonuçlanmış (maclar.sonuclandi) ve iki takımı aynı ligde olan maçlar
+ * o ligin puan durumuna girer.
+ *
+ * Puan durumu MacSonucuBildirici üzerinden şu noktalardan güncellenir (commit'ten sonra):
+ * - SkorGirisiCommand / MacSonlandirCommand: çalıştırma, geri alma (CommandHistory.undo) ve tekrar yapma
+ * - MacService.macSonuclandir, macSkorGuncelle ve macSil
+ *
+ * Her güncellemede maçın güncel sonucu tek satır olarak okunur; maçın daha önce uygulanan
+ * katkısı düşülüp yenisi eklenir. Böylece aynı maçın skoru kaç kez değişirse değişsin veya
+ * geri alınırsa alınsın tablo tutarlı kalır.
+ *
+ * Okumalar veritabanına gitmez: her tablonun sıralanmış, değişmez bir görüntüsü yazmadan
+ * sonra yayınlanır. Yazmalar (nadir) tek bir kilit altında yapılır.
+ *
+ * Sıralama: puan, averaj, atılan gol, galibiyet, takım adı.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@Service
+public class LigPuanDurumu extends BellekIndeksi implements MacSonucuDinleyicisi {
+
+    private static final int GALIBIYET_PUANI = 3;
+    private static final int BERABERLIK_PUANI = 1;
+
+    private static final Comparator<Satir> SIRALAMA = Comparator
+            .comparingInt(Satir::getPuan).reversed()
+            .thenComparing(Comparator.comparingInt(Satir::getAveraj).reversed())
+            .thenComparing(Comparator.comparingInt(Satir::getAtilanGol).reversed())
+            .thenComparing(Comparator.comparingInt(Satir::getGalibiyet).reversed())
+            .thenComparing(Satir::getTakimAdi, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingLong(Satir::getTakimId);
+
+    @Autowired
+    private MacTakimlariRepository macTakimlariRepository;
+
+    /**
+     * Lig ID'si -> sezon -> tablo
+     */
+    private volatile ConcurrentHashMap<Long, ConcurrentSkipListMap<Integer, Tablo>> ligler = new ConcurrentHashMap<>();
+
+    /**
+     * Maç ID'si -> tabloya uygulanmış sonucu (yazma kilidi altında)
+     */
+    private Map<Long, MacSonucu> uygulananSonuclar = new HashMap<>();
+
+    private final AtomicLong guncellemeSayisi = new AtomicLong();
+    private final AtomicLong okumaSayisi = new AtomicLong();
+    private final AtomicLong yenidenOlusturmaSayisi = new AtomicLong();
+
+    /**
+     * Uygulama açıldığında puan durumunu veritabanından yükler
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void baslangictaYukle() {
+        try {
+            Map<String, Object> sonuc = yenidenOlustur();
+            logger.info("✓ Lig puan durumu yüklendi: {} maç, {} tablo", sonuc.get("mac"), sonuc.get("tablo"));
+        } catch (Exception e) {
+            logger.error("✗ Lig puan durumu yüklenemedi: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Maçın güncel lig sonucunu okur; eski katkısını düşüp yenisini tablosuna uygular
+     * @param macId Maç ID'si
+     */
+    @Override
+    public void sonucDegisti(Long macId) {
+        synchronized (yazmaKilidi) {
+            List<Object[]> satirlar = oku(durum -> macTakimlariRepository.findLigMacSonucu(macId));
+            MacSonucu yeni = satirlar == null || satirlar.isEmpty() ? null : new MacSonucu(satirlar.get(0));
+            MacSonucu eski = uygulananiDegistir(uygulananSonuclar, macId, yeni);
+            if (Objects.equals(eski, yeni)) {
+                return;
+            }
+            if (eski != null) {
+                Tablo tablo = tablo(ligler, eski.ligId, eski.sezon);
+                tablo.uygula(eski, -1);
+                yayinla(ligler, eski.ligId, eski.sezon, tablo);
+            }
+            if (yeni != null) {
+                Tablo tablo = tablo(ligler, yeni.ligId, yeni.sezon);
+                tablo.uygula(yeni, 1);
+                yayinla(ligler, yeni.ligId, yeni.sezon, tablo);
+            }
+            guncellemeSayisi.incrementAndGet();
+        }
+    }
+
+    /**
+     * Ligin puan durumunu getirir (veritabanına gitmez)
+     * @param ligId Lig ID'si
+     * @param sezon Sezonun başladığı yıl (null ise ligin en son sezonu)
+     * @return Sıralanmış satırlar (lig/sezon yoksa boş liste)
+     */
+    public List<Satir> puanDurumu(Long ligId, Integer sezon) {
+        okumaSayisi.incrementAndGet();
+        Tablo tablo = tabloBul(ligId, sezon);
+        return tablo != null ? tablo.siralama : List.of();
+    }
+
+    /**
+     * Takımın ligdeki satırını getirir (veritabanına gitmez)
+     * @param ligId Takımın ligi
+     * @param sezon Sezon (null ise ligin en son sezonu)
+     * @param takimId Takım ID'si
+     * @return Satır, takım bu sezon oynamamışsa null
+     */
+    public Satir takimSatiri(Long ligId, Integer sezon, Long takimId) {
+        okumaSayisi.incrementAndGet();
+        Tablo tablo = tabloBul(ligId, sezon);
+        if (tablo == null || takimId == null) {
+            return null;
+        }
+        for (Satir satir : tablo.siralama) {
+            if (satir.takimId == takimId) {
+                return satir;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Ligin puan durumu tutulan sezonları (yeniden eskiye)
+     */
+    public List<Integer> sezonlar(Long ligId) {
+        ConcurrentSkipListMap<Integer, Tablo> sezonlar = ligId != null ? ligler.get(ligId) : null;
+        return sezonlar != null ? new ArrayList<>(sezonlar.descendingKeySet()) : List.of();
+    }
+
+    private Tablo tabloBul(Long ligId, Integer sezon) {
+        ConcurrentSkipListMap<Integer, Tablo> sezonlar = ligId != null ? ligler.get(ligId) : null;
+        if (sezonlar == null || sezonlar.isEmpty()) {
+            return null;
+        }
+        if (sezon == null) {
+            Map.Entry<Integer, Tablo> son = sezonlar.lastEntry();
+            return son != null ? son.getValue() : null;
+        }
+        return sezonlar.get(sezon);
+    }
+
+    /**
+     * Puan durumunu mac_takimlari tablosundan sıfırdan kurar ve bellektekiyle karşılaştırır
+     * Doğrulama için kullanılır; sonunda yeni kurulan tablo geçerli olur
+     * @return mac, tablo ve farkliTablo (bellekteki ile uyuşmayan tablo sayısı) bilgileri
+     */
+    public Map<String, Object> yenidenOlustur() {
+        synchronized (yazmaKilidi) {
+            List<Object[]> satirlar = oku(durum -> macTakimlariRepository.findLigMacSonuclari());
+
+            ConcurrentHashMap<Long, ConcurrentSkipListMap<Integer, Tablo>> yeniLigler = new ConcurrentHashMap<>();
+            Map<Long, MacSonucu> yeniSonuclar = new HashMap<>();
+            if (satirlar != null) {
+                for (Object[] satir : satirlar) {
+                    MacSonucu sonuc = new MacSonucu(satir);
+                    yeniSonuclar.put(sonuc.macId, sonuc);
+                    tablo(yeniLigler, sonuc.ligId, sonuc.sezon).uygula(sonuc, 1);
+                }
+            }
+            int tabloSayisi = 0;
+            for (Map.Entry<Long, ConcurrentSkipListMap<Integer, Tablo>> lig : yeniLigler.entrySet()) {
+                for (Map.Entry<Integer, Tablo> sezon : lig.getValue().entrySet()) {
+                    sezon.getValue().siralamayiYenile();
+                    tabloSayisi++;
+                }
+            }
+
+            int farkliTablo = farkliTabloSayisi(ligler, yeniLigler);
+            ligler = yeniLigler;
+            uygulananSonuclar = yeniSonuclar;
+            yenidenOlusturmaSayisi.incrementAndGet();
+
+            Map<String, Object> sonuc = new LinkedHashMap<>();
+            sonuc.put("mac", yeniSonuclar.size());
+            sonuc.put("tablo", tabloSayisi);
+            sonuc.put("farkliTablo", farkliTablo);
+            return sonuc;
+        }
+    }
+
+    private static int farkliTabloSayisi(Map<Long, ConcurrentSkipListMap<Integer, Tablo>> eski,
+                                         Map<Long, ConcurrentSkipListMap<Integer, Tablo>> yeni) {
+        Map<String, List<Satir>> eskiTablolar = tablolar(eski);
+        Map<String, List<Satir>> yeniTablolar = tablolar(yeni);
+        int fark = 0;
+        for (Map.Entry<String, List<Satir>> tablo : yeniTablolar.entrySet()) {
+            if (!tablo.getValue().equals(eskiTablolar.remove(tablo.getKey()))) {
+                fark++;
+            }
+        }
+        return fark + eskiTablolar.size();
+    }
+
+    private static Map<String, List<Satir>> tablolar(Map<Long, ConcurrentSkipListMap<Integer, Tablo>> ligler) {
+        Map<String, List<Satir>> tablolar = new HashMap<>();
+        ligler.forEach((ligId, sezonlar) -> sezonlar.forEach((sezon, tablo) -> {
+            if (!tablo.siralama.isEmpty()) {
+                tablolar.put(ligId + "/" + sezon, tablo.siralama);
+            }
+        }));
+        return tablolar;
+    }
+
+    private static Tablo tablo(Map<Long, ConcurrentSkipListMap<Integer, Tablo>> ligler, long ligId, int sezon) {
+        return ligler.computeIfAbsent(ligId, id -> new ConcurrentSkipListMap<>())
+                .computeIfAbsent(sezon, s -> new Tablo());
+    }
+
+    private static void yayinla(Map<Long, ConcurrentSkipListMap<Integer, Tablo>> ligler, long ligId, int sezon, Tablo tablo) {
+        tablo.siralamayiYenile();
+        if (tablo.takimlar.isEmpty()) {
+            ConcurrentSkipListMap<Integer, Tablo> sezonlar = ligler.get(ligId);
+            sezonlar.remove(sezon);
+            if (sezonlar.isEmpty()) {
+                ligler.remove(ligId);
+            }
+        }
+    }
+
+    /**
+     * Puan durumu istatistikleri (admin paneli için)
+     */
+    public Map<String, Object> istatistikler() {
+        Map<String, Object> istatistik = new LinkedHashMap<>();
+        int tablo = 0;
+        for (ConcurrentSkipListMap<Integer, Tablo> sezonlar : ligler.values()) {
+            tablo += sezonlar.size();
+        }
+        istatistik.put("lig", ligler.size());
+        istatistik.put("tablo", tablo);
+        synchronized (yazmaKilidi) {
+            istatistik.put("mac", uygulananSonuclar.size());
+        }
+        istatistik.put("guncellemeSayisi", guncellemeSayisi.get());
+        istatistik.put("okumaSayisi", okumaSayisi.get());
+        istatistik.put("yenidenOlusturmaSayisi", yenidenOlusturmaSayisi.get());
+        return istatistik;
+    }
+
+    /**
+     * Bir (lig, sezon) tablosu
+     * Sayaçlar yazma kilidi altında değişir; okuyucular yalnızca yayınlanan sıralamayı görür
+     */
+    private static final class Tablo {
+        private final Map<Long, Sayac> takimlar = new HashMap<>();
+        private volatile List<Satir> siralama = List.of();
+
+        void uygula(MacSonucu sonuc, int yon) {
+            sayac(sonuc.evTakimId, sonuc.evTakimAdi).uygula(sonuc.evSkor, sonuc.depSkor, yon);
+            sayac(sonuc.depTakimId, sonuc.depTakimAdi).uygula(sonuc.depSkor, sonuc.evSkor, yon);
+            if (yon < 0) {
+                takimlar.values().removeIf(sayac -> sayac.oynanan == 0);
+            }
+        }
+
+        private Sayac sayac(long takimId, String takimAdi) {
+            Sayac sayac = takimlar.computeIfAbsent(takimId, id -> new Sayac(id));
+            if (takimAdi != null) {
+                sayac.takimAdi = takimAdi;
+            }
+            return sayac;
+        }
+
+        void siralamayiYenile() {
+            List<Satir> satirlar = new ArrayList<>(takimlar.size());
+            for (Sayac sayac : takimlar.values()) {
+                satirlar.add(sayac.satir());
+            }
+            satirlar.sort(SIRALAMA);
+            for (int i = 0; i < satirlar.size(); i++) {
+                satirlar.get(i).sira = i + 1;
+            }
+            siralama = Collections.unmodifiableList(satirlar);
+        }
+    }
+
+    /**
+     * Takımın bir tablodaki değişken sayaçları
+     */
+    private static final class Sayac {
+        private final long takimId;
+        private String takimAdi;
+        private int oynanan;
+        private int galibiyet;
+        private int beraberlik;
+        private int maglubiyet;
+        private int atilanGol;
+        private int yenilenGol;
+
+        Sayac(long takimId) {
+            this.takimId = takimId;
+        }
+
+        void uygula(int atilan, int yenilen, int yon) {
+            oynanan += yon;
+            atilanGol += yon * atilan;
+            yenilenGol += yon * yenilen;
+            if (atilan > yenilen) {
+                galibiyet += yon;
+            } else if (atilan == yenilen) {
+                beraberlik += yon;
+            } else {
+                maglubiyet += yon;
+            }
+        }
+
+        Satir satir() {
+            return new Satir(takimId, takimAdi, oynanan, galibiyet, beraberlik, maglubiyet, atilanGol, yenilenGol);
+        }
+    }
+
+    /**
+     * Maçın puan durumuna katkısı
+     */
+    private static final class MacSonucu {
+        private final long macId;
+        private final int sezon;
+        private final long ligId;
+        private final long evTakimId;
+        private final String evTakimAdi;
+        private final int evSkor;
+        private final long depTakimId;
+        private final String depTakimAdi;
+        private final int depSkor;
+
+        MacSonucu(Object[] satir) {
+            this.macId = ((Number) satir[0]).longValue();
+            this.sezon = ((Number) satir[1]).intValue();
+            this.ligId = ((Number) satir[2]).longValue();
+            this.evTakimId = ((Number) satir[3]).longValue();
+            this.evTakimAdi = (String) satir[4];
+            this.evSkor = ((Number) satir[5]).intValue();
+            this.depTakimId = ((Number) satir[6]).longValue();
+            this.depTakimAdi = (String) satir[7];
+            this.depSkor = ((Number) satir[8]).intValue();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof MacSonucu)) return false;
+            MacSonucu diger = (MacSonucu) o;
+            return macId == diger.macId && sezon == diger.sezon && ligId == diger.ligId
+                    && evTakimId == diger.evTakimId && evSkor == diger.evSkor
+                    && depTakimId == diger.depTakimId && depSkor == diger.depSkor
+                    && Objects.equals(evTakimAdi, diger.evTakimAdi) && Objects.equals(depTakimAdi, diger.depTakimAdi);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(macId);
+        }
+    }
+
+    /**
+     * Puan durumu satırı (değişmez görüntü)
+     */
+    public static final class Satir {
+        private int sira;
+        private final long takimId;
+        private final String takimAdi;
+        private final int oynanan;
+        private final int galibiyet;
+        private final int beraberlik;
+        private final int maglubiyet;
+        private final int atilanGol;
+        private final int yenilenGol;
+
+        Satir(long takimId, String takimAdi, int oynanan, int galibiyet, int beraberlik, int maglubiyet,
+              int atilanGol, int yenilenGol) {
+            this.takimId = takimId;
+            this.takimAdi = takimAdi;
+            this.oynanan = oynanan;
+            this.galibiyet = galibiyet;
+            this.beraberlik = beraberlik;
+            this.maglubiyet = maglubiyet;
+            this.atilanGol = atilanGol;
+            this.yenilenGol = yenilenGol;
+        }
+
+        public int getSira() {
+            return sira;
+        }
+
+        public long getTakimId() {
+            return takimId;
+        }
+
+        public String getTakimAdi() {
+            return takimAdi;
+        }
+
+        public int getOynanan() {
+            return oynanan;
+        }
+
+        public int getGalibiyet() {
+            return galibiyet;
+        }
+
+        public int getBeraberlik() {
+            return beraberlik;
+        }
+
+        public int getMaglubiyet() {
+            return maglubiyet;
+        }
+
+        public int getAtilanGol() {
+            return atilanGol;
+        }
+
+        public int getYenilenGol() {
+            return yenilenGol;
+        }
+
+        public int getAveraj() {
+            return atilanGol - yenilenGol;
+        }
+
+        public int getPuan() {
+            return galibiyet * GALIBIYET_PUANI + beraberlik * BERABERLIK_PUANI;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Satir)) return false;
+            Satir diger = (Satir) o;
+            return sira == diger.sira && takimId == diger.takimId && oynanan == diger.oynanan
+                    && galibiyet == diger.galibiyet && beraberlik == diger.beraberlik
+                    && maglubiyet == diger.maglubiyet && atilanGol == diger.atilanGol
+                    && yenilenGol == diger.yenilenGol && Objects.equals(takimAdi, diger.takimAdi);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(takimId, sira, oynanan, atilanGol, yenilenGol);
+        }
+    }
+}
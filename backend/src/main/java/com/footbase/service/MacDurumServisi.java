@@ -0,0 +1,175 @@
+package com.footbase.service;
+
+import com.footbase.repository.MacDurumGecmisiRepository;
+import com.footbase.repository.MacGuncelDurumRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maç Durum Servisi
+ *
+ * Maç durum geçişlerini (ONAY_BEKLIYOR, YAYINDA, REDDEDILDI) yöneten servis katmanı.
+ * Her geçiş mac_durum_gecmisi tablosuna yazılır ve aynı transaction içinde
+ * mac_guncel_durum projeksiyonu güncellenir. Böylece "en son durum" sorguları
+ * tüm geçmişi taramak yerine projeksiyondan indeksli okunur.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@Service
+public class MacDurumServisi {
+
+    @Autowired
+    private MacDurumGecmisiRepository macDurumGecmisiRepository;
+
+    @Autowired
+    private MacGuncelDurumRepository macGuncelDurumRepository;
+
+    @Autowired
+    private MacZamanCizelgesi macZamanCizelgesi;
+
+    /**
+     * Maç için yeni bir durum kaydı oluşturur
+     * Geçmiş kaydı ve güncel durum projeksiyonu tek transaction içinde yazılır
+     * Bellek içi zaman çizelgesi sadece commit başarılı olursa güncellenir
+     * @param macId Maç ID'si
+     * @param durum Yeni durum
+     * @param islemTarihi İşlem zamanı
+     * @param islemYapanKullaniciId İşlemi yapan kullanıcı ID'si
+     */
+    @Transactional
+    public void durumKaydet(Long macId, String durum, LocalDateTime islemTarihi, Long islemYapanKullaniciId) {
+        macDurumGecmisiRepository.saveMacDurumGecmisiNative(macId, durum, islemTarihi, islemYapanKullaniciId);
+        macGuncelDurumRepository.guncelDurumuYaz(macId, durum, islemTarihi, islemYapanKullaniciId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    macZamanCizelgesi.durumDegisti(macId, durum);
+                }
+            });
+        } else {
+            macZamanCizelgesi.durumDegisti(macId, durum);
+        }
+    }
+
+    /**
+     * Bir maçın güncel durumunu getirir
+     * @param macId Maç ID'si
+     * @return Güncel durum, kayıt yoksa null
+     */
+    public String guncelDurumGetir(Long macId) {
+        return macGuncelDurumRepository.findDurumByMacId(macId).orElse(null);
+    }
+
+    /**
+     * Belirli bir durumdaki maçların ID'lerini getirir
+     * @param durum Durum (ONAY_BEKLIYOR, YAYINDA, REDDEDILDI)
+     * @return Maç ID'leri
+     */
+    public List<Long> durumdakiMacIdleriniGetir(String durum) {
+        return macGuncelDurumRepository.findMacIdsByDurum(durum);
+    }
+
+    /**
+     * Birden fazla maçın güncel durumunu tek sorguda getirir
+     * @param macIds Maç ID'leri
+     * @return Maç ID'si -> güncel durum eşlemesi
+     */
+    public Map<Long, String> guncelDurumlariGetir(Collection<Long> macIds) {
+        if (macIds == null || macIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, String> durumlar = new HashMap<>();
+        for (Object[] satir : macGuncelDurumRepository.findDurumlarByMacIdIn(macIds)) {
+            durumlar.put(((Number) satir[0]).longValue(), (String) satir[1]);
+        }
+        return durumlar;
+    }
+
+    /**
+     * Verilen kullanıcıların oluşturduğu ve belirli durumdaki maçların ID'lerini tek sorguda getirir
+     * @param durum Durum (ONAY_BEKLIYOR, YAYINDA, REDDEDILDI)
+     * @param olusturanKullaniciIds Maçı oluşturan kullanıcı (editör) ID'leri
+     * @return Maç ID'leri (artan sırada)
+     */
+    public List<Long> olusturanlarinMacIdleriniGetir(String durum, Collection<Long> olusturanKullaniciIds) {
+        if (olusturanKullaniciIds == null || olusturanKullaniciIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return macGuncelDurumRepository.findMacIdsByDurumAndOlusturanIn(durum, olusturanKullaniciIds);
+    }
+
+    /**
+     * Bir kullanıcının oluşturduğu tüm maçların güncel durumlarını tek sorguda getirir
+     * @param olusturanKullaniciId Maçı oluşturan kullanıcı (editör) ID'si
+     * @return Maç ID'si -> güncel durum eşlemesi (artan maç ID sırasında)
+     */
+    public Map<Long, String> olusturanMacDurumlariniGetir(Long olusturanKullaniciId) {
+        Map<Long, String> durumlar = new LinkedHashMap<>();
+        for (Object[] satir : macGuncelDurumRepository.findDurumlarByOlusturan(olusturanKullaniciId)) {
+            durumlar.put(((Number) satir[0]).longValue(), (String) satir[1]);
+        }
+        return durumlar;
+    }
+
+    /**
+     * Güncel durum projeksiyonunu mac_durum_gecmisi tablosundan sıfırdan oluşturur
+     * Silme ve yeniden doldurma tek transaction içinde yapılır
+     * @return Projeksiyona yazılan maç sayısı
+     */
+    @Transactional
+    public int projeksiyonuYenidenOlustur() {
+        macGuncelDurumRepository.tumunuSil();
+        int yazilan = macGuncelDurumRepository.gecmistenDoldur();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                macZamanCizelgesi.yenidenOlustur();
+            }
+        });
+        System.out.println("✓ Maç güncel durum projeksiyonu yeniden oluşturuldu: " + yazilan + " maç");
+        return yazilan;
+    }
+
+    /**
+     * Güncel durum projeksiyonunu geçmiş tablosuyla karşılaştırır
+     * Oluşturan kullanıcı kolonları da geçmişteki ilk kayıtla karşılaştırılır
+     * @return Tutarlılık raporu (tutarli, tutarsizlikSayisi, tutarsizliklar, olusturanFarkli)
+     */
+    public Map<String, Object> tutarlilikKontrolu() {
+        List<Map<String, Object>> tutarsizliklar = new ArrayList<>();
+        for (Object[] satir : macGuncelDurumRepository.findTutarsizliklar()) {
+            Map<String, Object> kayit = new LinkedHashMap<>();
+            kayit.put("macId", ((Number) satir[0]).longValue());
+            kayit.put("gecmistekiDurum", satir[1]);
+            kayit.put("projeksiyondakiDurum", satir[2]);
+            tutarsizliklar.add(kayit);
+        }
+
+        List<Long> olusturanFarkli = new ArrayList<>();
+        for (Object macId : macGuncelDurumRepository.findOlusturanTutarsizliklari()) {
+            olusturanFarkli.add(((Number) macId).longValue());
+        }
+
+        Map<String, Object> rapor = new LinkedHashMap<>();
+        rapor.put("tutarli", tutarsizliklar.isEmpty() && olusturanFarkli.isEmpty());
+        rapor.put("tutarsizlikSayisi", tutarsizliklar.size());
+        rapor.put("tutarsizliklar", tutarsizliklar);
+        rapor.put("olusturanFarkli", olusturanFarkli);
+        return rapor;
+    }
+}
@@ -0,0 +1,274 @@
+package com.footbase.service;
+
+import com.footbase.repository.PuanlamaRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Maç puanı toplamları (artımlı ağırlıklı ortalama)
+ *
+ * Maç başına (SUM(puan*agirlik), SUM(agirlik), COUNT) üçlüsü mac_puanlari tablosunda tutulur.
+ * Puanlama oluşturulduğunda veya değiştirildiğinde yalnızca eski ve yeni değer arasındaki fark
+ * puanlamayla aynı transaction içinde tek bir UPSERT ile eklenir (bkz. farkEkle); maçın tüm
+ * puanlamaları hiçbir zaman yeniden toplanmaz.
+ *
+ * Okumalar bellekteki toplamlardan O(1) yapılır. Bellekte olmayan maç için birincil anahtarla
+ * tek satır okunur. Farklar belleğe commit'ten sonra uygulanır; geri alınan transaction'ın
+ * farkı hiçbir yere yansımaz. Toplamlar periyodik olarak mac_puanlamalari tablosundan
+ * uzlaştırılır (ör. kullanıcı silinince CASCADE ile giden puanlamalar için).
+ */
+@Service
+public class MacPuanToplamlari {
+
+    /**
+     * Veritabanından yükleme ile commit sonrası fark uygulaması arasındaki yarışı yakalamak için
+     * maç ID'sine göre şeritlenmiş sayaç sayısı
+     */
+    private static final int SERIT_SAYISI = 64;
+
+    @Autowired
+    private PuanlamaRepository puanlamaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${mac.puan.uzlastirma-araligi-dakika:60}")
+    private long uzlastirmaAraligiDakika;
+
+    /**
+     * Maç ID'si -> toplamlar (değişmez; fark compute ile yeni nesne olarak yazılır)
+     */
+    private final ConcurrentHashMap<Long, Toplam> toplamlar = new ConcurrentHashMap<>();
+
+    /**
+     * Şeritte tamamlanan (commit/rollback) fark sayısı ve henüz tamamlanmamış transaction sayısı
+     */
+    private final AtomicLongArray seritSurumleri = new AtomicLongArray(SERIT_SAYISI);
+    private final AtomicLongArray seritBekleyenleri = new AtomicLongArray(SERIT_SAYISI);
+
+    private final AtomicLong uygulananFark = new AtomicLong();
+    private final AtomicLong bellektenOkuma = new AtomicLong();
+    private final AtomicLong veritabanindanOkuma = new AtomicLong();
+    private final AtomicLong uzlastirmaSayisi = new AtomicLong();
+    private final AtomicLong duzeltilenMac = new AtomicLong();
+
+    private TransactionTemplate transactionTemplate;
+    private ScheduledExecutorService zamanlayici;
+
+    @PostConstruct
+    public void baslat() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        zamanlayici = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "mac-puan-uzlastirma");
+            thread.setDaemon(true);
+            return thread;
+        });
+        zamanlayici.scheduleWithFixedDelay(this::uzlastirGuvenli,
+                uzlastirmaAraligiDakika, uzlastirmaAraligiDakika, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void durdur() {
+        if (zamanlayici != null) {
+            zamanlayici.shutdownNow();
+        }
+    }
+
+    /**
+     * Puanlama farkını maç toplamlarına ekler
+     * Çağıranın transaction'ı içinde çalışmalıdır; bellek commit'ten sonra güncellenir
+     * @param macId Maç ID'si
+     * @param agirlikliFark (yeni puan*agirlik) - (eski puan*agirlik)
+     * @param agirlikFark yeni agirlik - eski agirlik
+     * @param sayiFark Yeni puanlamada 1, güncellemede 0
+     */
+    public void farkEkle(Long macId, long agirlikliFark, long agirlikFark, int sayiFark) {
+        if (agirlikliFark == 0 && agirlikFark == 0 && sayiFark == 0) {
+            return;
+        }
+        // Fark veritabanına yazılmadan önce şerit "bekleyen" işaretlenir; bu arada veritabanından
+        // okuyan getir() çağrısı sonucu önbelleğe almaz
+        int serit = serit(macId);
+        seritBekleyenleri.incrementAndGet(serit);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bellegeUygula(macId, agirlikliFark, agirlikFark, sayiFark);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    seritSurumleri.incrementAndGet(serit);
+                    seritBekleyenleri.decrementAndGet(serit);
+                }
+            });
+            puanlamaRepository.toplamaFarkEkle(macId, agirlikliFark, agirlikFark, sayiFark);
+        } else {
+            try {
+                puanlamaRepository.toplamaFarkEkle(macId, agirlikliFark, agirlikFark, sayiFark);
+                bellegeUygula(macId, agirlikliFark, agirlikFark, sayiFark);
+            } finally {
+                seritSurumleri.incrementAndGet(serit);
+                seritBekleyenleri.decrementAndGet(serit);
+            }
+        }
+    }
+
+    private void bellegeUygula(Long macId, long agirlikliFark, long agirlikFark, int sayiFark) {
+        // Bellekte olmayan maç ilk okumada veritabanından (farkı içerecek şekilde) yüklenir
+        toplamlar.computeIfPresent(macId, (id, t) ->
+                new Toplam(t.agirlikliToplam + agirlikliFark, t.agirlikToplami + agirlikFark, t.sayi + sayiFark));
+        uygulananFark.incrementAndGet();
+    }
+
+    /**
+     * Maçın güncel toplamlarını getirir
+     * @param macId Maç ID'si
+     * @return Toplamlar (maç puanlanmamışsa sıfır)
+     */
+    public Toplam getir(Long macId) {
+        Toplam toplam = toplamlar.get(macId);
+        if (toplam != null) {
+            bellektenOkuma.incrementAndGet();
+            return toplam;
+        }
+
+        // Okuma sırasında bu şeritte açık ya da yeni tamamlanmış bir transaction varsa okunan değer
+        // commit sonrası uygulanacak farkı zaten içeriyor veya henüz içermiyor olabilir; önbelleğe alınmaz
+        int serit = serit(macId);
+        long surum = seritSurumleri.get(serit);
+        boolean bekleyenYok = seritBekleyenleri.get(serit) == 0;
+        toplam = veritabanindanOku(macId);
+        veritabanindanOkuma.incrementAndGet();
+        if (bekleyenYok && seritBekleyenleri.get(serit) == 0 && seritSurumleri.get(serit) == surum) {
+            Toplam onceki = toplamlar.putIfAbsent(macId, toplam);
+            if (onceki != null) {
+                return onceki;
+            }
+        }
+        return toplam;
+    }
+
+    private Toplam veritabanindanOku(Long macId) {
+        List<Object[]> satirlar = puanlamaRepository.findToplamByMacId(macId);
+        if (satirlar.isEmpty()) {
+            return Toplam.BOS;
+        }
+        Object[] satir = satirlar.get(0);
+        return new Toplam(((Number) satir[0]).longValue(), ((Number) satir[1]).longValue(),
+                ((Number) satir[2]).intValue());
+    }
+
+    /**
+     * Silinen maçın toplamlarını bellekten çıkarır
+     */
+    public void unut(Long macId) {
+        toplamlar.remove(macId);
+        seritSurumleri.incrementAndGet(serit(macId));
+    }
+
+    /**
+     * Tüm maçların toplamlarını mac_puanlamalari tablosundan yeniden hesaplar ve belleği boşaltır
+     * Çalıştığı sırada commit edilen puanlamalar bir sonraki uzlaştırmaya kadar sapma bırakabilir
+     * @return Düzeltilen (eklenen, güncellenen veya silinen) maç sayısı
+     */
+    public synchronized int uzlastir() {
+        Integer duzeltilen = transactionTemplate.execute(durum ->
+                puanlamaRepository.puanToplamlariniUzlastir() + puanlamaRepository.bosPuanToplamlariniSil());
+        for (int i = 0; i < SERIT_SAYISI; i++) {
+            seritSurumleri.incrementAndGet(i);
+        }
+        toplamlar.clear();
+        uzlastirmaSayisi.incrementAndGet();
+        int sonuc = duzeltilen != null ? duzeltilen : 0;
+        duzeltilenMac.addAndGet(sonuc);
+        return sonuc;
+    }
+
+    private void uzlastirGuvenli() {
+        try {
+            int duzeltilen = uzlastir();
+            if (duzeltilen > 0) {
+                System.out.println("⚠️ Maç puan toplamları uzlaştırıldı, düzeltilen maç: " + duzeltilen);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("❌ Maç puan toplamları uzlaştırılamadı: " + e.getMessage());
+        }
+    }
+
+    private static int serit(Long macId) {
+        return (int) (macId & (SERIT_SAYISI - 1));
+    }
+
+    /**
+     * Toplam istatistikleri (admin paneli)
+     */
+    public Map<String, Object> istatistikler() {
+        Map<String, Object> istatistik = new LinkedHashMap<>();
+        istatistik.put("bellektekiMac", toplamlar.size());
+        istatistik.put("uygulananFark", uygulananFark.get());
+        istatistik.put("bellektenOkuma", bellektenOkuma.get());
+        istatistik.put("veritabanindanOkuma", veritabanindanOkuma.get());
+        istatistik.put("uzlastirmaSayisi", uzlastirmaSayisi.get());
+        istatistik.put("duzeltilenMac", duzeltilenMac.get());
+        istatistik.put("uzlastirmaAraligiDakika", uzlastirmaAraligiDakika);
+        return istatistik;
+    }
+
+    /**
+     * Bir maçın puan toplamları (değişmez)
+     */
+    public static final class Toplam {
+        static final Toplam BOS = new Toplam(0, 0, 0);
+
+        private final long agirlikliToplam;
+        private final long agirlikToplami;
+        private final int sayi;
+
+        public Toplam(long agirlikliToplam, long agirlikToplami, int sayi) {
+            this.agirlikliToplam = agirlikliToplam;
+            this.agirlikToplami = agirlikToplami;
+            this.sayi = sayi;
+        }
+
+        /**
+         * Ağırlıklı ortalama, iki ondalığa yuvarlanmış (puanlama yoksa 0.0)
+         */
+        public double ortalama() {
+            if (agirlikToplami <= 0) {
+                return 0.0;
+            }
+            return Math.round(agirlikliToplam * 100.0 / agirlikToplami) / 100.0;
+        }
+
+        public long getAgirlikliToplam() {
+            return agirlikliToplam;
+        }
+
+        public long getAgirlikToplami() {
+            return agirlikToplami;
+        }
+
+        public int getSayi() {
+            return sayi;
+        }
+    }
+}
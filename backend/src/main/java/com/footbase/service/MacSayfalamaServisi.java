@@ -0,0 +1,286 @@
+package com.footbase.service;
+
+import com.footbase.dto.MacSayfasiDTO;
+import com.footbase.entity.Mac;
+import com.footbase.repository.MacRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maç Sayfalama Servisi
+ *
+ * Maç listelerini başlama zamanına göre (tarih, saat, id) keyset sayfalama ile getirir.
+ * OFFSET kullanılmaz; her sayfa bir önceki sayfanın son satırından (imleç) devam eder,
+ * bu yüzden sayfa maliyeti tablo boyutundan bağımsızdır.
+ *
+ * Tarihi olmayan maçlar en eski maçlar (1900-01-01), saati olmayan maçlar gün başı (00:00)
+ * sayılır: artan sırada başta, azalan sırada sonda gelirler ve geçmiş maçlar arasında listelenirler.
+ * SQL sırası, imleç karşılaştırması ve imleç kodlaması aynı değerleri kullanır.
+ *
+ * Akış:
+ * 1. Filtrelenmiş ve sıralanmış maç ID'leri SQL'de (limit + 1) kadar alınır
+ * 2. Maçlar ID listesiyle tek sorguda yüklenir
+ * 3. Takım/skor/durum bilgileri MacVeriDoldurucu ile toplu doldurulur
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@Service
+public class MacSayfalamaServisi {
+
+    public static final int VARSAYILAN_SAYFA_BOYUTU = 20;
+    public static final int EN_BUYUK_SAYFA_BOYUTU = 100;
+
+    /**
+     * Toplu okuma (tumunuGetir) için iç sayfa boyutu
+     */
+    private static final int TOPLU_OKUMA_BOYUTU = 500;
+
+    /**
+     * Kullanılmayan filtreler için sentinel değerler (SQL tarafında null bağlamaktan kaçınılır)
+     */
+    private static final LocalDate EN_KUCUK_TARIH = LocalDate.of(1900, 1, 1);
+    private static final LocalDate EN_BUYUK_TARIH = LocalDate.of(9999, 12, 31);
+
+    private static final Set<String> GECERLI_DURUMLAR = Set.of("ONAY_BEKLIYOR", "YAYINDA", "REDDEDILDI");
+
+    @Autowired
+    private MacRepository macRepository;
+
+    @Autowired
+    private MacVeriDoldurucu macVeriDoldurucu;
+
+    /**
+     * Tek bir maç sayfası getirir
+     * @param filtre Filtreler (null ise sadece YAYINDA maçlar)
+     * @param imlec Önceki sayfadan dönen sonrakiImlec (ilk sayfa için null)
+     * @param boyut Sayfa boyutu (1..EN_BUYUK_SAYFA_BOYUTU)
+     * @param artan true: eskiden yeniye, false: yeniden eskiye
+     * @return Maç sayfası
+     * @throws RuntimeException Filtre veya imleç geçersizse
+     */
+    public MacSayfasiDTO sayfaGetir(MacFiltre filtre, String imlec, int boyut, boolean artan) {
+        if (boyut < 1 || boyut > EN_BUYUK_SAYFA_BOYUTU) {
+            throw new RuntimeException("Sayfa boyutu 1 ile " + EN_BUYUK_SAYFA_BOYUTU + " arasında olmalıdır");
+        }
+        Imlec baslangic = imlec != null && !imlec.isBlank()
+                ? imleciCoz(imlec)
+                : (artan ? Imlec.EN_BAS : Imlec.EN_SON);
+        return sayfaGetir(filtre != null ? filtre : new MacFiltre(), baslangic, boyut, artan);
+    }
+
+    /**
+     * Belirli bir zamandan sonra (artan) veya önce (azalan) başlayan tüm maçları getirir
+     * Sonuçlar sayfa sayfa aynı keyset motoru ile okunur
+     * @param filtre Filtreler
+     * @param referansZamani Referans zamanı (artan: bu zamandan sonrakiler, azalan: bu zaman ve öncekiler;
+     *                       tarihsiz maçlar öncekilerin sonunda gelir)
+     * @param artan Sıralama yönü
+     * @return Sıralı maç listesi
+     */
+    public List<Mac> tumunuGetir(MacFiltre filtre, LocalDateTime referansZamani, boolean artan) {
+        Imlec imlec = new Imlec(referansZamani.toLocalDate(), referansZamani.toLocalTime(), Long.MAX_VALUE);
+        List<Mac> sonuc = new ArrayList<>();
+        while (true) {
+            MacSayfasiDTO sayfa = sayfaGetir(filtre, imlec, TOPLU_OKUMA_BOYUTU, artan);
+            sonuc.addAll(sayfa.getMaclar());
+            if (!sayfa.isDahaFazlaVar()) {
+                return sonuc;
+            }
+            imlec = imleciCoz(sayfa.getSonrakiImlec());
+        }
+    }
+
+    /**
+     * Filtreye uyan maç sayısını getirir (sayfaGetir ile aynı filtreler ve aynı varsayılan durum)
+     * @param filtre Filtreler (null ise sadece YAYINDA maçlar)
+     * @return Sayfalar boyunca listelenebilecek maç sayısı
+     * @throws RuntimeException Durum geçersizse
+     */
+    public long sayiGetir(MacFiltre filtre) {
+        SqlFiltresi sql = new SqlFiltresi(filtre != null ? filtre : new MacFiltre());
+        return macRepository.countFiltreli(sql.durum, sql.takimId, sql.ligId, sql.baslangicTarihi, sql.bitisTarihi);
+    }
+
+    private MacSayfasiDTO sayfaGetir(MacFiltre filtre, Imlec imlec, int boyut, boolean artan) {
+        SqlFiltresi sql = new SqlFiltresi(filtre);
+        String durum = sql.durum;
+
+        // Bir fazla satır istenir; gelirse sonraki sayfa vardır
+        List<Long> idler = artan
+                ? macRepository.findSayfaIdleriArtan(durum, sql.takimId, sql.ligId, sql.baslangicTarihi,
+                        sql.bitisTarihi, imlec.tarih, imlec.saat, imlec.id, boyut + 1)
+                : macRepository.findSayfaIdleriAzalan(durum, sql.takimId, sql.ligId, sql.baslangicTarihi,
+                        sql.bitisTarihi, imlec.tarih, imlec.saat, imlec.id, boyut + 1);
+
+        boolean dahaFazlaVar = idler.size() > boyut;
+        if (dahaFazlaVar) {
+            idler = idler.subList(0, boyut);
+        }
+        if (idler.isEmpty()) {
+            return new MacSayfasiDTO(new ArrayList<>(), null, false);
+        }
+
+        // Maçları yükle ve SQL'deki sıraya göre diz
+        Map<Long, Mac> macIndeksi = new HashMap<>();
+        for (Mac mac : macRepository.findByIdIn(idler)) {
+            macIndeksi.put(mac.getId(), mac);
+        }
+        List<Mac> maclar = new ArrayList<>(idler.size());
+        for (Long id : idler) {
+            Mac mac = macIndeksi.get(id);
+            if (mac != null) {
+                maclar.add(mac);
+            }
+        }
+
+        macVeriDoldurucu.takimBilgileriniDoldur(maclar);
+        maclar.forEach(m -> {
+            m.setDurum(durum);
+            m.setOnayDurumu(durum);
+        });
+
+        String sonrakiImlec = null;
+        if (dahaFazlaVar && !maclar.isEmpty()) {
+            Mac son = maclar.get(maclar.size() - 1);
+            sonrakiImlec = imleciKodla(new Imlec(son.getTarih(), son.getSaat(), son.getId()));
+        }
+        return new MacSayfasiDTO(maclar, sonrakiImlec, dahaFazlaVar);
+    }
+
+    /**
+     * İmleci URL güvenli Base64 metne çevirir ("tarih|saat|id")
+     */
+    static String imleciKodla(Imlec imlec) {
+        String ham = imlec.tarih + "|" + imlec.saat + "|" + imlec.id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(ham.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * İstemciden gelen imleç metnini çözer
+     * @throws RuntimeException İmleç geçersizse
+     */
+    static Imlec imleciCoz(String imlec) {
+        try {
+            String ham = new String(Base64.getUrlDecoder().decode(imlec), StandardCharsets.UTF_8);
+            String[] parcalar = ham.split("\\|");
+            if (parcalar.length != 3) {
+                throw new IllegalArgumentException("Parça sayısı hatalı");
+            }
+            return new Imlec(LocalDate.parse(parcalar[0]), LocalTime.parse(parcalar[1]), Long.parseLong(parcalar[2]));
+        } catch (Exception e) {
+            throw new RuntimeException("Geçersiz imleç: " + imlec);
+        }
+    }
+
+    /**
+     * Filtrenin SQL'e bağlanan hali: varsayılan durum ve kullanılmayan filtreler için sentinel değerler
+     */
+    private static final class SqlFiltresi {
+        final String durum;
+        final Long takimId;
+        final Long ligId;
+        final LocalDate baslangicTarihi;
+        final LocalDate bitisTarihi;
+
+        SqlFiltresi(MacFiltre filtre) {
+            durum = filtre.getDurum() != null ? filtre.getDurum() : "YAYINDA";
+            if (!GECERLI_DURUMLAR.contains(durum)) {
+                throw new RuntimeException("Geçersiz durum: " + durum);
+            }
+            takimId = filtre.getTakimId() != null ? filtre.getTakimId() : 0L;
+            ligId = filtre.getLigId() != null ? filtre.getLigId() : 0L;
+            baslangicTarihi = filtre.getBaslangicTarihi() != null ? filtre.getBaslangicTarihi() : EN_KUCUK_TARIH;
+            bitisTarihi = filtre.getBitisTarihi() != null ? filtre.getBitisTarihi() : EN_BUYUK_TARIH;
+        }
+    }
+
+    /**
+     * Keyset imleci: sayfanın son satırının (tarih, saat, id) değeri
+     */
+    static final class Imlec {
+        static final Imlec EN_BAS = new Imlec(EN_KUCUK_TARIH, LocalTime.MIN, 0L);
+        static final Imlec EN_SON = new Imlec(EN_BUYUK_TARIH, LocalTime.MAX, Long.MAX_VALUE);
+
+        final LocalDate tarih;
+        final LocalTime saat;
+        final Long id;
+
+        /**
+         * Tarihsiz/saatsiz maç, SQL'deki COALESCE ile aynı değerlere eşlenir (1900-01-01, 00:00)
+         */
+        Imlec(LocalDate tarih, LocalTime saat, Long id) {
+            this.tarih = tarih != null ? tarih : EN_KUCUK_TARIH;
+            this.saat = saat != null ? saat : LocalTime.MIN;
+            this.id = id;
+        }
+    }
+
+    /**
+     * Maç listesi filtreleri
+     * Null bırakılan filtreler uygulanmaz; durum verilmezse YAYINDA kabul edilir
+     */
+    public static class MacFiltre {
+        private Long takimId;
+        private Long ligId;
+        private LocalDate baslangicTarihi;
+        private LocalDate bitisTarihi;
+        private String durum;
+
+        public Long getTakimId() {
+            return takimId;
+        }
+
+        public MacFiltre setTakimId(Long takimId) {
+            this.takimId = takimId;
+            return this;
+        }
+
+        public Long getLigId() {
+            return ligId;
+        }
+
+        public MacFiltre setLigId(Long ligId) {
+            this.ligId = ligId;
+            return this;
+        }
+
+        public LocalDate getBaslangicTarihi() {
+            return baslangicTarihi;
+        }
+
+        public MacFiltre setBaslangicTarihi(LocalDate baslangicTarihi) {
+            this.baslangicTarihi = baslangicTarihi;
+            return this;
+        }
+
+        public LocalDate getBitisTarihi() {
+            return bitisTarihi;
+        }
+
+        public MacFiltre setBitisTarihi(LocalDate bitisTarihi) {
+            this.bitisTarihi = bitisTarihi;
+            return this;
+        }
+
+        public String getDurum() {
+            return durum;
+        }
+
+        public MacFiltre setDurum(String durum) {
+            this.durum = durum;
+            return this;
+        }
+    }
+}
@@ -19,8 +19,11 @@ import com.footbase.repository.MacRepository;
 import com.footbase.repository.MacTakimlariRepository;
 import com.footbase.repository.MacOyuncuOlaylariRepository;
 import com.footbase.repository.TakimRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -32,6 +35,8 @@ import java.util.stream.Collectors;
 @Service
 public class MacService {
 
+    private static final Logger logger = LoggerFactory.getLogger(MacService.class);
+
     @Autowired
     private MacRepository macRepository;
 
@@ -53,11 +58,36 @@ public class MacService {
     @Autowired
     private MacOyuncuOlaylariRepository macOyuncuOlaylariRepository;
 
+    @Autowired
+    private MacDurumServisi macDurumServisi;
+
+    @Autowired
+    private MacVeriDoldurucu macVeriDoldurucu;
+
+    @Autowired
+    private SonYorumlarTamponu sonYorumlarTamponu;
+
+    @Autowired
+    private MacPuanToplamlari macPuanToplamlari;
+
+    @Autowired
+    private MacSayfalamaServisi macSayfalamaServisi;
+
+    @Autowired
+    private MacZamanCizelgesi macZamanCizelgesi;
+
+    @Autowired
+    private OyuncuIstatistikleri oyuncuIstatistikleri;
+
+    @Autowired
+    private MacSonucuBildirici macSonucuBildirici;
+
     @Autowired
     private MacOnayKonusu macOnayKonusu; // Observer Pattern - Türkçe versiyon
 
     /**
      * Mac entity'sine takım bilgilerini doldurur (macTakimlari'den)
+     * Listeler için maç başına çağırmak yerine populateMacDataBulk kullanılmalı
      */
     private void populateMacData(Mac mac) {
         if (mac == null || mac.getId() == null) {
@@ -65,22 +95,7 @@ public class MacService {
         }
         
         try {
-            List<MacTakimlari> macTakimlari = macTakimlariRepository.findByMacIdWithDetails(mac.getId());
-            for (MacTakimlari mt : macTakimlari) {
-                if (mt != null && mt.getTakim() != null) {
-                    if (mt.getEvSahibi() != null && mt.getEvSahibi()) {
-                        mac.setEvSahibiTakim(mt.getTakim());
-                        mac.setEvSahibiSkor(mt.getSkor() != null ? mt.getSkor() : 0);
-                        // Stadyum bilgisini ev sahibi takımdan al
-                        if (mt.getTakim().getStadyum() != null) {
-                            mac.setStadyum(mt.getTakim().getStadyum());
-                        }
-                    } else {
-                        mac.setDeplasmanTakim(mt.getTakim());
-                        mac.setDeplasmanSkor(mt.getSkor() != null ? mt.getSkor() : 0);
-                    }
-                }
-            }
+            macVeriDoldurucu.takimBilgileriniDoldur(java.util.List.of(mac));
         } catch (Exception e) {
             e.printStackTrace();
             // Hata durumunda devam et
@@ -88,12 +103,10 @@ public class MacService {
     }
 
     /**
-     * Bir maçın en son durumunu mac_durum_gecmisi'nden alır
+     * Bir maçın en son durumunu mac_guncel_durum projeksiyonundan alır
      */
     public String getLatestDurum(Long macId) {
-        return macDurumGecmisiRepository.findLatestByMacId(macId)
-                .map(MacDurumGecmisi::getDurum)
-                .orElse(null);
+        return macDurumServisi.guncelDurumGetir(macId);
     }
 
     /**
@@ -104,111 +117,39 @@ public class MacService {
         populateMacData(mac);
     }
 
+    /**
+     * Maç listesinin takım, skor, stadyum ve onay durumu bilgilerini toplu doldurur
+     * Maç sayısından bağımsız olarak sabit sayıda sorgu çalışır (bkz. MacVeriDoldurucu)
+     * @param maclar Doldurulacak maçlar
+     */
+    public void populateMacDataBulk(java.util.Collection<Mac> maclar) {
+        try {
+            macVeriDoldurucu.doldur(maclar);
+        } catch (Exception e) {
+            e.printStackTrace();
+            // Hata durumunda devam et
+        }
+    }
+
     /**
      * Tüm maçları getirir (sadece onaylanmış/yayında olanlar)
      * Sıralama: Önce gelecek maçlar (yakından uzağa), sonra geçmiş maçlar (yakından uzağa)
+     * Tarihi olmayan maçlar geçmiş sayılır ve en sonda gelir
+     * Sayfalı uç nokta ile aynı keyset motorunu (MacSayfalamaServisi) kullanır
      * @return Maç listesi
      */
     public List<Mac> tumMaclariGetir() {
         try {
             System.out.println("========== TÜM MAÇLAR GETİRİLİYOR ==========");
-            // Sadece en son durumu "YAYINDA" olan maçları getir
-            List<Long> yayindakiMacIds;
-            try {
-                yayindakiMacIds = macDurumGecmisiRepository.findMacIdsByLatestDurum("YAYINDA");
-                System.out.println("Yayında maç ID sayısı: " + yayindakiMacIds.size());
-            } catch (Exception e) {
-                e.printStackTrace();
-                return java.util.Collections.emptyList();
-            }
-            
-            if (yayindakiMacIds == null || yayindakiMacIds.isEmpty()) {
-                return java.util.Collections.emptyList();
-            }
-            
-            List<Mac> maclar = macRepository.findAll().stream()
-                    .filter(m -> m != null && yayindakiMacIds.contains(m.getId()))
-                    .collect(Collectors.toList());
-            
-            // Her maç için takım bilgilerini doldur
-            maclar.forEach(m -> {
-                try {
-                    populateMacData(m);
-                    String durum = getLatestDurum(m.getId());
-                    if (durum != null) {
-                        m.setDurum(durum);  // durum alanını set et
-                        m.setOnayDurumu(durum);  // onayDurumu alanını da set et (geriye dönük uyumluluk için)
-                    }
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
-            });
-            
-            // Maçları sırala: Önce gelecek maçlar (yakından uzağa), sonra geçmiş maçlar (yakından uzağa)
             java.time.LocalDateTime simdi = java.time.LocalDateTime.now();
+            MacSayfalamaServisi.MacFiltre filtre = new MacSayfalamaServisi.MacFiltre().setDurum("YAYINDA");
             
-            List<Mac> gelecekMaclar = maclar.stream()
-                .filter(m -> {
-                    if (m.getTarih() == null) return false;
-                    try {
-                        java.time.LocalDateTime macTarihi;
-                        if (m.getSaat() != null) {
-                            macTarihi = java.time.LocalDateTime.of(m.getTarih(), m.getSaat());
-                        } else {
-                            macTarihi = m.getTarih().atStartOfDay();
-                        }
-                        return macTarihi.isAfter(simdi);
-                    } catch (Exception e) {
-                        return false;
-                    }
-                })
-                .sorted((m1, m2) -> {
-                    try {
-                        java.time.LocalDateTime tarih1 = m1.getSaat() != null 
-                            ? java.time.LocalDateTime.of(m1.getTarih(), m1.getSaat())
-                            : m1.getTarih().atStartOfDay();
-                        java.time.LocalDateTime tarih2 = m2.getSaat() != null 
-                            ? java.time.LocalDateTime.of(m2.getTarih(), m2.getSaat())
-                            : m2.getTarih().atStartOfDay();
-                        return tarih1.compareTo(tarih2); // Artan sırada (yakından uzağa)
-                    } catch (Exception e) {
-                        return 0;
-                    }
-                })
-                .collect(Collectors.toList());
-            
-            List<Mac> gecmisMaclar = maclar.stream()
-                .filter(m -> {
-                    if (m.getTarih() == null) return true; // Tarihi olmayanlar geçmiş sayılsın
-                    try {
-                        java.time.LocalDateTime macTarihi;
-                        if (m.getSaat() != null) {
-                            macTarihi = java.time.LocalDateTime.of(m.getTarih(), m.getSaat());
-                        } else {
-                            macTarihi = m.getTarih().atStartOfDay();
-                        }
-                        return !macTarihi.isAfter(simdi);
-                    } catch (Exception e) {
-                        return true;
-                    }
-                })
-                .sorted((m1, m2) -> {
-                    try {
-                        java.time.LocalDateTime tarih1 = m1.getSaat() != null && m1.getTarih() != null
-                            ? java.time.LocalDateTime.of(m1.getTarih(), m1.getSaat())
-                            : (m1.getTarih() != null ? m1.getTarih().atStartOfDay() : java.time.LocalDateTime.MIN);
-                        java.time.LocalDateTime tarih2 = m2.getSaat() != null && m2.getTarih() != null
-                            ? java.time.LocalDateTime.of(m2.getTarih(), m2.getSaat())
-                            : (m2.getTarih() != null ? m2.getTarih().atStartOfDay() : java.time.LocalDateTime.MIN);
-                        return tarih2.compareTo(tarih1); // Azalan sırada (yakından uzağa)
-                    } catch (Exception e) {
-                        return 0;
-                    }
-                })
-                .collect(Collectors.toList());
+            // Gelecek maçlar artan, geçmiş maçlar azalan sırada (ikisi de yakından uzağa)
+            List<Mac> gelecekMaclar = macSayfalamaServisi.tumunuGetir(filtre, simdi, true);
+            List<Mac> gecmisMaclar = macSayfalamaServisi.tumunuGetir(filtre, simdi, false);
             
             // Önce gelecek, sonra geçmiş
-            List<Mac> siraliMaclar = new java.util.ArrayList<>();
+            List<Mac> siraliMaclar = new java.util.ArrayList<>(gelecekMaclar.size() + gecmisMaclar.size());
             siraliMaclar.addAll(gelecekMaclar);
             siraliMaclar.addAll(gecmisMaclar);
             
@@ -255,42 +196,22 @@ public class MacService {
 
     /**
      * Gelecek maçları getirir (sadece onaylanmış/yayında olanlar)
-     * @return Gelecek maçlar listesi
+     * @return Gelecek maçlar listesi (yakından uzağa)
      */
     public List<Mac> gelecekMaclariGetir() {
+        return gelecekMaclariGetir(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Sıradaki N maçı getirir (sadece yayında olanlar)
+     * ID'ler bellek içi zaman çizelgesinden aralık okuması ile alınır (O(log n + N))
+     * @param limit En fazla maç sayısı
+     * @return Gelecek maçlar listesi (yakından uzağa)
+     */
+    public List<Mac> gelecekMaclariGetir(int limit) {
         try {
-            java.time.LocalDate bugun = java.time.LocalDate.now();
-            java.time.LocalTime simdi = java.time.LocalTime.now();
-            
-            // Sadece en son durumu "YAYINDA" olan maçları getir
-            List<Long> yayindakiMacIds;
-            try {
-                yayindakiMacIds = macDurumGecmisiRepository.findMacIdsByLatestDurum("YAYINDA");
-            } catch (Exception e) {
-                e.printStackTrace();
-                // Sorgu hatası durumunda boş liste döndür
-                return java.util.Collections.emptyList();
-            }
-            
-            if (yayindakiMacIds == null || yayindakiMacIds.isEmpty()) {
-                return java.util.Collections.emptyList();
-            }
-            
-            List<Mac> gelecekMaclar = macRepository.findGelecekMaclar(bugun, simdi).stream()
-                    .filter(m -> m != null && yayindakiMacIds.contains(m.getId()))
-                    .collect(Collectors.toList());
-            
-            // Her maç için takım bilgilerini doldur
-            gelecekMaclar.forEach(mac -> {
-                try {
-                    populateMacData(mac);
-                } catch (Exception e) {
-                    e.printStackTrace();
-                    // Hata durumunda devam et
-                }
-            });
-            
-            return gelecekMaclar;
+            List<Long> macIdleri = macZamanCizelgesi.siradakiMacIdleri(java.time.LocalDateTime.now(), limit);
+            return maclariSiraliYukle(macIdleri);
         } catch (Exception e) {
             e.printStackTrace();
             return java.util.Collections.emptyList();
@@ -299,48 +220,58 @@ public class MacService {
 
     /**
      * Geçmiş maçları getirir (sadece onaylanmış/yayında olanlar)
-     * @return Geçmiş maçlar listesi
+     * @return Geçmiş maçlar listesi (yakından uzağa)
      */
     public List<Mac> gecmisMaclariGetir() {
+        return gecmisMaclariGetir(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Son oynanan N maçı getirir (sadece yayında olanlar)
+     * ID'ler bellek içi zaman çizelgesinden aralık okuması ile alınır (O(log n + N))
+     * @param limit En fazla maç sayısı
+     * @return Geçmiş maçlar listesi (yakından uzağa)
+     */
+    public List<Mac> gecmisMaclariGetir(int limit) {
         try {
-            java.time.LocalDate bugun = java.time.LocalDate.now();
-            java.time.LocalTime simdi = java.time.LocalTime.now();
-            
-            // Sadece en son durumu "YAYINDA" olan maçları getir
-            List<Long> yayindakiMacIds;
-            try {
-                yayindakiMacIds = macDurumGecmisiRepository.findMacIdsByLatestDurum("YAYINDA");
-            } catch (Exception e) {
-                e.printStackTrace();
-                // Sorgu hatası durumunda boş liste döndür
-                return java.util.Collections.emptyList();
-            }
-            
-            if (yayindakiMacIds == null || yayindakiMacIds.isEmpty()) {
-                return java.util.Collections.emptyList();
-            }
-            
-            List<Mac> gecmisMaclar = macRepository.findGecmisMaclar(bugun, simdi).stream()
-                    .filter(m -> m != null && yayindakiMacIds.contains(m.getId()))
-                    .collect(Collectors.toList());
-            
-            // Her maç için takım bilgilerini doldur
-            gecmisMaclar.forEach(mac -> {
-                try {
-                    populateMacData(mac);
-                } catch (Exception e) {
-                    e.printStackTrace();
-                    // Hata durumunda devam et
-                }
-            });
-            
-            return gecmisMaclar;
+            List<Long> macIdleri = macZamanCizelgesi.sonMacIdleri(java.time.LocalDateTime.now(), limit);
+            return maclariSiraliYukle(macIdleri);
         } catch (Exception e) {
             e.printStackTrace();
             return java.util.Collections.emptyList();
         }
     }
 
+    /**
+     * Maçları verilen ID sırasıyla yükler ve takım bilgilerini toplu doldurur
+     * @param macIdleri Sıralı maç ID'leri
+     * @return Aynı sırada maçlar (veritabanında bulunmayanlar atlanır)
+     */
+    private List<Mac> maclariSiraliYukle(List<Long> macIdleri) {
+        if (macIdleri.isEmpty()) {
+            return java.util.Collections.emptyList();
+        }
+        java.util.Map<Long, Mac> macIndeksi = new java.util.HashMap<>();
+        for (int i = 0; i < macIdleri.size(); i += MacVeriDoldurucu.PARCA_BOYUTU) {
+            List<Long> parca = macIdleri.subList(i, Math.min(i + MacVeriDoldurucu.PARCA_BOYUTU, macIdleri.size()));
+            macRepository.findByIdIn(parca).forEach(m -> macIndeksi.put(m.getId(), m));
+        }
+        List<Mac> maclar = new java.util.ArrayList<>(macIdleri.size());
+        for (Long macId : macIdleri) {
+            Mac mac = macIndeksi.get(macId);
+            if (mac != null) {
+                maclar.add(mac);
+            }
+        }
+        try {
+            macVeriDoldurucu.takimBilgileriniDoldur(maclar);
+        } catch (Exception e) {
+            e.printStackTrace();
+            // Hata durumunda devam et
+        }
+        return maclar;
+    }
+
     /**
      * Yeni maç oluşturur
      * @param mac Maç bilgileri
@@ -356,7 +287,9 @@ public class MacService {
         mac.setEvSahibiTakim(evSahibi);
         mac.setDeplasmanTakim(deplasman);
 
-        return macRepository.save(mac);
+        Mac kaydedilenMac = macRepository.save(mac);
+        macZamanCizelgesi.zamanGuncellendi(kaydedilenMac.getId(), kaydedilenMac.getTarih(), kaydedilenMac.getSaat());
+        return kaydedilenMac;
     }
 
     /**
@@ -395,7 +328,10 @@ public class MacService {
             mevcutMac.setSaat(mac.getSaat());
         }
 
-        return macRepository.save(mevcutMac);
+        Mac guncellenmisMac = macRepository.save(mevcutMac);
+        // Başlama zamanı değiştiyse zaman çizelgesindeki yerini güncelle
+        macZamanCizelgesi.zamanGuncellendi(guncellenmisMac.getId(), guncellenmisMac.getTarih(), guncellenmisMac.getSaat());
+        return guncellenmisMac;
     }
 
     /**
@@ -405,6 +341,10 @@ public class MacService {
     public void macSil(Long id) {
         Mac mac = macGetir(id);
         macRepository.delete(mac);
+        macZamanCizelgesi.cikar(id);
+        sonYorumlarTamponu.macYorumlariniCikar(id);
+        macPuanToplamlari.unut(id);
+        macSonucuBildirici.sonucDegisti(id);
     }
 
     /**
@@ -460,7 +400,7 @@ public class MacService {
             // PostgreSQL enum tipi için SADECE native SQL kullanılıyor (JPA save enum cast hatası veriyor)
             java.time.LocalDateTime simdi = java.time.LocalDateTime.now();
             try {
-                macDurumGecmisiRepository.saveMacDurumGecmisiNative(
+                macDurumServisi.durumKaydet(
                     kaydedilenMac.getId(),
                     "ONAY_BEKLIYOR",
                     simdi,
@@ -495,7 +435,7 @@ public class MacService {
         // PostgreSQL enum tipi için SADECE native SQL kullanılıyor (JPA save enum cast hatası veriyor)
         java.time.LocalDateTime simdi = java.time.LocalDateTime.now();
         try {
-            macDurumGecmisiRepository.saveMacDurumGecmisiNative(
+            macDurumServisi.durumKaydet(
                 kaydedilenMac.getId(),
                 "ONAY_BEKLIYOR",
                 simdi,
@@ -572,72 +512,26 @@ public class MacService {
                 return java.util.Collections.emptyList();
             }
 
-            // Tüm onay bekleyen maçları getir
-            List<Long> tumOnayBekleyenMacIds;
+            // Admin'in editörlerinin oluşturduğu onay bekleyen maçları tek sorguda getir
+            List<Long> admininEditorlerininMaclari;
             try {
-                tumOnayBekleyenMacIds = macDurumGecmisiRepository.findAllPendingMacIds();
-                System.out.println("Tüm onay bekleyen maç sayısı: " + (tumOnayBekleyenMacIds != null ? tumOnayBekleyenMacIds.size() : 0));
-                System.out.println("Onay bekleyen maç ID'leri: " + tumOnayBekleyenMacIds);
+                admininEditorlerininMaclari = macDurumServisi.olusturanlarinMacIdleriniGetir("ONAY_BEKLIYOR", editorIds);
             } catch (Exception e) {
                 System.err.println("✗ Sorgu hatası: " + e.getMessage());
                 e.printStackTrace();
                 return java.util.Collections.emptyList();
             }
             
-            if (tumOnayBekleyenMacIds == null || tumOnayBekleyenMacIds.isEmpty()) {
-                System.out.println("⚠ Hiç onay bekleyen maç yok!");
-                return java.util.Collections.emptyList();
-            }
-
-            // Her maçın ilk kaydını kontrol et - editör tarafından oluşturulan mı?
-            List<Long> admininEditörlerininMaclari = new java.util.ArrayList<>();
-            for (Long macId : tumOnayBekleyenMacIds) {
-                try {
-                    java.util.Optional<Long> ilkKayitEditorId = macDurumGecmisiRepository.findFirstRecordEditorIdByMacId(macId);
-                    System.out.println("  Maç ID " + macId + " -> İlk kayıt editör ID: " + (ilkKayitEditorId.isPresent() ? ilkKayitEditorId.get() : "YOK"));
-                    
-                    if (ilkKayitEditorId.isPresent()) {
-                        Long editorId = ilkKayitEditorId.get();
-                        if (editorId != null && editorIds.contains(editorId)) {
-                            admininEditörlerininMaclari.add(macId);
-                            System.out.println("    ✓ Bu maç admin'in editörüne ait!");
-                        } else {
-                            System.out.println("    ✗ Bu maç başka bir editöre ait (Editor ID: " + editorId + ")");
-                        }
-                    }
-                } catch (Exception e) {
-                    System.err.println("    ✗ Hata: " + e.getMessage());
-                    e.printStackTrace();
-                }
-            }
-            
-            System.out.println("Admin'in editörlerinin eklediği maç sayısı: " + admininEditörlerininMaclari.size());
-            System.out.println("Admin'in editörlerinin eklediği maç ID'leri: " + admininEditörlerininMaclari);
+            System.out.println("Admin'in editörlerinin eklediği maç sayısı: " + admininEditorlerininMaclari.size());
             
-            if (admininEditörlerininMaclari.isEmpty()) {
+            if (admininEditorlerininMaclari.isEmpty()) {
                 System.out.println("⚠ Admin'in editörlerinin eklediği onay bekleyen maç yok!");
                 return java.util.Collections.emptyList();
             }
 
-            // Bu maçları getir
-            List<Mac> maclar = macRepository.findAll().stream()
-                    .filter(m -> m != null && admininEditörlerininMaclari.contains(m.getId()))
-                    .collect(Collectors.toList());
-            
-            System.out.println("Veritabanından getirilen maç sayısı: " + maclar.size());
-            
-            // Her maç için takım bilgilerini doldur ve onay durumunu set et
-            maclar.forEach(m -> {
-                try {
-                    populateMacData(m);
-                    String durum = getLatestDurum(m.getId());
-                    m.setOnayDurumu(durum != null ? durum : "ONAY_BEKLIYOR");
-                    System.out.println("  ✓ Maç hazırlandı: ID=" + m.getId() + ", Durum=" + m.getOnayDurumu());
-                } catch (Exception e) {
-                    System.err.println("  ✗ Maç hazırlanamadı: ID=" + m.getId() + ", Hata=" + e.getMessage());
-                    e.printStackTrace();
-                }
-            });
+            // Bu maçları ID listesiyle getir ve takım bilgilerini toplu doldur
+            List<Mac> maclar = maclariSiraliYukle(admininEditorlerininMaclari);
+            maclar.forEach(m -> m.setOnayDurumu("ONAY_BEKLIYOR"));
             
             System.out.println("========== TOPLAM DÖNEN MAÇ SAYISI: " + maclar.size() + " ==========\n");
             return maclar;
@@ -658,36 +552,23 @@ public class MacService {
             System.out.println("\n========== EDITÖR MAÇLARI ==========");
             System.out.println("Editör ID: " + editorId);
             
-            // Editörün tüm maçlarını getir (mac_durum_gecmisi'nden ilk kayıt editör olan)
-            List<Mac> tumMaclar = macRepository.findAll();
-            List<Mac> editorMaclari = new java.util.ArrayList<>();
+            // Editörün oluşturduğu maçların güncel durumlarını tek sorguda getir
+            java.util.Map<Long, String> guncelDurumlar = macDurumServisi.olusturanMacDurumlariniGetir(editorId);
             
-            for (Mac mac : tumMaclar) {
-                try {
-                    // Bu maçın ilk kaydı editör tarafından mı oluşturuldu?
-                    java.util.Optional<Long> ilkKayitEditorId = macDurumGecmisiRepository.findFirstRecordEditorIdByMacId(mac.getId());
-                    if (ilkKayitEditorId.isPresent() && ilkKayitEditorId.get().equals(editorId)) {
-                        // En son durumu kontrol et
-                        String latestDurum = getLatestDurum(mac.getId());
-                        System.out.println("  Maç ID " + mac.getId() + " -> Durum: " + latestDurum);
-                        
-                        // Sadece ONAY_BEKLIYOR, REDDEDILDI ve YAYINDA durumundakileri ekle
-                        if ("ONAY_BEKLIYOR".equals(latestDurum) || 
-                            "REDDEDILDI".equals(latestDurum) || 
-                            "YAYINDA".equals(latestDurum)) {
-                            populateMacData(mac);
-                            mac.setDurum(latestDurum);  // durum alanını set et
-                            mac.setOnayDurumu(latestDurum);  // onayDurumu alanını da set et
-                            editorMaclari.add(mac);
-                            System.out.println("    ✓ Maç eklendi: " + latestDurum);
-                        } else {
-                            System.out.println("    ✗ Maç durumu uygun değil: " + latestDurum);
-                        }
-                    }
-                } catch (Exception e) {
-                    System.err.println("  ✗ Maç kontrol hatası: ID=" + mac.getId() + ", Hata=" + e.getMessage());
-                    e.printStackTrace();
-                }
+            // Sadece ONAY_BEKLIYOR, REDDEDILDI ve YAYINDA durumundakileri al
+            List<Long> editorMacIdleri = guncelDurumlar.entrySet().stream()
+                    .filter(e -> "ONAY_BEKLIYOR".equals(e.getValue())
+                            || "REDDEDILDI".equals(e.getValue())
+                            || "YAYINDA".equals(e.getValue()))
+                    .map(java.util.Map.Entry::getKey)
+                    .collect(Collectors.toList());
+            
+            // Maçları ID listesiyle getir ve takım bilgilerini toplu doldur
+            List<Mac> editorMaclari = maclariSiraliYukle(editorMacIdleri);
+            for (Mac mac : editorMaclari) {
+                String latestDurum = guncelDurumlar.get(mac.getId());
+                mac.setDurum(latestDurum);  // durum alanını set et
+                mac.setOnayDurumu(latestDurum);  // onayDurumu alanını da set et
             }
             
             System.out.println("========== TOPLAM EDITÖR MAÇI: " + editorMaclari.size() + " ==========\n");
@@ -737,7 +618,7 @@ public class MacService {
                 .orElseThrow(() -> new RuntimeException("Admin bulunamadı"));
         java.time.LocalDateTime simdi = java.time.LocalDateTime.now();
         try {
-            macDurumGecmisiRepository.saveMacDurumGecmisiNative(
+            macDurumServisi.durumKaydet(
                 macId,
                 "YAYINDA",
                 simdi,
@@ -808,7 +689,7 @@ public class MacService {
                 .orElseThrow(() -> new RuntimeException("Admin bulunamadı"));
         java.time.LocalDateTime simdi = java.time.LocalDateTime.now();
         try {
-            macDurumGecmisiRepository.saveMacDurumGecmisiNative(
+            macDurumServisi.durumKaydet(
                 macId,
                 "REDDEDILDI",
                 simdi,
@@ -848,18 +729,19 @@ public class MacService {
      */
     public List<Mac> yayindakiMaclariGetir() {
         // Sadece en son durumu "YAYINDA" olan maçları getir
-        List<Long> yayindakiMacIds = macDurumGecmisiRepository.findMacIdsByLatestDurum("YAYINDA");
+        List<Long> yayindakiMacIds = macDurumServisi.durumdakiMacIdleriniGetir("YAYINDA");
         
         if (yayindakiMacIds.isEmpty()) {
             return java.util.Collections.emptyList();
         }
         
+        java.util.Set<Long> yayindakiMacIdSeti = new java.util.HashSet<>(yayindakiMacIds);
         List<Mac> maclar = macRepository.findAll().stream()
-                .filter(m -> yayindakiMacIds.contains(m.getId()))
+                .filter(m -> yayindakiMacIdSeti.contains(m.getId()))
                 .collect(Collectors.toList());
         
-        // Her maç için takım bilgilerini doldur
-        maclar.forEach(this::populateMacData);
+        // Takım bilgilerini toplu doldur
+        macVeriDoldurucu.takimBilgileriniDoldur(maclar);
         
         return maclar;
     }
@@ -905,6 +787,9 @@ public class MacService {
                 macTakimlariRepository.save(mt);
             }
             
+            // Sonuçlanmış maçın skoru düzeltildiyse puan durumu, karşılaşma geçmişi ve form güncellenir
+            macSonucuBildirici.sonucDegisti(macId);
+            
             // Observer pattern ile bildirim gönder
             macOnayKonusu.golAtildi(mac);
             System.out.println("  ✉️ Gol bildirimi gönderildi");
@@ -927,6 +812,7 @@ public class MacService {
      * @param editorId İşlemi yapan editör ID'si
      * @return Eklenen olay
      */
+    @Transactional
     public MacOyuncuOlaylari macOlayEkle(MacOyuncuOlaylari olay, Long editorId) {
         System.out.println("\n========== MAÇ OLAY EKLEME ==========");
         System.out.println("Maç ID: " + olay.getMac().getId());
@@ -946,6 +832,9 @@ public class MacService {
             // Olayı kaydet
             MacOyuncuOlaylari kaydedilenOlay = macOyuncuOlaylariRepository.save(olay);
             System.out.println("  ✓ Olay kaydedildi: ID=" + kaydedilenOlay.getId());
+
+            // Oyuncu sayaçlarına aynı transaction içinde fark ekle
+            oyuncuIstatistikleri.olayEklendi(kaydedilenOlay);
             
             // Observer pattern ile bildirim gönder
             Mac mac = macGetir(macId);
@@ -963,6 +852,40 @@ public class MacService {
             throw new RuntimeException("Olay eklenemedi: " + e.getMessage());
         }
     }
+
+    /**
+     * Editör tarafından maçtan olay siler
+     * Oyuncunun sayaçlarından olay aynı transaction içinde düşülür
+     * @param macId Maç ID'si
+     * @param olayId Silinecek olay ID'si
+     * @param editorId İşlemi yapan editör ID'si
+     */
+    @Transactional
+    public void macOlaySil(Long macId, Long olayId, Long editorId) {
+        logger.info("Maç olay silme: Mac ID={}, Olay ID={}, Editör ID={}", macId, olayId, editorId);
+
+        try {
+            // Bu maçın editörü olup olmadığını kontrol et
+            java.util.Optional<Long> ilkKayitEditorId = macDurumGecmisiRepository.findFirstRecordEditorIdByMacId(macId);
+            if (!ilkKayitEditorId.isPresent() || !ilkKayitEditorId.get().equals(editorId)) {
+                throw new RuntimeException("Bu maçtan olay silme yetkiniz yok");
+            }
+
+            MacOyuncuOlaylari olay = macOyuncuOlaylariRepository.findById(olayId)
+                    .orElseThrow(() -> new RuntimeException("Olay bulunamadı"));
+            if (!olay.getMac().getId().equals(macId)) {
+                throw new RuntimeException("Olay bu maça ait değil");
+            }
+
+            oyuncuIstatistikleri.olaySilindi(olay);
+            macOyuncuOlaylariRepository.delete(olay);
+            logger.info("✓ Olay silindi: Mac ID={}, Olay ID={}, Tür={}", macId, olayId, olay.getOlayTuru());
+
+        } catch (Exception e) {
+            logger.error("✗ Olay silme hatası: Mac ID={}, Olay ID={}: {}", macId, olayId, e.getMessage());
+            throw new RuntimeException("Olay silinemedi: " + e.getMessage());
+        }
+    }
     
     /**
      * Maçı başlat
@@ -1001,6 +924,7 @@ public class MacService {
      * @param macId Maç ID'si
      * @param editorId Editör ID'si
      */
+    @Transactional
     public Mac macSonuclandir(Long macId, Long editorId) {
         System.out.println("\n========== MAÇ SONUÇLANDIRMA ==========");
         System.out.println("Maç ID: " + macId);
@@ -1015,6 +939,10 @@ public class MacService {
                 throw new RuntimeException("Bu maçı sonuçlandırma yetkiniz yok");
             }
             
+            // Sonucu kesinleştir; puan durumu, karşılaşma geçmişi ve form commit'ten sonra güncellenir
+            macRepository.sonucDurumunuYaz(macId, true);
+            macSonucuBildirici.sonucDegisti(macId);
+            
             // Observer pattern ile bildirim gönder
             populateMacData(mac);
             macOnayKonusu.macBitti(mac);
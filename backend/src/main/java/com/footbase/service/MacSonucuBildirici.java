@@ -0,0 +1,53 @@
+package com.footbase.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Maç sonucu bildirici
+ *
+ * Skor girişi, maç sonlandırma, geri alma ve maç silme noktaları tek tek indekslere değil
+ * bu sınıfa haber verir; kayıtlı tüm MacSonucuDinleyicisi bean'leri bilgilendirilir.
+ * Yeni bir indeks eklemek için komutların ve servislerin değişmesi gerekmez.
+ *
+ * Bildirim başına tek bir commit sonrası kaydı yapılır; dinleyiciler commit'ten sonra aynı
+ * iş parçacığında sırayla çağrılır. Bir dinleyicinin hatası diğerlerini etkilemez.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@Service
+public class MacSonucuBildirici {
+
+    private static final Logger logger = LoggerFactory.getLogger(MacSonucuBildirici.class);
+
+    @Autowired
+    private List<MacSonucuDinleyicisi> dinleyiciler;
+
+    /**
+     * Maçın sonucunun değiştiğini tüm dinleyicilere bildirir
+     * Transaction içindeyse commit'ten sonra, değilse hemen iletilir
+     * @param macId Maç ID'si
+     */
+    public void sonucDegisti(Long macId) {
+        if (macId == null) {
+            return;
+        }
+        BellekIndeksi.commitSonrasi(() -> dinleyicilereIlet(macId));
+    }
+
+    private void dinleyicilereIlet(Long macId) {
+        for (MacSonucuDinleyicisi dinleyici : dinleyiciler) {
+            try {
+                dinleyici.sonucDegisti(macId);
+            } catch (RuntimeException e) {
+                logger.error("❌ {} güncellenemedi (maç {}): {}",
+                        dinleyici.getClass().getSimpleName(), macId, e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.footbase.service;
+
+/**
+ * Maç sonucu dinleyicisi
+ *
+ * Sonuçlanmış maçlardan beslenen bellekteki indeksler (puan durumu, karşılaşma geçmişi vb.)
+ * bu arayüzü uygular; MacSonucuBildirici değişiklikleri hepsine iletir.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+public interface MacSonucuDinleyicisi {
+
+    /**
+     * Maçın skoru veya sonuç durumu değiştiğinde (ya da maç silindiğinde) çağrılır
+     * MacSonucuBildirici commit'ten sonra çağırır; uygulamalar maçın güncel sonucunu okuyup uygular
+     * @param macId Maç ID'si (null değil)
+     */
+    void sonucDegisti(Long macId);
+}
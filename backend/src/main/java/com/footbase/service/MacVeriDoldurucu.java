@@ -0,0 +1,137 @@
+package com.footbase.service;
+
+import com.footbase.entity.Mac;
+import com.footbase.entity.MacTakimlari;
+import com.footbase.repository.MacTakimlariRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maç Veri Doldurucu
+ *
+ * Bir maç koleksiyonunun transient alanlarını (ev sahibi/deplasman takımı, skorlar,
+ * stadyum, güncel onay durumu) toplu olarak doldurur. Maç başına sorgu atmak yerine
+ * ID'ler parçalara bölünür ve her parça için sabit sayıda "IN (...)" sorgusu çalışır:
+ * - mac_takimlari (takım, stadyum ve lig ile birlikte)
+ * - mac_guncel_durum
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@Service
+public class MacVeriDoldurucu {
+
+    /**
+     * Tek bir IN sorgusuna konulacak en fazla maç ID'si
+     */
+    static final int PARCA_BOYUTU = 1000;
+
+    @Autowired
+    private MacTakimlariRepository macTakimlariRepository;
+
+    @Autowired
+    private MacDurumServisi macDurumServisi;
+
+    /**
+     * Maçların takım, skor, stadyum ve güncel onay durumu bilgilerini doldurur
+     * Güncel durumu bulunan maçlarda onayDurumu alanı set edilir
+     * @param maclar Doldurulacak maçlar
+     */
+    public void doldur(Collection<Mac> maclar) {
+        Map<Long, List<Mac>> macIdIndeksi = macIdIndeksi(maclar);
+        if (macIdIndeksi.isEmpty()) {
+            return;
+        }
+        List<List<Long>> parcalar = idParcalari(macIdIndeksi.keySet());
+
+        takimBilgileriniDoldur(macIdIndeksi, parcalar);
+
+        for (List<Long> parca : parcalar) {
+            for (Map.Entry<Long, String> durum : macDurumServisi.guncelDurumlariGetir(parca).entrySet()) {
+                List<Mac> hedefler = macIdIndeksi.get(durum.getKey());
+                if (hedefler != null && durum.getValue() != null) {
+                    hedefler.forEach(mac -> mac.setOnayDurumu(durum.getValue()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Sadece takım, skor ve stadyum bilgilerini doldurur (durum sorgulanmaz)
+     * @param maclar Doldurulacak maçlar
+     */
+    public void takimBilgileriniDoldur(Collection<Mac> maclar) {
+        Map<Long, List<Mac>> macIdIndeksi = macIdIndeksi(maclar);
+        if (!macIdIndeksi.isEmpty()) {
+            takimBilgileriniDoldur(macIdIndeksi, idParcalari(macIdIndeksi.keySet()));
+        }
+    }
+
+    private void takimBilgileriniDoldur(Map<Long, List<Mac>> macIdIndeksi, List<List<Long>> parcalar) {
+        for (List<Long> parca : parcalar) {
+            for (MacTakimlari mt : macTakimlariRepository.findByMacIdInWithDetails(parca)) {
+                if (mt == null || mt.getTakim() == null || mt.getMac() == null) {
+                    continue;
+                }
+                List<Mac> hedefler = macIdIndeksi.get(mt.getMac().getId());
+                if (hedefler == null) {
+                    continue;
+                }
+                for (Mac mac : hedefler) {
+                    if (mt.getEvSahibi() != null && mt.getEvSahibi()) {
+                        mac.setEvSahibiTakim(mt.getTakim());
+                        mac.setEvSahibiSkor(mt.getSkor() != null ? mt.getSkor() : 0);
+                        // Stadyum bilgisini ev sahibi takımdan al
+                        if (mt.getTakim().getStadyum() != null) {
+                            mac.setStadyum(mt.getTakim().getStadyum());
+                        }
+                    } else {
+                        mac.setDeplasmanTakim(mt.getTakim());
+                        mac.setDeplasmanSkor(mt.getSkor() != null ? mt.getSkor() : 0);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Maçları ID'ye göre gruplar (aynı ID'li birden fazla nesne olabilir), ekleme sırası korunur
+     */
+    private Map<Long, List<Mac>> macIdIndeksi(Collection<Mac> maclar) {
+        Map<Long, List<Mac>> indeks = new LinkedHashMap<>();
+        if (maclar == null) {
+            return indeks;
+        }
+        for (Mac mac : maclar) {
+            if (mac != null && mac.getId() != null) {
+                indeks.computeIfAbsent(mac.getId(), k -> new ArrayList<>()).add(mac);
+            }
+        }
+        return indeks;
+    }
+
+    /**
+     * Maç ID'lerini PARCA_BOYUTU büyüklüğünde parçalara böler
+     */
+    private List<List<Long>> idParcalari(Collection<Long> idler) {
+        List<List<Long>> parcalar = new ArrayList<>();
+        List<Long> parca = new ArrayList<>(Math.min(idler.size(), PARCA_BOYUTU));
+        for (Long id : idler) {
+            parca.add(id);
+            if (parca.size() == PARCA_BOYUTU) {
+                parcalar.add(parca);
+                parca = new ArrayList<>(PARCA_BOYUTU);
+            }
+        }
+        if (!parca.isEmpty()) {
+            parcalar.add(parca);
+        }
+        return parcalar;
+    }
+}
@@ -0,0 +1,277 @@
+package com.footbase.service;
+
+import com.footbase.repository.MacRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Maç Zaman Çizelgesi
+ *
+ * Yayındaki maçların başlama zamanına göre sıralı, süreç genelinde tek bir indeksi.
+ * Anahtar (başlama zamanı, maç ID) ikilisidir; ConcurrentSkipListMap sayesinde
+ * "sıradaki N maç" ve "son N maç" sorguları O(log n + N) aralık okumasıdır.
+ *
+ * İndeks şu noktalardan güncellenir:
+ * - MacDurumServisi.durumKaydet: transaction commit edildikten sonra (YAYINDA ise eklenir, değilse çıkarılır)
+ * - MacService.macOlustur / macGuncelle: başlama zamanı değişirse yeniden konumlandırılır
+ * - MacService.macSil: indeksten çıkarılır
+ *
+ * Okumalar kilitsizdir; yazmalar (nadir) tek bir kilit altında yapılır.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@Service
+public class MacZamanCizelgesi {
+
+    @Autowired
+    private MacRepository macRepository;
+
+    /**
+     * Başlama zamanı sıralı indeks: (zaman, macId) -> macId
+     */
+    private final ConcurrentSkipListMap<ZamanAnahtari, Long> cizelge = new ConcurrentSkipListMap<>();
+
+    /**
+     * Ters indeks: macId -> indeksteki anahtarı (yeniden konumlandırma ve silme için)
+     */
+    private final ConcurrentHashMap<Long, ZamanAnahtari> macAnahtarlari = new ConcurrentHashMap<>();
+
+    private final Object yazmaKilidi = new Object();
+
+    /**
+     * Uygulama açıldığında indeksi veritabanından yükler
+     * Ana sayfa görüntüsü bu indeksten okuduğu için ilk sırada çalışır
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void baslangictaYukle() {
+        try {
+            int sayi = yenidenOlustur();
+            System.out.println("✓ Maç zaman çizelgesi yüklendi: " + sayi + " yayında maç");
+        } catch (Exception e) {
+            System.err.println("✗ Maç zaman çizelgesi yüklenemedi: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * İndeksi veritabanındaki yayında maçlardan sıfırdan oluşturur
+     * @return İndeksteki maç sayısı
+     */
+    public int yenidenOlustur() {
+        List<Object[]> satirlar = macRepository.findYayindakiMacZamanlari();
+        synchronized (yazmaKilidi) {
+            cizelge.clear();
+            macAnahtarlari.clear();
+            for (Object[] satir : satirlar) {
+                Long macId = (Long) satir[0];
+                ekle(macId, baslamaZamani((LocalDate) satir[1], (LocalTime) satir[2]));
+            }
+            return macAnahtarlari.size();
+        }
+    }
+
+    /**
+     * Maçın durumu değiştiğinde çağrılır
+     * YAYINDA ise indekse eklenir (başlama zamanı veritabanından okunur), değilse çıkarılır
+     * @param macId Maç ID'si
+     * @param durum Yeni durum
+     */
+    public void durumDegisti(Long macId, String durum) {
+        if (macId == null) {
+            return;
+        }
+        if (!"YAYINDA".equals(durum)) {
+            cikar(macId);
+            return;
+        }
+        for (Object[] satir : macRepository.findMacZamanlari(List.of(macId))) {
+            LocalDateTime zaman = baslamaZamani((LocalDate) satir[1], (LocalTime) satir[2]);
+            synchronized (yazmaKilidi) {
+                ekle(macId, zaman);
+            }
+        }
+    }
+
+    /**
+     * Maçın tarih/saat bilgisi kaydedildiğinde çağrılır
+     * Maç indekste yoksa (yayında değilse) hiçbir şey yapılmaz
+     * @param macId Maç ID'si
+     * @param tarih Maç tarihi
+     * @param saat Maç saati
+     */
+    public void zamanGuncellendi(Long macId, LocalDate tarih, LocalTime saat) {
+        if (macId == null || !macAnahtarlari.containsKey(macId)) {
+            return;
+        }
+        synchronized (yazmaKilidi) {
+            if (macAnahtarlari.containsKey(macId)) {
+                ekle(macId, baslamaZamani(tarih, saat));
+            }
+        }
+    }
+
+    /**
+     * Maçı indeksten çıkarır
+     * @param macId Maç ID'si
+     */
+    public void cikar(Long macId) {
+        if (macId == null) {
+            return;
+        }
+        synchronized (yazmaKilidi) {
+            ZamanAnahtari eski = macAnahtarlari.remove(macId);
+            if (eski != null) {
+                cizelge.remove(eski);
+            }
+        }
+    }
+
+    /**
+     * Verilen zamandan SONRA başlayacak ilk N maçın ID'lerini getirir (yakından uzağa)
+     * @param simdi Referans zamanı
+     * @param limit En fazla maç sayısı
+     * @return Maç ID'leri
+     */
+    public List<Long> siradakiMacIdleri(LocalDateTime simdi, int limit) {
+        // (simdi, MAX) anahtarından büyük olanlar: başlama zamanı simdi'den kesin sonra olanlar
+        return ilkN(cizelge.tailMap(new ZamanAnahtari(simdi, Long.MAX_VALUE), false).values().iterator(), limit);
+    }
+
+    /**
+     * Verilen zamanda veya önce başlamış son N maçın ID'lerini getirir (yakından uzağa)
+     * @param simdi Referans zamanı
+     * @param limit En fazla maç sayısı
+     * @return Maç ID'leri
+     */
+    public List<Long> sonMacIdleri(LocalDateTime simdi, int limit) {
+        return ilkN(cizelge.headMap(new ZamanAnahtari(simdi, Long.MAX_VALUE), true)
+                .descendingMap().values().iterator(), limit);
+    }
+
+    /**
+     * İndeksteki maç sayısı
+     */
+    public int boyut() {
+        return macAnahtarlari.size();
+    }
+
+    /**
+     * İndeksi veritabanıyla karşılaştırır
+     * @return Doğrulama raporu (tutarli, indeksBoyutu, veritabaniBoyutu, eksik, fazla, zamaniFarkli)
+     */
+    public Map<String, Object> dogrula() {
+        Map<Long, LocalDateTime> veritabani = new HashMap<>();
+        for (Object[] satir : macRepository.findYayindakiMacZamanlari()) {
+            veritabani.put((Long) satir[0], baslamaZamani((LocalDate) satir[1], (LocalTime) satir[2]));
+        }
+        Map<Long, ZamanAnahtari> indeks = new HashMap<>(macAnahtarlari);
+
+        List<Long> eksik = new ArrayList<>();
+        List<Long> zamaniFarkli = new ArrayList<>();
+        for (Map.Entry<Long, LocalDateTime> kayit : veritabani.entrySet()) {
+            ZamanAnahtari anahtar = indeks.get(kayit.getKey());
+            if (anahtar == null) {
+                eksik.add(kayit.getKey());
+            } else if (!anahtar.zaman.equals(kayit.getValue())) {
+                zamaniFarkli.add(kayit.getKey());
+            }
+        }
+        List<Long> fazla = new ArrayList<>();
+        for (Long macId : indeks.keySet()) {
+            if (!veritabani.containsKey(macId)) {
+                fazla.add(macId);
+            }
+        }
+        Collections.sort(eksik);
+        Collections.sort(fazla);
+        Collections.sort(zamaniFarkli);
+
+        Map<String, Object> rapor = new LinkedHashMap<>();
+        rapor.put("tutarli", eksik.isEmpty() && fazla.isEmpty() && zamaniFarkli.isEmpty());
+        rapor.put("indeksBoyutu", indeks.size());
+        rapor.put("veritabaniBoyutu", veritabani.size());
+        rapor.put("eksik", eksik);
+        rapor.put("fazla", fazla);
+        rapor.put("zamaniFarkli", zamaniFarkli);
+        return rapor;
+    }
+
+    /**
+     * Kilit altında çağrılmalı: maçı (varsa eski anahtarını silerek) yeni zamanla indekse koyar
+     */
+    private void ekle(Long macId, LocalDateTime zaman) {
+        ZamanAnahtari yeni = new ZamanAnahtari(zaman, macId);
+        ZamanAnahtari eski = macAnahtarlari.put(macId, yeni);
+        if (eski != null && !eski.equals(yeni)) {
+            cizelge.remove(eski);
+        }
+        cizelge.put(yeni, macId);
+    }
+
+    private static List<Long> ilkN(Iterator<Long> iterator, int limit) {
+        List<Long> sonuc = new ArrayList<>(Math.max(0, Math.min(limit, 64)));
+        while (sonuc.size() < limit && iterator.hasNext()) {
+            sonuc.add(iterator.next());
+        }
+        return sonuc;
+    }
+
+    private static LocalDateTime baslamaZamani(LocalDate tarih, LocalTime saat) {
+        if (tarih == null) {
+            // Tarihi olmayan maçlar en başa konur (geçmiş sayılır)
+            return LocalDateTime.MIN;
+        }
+        return saat != null ? LocalDateTime.of(tarih, saat) : tarih.atStartOfDay();
+    }
+
+    /**
+     * İndeks anahtarı: önce başlama zamanı, eşitlikte maç ID'si
+     */
+    static final class ZamanAnahtari implements Comparable<ZamanAnahtari> {
+        final LocalDateTime zaman;
+        final long macId;
+
+        ZamanAnahtari(LocalDateTime zaman, long macId) {
+            this.zaman = zaman;
+            this.macId = macId;
+        }
+
+        @Override
+        public int compareTo(ZamanAnahtari diger) {
+            int karsilastirma = zaman.compareTo(diger.zaman);
+            return karsilastirma != 0 ? karsilastirma : Long.compare(macId, diger.macId);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ZamanAnahtari)) return false;
+            ZamanAnahtari diger = (ZamanAnahtari) o;
+            return macId == diger.macId && zaman.equals(diger.zaman);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * zaman.hashCode() + Long.hashCode(macId);
+        }
+    }
+}
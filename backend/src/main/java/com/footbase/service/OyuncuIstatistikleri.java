@@ -0,0 +1,199 @@
+package com.footbase.service;
+
+import com.footbase.entity.MacOyuncuOlaylari;
+import com.footbase.repository.MacOyuncuOlaylariRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Oyuncu istatistik sayaçları (artımlı)
+ *
+ * Oyuncu başına gol, sarı kart, kırmızı kart ve maç sayısı oyuncu_istatistikleri tablosunda
+ * tutulur: bir "tüm zamanlar" satırı (sezon = 0, lig_id = 0) ve her (sezon, lig) için bir satır.
+ * Olay eklendiğinde veya silindiğinde yalnızca bu iki satıra, olayla aynı transaction içinde
+ * tek bir UPSERT ile fark eklenir; oyuncunun olayları hiçbir zaman yeniden sayılmaz.
+ *
+ * Maç sayısı, oyuncunun kadroda bulunduğu veya olayı olan farklı maçlardır: oyuncunun maçtaki
+ * ilk olayı (kadro kaydı yoksa) +1, son olayının silinmesi -1 yazar. Bu kontrol oyuncu satırı
+ * kilitlenerek yapılır, aynı oyuncuya eşzamanlı eklenen olaylar maçı iki kez saymaz.
+ *
+ * Sayaçlar periyodik olarak ve admin isteğiyle ham tablolardan yeniden hesaplanır
+ * (ör. kadro değişiklikleri veya oyuncu/maç silinince CASCADE ile giden olaylar için).
+ * Her değişiklik ve yeniden hesaplama LiderlikTablolari'na da bildirilir.
+ */
+@Service
+public class OyuncuIstatistikleri {
+
+    private static final Logger logger = LoggerFactory.getLogger(OyuncuIstatistikleri.class);
+
+    @Autowired
+    private MacOyuncuOlaylariRepository macOyuncuOlaylariRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private LiderlikTablolari liderlikTablolari;
+
+    @Value("${oyuncu.istatistik.yeniden-hesaplama-araligi-dakika:1440}")
+    private long yenidenHesaplamaAraligiDakika;
+
+    private final AtomicLong eklenenOlay = new AtomicLong();
+    private final AtomicLong silinenOlay = new AtomicLong();
+    private final AtomicLong okuma = new AtomicLong();
+    private final AtomicLong yenidenHesaplamaSayisi = new AtomicLong();
+    private volatile int sonHesaplananSatir = -1;
+
+    private TransactionTemplate transactionTemplate;
+    private ScheduledExecutorService zamanlayici;
+
+    @PostConstruct
+    public void baslat() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        zamanlayici = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "oyuncu-istatistik-hesaplama");
+            thread.setDaemon(true);
+            return thread;
+        });
+        zamanlayici.scheduleWithFixedDelay(this::yenidenHesaplaGuvenli,
+                yenidenHesaplamaAraligiDakika, yenidenHesaplamaAraligiDakika, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void durdur() {
+        if (zamanlayici != null) {
+            zamanlayici.shutdownNow();
+        }
+    }
+
+    /**
+     * Kaydedilen olayı oyuncunun sayaçlarına ekler
+     * Olayı kaydeden transaction içinde, kayıttan sonra çağrılmalıdır
+     * @param olay Kaydedilmiş olay (ID'si dolu)
+     */
+    public void olayEklendi(MacOyuncuOlaylari olay) {
+        farkUygula(olay, 1);
+        eklenenOlay.incrementAndGet();
+    }
+
+    /**
+     * Silinecek olayı oyuncunun sayaçlarından düşer
+     * Olayı silen transaction içinde, silmeden önce çağrılmalıdır
+     * @param olay Silinecek olay
+     */
+    public void olaySilindi(MacOyuncuOlaylari olay) {
+        farkUygula(olay, -1);
+        silinenOlay.incrementAndGet();
+    }
+
+    private void farkUygula(MacOyuncuOlaylari olay, int yon) {
+        Long oyuncuId = olay.getOyuncu().getId();
+        Long macId = olay.getMac().getId();
+
+        macOyuncuOlaylariRepository.oyuncuyuKilitle(oyuncuId);
+        boolean mactaBaskaKaydiVar = macOyuncuOlaylariRepository.mactaBaskaKaydiVar(oyuncuId, macId, olay.getId());
+
+        String olayTuru = olay.getOlayTuru();
+        int gol = "GOL".equals(olayTuru) ? yon : 0;
+        int sariKart = "SARI_KART".equals(olayTuru) ? yon : 0;
+        int kirmiziKart = "KIRMIZI_KART".equals(olayTuru) ? yon : 0;
+        int mac = mactaBaskaKaydiVar ? 0 : yon;
+
+        macOyuncuOlaylariRepository.istatistikFarkEkle(oyuncuId, macId, gol, sariKart, kirmiziKart, mac);
+        // Liderlik tabloları commit'ten sonra bu satırı okur
+        liderlikTablolari.oyuncuDegisti(oyuncuId, macId);
+    }
+
+    /**
+     * Oyuncunun istatistiklerini getirir (toplamlar ve sezon/lig kırılımı)
+     * @param oyuncuId Oyuncu ID'si
+     * @return toplam_gol, toplam_sari_kart, toplam_kirmizi_kart, toplam_mac ve sezonlar listesi
+     */
+    public Map<String, Object> getir(Long oyuncuId) {
+        okuma.incrementAndGet();
+        Map<String, Object> istatistik = new LinkedHashMap<>();
+        istatistik.put("toplam_gol", 0);
+        istatistik.put("toplam_sari_kart", 0);
+        istatistik.put("toplam_kirmizi_kart", 0);
+        istatistik.put("toplam_mac", 0);
+
+        List<Map<String, Object>> sezonlar = new ArrayList<>();
+        for (Object[] satir : macOyuncuOlaylariRepository.findIstatistiklerByOyuncuId(oyuncuId)) {
+            int sezon = ((Number) satir[0]).intValue();
+            if (sezon == 0) {
+                istatistik.put("toplam_gol", ((Number) satir[3]).intValue());
+                istatistik.put("toplam_sari_kart", ((Number) satir[4]).intValue());
+                istatistik.put("toplam_kirmizi_kart", ((Number) satir[5]).intValue());
+                istatistik.put("toplam_mac", ((Number) satir[6]).intValue());
+                continue;
+            }
+            long ligId = ((Number) satir[1]).longValue();
+            Map<String, Object> kirilim = new LinkedHashMap<>();
+            kirilim.put("sezon", sezon + "-" + String.format("%02d", (sezon + 1) % 100));
+            kirilim.put("lig_id", ligId == 0 ? null : ligId);
+            kirilim.put("lig_adi", satir[2]);
+            kirilim.put("gol", ((Number) satir[3]).intValue());
+            kirilim.put("sari_kart", ((Number) satir[4]).intValue());
+            kirilim.put("kirmizi_kart", ((Number) satir[5]).intValue());
+            kirilim.put("mac", ((Number) satir[6]).intValue());
+            sezonlar.add(kirilim);
+        }
+        istatistik.put("sezonlar", sezonlar);
+        return istatistik;
+    }
+
+    /**
+     * Tüm oyuncuların sayaçlarını mac_oyuncu_olaylari ve mac_kadrolari tablolarından yeniden hesaplar
+     * Çalıştığı sırada commit edilen olaylar bir sonraki hesaplamaya kadar sapma bırakabilir
+     * @return Yazılan istatistik satırı sayısı
+     */
+    public synchronized int yenidenHesapla() {
+        Integer satir = transactionTemplate.execute(durum -> {
+            macOyuncuOlaylariRepository.istatistikleriTemizle();
+            return macOyuncuOlaylariRepository.istatistikleriYenidenHesapla();
+        });
+        yenidenHesaplamaSayisi.incrementAndGet();
+        sonHesaplananSatir = satir != null ? satir : 0;
+        liderlikTablolari.yenidenOlustur();
+        return sonHesaplananSatir;
+    }
+
+    private void yenidenHesaplaGuvenli() {
+        try {
+            int satir = yenidenHesapla();
+            logger.info("✓ Oyuncu istatistikleri yeniden hesaplandı, satır: {}", satir);
+        } catch (RuntimeException e) {
+            logger.error("❌ Oyuncu istatistikleri yeniden hesaplanamadı: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Sayaç istatistikleri (admin paneli için)
+     */
+    public Map<String, Object> istatistikler() {
+        Map<String, Object> istatistik = new LinkedHashMap<>();
+        istatistik.put("eklenenOlay", eklenenOlay.get());
+        istatistik.put("silinenOlay", silinenOlay.get());
+        istatistik.put("okuma", okuma.get());
+        istatistik.put("yenidenHesaplamaSayisi", yenidenHesaplamaSayisi.get());
+        istatistik.put("sonHesaplananSatir", sonHesaplananSatir);
+        istatistik.put("yenidenHesaplamaAraligiDakika", yenidenHesaplamaAraligiDakika);
+        return istatistik;
+    }
+}
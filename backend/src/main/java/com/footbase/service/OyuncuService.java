@@ -10,6 +10,7 @@ import com.footbase.repository.OyuncuYorumlariRepository;
 import com.footbase.repository.TakimRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
 import java.util.List;
@@ -35,6 +36,9 @@ public class OyuncuService {
     @Autowired
     private KullaniciRepository kullaniciRepository;
 
+    @Autowired
+    private OyuncuYorumPuanlari oyuncuYorumPuanlari;
+
     /**
      * Tüm oyuncuları getirir
      * @return Oyuncu listesi
@@ -62,27 +66,9 @@ public class OyuncuService {
      */
     public Map<String, Object> oyuncuDetaylariniGetir(Long id) {
         Oyuncu oyuncu = oyuncuGetir(id);
-        List<OyuncuYorumlari> yorumlar = oyuncuYorumlariRepository.findByOyuncuIdOrderByOlusturmaTarihiDesc(id);
-        
-        // Ortalama puanı hesapla
-        List<Double> puanlar = new java.util.ArrayList<>();
-        for (OyuncuYorumlari yorum : yorumlar) {
-            String icerik = yorum.getIcerik();
-            if (icerik != null && icerik.startsWith("[") && icerik.contains("/10]")) {
-                try {
-                    String puanStr = icerik.substring(1, icerik.indexOf("/10]"));
-                    double puan = Double.parseDouble(puanStr);
-                    puanlar.add(puan);
-                } catch (Exception e) {
-                    // Hata olursa atla
-                }
-            }
-        }
-        
-        double ortalamaPuan = 0.0;
-        if (!puanlar.isEmpty()) {
-            ortalamaPuan = puanlar.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
-        }
+
+        // Ortalama puan, yorumlar yüklenmeden oyuncunun puan özetinden (tek satır)
+        Map<String, Object> puanOzeti = oyuncuYorumPuanlari.ozet(id);
         
         // Map formatında döndür (hem backend hem frontend field adlarını destekle)
         Map<String, Object> detay = new HashMap<>();
@@ -96,8 +82,7 @@ public class OyuncuService {
         detay.put("milliyet", oyuncu.getMilliyet());
         detay.put("fotograf", oyuncu.getFotograf());
         detay.put("imageUrl", oyuncu.getFotograf()); // Frontend için
-        detay.put("averageRating", ortalamaPuan);
-        detay.put("ratingCount", puanlar.size());
+        detay.putAll(puanOzeti);
         
         // Takım bilgisi varsa ekle
         if (oyuncu.getTakim() != null) {
@@ -207,18 +192,7 @@ public class OyuncuService {
             map.put("id", yorum.getId());
             map.put("comment", yorum.getIcerik());
             map.put("icerik", yorum.getIcerik());
-            // Yorum içeriğinden puan bilgisini çıkarmaya çalış
-            String icerik = yorum.getIcerik();
-            if (icerik != null && icerik.startsWith("[") && icerik.contains("/10]")) {
-                try {
-                    String puanStr = icerik.substring(1, icerik.indexOf("/10]"));
-                    map.put("score", Double.parseDouble(puanStr));
-                } catch (Exception e) {
-                    map.put("score", null);
-                }
-            } else {
-                map.put("score", null);
-            }
+            map.put("score", yorum.getPuan() != null ? yorum.getPuan().doubleValue() : null);
             map.put("author", yorum.getKullanici() != null ? yorum.getKullanici().getKullaniciAdi() : null);
             map.put("olusturmaTarihi", yorum.getOlusturmaTarihi());
             return map;
@@ -233,14 +207,18 @@ public class OyuncuService {
      * @param comment Yorum içeriği
      * @return Oluşturulan yorum
      */
+    @Transactional
     public OyuncuYorumlari oyuncuYorumEkle(Long oyuncuId, Long kullaniciId, Integer score, String comment) {
         Oyuncu oyuncu = oyuncuGetir(oyuncuId);
         Kullanici kullanici = kullaniciRepository.findById(kullaniciId)
                 .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
         
         // Yorum içeriğini oluştur - puan varsa başa ekle
+        // Puan ayrıca puan kolonunda tutulur; metindeki önek eski istemciler için korunur
         String icerik = comment != null && !comment.trim().isEmpty() ? comment.trim() : "";
+        Integer puan = null;
         if (score != null && score >= 1 && score <= 10) {
+            puan = score;
             icerik = String.format("[%d/10] %s", score, icerik).trim();
         }
         
@@ -252,8 +230,14 @@ public class OyuncuService {
         yorum.setOyuncu(oyuncu);
         yorum.setKullanici(kullanici);
         yorum.setIcerik(icerik);
+        yorum.setPuan(puan);
         
-        return oyuncuYorumlariRepository.save(yorum);
+        OyuncuYorumlari kaydedilen = oyuncuYorumlariRepository.save(yorum);
+        if (puan != null) {
+            // Oyuncu puan özeti aynı transaction içinde artırılır
+            oyuncuYorumPuanlari.puanEklendi(oyuncuId, puan);
+        }
+        return kaydedilen;
     }
 }
 
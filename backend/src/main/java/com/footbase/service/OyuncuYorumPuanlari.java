@@ -0,0 +1,145 @@
+package com.footbase.service;
+
+import com.footbase.repository.OyuncuYorumlariRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Oyuncu yorum puanı özetleri (artımlı)
+ *
+ * Oyuncu başına puan toplamı ve puanlı yorum sayısı oyuncu_yorum_puanlari tablosunda tutulur.
+ * Puanlı yorum eklendiğinde özet, yorumla aynı transaction içinde tek bir UPSERT ile artırılır;
+ * profildeki ortalama yorumlar yüklenmeden bu tek satırdan hesaplanır.
+ *
+ * Yorumlar uygulama dışında da gidebilir (ör. kullanıcı silinince CASCADE ile), bu yüzden özetler
+ * periyodik olarak ve admin isteğiyle oyuncu_yorumlari tablosundan yeniden hesaplanır.
+ */
+@Service
+public class OyuncuYorumPuanlari {
+
+    private static final Logger logger = LoggerFactory.getLogger(OyuncuYorumPuanlari.class);
+
+    @Autowired
+    private OyuncuYorumlariRepository oyuncuYorumlariRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${oyuncu.yorum-puan.yeniden-hesaplama-araligi-dakika:1440}")
+    private long yenidenHesaplamaAraligiDakika;
+
+    private final AtomicLong eklenenPuan = new AtomicLong();
+    private final AtomicLong okuma = new AtomicLong();
+    private final AtomicLong yenidenHesaplamaSayisi = new AtomicLong();
+    private volatile int sonDuzeltilenSatir = -1;
+
+    private TransactionTemplate transactionTemplate;
+    private ScheduledExecutorService zamanlayici;
+
+    @PostConstruct
+    public void baslat() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        zamanlayici = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "oyuncu-yorum-puan-hesaplama");
+            thread.setDaemon(true);
+            return thread;
+        });
+        zamanlayici.scheduleWithFixedDelay(this::yenidenHesaplaGuvenli,
+                yenidenHesaplamaAraligiDakika, yenidenHesaplamaAraligiDakika, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void durdur() {
+        if (zamanlayici != null) {
+            zamanlayici.shutdownNow();
+        }
+    }
+
+    /**
+     * Kaydedilen yorumun puanını oyuncunun özetine ekler
+     * Yorumu kaydeden transaction içinde, kayıttan sonra çağrılmalıdır
+     * @param oyuncuId Oyuncu ID'si
+     * @param puan Puan (1-10)
+     */
+    public void puanEklendi(Long oyuncuId, int puan) {
+        oyuncuYorumlariRepository.puanOzetineEkle(oyuncuId, puan);
+        eklenenPuan.incrementAndGet();
+    }
+
+    /**
+     * Oyuncunun ortalama puanını ve puanlı yorum sayısını getirir
+     * @param oyuncuId Oyuncu ID'si
+     * @return averageRating (puan yoksa 0.0) ve ratingCount
+     */
+    public Map<String, Object> ozet(Long oyuncuId) {
+        okuma.incrementAndGet();
+        double ortalamaPuan = 0.0;
+        int puanSayisi = 0;
+        List<Object[]> satirlar = oyuncuYorumlariRepository.findPuanOzeti(oyuncuId);
+        if (!satirlar.isEmpty()) {
+            long puanToplami = ((Number) satirlar.get(0)[0]).longValue();
+            puanSayisi = ((Number) satirlar.get(0)[1]).intValue();
+            if (puanSayisi > 0) {
+                ortalamaPuan = (double) puanToplami / puanSayisi;
+            }
+        }
+        Map<String, Object> ozet = new LinkedHashMap<>();
+        ozet.put("averageRating", ortalamaPuan);
+        ozet.put("ratingCount", puanSayisi);
+        return ozet;
+    }
+
+    /**
+     * Tüm oyuncuların puan özetlerini oyuncu_yorumlari tablosundan yeniden hesaplar
+     * Özet tablosu kilitlendiği için çalıştığı sırada eklenen puanlar sapma bırakmaz:
+     * kilitten önce eklenenler sayıma girer, sonra eklenenler özete hesaplamadan sonra eklenir
+     * @return Silinen, eklenen veya düzeltilen özet satırı sayısı
+     */
+    public synchronized int yenidenHesapla() {
+        Integer satir = transactionTemplate.execute(durum -> {
+            oyuncuYorumlariRepository.puanOzetleriniKilitle();
+            int silinen = oyuncuYorumlariRepository.bosPuanOzetleriniSil();
+            return silinen + oyuncuYorumlariRepository.puanOzetleriniYenidenHesapla();
+        });
+        yenidenHesaplamaSayisi.incrementAndGet();
+        sonDuzeltilenSatir = satir != null ? satir : 0;
+        return sonDuzeltilenSatir;
+    }
+
+    private void yenidenHesaplaGuvenli() {
+        try {
+            int satir = yenidenHesapla();
+            logger.info("✓ Oyuncu yorum puanları yeniden hesaplandı, düzeltilen satır: {}", satir);
+        } catch (RuntimeException e) {
+            logger.error("❌ Oyuncu yorum puanları yeniden hesaplanamadı: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Puan özeti istatistikleri (admin paneli için)
+     */
+    public Map<String, Object> istatistikler() {
+        Map<String, Object> istatistik = new LinkedHashMap<>();
+        istatistik.put("eklenenPuan", eklenenPuan.get());
+        istatistik.put("okuma", okuma.get());
+        istatistik.put("yenidenHesaplamaSayisi", yenidenHesaplamaSayisi.get());
+        istatistik.put("sonDuzeltilenSatir", sonDuzeltilenSatir);
+        istatistik.put("yenidenHesaplamaAraligiDakika", yenidenHesaplamaAraligiDakika);
+        return istatistik;
+    }
+}
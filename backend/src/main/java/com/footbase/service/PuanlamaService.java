@@ -6,6 +6,7 @@ import com.footbase.repository.PuanlamaRepository;
 import com.footbase.repository.KullaniciRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
 import java.util.List;
@@ -27,6 +28,9 @@ public class PuanlamaService {
     @Autowired
     private com.footbase.repository.MacRepository macRepository;
 
+    @Autowired
+    private MacPuanToplamlari macPuanToplamlari;
+
     /**
      * Maça ait puanlamaları getirir
      * @param macId Maç ID'si
@@ -38,12 +42,14 @@ public class PuanlamaService {
 
     /**
      * Maça puanlama yapar veya günceller
+     * Maçın puan toplamlarına yalnızca eski ve yeni puanlama arasındaki fark eklenir
      * @param macId Maç ID'si
      * @param kullaniciId Kullanıcı ID'si
      * @param puan Puan (0-100 arası)
      * @param agirlik Ağırlık (1-3 arası)
      * @return Oluşturulan veya güncellenmiş puanlama
      */
+    @Transactional
     public Puanlama macPuanla(Long macId, Long kullaniciId, Integer puan, Integer agirlik) {
         // Puan kontrolü
         if (puan < 0 || puan > 100) {
@@ -60,16 +66,20 @@ public class PuanlamaService {
         Kullanici kullanici = kullaniciRepository.findById(kullaniciId)
                 .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
 
-        // Daha önce puanlama yapılmış mı kontrol et
+        // Daha önce puanlama yapılmış mı kontrol et (satır kilitli, eşzamanlı güncelleme farkı bozmasın)
         Puanlama mevcutPuanlama = puanlamaRepository
-                .findByKullaniciIdAndMacId(kullaniciId, macId)
+                .findKilitliByKullaniciIdAndMacId(kullaniciId, macId)
                 .orElse(null);
 
         if (mevcutPuanlama != null) {
             // Mevcut puanlamayı güncelle
+            long eskiAgirlikli = (long) mevcutPuanlama.getPuan() * mevcutPuanlama.getAgirlik();
+            int eskiAgirlik = mevcutPuanlama.getAgirlik();
             mevcutPuanlama.setPuan(puan);
             mevcutPuanlama.setAgirlik(agirlik);
-            return puanlamaRepository.save(mevcutPuanlama);
+            Puanlama kaydedilen = puanlamaRepository.save(mevcutPuanlama);
+            macPuanToplamlari.farkEkle(macId, (long) puan * agirlik - eskiAgirlikli, agirlik - eskiAgirlik, 0);
+            return kaydedilen;
         } else {
             // Yeni puanlama oluştur
             Puanlama yeniPuanlama = new Puanlama();
@@ -77,22 +87,24 @@ public class PuanlamaService {
             yeniPuanlama.setKullanici(kullanici);
             yeniPuanlama.setPuan(puan);
             yeniPuanlama.setAgirlik(agirlik);
-            return puanlamaRepository.save(yeniPuanlama);
+            Puanlama kaydedilen = puanlamaRepository.save(yeniPuanlama);
+            macPuanToplamlari.farkEkle(macId, (long) puan * agirlik, agirlik, 1);
+            return kaydedilen;
         }
     }
 
     /**
-     * Maçın ortalama puanını hesaplar
+     * Maçın ağırlıklı ortalama puanını getirir
+     * Puanlamalar toplanmaz; artımlı tutulan maç toplamlarından okunur
      * @param macId Maç ID'si
      * @return Ortalama puan bilgileri
      */
     public Map<String, Object> macOrtalamaPuaniniGetir(Long macId) {
-        Double ortalamaPuan = puanlamaRepository.findOrtalamaPuanByMacId(macId);
-        Long puanlamaSayisi = puanlamaRepository.countByMacId(macId);
+        MacPuanToplamlari.Toplam toplam = macPuanToplamlari.getir(macId);
 
         Map<String, Object> sonuc = new HashMap<>();
-        sonuc.put("ortalamaPuan", ortalamaPuan != null ? ortalamaPuan : 0.0);
-        sonuc.put("puanlamaSayisi", puanlamaSayisi);
+        sonuc.put("ortalamaPuan", toplam.ortalama());
+        sonuc.put("puanlamaSayisi", (long) toplam.getSayi());
 
         return sonuc;
     }
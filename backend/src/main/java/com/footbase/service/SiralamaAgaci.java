@@ -0,0 +1,249 @@
+package com.footbase.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Sıralama Ağacı (order-statistic AVL ağacı)
+ *
+ * Her düğüm alt ağacının eleman sayısını tutar; böylece sıralı konum sorguları da
+ * ekleme/silme gibi en kötü durumda O(log n) olur:
+ * - ekle / sil: O(log n)
+ * - kucukSay (elemandan önce gelen eleman sayısı, yani sıra): O(log n)
+ * - sec (k. eleman): O(log n)
+ * - aralik (k. elemandan başlayan sayfa): O(log n + sayfa boyutu)
+ *
+ * Eşit (karşılaştırıcıya göre 0) iki eleman tutulmaz; karşılaştırıcı tekil bir anahtar
+ * (ör. puan + oyuncu ID'si) tanımlamalıdır. İş parçacığı güvenli değildir, çağıran kilitler.
+ *
+ * @param <T> Eleman tipi
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+public class SiralamaAgaci<T> {
+
+    private final Comparator<? super T> karsilastirici;
+    private Dugum<T> kok;
+
+    public SiralamaAgaci(Comparator<? super T> karsilastirici) {
+        this.karsilastirici = karsilastirici;
+    }
+
+    /**
+     * Elemanı ekler
+     * @throws IllegalArgumentException Eşit eleman zaten varsa
+     */
+    public void ekle(T deger) {
+        kok = ekle(kok, deger);
+    }
+
+    /**
+     * Elemanı siler
+     * @return Eleman ağaçta varsa true
+     */
+    public boolean sil(T deger) {
+        int onceki = boyut();
+        kok = sil(kok, deger);
+        return boyut() < onceki;
+    }
+
+    public int boyut() {
+        return boyut(kok);
+    }
+
+    public boolean bosMu() {
+        return kok == null;
+    }
+
+    /**
+     * Verilen değerden önce gelen (karşılaştırıcıya göre küçük) eleman sayısı
+     * Değer ağaçtaysa 0 tabanlı sırasıdır
+     */
+    public int kucukSay(T deger) {
+        int sayi = 0;
+        Dugum<T> dugum = kok;
+        while (dugum != null) {
+            if (karsilastirici.compare(deger, dugum.deger) <= 0) {
+                dugum = dugum.sol;
+            } else {
+                sayi += boyut(dugum.sol) + 1;
+                dugum = dugum.sag;
+            }
+        }
+        return sayi;
+    }
+
+    /**
+     * Sıralamada verilen konumdaki eleman
+     * @param sira 0 tabanlı konum
+     */
+    public T sec(int sira) {
+        if (sira < 0 || sira >= boyut()) {
+            throw new IndexOutOfBoundsException("Geçersiz sıra: " + sira);
+        }
+        Dugum<T> dugum = kok;
+        while (true) {
+            int solBoyut = boyut(dugum.sol);
+            if (sira < solBoyut) {
+                dugum = dugum.sol;
+            } else if (sira == solBoyut) {
+                return dugum.deger;
+            } else {
+                sira -= solBoyut + 1;
+                dugum = dugum.sag;
+            }
+        }
+    }
+
+    /**
+     * Verilen konumdan başlayarak en fazla adet kadar elemanı sırayla döndürür
+     * @param baslangic 0 tabanlı başlangıç konumu
+     * @param adet En fazla eleman sayısı
+     */
+    public List<T> aralik(int baslangic, int adet) {
+        List<T> sonuc = new ArrayList<>(Math.max(0, Math.min(adet, boyut() - baslangic)));
+        if (baslangic < 0 || adet <= 0) {
+            return sonuc;
+        }
+        // Başlangıç elemanına inerken, ondan sonra gelen ataları yığına koy
+        Deque<Dugum<T>> yigin = new ArrayDeque<>();
+        Dugum<T> dugum = kok;
+        int sira = baslangic;
+        while (dugum != null) {
+            int solBoyut = boyut(dugum.sol);
+            if (sira < solBoyut) {
+                yigin.push(dugum);
+                dugum = dugum.sol;
+            } else if (sira == solBoyut) {
+                yigin.push(dugum);
+                break;
+            } else {
+                sira -= solBoyut + 1;
+                dugum = dugum.sag;
+            }
+        }
+        // Sıralı (in-order) gezinti
+        while (sonuc.size() < adet && !yigin.isEmpty()) {
+            Dugum<T> siradaki = yigin.pop();
+            sonuc.add(siradaki.deger);
+            for (Dugum<T> alt = siradaki.sag; alt != null; alt = alt.sol) {
+                yigin.push(alt);
+            }
+        }
+        return sonuc;
+    }
+
+    private Dugum<T> ekle(Dugum<T> dugum, T deger) {
+        if (dugum == null) {
+            return new Dugum<>(deger);
+        }
+        int karsilastirma = karsilastirici.compare(deger, dugum.deger);
+        if (karsilastirma < 0) {
+            dugum.sol = ekle(dugum.sol, deger);
+        } else if (karsilastirma > 0) {
+            dugum.sag = ekle(dugum.sag, deger);
+        } else {
+            throw new IllegalArgumentException("Eleman zaten var: " + deger);
+        }
+        return dengele(dugum);
+    }
+
+    private Dugum<T> sil(Dugum<T> dugum, T deger) {
+        if (dugum == null) {
+            return null;
+        }
+        int karsilastirma = karsilastirici.compare(deger, dugum.deger);
+        if (karsilastirma < 0) {
+            dugum.sol = sil(dugum.sol, deger);
+        } else if (karsilastirma > 0) {
+            dugum.sag = sil(dugum.sag, deger);
+        } else {
+            if (dugum.sol == null) {
+                return dugum.sag;
+            }
+            if (dugum.sag == null) {
+                return dugum.sol;
+            }
+            Dugum<T> ardil = dugum.sag;
+            while (ardil.sol != null) {
+                ardil = ardil.sol;
+            }
+            ardil.sag = enKucuguSil(dugum.sag);
+            ardil.sol = dugum.sol;
+            dugum = ardil;
+        }
+        return dengele(dugum);
+    }
+
+    private Dugum<T> enKucuguSil(Dugum<T> dugum) {
+        if (dugum.sol == null) {
+            return dugum.sag;
+        }
+        dugum.sol = enKucuguSil(dugum.sol);
+        return dengele(dugum);
+    }
+
+    private Dugum<T> dengele(Dugum<T> dugum) {
+        guncelle(dugum);
+        int denge = yukseklik(dugum.sol) - yukseklik(dugum.sag);
+        if (denge > 1) {
+            if (yukseklik(dugum.sol.sol) < yukseklik(dugum.sol.sag)) {
+                dugum.sol = solaDondur(dugum.sol);
+            }
+            return sagaDondur(dugum);
+        }
+        if (denge < -1) {
+            if (yukseklik(dugum.sag.sag) < yukseklik(dugum.sag.sol)) {
+                dugum.sag = sagaDondur(dugum.sag);
+            }
+            return solaDondur(dugum);
+        }
+        return dugum;
+    }
+
+    private Dugum<T> sagaDondur(Dugum<T> dugum) {
+        Dugum<T> yeniKok = dugum.sol;
+        dugum.sol = yeniKok.sag;
+        yeniKok.sag = dugum;
+        guncelle(dugum);
+        guncelle(yeniKok);
+        return yeniKok;
+    }
+
+    private Dugum<T> solaDondur(Dugum<T> dugum) {
+        Dugum<T> yeniKok = dugum.sag;
+        dugum.sag = yeniKok.sol;
+        yeniKok.sol = dugum;
+        guncelle(dugum);
+        guncelle(yeniKok);
+        return yeniKok;
+    }
+
+    private static <T> void guncelle(Dugum<T> dugum) {
+        dugum.yukseklik = 1 + Math.max(yukseklik(dugum.sol), yukseklik(dugum.sag));
+        dugum.boyut = 1 + boyut(dugum.sol) + boyut(dugum.sag);
+    }
+
+    private static int yukseklik(Dugum<?> dugum) {
+        return dugum == null ? 0 : dugum.yukseklik;
+    }
+
+    private static int boyut(Dugum<?> dugum) {
+        return dugum == null ? 0 : dugum.boyut;
+    }
+
+    private static final class Dugum<T> {
+        private final T deger;
+        private Dugum<T> sol;
+        private Dugum<T> sag;
+        private int yukseklik = 1;
+        private int boyut = 1;
+
+        Dugum(T deger) {
+            this.deger = deger;
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package com.footbase.service;
+
+import com.footbase.dto.SonYorumDTO;
+import com.footbase.entity.Mac;
+import com.footbase.repository.YorumRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Son Yorumlar Tamponu
+ *
+ * Kabul edilen en son yorumları sabit boyutlu, kilitsiz bir halka tamponda kompakt DTO
+ * olarak tutar. Ana sayfanın "son yorumlar" listesi veritabanına gitmeden buradan okunur.
+ *
+ * - Ekleme: sıra numarası atomik olarak alınır, hücreye (sıra, yorum) çifti yazılır
+ * - Okuma: en yeni sıradan geriye doğru hücreler okunur; hücredeki sıra beklenen sıra değilse
+ *   (henüz yazılmamış ya da üzerine yazılmış) atlanır. Sadece sonuç listesi ayrılır.
+ * - Silme/güncelleme: ilgili hücre compareAndSet ile boşaltılır veya yeni DTO ile değiştirilir
+ * - Uygulama açılışında (ve silmelerle tampon çok boşalırsa) veritabanından doldurulur
+ * - Silinen yorum ve maç ID'leri bir süre hatırlanır: silme commit edilmeden okunmuş bir doldurma
+ *   bunları geri getiremez. Okuma da aynı yorumu iki kez döndürmez (en yeni kopya kalır).
+ *
+ * surum() her değişiklikte artar; okuyucular hazırladıkları listeyi bu değere göre önbelleğe alabilir.
+ */
+@Service
+public class SonYorumlarTamponu {
+
+    private static final Logger logger = LoggerFactory.getLogger(SonYorumlarTamponu.class);
+
+    /**
+     * Silinen ID'lerin hatırlanma süresi (silen transaction'ın commit'ini ve o sırada veritabanını
+     * okumuş bir doldurmayı kapsayacak kadar uzun)
+     */
+    private static final long SILINME_HATIRLAMA_NS = TimeUnit.MINUTES.toNanos(1);
+
+    @Autowired
+    private YorumRepository yorumRepository;
+
+    @Autowired
+    private MacVeriDoldurucu macVeriDoldurucu;
+
+    private final int kapasite;
+    private final int maske;
+    private final AtomicReferenceArray<Hucre> hucreler;
+
+    /**
+     * Bir sonraki yazılacak sıra numarası
+     * Kapasiteden başlar; böylece yeniden doldurma her zaman mevcut sıranın altına yazabilir
+     */
+    private final AtomicLong sira;
+    private final AtomicLong surum = new AtomicLong();
+    private final AtomicBoolean dolduruluyor = new AtomicBoolean();
+
+    /**
+     * Maç ID'si -> "Ev Sahibi vs Deplasman" (yeni yorumda takım sorgusu tekrarlanmasın)
+     */
+    private final ConcurrentHashMap<Long, String> macBilgileri = new ConcurrentHashMap<>();
+
+    /**
+     * Yakın zamanda silinen yorum / maç ID'si -> silinme zamanı (nanoTime)
+     */
+    private final ConcurrentHashMap<Long, Long> silinenYorumlar = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> silinenMaclar = new ConcurrentHashMap<>();
+
+    public SonYorumlarTamponu(@Value("${yorum.son.kapasite:128}") int istenenKapasite) {
+        int boyut = istenenKapasite <= 16 ? 16 : Integer.highestOneBit(istenenKapasite - 1) << 1;
+        this.kapasite = boyut;
+        this.maske = boyut - 1;
+        this.hucreler = new AtomicReferenceArray<>(boyut);
+        this.sira = new AtomicLong(boyut);
+    }
+
+    /**
+     * Uygulama açıldığında tamponu veritabanından doldurur
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void baslangictaDoldur() {
+        try {
+            int yuklenen = yenidenDoldur();
+            logger.info("✓ Son yorumlar tamponu dolduruldu ({} yorum)", yuklenen);
+        } catch (Exception e) {
+            logger.error("✗ Son yorumlar tamponu doldurulamadı: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Yeni kabul edilen yorumu tampona ekler
+     */
+    public void ekle(Long yorumId, Long macId, String kullaniciAdi, String mesaj, LocalDateTime yorumTarihi) {
+        SonYorumDTO yorum = new SonYorumDTO(yorumId, macId, macBilgisi(macId), kullaniciAdi, mesaj, yorumTarihi);
+        long s = sira.getAndIncrement();
+        hucreler.set((int) (s & maske), new Hucre(s, yorum));
+        surum.incrementAndGet();
+    }
+
+    /**
+     * En son yorumları yeniden eskiye döndürür
+     * Silinmiş yorumlar ve aynı yorumun daha eski kopyaları atlanır
+     * @param limit En fazla yorum sayısı
+     */
+    public List<SonYorumDTO> sonYorumlar(int limit) {
+        List<SonYorumDTO> sonuc = new ArrayList<>(Math.min(limit, kapasite));
+        long son = sira.get();
+        long alt = son - kapasite;
+        for (long s = son - 1; s >= alt && sonuc.size() < limit; s--) {
+            Hucre hucre = hucreler.get((int) (s & maske));
+            if (hucre != null && hucre.sira == s && !silindiMi(hucre.yorum) && !listede(sonuc, hucre.yorum.getId())) {
+                sonuc.add(hucre.yorum);
+            }
+        }
+        return sonuc;
+    }
+
+    /**
+     * Sonuç listesi en fazla kapasite kadardır; doğrusal arama ek nesne ayırmaz
+     */
+    private static boolean listede(List<SonYorumDTO> liste, Long yorumId) {
+        for (int i = 0; i < liste.size(); i++) {
+            if (liste.get(i).getId().equals(yorumId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean silindiMi(SonYorumDTO yorum) {
+        return silinenYorumlar.containsKey(yorum.getId())
+                || (yorum.getMacId() != null && silinenMaclar.containsKey(yorum.getMacId()));
+    }
+
+    /**
+     * Silinen yorumu tampondan çıkarır
+     */
+    public void cikar(Long yorumId) {
+        // Önce hatırlanır, sonra aranır: eşzamanlı doldurma ya bunu görür ya da yazdığını bu tarama siler
+        silinenYorumlar.put(yorumId, System.nanoTime());
+        boolean degisti = false;
+        for (int i = 0; i < kapasite; i++) {
+            Hucre hucre = hucreler.get(i);
+            if (hucre != null && hucre.yorum.getId().equals(yorumId)) {
+                degisti |= hucreler.compareAndSet(i, hucre, null);
+            }
+        }
+        if (degisti) {
+            surum.incrementAndGet();
+            azsaDoldur();
+        }
+    }
+
+    /**
+     * Silinen maçın yorumlarını tampondan çıkarır
+     */
+    public void macYorumlariniCikar(Long macId) {
+        silinenMaclar.put(macId, System.nanoTime());
+        boolean degisti = false;
+        for (int i = 0; i < kapasite; i++) {
+            Hucre hucre = hucreler.get(i);
+            if (hucre != null && macId.equals(hucre.yorum.getMacId())) {
+                degisti |= hucreler.compareAndSet(i, hucre, null);
+            }
+        }
+        macBilgileri.remove(macId);
+        if (degisti) {
+            surum.incrementAndGet();
+            azsaDoldur();
+        }
+    }
+
+    /**
+     * Güncellenen yorumun mesajını tamponda değiştirir
+     */
+    public void guncelle(Long yorumId, String yeniMesaj) {
+        for (int i = 0; i < kapasite; i++) {
+            Hucre hucre = hucreler.get(i);
+            if (hucre != null && hucre.yorum.getId().equals(yorumId)) {
+                if (hucreler.compareAndSet(i, hucre, new Hucre(hucre.sira, hucre.yorum.mesajIle(yeniMesaj)))) {
+                    surum.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Tampon içeriği her değiştiğinde artan sürüm numarası
+     */
+    public long surum() {
+        return surum.get();
+    }
+
+    /**
+     * Silmelerden sonra görünür yorum sayısı kapasitenin çeyreğinin altına inerse yeniden doldurur
+     */
+    private void azsaDoldur() {
+        if (sonYorumlar(kapasite / 4).size() < kapasite / 4) {
+            try {
+                yenidenDoldur();
+            } catch (Exception e) {
+                logger.error("✗ Son yorumlar tamponu yeniden doldurulamadı: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Tamponu veritabanındaki en son yorumlarla doldurur
+     *
+     * Yorumlar mevcut sıranın ALTINA (daha eski konumlara) yazılır; doldurma sırasında eklenen
+     * yeni yorumlar bu yüzden en üstte kalır ve üzerine yazılmaz. O sırada eklenip veritabanı
+     * sonucunda da bulunan yorumlar ikinci kez yazılmaz; yazmadan sonra eklenenlerin eski
+     * kopyaları sonda geri alınır. Silinmiş olarak hatırlanan yorumlar yazılmaz.
+     *
+     * @return Tampona yazılan yorum sayısı
+     */
+    public int yenidenDoldur() {
+        if (!dolduruluyor.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            eskiSilinmeleriUnut();
+            long baslangic = sira.get();
+            List<Object[]> satirlar = yorumRepository.findSonYorumOzetleri(PageRequest.of(0, kapasite));
+
+            // Maç bilgileri tek seferde (takım sorgusu parça başına bir kez)
+            List<Mac> eksikMaclar = new ArrayList<>();
+            Set<Long> gorulenMaclar = new HashSet<>();
+            for (Object[] satir : satirlar) {
+                Long macId = (Long) satir[1];
+                if (macId != null && !macBilgileri.containsKey(macId) && gorulenMaclar.add(macId)) {
+                    Mac mac = new Mac();
+                    mac.setId(macId);
+                    eksikMaclar.add(mac);
+                }
+            }
+            macBilgileriniYukle(eksikMaclar);
+
+            // Doldurma sırasında canlı eklenen yorumlar
+            CanliEklemeler canlilar = canliEklemeler(baslangic);
+
+            List<Hucre> yazilanlar = new ArrayList<>();
+            long hedef = baslangic - 1;
+            for (Object[] satir : satirlar) {
+                Long yorumId = (Long) satir[0];
+                Long macId = (Long) satir[1];
+                SonYorumDTO yorum = new SonYorumDTO(yorumId, macId,
+                        macId != null ? macBilgileri.getOrDefault(macId, "") : "",
+                        (String) satir[2], (String) satir[3], (LocalDateTime) satir[4]);
+                if (canlilar.kapsar(yorum) || silindiMi(yorum)) {
+                    continue;
+                }
+                if (hedef < sira.get() - kapasite) {
+                    break; // Kalan eski konumlar canlı eklemelere ait
+                }
+                int indeks = (int) (hedef & maske);
+                Hucre mevcut = hucreler.get(indeks);
+                if (mevcut != null && mevcut.sira > hedef) {
+                    break;
+                }
+                Hucre yeni = new Hucre(hedef, yorum);
+                if (hucreler.compareAndSet(indeks, mevcut, yeni)) {
+                    yazilanlar.add(yeni);
+                }
+                hedef--;
+            }
+
+            // Yazma sırasında silinen veya canlı eklenen yorumların yazılan kopyaları geri alınır
+            canlilar = canliEklemeler(baslangic);
+            int yazilan = 0;
+            for (Hucre hucre : yazilanlar) {
+                if (silindiMi(hucre.yorum) || canlilar.kapsar(hucre.yorum)) {
+                    hucreler.compareAndSet((int) (hucre.sira & maske), hucre, null);
+                } else {
+                    yazilan++;
+                }
+            }
+
+            // Veritabanında daha eski yorum yoksa kalan eski konumlar boşaltılır
+            for (; hedef >= baslangic - kapasite && hedef >= sira.get() - kapasite; hedef--) {
+                int indeks = (int) (hedef & maske);
+                Hucre mevcut = hucreler.get(indeks);
+                if (mevcut != null && mevcut.sira <= hedef) {
+                    hucreler.compareAndSet(indeks, mevcut, null);
+                }
+            }
+
+            if (macBilgileri.size() > kapasite * 4) {
+                macBilgileri.clear();
+            }
+            surum.incrementAndGet();
+            return yazilan;
+        } finally {
+            dolduruluyor.set(false);
+        }
+    }
+
+    /**
+     * Doldurma başladıktan sonra canlı eklenen yorumları toplar
+     */
+    private CanliEklemeler canliEklemeler(long baslangic) {
+        CanliEklemeler canlilar = new CanliEklemeler();
+        for (long s = baslangic; s < sira.get(); s++) {
+            Hucre hucre = hucreler.get((int) (s & maske));
+            if (hucre != null && hucre.sira == s) {
+                canlilar.ekle(hucre.yorum);
+            }
+        }
+        return canlilar;
+    }
+
+    /**
+     * Hatırlama süresi dolan silinmeleri unutur (doldurma başında)
+     */
+    private void eskiSilinmeleriUnut() {
+        long sinir = System.nanoTime() - SILINME_HATIRLAMA_NS;
+        silinenYorumlar.values().removeIf(zaman -> zaman - sinir < 0);
+        silinenMaclar.values().removeIf(zaman -> zaman - sinir < 0);
+    }
+
+    /**
+     * Maçın "Ev Sahibi vs Deplasman" bilgisini getirir (ilk kez görülen maç için tek sorgu)
+     */
+    private String macBilgisi(Long macId) {
+        if (macId == null) {
+            return "";
+        }
+        String bilgi = macBilgileri.get(macId);
+        if (bilgi == null) {
+            Mac mac = new Mac();
+            mac.setId(macId);
+            macBilgileriniYukle(Collections.singletonList(mac));
+            bilgi = macBilgileri.getOrDefault(macId, "");
+        }
+        return bilgi;
+    }
+
+    private void macBilgileriniYukle(List<Mac> maclar) {
+        if (maclar.isEmpty()) {
+            return;
+        }
+        try {
+            macVeriDoldurucu.takimBilgileriniDoldur(maclar);
+        } catch (Exception e) {
+            // Takım bilgileri alınamazsa boş bilgi kullanılır
+        }
+        for (Mac mac : maclar) {
+            String bilgi = "";
+            if (mac.getEvSahibiTakim() != null && mac.getDeplasmanTakim() != null) {
+                bilgi = mac.getEvSahibiTakim().getAd() + " vs " + mac.getDeplasmanTakim().getAd();
+            }
+            macBilgileri.put(mac.getId(), bilgi);
+        }
+    }
+
+    /**
+     * Tampon istatistikleri (admin paneli)
+     */
+    public Map<String, Object> istatistikler() {
+        Map<String, Object> istatistik = new LinkedHashMap<>();
+        istatistik.put("kapasite", kapasite);
+        istatistik.put("gorunurYorum", sonYorumlar(kapasite).size());
+        istatistik.put("toplamEkleme", sira.get() - kapasite);
+        istatistik.put("surum", surum.get());
+        istatistik.put("onbellekteMac", macBilgileri.size());
+        return istatistik;
+    }
+
+    /**
+     * Doldurma sırasında canlı eklenen yorumlar
+     *
+     * Veritabanı satırı bunlardan biriyse veya en eskilerinden daha yeniyse (tarih, ID) yazılmaz:
+     * ya zaten üstte duruyordur ya da canlı eklemesi yoldadır. Böylece doldurulan eski konumlara
+     * üstteki canlı yorumlardan daha yeni bir yorum düşmez.
+     */
+    private static final class CanliEklemeler {
+        final Set<Long> idler = new HashSet<>();
+        SonYorumDTO enEski;
+
+        void ekle(SonYorumDTO yorum) {
+            idler.add(yorum.getId());
+            if (enEski == null || dahaYeni(enEski, yorum)) {
+                enEski = yorum;
+            }
+        }
+
+        boolean kapsar(SonYorumDTO yorum) {
+            return idler.contains(yorum.getId()) || (enEski != null && dahaYeni(yorum, enEski));
+        }
+
+        /**
+         * Veritabanı sırası: yorumTarihi, sonra ID (tarihi olmayan en eski sayılır)
+         */
+        private static boolean dahaYeni(SonYorumDTO a, SonYorumDTO b) {
+            LocalDateTime ta = a.getYorumTarihi();
+            LocalDateTime tb = b.getYorumTarihi();
+            if (ta != null && tb != null && !ta.equals(tb)) {
+                return ta.isAfter(tb);
+            }
+            if (ta == null ^ tb == null) {
+                return ta != null;
+            }
+            return a.getId() > b.getId();
+        }
+    }
+
+    /**
+     * Tampon hücresi: yazıldığı sıra numarası ve yorum (değişmez)
+     */
+    private static final class Hucre {
+        final long sira;
+        final SonYorumDTO yorum;
+
+        Hucre(long sira, SonYorumDTO yorum) {
+            this.sira = sira;
+            this.yorum = yorum;
+        }
+    }
+}
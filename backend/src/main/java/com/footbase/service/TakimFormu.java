@@ -0,0 +1,408 @@
+package com.footbase.service;
+
+import com.footbase.repository.MacTakimlariRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Takım Formu (son sonuçlar, bellekte, artımlı)
+ *
+ * Her takım için son K sonucun (rakip, skor, tarih, G/B/M) tutulduğu sabit boyutlu bir halka
+ * tampon vardır (takim.form.kapasite). Yeni sonuçlanan maç en eski kaydın üzerine yazılır: O(1).
+ *
+ * Güncelleme LigPuanDurumu ve KarsilasmaGecmisi ile aynı noktalardan (MacSonucuBildirici)
+ * commit'ten sonra yapılır ve maçın güncel sonucu okunur:
+ * - Tampondaki en yeni maçtan sonraki sonuç sona eklenir
+ * - Tampondaki maçın skoru düzeltildiyse kayıt yerinde değişir
+ * - Geri alınan/silinen maç veya araya giren eski tarihli sonuç için takımın tamponu
+ *   son K maçtan yeniden doldurulur (tek, LIMIT'li sorgu)
+ *
+ * Okumalar veritabanına gitmez: her yazmadan sonra takımın değişmez bir görüntüsü yayınlanır.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@Service
+public class TakimFormu extends BellekIndeksi implements MacSonucuDinleyicisi {
+
+    @Autowired
+    private MacTakimlariRepository macTakimlariRepository;
+
+    @Value("${takim.form.kapasite:10}")
+    private int kapasite;
+
+    /**
+     * Takım ID'si -> son sonuçlar
+     */
+    private volatile ConcurrentHashMap<Long, Tampon> takimlar = new ConcurrentHashMap<>();
+
+    /**
+     * Maç ID'si -> tamponlara uygulanmış sonucu (yazma kilidi altında)
+     */
+    private Map<Long, KarsilasmaGecmisi.Karsilasma> uygulananSonuclar = new HashMap<>();
+
+    private final AtomicLong guncellemeSayisi = new AtomicLong();
+    private final AtomicLong yenidenDoldurmaSayisi = new AtomicLong();
+    private final AtomicLong okumaSayisi = new AtomicLong();
+    private final AtomicLong yenidenOlusturmaSayisi = new AtomicLong();
+
+    /**
+     * Uygulama açıldığında form tamponlarını veritabanından yükler
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void baslangictaYukle() {
+        try {
+            Map<String, Object> sonuc = yenidenOlustur();
+            logger.info("✓ Takım formları yüklendi: {} takım", sonuc.get("takim"));
+        } catch (Exception e) {
+            logger.error("✗ Takım formları yüklenemedi: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Maçın güncel sonucunu okur ve eski/yeni haliyle ilgili her takımın tamponuna uygular
+     * @param macId Maç ID'si
+     */
+    @Override
+    public void sonucDegisti(Long macId) {
+        synchronized (yazmaKilidi) {
+            List<Object[]> satirlar = oku(durum -> macTakimlariRepository.findMacSonucu(macId));
+            KarsilasmaGecmisi.Karsilasma yeni = satirlar == null || satirlar.isEmpty()
+                    ? null : KarsilasmaGecmisi.karsilasma(satirlar.get(0));
+            KarsilasmaGecmisi.Karsilasma eski = uygulananiDegistir(uygulananSonuclar, macId, yeni);
+            if (Objects.equals(eski, yeni)) {
+                return;
+            }
+            Set<Long> etkilenenTakimlar = new LinkedHashSet<>();
+            if (eski != null) {
+                etkilenenTakimlar.add(eski.getEvSahibiTakimId());
+                etkilenenTakimlar.add(eski.getDeplasmanTakimId());
+            }
+            if (yeni != null) {
+                etkilenenTakimlar.add(yeni.getEvSahibiTakimId());
+                etkilenenTakimlar.add(yeni.getDeplasmanTakimId());
+            }
+            for (Long takimId : etkilenenTakimlar) {
+                uygula(takimId, eski, yeni);
+            }
+            guncellemeSayisi.incrementAndGet();
+        }
+    }
+
+    private void uygula(long takimId, KarsilasmaGecmisi.Karsilasma eski, KarsilasmaGecmisi.Karsilasma yeni) {
+        boolean yeniMacta = yeni != null
+                && (yeni.getEvSahibiTakimId() == takimId || yeni.getDeplasmanTakimId() == takimId);
+        FormSonucu yeniSonuc = yeniMacta ? FormSonucu.takimAcisindan(yeni, takimId) : null;
+        Tampon tampon = takimlar.get(takimId);
+        int konum = tampon != null && eski != null ? tampon.konum(eski.getMacId()) : -1;
+
+        if (konum >= 0) {
+            // Skor düzeltmesi: aynı tarihte aynı maç yerinde değişir, gerisi için yeniden doldur
+            if (yeniSonuc != null && Objects.equals(eski.getTarih(), yeniSonuc.tarih)) {
+                tampon.degistir(konum, yeniSonuc);
+                tampon.yayinla();
+            } else {
+                yenidenDoldur(takimId);
+            }
+            return;
+        }
+        if (yeniSonuc == null) {
+            return;
+        }
+        if (tampon == null) {
+            tampon = new Tampon(kapasite);
+            takimlar.put(takimId, tampon);
+        }
+        if (tampon.enYenidenSonraMi(yeniSonuc)) {
+            tampon.ekle(yeniSonuc);
+            tampon.yayinla();
+        } else if (!tampon.doluMu() || tampon.enEskidenSonraMi(yeniSonuc)) {
+            // Geç sonuçlanan eski tarihli maç tamponun ortasına düşer
+            yenidenDoldur(takimId);
+        }
+    }
+
+    /**
+     * Takımın tamponunu son K maçından yeniden doldurur
+     */
+    private void yenidenDoldur(long takimId) {
+        List<Object[]> satirlar = oku(durum ->
+                macTakimlariRepository.findTakimSonMacSonuclari(takimId, kapasite));
+        Tampon tampon = new Tampon(kapasite);
+        if (satirlar != null) {
+            // Sorgu yeniden eskiye döner, tampona eskiden yeniye yazılır
+            for (int i = satirlar.size() - 1; i >= 0; i--) {
+                KarsilasmaGecmisi.Karsilasma karsilasma = KarsilasmaGecmisi.karsilasma(satirlar.get(i));
+                if (karsilasma != null) {
+                    tampon.ekle(FormSonucu.takimAcisindan(karsilasma, takimId));
+                }
+            }
+        }
+        if (tampon.adet == 0) {
+            takimlar.remove(takimId);
+        } else {
+            tampon.yayinla();
+            takimlar.put(takimId, tampon);
+        }
+        yenidenDoldurmaSayisi.incrementAndGet();
+    }
+
+    /**
+     * Takımın son sonuçlarını getirir (veritabanına gitmez)
+     * @param takimId Takım ID'si
+     * @param adet En fazla kaç sonuç (1..kapasite)
+     * @return Yeniden eskiye son sonuçlar
+     */
+    public List<FormSonucu> sonSonuclar(Long takimId, int adet) {
+        if (adet < 1 || adet > kapasite) {
+            throw new IllegalArgumentException("Sonuç sayısı 1-" + kapasite + " arasında olmalı!");
+        }
+        okumaSayisi.incrementAndGet();
+        Tampon tampon = takimId != null ? takimlar.get(takimId) : null;
+        if (tampon == null) {
+            return List.of();
+        }
+        List<FormSonucu> goruntu = tampon.goruntu;
+        return goruntu.size() > adet ? goruntu.subList(0, adet) : goruntu;
+    }
+
+    /**
+     * Takımın formunu getirir: son sonuçlar ve G/B/M dizisi (ör. "GGBMG", en yeni önce)
+     * @param takimId Takım ID'si
+     * @param adet En fazla kaç sonuç
+     */
+    public Map<String, Object> form(Long takimId, int adet) {
+        List<FormSonucu> sonuclar = sonSonuclar(takimId, adet);
+        StringBuilder seri = new StringBuilder(sonuclar.size());
+        int puan = 0;
+        for (FormSonucu sonuc : sonuclar) {
+            seri.append(sonuc.sonuc);
+            puan += "G".equals(sonuc.sonuc) ? 3 : ("B".equals(sonuc.sonuc) ? 1 : 0);
+        }
+        Map<String, Object> form = new LinkedHashMap<>();
+        form.put("takimId", takimId);
+        form.put("form", seri.toString());
+        form.put("puan", puan);
+        form.put("sonuclar", sonuclar);
+        return form;
+    }
+
+    /**
+     * Tüm tamponları sonuçlanmış maçlardan sıfırdan kurar
+     * @return mac ve takim sayıları
+     */
+    public Map<String, Object> yenidenOlustur() {
+        synchronized (yazmaKilidi) {
+            List<Object[]> satirlar = oku(durum -> macTakimlariRepository.findMacSonuclari());
+
+            Map<Long, KarsilasmaGecmisi.Karsilasma> yeniSonuclar = new HashMap<>();
+            if (satirlar != null) {
+                for (Object[] satir : satirlar) {
+                    KarsilasmaGecmisi.Karsilasma karsilasma = KarsilasmaGecmisi.karsilasma(satir);
+                    if (karsilasma != null) {
+                        yeniSonuclar.putIfAbsent(karsilasma.getMacId(), karsilasma);
+                    }
+                }
+            }
+            // Eskiden yeniye yazılır; halka tampon her takımın yalnızca son K sonucunu bırakır
+            List<KarsilasmaGecmisi.Karsilasma> sirali = new ArrayList<>(yeniSonuclar.values());
+            sirali.sort(KarsilasmaGecmisi.TARIH_SIRASI);
+            ConcurrentHashMap<Long, Tampon> yeniTakimlar = new ConcurrentHashMap<>();
+            for (KarsilasmaGecmisi.Karsilasma karsilasma : sirali) {
+                for (long takimId : new long[]{karsilasma.getEvSahibiTakimId(), karsilasma.getDeplasmanTakimId()}) {
+                    yeniTakimlar.computeIfAbsent(takimId, id -> new Tampon(kapasite))
+                            .ekle(FormSonucu.takimAcisindan(karsilasma, takimId));
+                }
+            }
+            for (Tampon tampon : yeniTakimlar.values()) {
+                tampon.yayinla();
+            }
+
+            takimlar = yeniTakimlar;
+            uygulananSonuclar = yeniSonuclar;
+            yenidenOlusturmaSayisi.incrementAndGet();
+
+            Map<String, Object> sonuc = new LinkedHashMap<>();
+            sonuc.put("mac", yeniSonuclar.size());
+            sonuc.put("takim", yeniTakimlar.size());
+            return sonuc;
+        }
+    }
+
+    /**
+     * Takım formu istatistikleri (admin paneli için)
+     */
+    public Map<String, Object> istatistikler() {
+        Map<String, Object> istatistik = new LinkedHashMap<>();
+        istatistik.put("takim", takimlar.size());
+        istatistik.put("kapasite", kapasite);
+        istatistik.put("guncellemeSayisi", guncellemeSayisi.get());
+        istatistik.put("yenidenDoldurmaSayisi", yenidenDoldurmaSayisi.get());
+        istatistik.put("okumaSayisi", okumaSayisi.get());
+        istatistik.put("yenidenOlusturmaSayisi", yenidenOlusturmaSayisi.get());
+        return istatistik;
+    }
+
+    /**
+     * Sabit boyutlu halka tampon (yazma kilidi altında değişir)
+     * Okuyucular yalnızca yayınlanan görüntüyü (yeniden eskiye) görür
+     */
+    private static final class Tampon {
+        private final FormSonucu[] kayitlar;
+        /**
+         * Bir sonraki yazılacak konum (dolu tamponda en eski kayıt)
+         */
+        private int sonraki;
+        private int adet;
+        private volatile List<FormSonucu> goruntu = List.of();
+
+        Tampon(int kapasite) {
+            this.kayitlar = new FormSonucu[kapasite];
+        }
+
+        void ekle(FormSonucu sonuc) {
+            kayitlar[sonraki] = sonuc;
+            sonraki = (sonraki + 1) % kayitlar.length;
+            if (adet < kayitlar.length) {
+                adet++;
+            }
+        }
+
+        void degistir(int konum, FormSonucu sonuc) {
+            kayitlar[konum] = sonuc;
+        }
+
+        /**
+         * Maçın tampondaki dizi konumu (yoksa -1)
+         */
+        int konum(long macId) {
+            for (int i = 0; i < adet; i++) {
+                int konum = dizin(i);
+                if (kayitlar[konum].macId == macId) {
+                    return konum;
+                }
+            }
+            return -1;
+        }
+
+        boolean doluMu() {
+            return adet == kayitlar.length;
+        }
+
+        boolean enYenidenSonraMi(FormSonucu sonuc) {
+            return adet == 0 || sonuc.sonra(kayitlar[dizin(0)]);
+        }
+
+        boolean enEskidenSonraMi(FormSonucu sonuc) {
+            return adet == 0 || sonuc.sonra(kayitlar[dizin(adet - 1)]);
+        }
+
+        /**
+         * Yeniden eskiye i. kaydın dizi konumu
+         */
+        private int dizin(int i) {
+            return Math.floorMod(sonraki - 1 - i, kayitlar.length);
+        }
+
+        void yayinla() {
+            List<FormSonucu> liste = new ArrayList<>(adet);
+            for (int i = 0; i < adet; i++) {
+                liste.add(kayitlar[dizin(i)]);
+            }
+            goruntu = Collections.unmodifiableList(liste);
+        }
+    }
+
+    /**
+     * Takım açısından tek maç sonucu (değişmez)
+     */
+    public static final class FormSonucu {
+        private final long macId;
+        private final LocalDate tarih;
+        private final long rakipId;
+        private final String rakipAdi;
+        private final boolean evSahibi;
+        private final int atilanGol;
+        private final int yenilenGol;
+        private final String sonuc;
+
+        FormSonucu(long macId, LocalDate tarih, long rakipId, String rakipAdi, boolean evSahibi,
+                   int atilanGol, int yenilenGol) {
+            this.macId = macId;
+            this.tarih = tarih;
+            this.rakipId = rakipId;
+            this.rakipAdi = rakipAdi;
+            this.evSahibi = evSahibi;
+            this.atilanGol = atilanGol;
+            this.yenilenGol = yenilenGol;
+            this.sonuc = atilanGol > yenilenGol ? "G" : (atilanGol == yenilenGol ? "B" : "M");
+        }
+
+        static FormSonucu takimAcisindan(KarsilasmaGecmisi.Karsilasma karsilasma, long takimId) {
+            boolean evSahibi = karsilasma.getEvSahibiTakimId() == takimId;
+            return evSahibi
+                    ? new FormSonucu(karsilasma.getMacId(), karsilasma.getTarih(), karsilasma.getDeplasmanTakimId(),
+                            karsilasma.getDeplasmanTakimAdi(), true, karsilasma.getEvSahibiSkor(), karsilasma.getDeplasmanSkor())
+                    : new FormSonucu(karsilasma.getMacId(), karsilasma.getTarih(), karsilasma.getEvSahibiTakimId(),
+                            karsilasma.getEvSahibiTakimAdi(), false, karsilasma.getDeplasmanSkor(), karsilasma.getEvSahibiSkor());
+        }
+
+        /**
+         * Bu sonuç diğerinden sonra mı (tarih, eşitse maç ID'si; tarihsiz maç en eski sayılır)
+         */
+        boolean sonra(FormSonucu diger) {
+            if (!Objects.equals(tarih, diger.tarih)) {
+                return tarih != null && (diger.tarih == null || tarih.isAfter(diger.tarih));
+            }
+            return macId > diger.macId;
+        }
+
+        public long getMacId() {
+            return macId;
+        }
+
+        public LocalDate getTarih() {
+            return tarih;
+        }
+
+        public long getRakipId() {
+            return rakipId;
+        }
+
+        public String getRakipAdi() {
+            return rakipAdi;
+        }
+
+        public boolean isEvSahibi() {
+            return evSahibi;
+        }
+
+        public int getAtilanGol() {
+            return atilanGol;
+        }
+
+        public int getYenilenGol() {
+            return yenilenGol;
+        }
+
+        public String getSonuc() {
+            return sonuc;
+        }
+    }
+}
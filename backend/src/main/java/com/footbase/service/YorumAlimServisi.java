@@ -0,0 +1,444 @@
+package com.footbase.service;
+
+import com.footbase.dto.YorumDTO;
+import com.footbase.entity.Kullanici;
+import com.footbase.entity.Yorum;
+import com.footbase.patterns.chain.HandlerResult;
+import com.footbase.patterns.chain.yorum.YorumModerationChain;
+import com.footbase.repository.KullaniciRepository;
+import com.footbase.repository.MacRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asenkron yorum alım servisi
+ *
+ * Yoğun anlarda (derbi, gol anı) yorumlar istek iş parçacığında kaydedilmez:
+ * - İstek iş parçacığı yorum ID'sini veritabanı dizisinden bloklar halinde ayrılmış havuzdan alır,
+ *   yorumu sınırlı kuyruğa koyar ve hemen ID'yi döndürür (kuyruk doluysa reddeder)
+ * - Tek bir yazıcı iş parçacığı kuyruktan partiler halinde alır, moderasyondan geçirir,
+ *   maç/kullanıcı varlığını parti başına tek sorguyla kontrol eder ve JDBC batch ile ekler
+ *
+ * Maç ve kullanıcı entity'leri yüklenmez; yalnızca ID'ler kullanılır.
+ * Yorumun son durumu (KUYRUKTA, KAYDEDILDI, REDDEDILDI, HATA) sınırlı bir tabloda tutulur.
+ */
+@Service
+public class YorumAlimServisi {
+
+    private static final Logger logger = LoggerFactory.getLogger(YorumAlimServisi.class);
+
+    private static final String EKLEME_SQL =
+            "INSERT INTO yorumlar (yorum_id, mac_id, kullanici_id, icerik, yorum_tipi, olusturma_tarihi) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String KIMLIK_BLOGU_SQL =
+            "SELECT nextval(pg_get_serial_sequence('yorumlar', 'yorum_id')) FROM generate_series(1, ?)";
+
+    /**
+     * Durumu tutulan en fazla yorum sayısı (en eskiler silinir)
+     */
+    private static final int DURUM_KAPASITESI = 10_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private YorumModerationChain yorumModerationChain;
+
+    @Autowired
+    private MacRepository macRepository;
+
+    @Autowired
+    private KullaniciRepository kullaniciRepository;
+
+    @Autowired
+    private CanliYorumYayini canliYorumYayini;
+
+    @Autowired
+    private SonYorumlarTamponu sonYorumlarTamponu;
+
+    @Value("${yorum.alim.kuyruk-kapasitesi:10000}")
+    private int kuyrukKapasitesi;
+
+    @Value("${yorum.alim.parti-boyutu:200}")
+    private int partiBoyutu;
+
+    @Value("${yorum.alim.kimlik-blogu:100}")
+    private int kimlikBlogu;
+
+    private BlockingQueue<BekleyenYorum> kuyruk;
+    private TransactionTemplate transactionTemplate;
+    private Thread yazici;
+    private volatile boolean calisiyor;
+
+    private final ArrayDeque<Long> kimlikHavuzu = new ArrayDeque<>();
+
+    private final Map<Long, AlimDurumu> durumlar = new LinkedHashMap<>(1024, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, AlimDurumu> eldest) {
+            return size() > DURUM_KAPASITESI;
+        }
+    };
+
+    private final AtomicLong kabulEdilen = new AtomicLong();
+    private final AtomicLong kuyrukDoluReddi = new AtomicLong();
+    private final AtomicLong kaydedilen = new AtomicLong();
+    private final AtomicLong moderasyonReddi = new AtomicLong();
+    private final AtomicLong gecersizHedefReddi = new AtomicLong();
+    private final AtomicLong hataliYorum = new AtomicLong();
+    private final AtomicLong partiSayisi = new AtomicLong();
+    private final AtomicLong toplamYazmaSuresiNs = new AtomicLong();
+    private final AtomicLong enBuyukParti = new AtomicLong();
+    private final AtomicLong enYuksekKuyruk = new AtomicLong();
+
+    @PostConstruct
+    public void baslat() {
+        kuyruk = new ArrayBlockingQueue<>(kuyrukKapasitesi);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        calisiyor = true;
+        yazici = new Thread(this::yazmaDongusu, "yorum-alim-yazici");
+        yazici.setDaemon(true);
+        yazici.start();
+        logger.info("✅ Yorum alım kuyruğu başlatıldı (kapasite: {}, parti: {})", kuyrukKapasitesi, partiBoyutu);
+    }
+
+    /**
+     * Yeni yorum kabulünü durdurur, kuyrukta kalanları yazıp yazıcıyı kapatır
+     */
+    @PreDestroy
+    public void durdur() {
+        calisiyor = false;
+        if (yazici != null) {
+            try {
+                yazici.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (!kuyruk.isEmpty()) {
+                logger.warn("⚠️ Yorum alım kuyruğunda yazılamayan {} yorum kaldı", kuyruk.size());
+            }
+        }
+    }
+
+    /**
+     * Yorumu kuyruğa alır ve atanan ID'yi hemen döndürür
+     * Moderasyon ve kayıt yazıcı iş parçacığında yapılır; sonuç yorumDurumu ile sorgulanabilir
+     *
+     * @param macId Maç ID'si
+     * @param kullaniciId Kullanıcı ID'si
+     * @param mesaj Yorum mesajı
+     * @return Atanan yorum ID'si, kuyruk doluysa null
+     */
+    public Long kuyrugaEkle(Long macId, Long kullaniciId, String mesaj) {
+        if (!calisiyor) {
+            kuyrukDoluReddi.incrementAndGet();
+            return null;
+        }
+        // Kuyruk doluysa dizi değeri harcamadan reddet
+        if (kuyruk.remainingCapacity() == 0) {
+            kuyrukDoluReddi.incrementAndGet();
+            return null;
+        }
+
+        Long yorumId = kimlikAl();
+        BekleyenYorum bekleyen = new BekleyenYorum(yorumId, macId, kullaniciId, mesaj, LocalDateTime.now());
+        durumYaz(yorumId, AlimDurumu.KUYRUKTA);
+        if (!kuyruk.offer(bekleyen)) {
+            durumYaz(yorumId, AlimDurumu.hata("Kuyruk dolu"));
+            kuyrukDoluReddi.incrementAndGet();
+            return null;
+        }
+
+        kabulEdilen.incrementAndGet();
+        long derinlik = kuyruk.size();
+        enYuksekKuyruk.accumulateAndGet(derinlik, Math::max);
+        return yorumId;
+    }
+
+    /**
+     * Kuyruğa alınan yorumun durumunu getirir
+     *
+     * @param yorumId Yorum ID'si
+     * @return Durum, bilinmiyorsa (çok eski veya hiç alınmamış) null
+     */
+    public AlimDurumu yorumDurumu(Long yorumId) {
+        synchronized (durumlar) {
+            return durumlar.get(yorumId);
+        }
+    }
+
+    /**
+     * Kuyruk ve yazma istatistiklerini döndürür
+     *
+     * @return Sayaçlar, parti boyutları ve yazma hızı
+     */
+    public Map<String, Object> istatistikler() {
+        long kaydedilenSayisi = kaydedilen.get();
+        long partiler = partiSayisi.get();
+        long sureNs = toplamYazmaSuresiNs.get();
+
+        Map<String, Object> istatistik = new LinkedHashMap<>();
+        istatistik.put("kuyrukDerinligi", kuyruk.size());
+        istatistik.put("kuyrukKapasitesi", kuyrukKapasitesi);
+        istatistik.put("enYuksekKuyrukDerinligi", enYuksekKuyruk.get());
+        istatistik.put("kabulEdilen", kabulEdilen.get());
+        istatistik.put("kuyrukDoluReddi", kuyrukDoluReddi.get());
+        istatistik.put("kaydedilen", kaydedilenSayisi);
+        istatistik.put("moderasyonReddi", moderasyonReddi.get());
+        istatistik.put("gecersizHedefReddi", gecersizHedefReddi.get());
+        istatistik.put("hatali", hataliYorum.get());
+        istatistik.put("partiSayisi", partiler);
+        istatistik.put("ortalamaPartiBoyutu", partiler == 0 ? 0.0 : (double) kaydedilenSayisi / partiler);
+        istatistik.put("enBuyukParti", enBuyukParti.get());
+        istatistik.put("yazmaHiziSatirSaniye", sureNs == 0 ? 0.0 : kaydedilenSayisi * 1_000_000_000.0 / sureNs);
+        return istatistik;
+    }
+
+    /**
+     * Veritabanı dizisinden bloklar halinde ayrılmış havuzdan bir yorum ID'si alır
+     */
+    private Long kimlikAl() {
+        synchronized (kimlikHavuzu) {
+            if (kimlikHavuzu.isEmpty()) {
+                kimlikHavuzu.addAll(jdbcTemplate.queryForList(KIMLIK_BLOGU_SQL, Long.class, kimlikBlogu));
+            }
+            return kimlikHavuzu.pollFirst();
+        }
+    }
+
+    private void yazmaDongusu() {
+        List<BekleyenYorum> parti = new ArrayList<>(partiBoyutu);
+        while (calisiyor || !kuyruk.isEmpty()) {
+            try {
+                BekleyenYorum ilk = kuyruk.poll(200, TimeUnit.MILLISECONDS);
+                if (ilk == null) {
+                    continue;
+                }
+                parti.add(ilk);
+                kuyruk.drainTo(parti, partiBoyutu - 1);
+                partiyiIsle(parti);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("❌ Yorum partisi işlenemedi: {}", e.getMessage(), e);
+                for (BekleyenYorum bekleyen : parti) {
+                    if (durumYoksaHata(bekleyen.yorumId, e.getMessage())) {
+                        hataliYorum.incrementAndGet();
+                    }
+                }
+            } finally {
+                parti.clear();
+            }
+        }
+    }
+
+    /**
+     * Partiyi moderasyondan geçirir, geçersiz maç/kullanıcıları eler ve kalanları toplu ekler
+     */
+    void partiyiIsle(List<BekleyenYorum> parti) {
+        // 1. Moderasyon (yazıcı iş parçacığında, sırayla)
+        List<BekleyenYorum> onaylanan = new ArrayList<>(parti.size());
+        for (BekleyenYorum bekleyen : parti) {
+            HandlerResult sonuc = yorumModerationChain.moderate(bekleyen.moderasyonYorumu());
+            if (sonuc.isSuccess()) {
+                onaylanan.add(bekleyen);
+            } else {
+                moderasyonReddi.incrementAndGet();
+                durumYaz(bekleyen.yorumId, AlimDurumu.reddedildi(sonuc.getMessage()));
+            }
+        }
+        if (onaylanan.isEmpty()) {
+            return;
+        }
+
+        // 2. Maç ve kullanıcı varlığı: parti başına birer sorgu (kullanıcı adları canlı akış için aynı sorguda alınır)
+        Set<Long> macIdleri = new LinkedHashSet<>();
+        Set<Long> kullaniciIdleri = new LinkedHashSet<>();
+        for (BekleyenYorum bekleyen : onaylanan) {
+            macIdleri.add(bekleyen.macId);
+            kullaniciIdleri.add(bekleyen.kullaniciId);
+        }
+        Set<Long> mevcutMaclar = new HashSet<>(macRepository.findMevcutIdler(macIdleri));
+        Map<Long, String> kullaniciAdlari = new HashMap<>();
+        for (Object[] satir : kullaniciRepository.findKullaniciAdlari(kullaniciIdleri)) {
+            kullaniciAdlari.put((Long) satir[0], (String) satir[1]);
+        }
+
+        List<BekleyenYorum> yazilacak = new ArrayList<>(onaylanan.size());
+        for (BekleyenYorum bekleyen : onaylanan) {
+            // Olmayan maç/kullanıcı bir ret sebebidir (REDDEDILDI), yazma hatası değil
+            if (!mevcutMaclar.contains(bekleyen.macId)) {
+                durumYaz(bekleyen.yorumId, AlimDurumu.reddedildi("Maç bulunamadı"));
+                gecersizHedefReddi.incrementAndGet();
+            } else if (!kullaniciAdlari.containsKey(bekleyen.kullaniciId)) {
+                durumYaz(bekleyen.yorumId, AlimDurumu.reddedildi("Kullanıcı bulunamadı"));
+                gecersizHedefReddi.incrementAndGet();
+            } else {
+                yazilacak.add(bekleyen);
+            }
+        }
+        if (yazilacak.isEmpty()) {
+            return;
+        }
+
+        // 3. JDBC batch ekleme; parti başarısız olursa hatalı satırı ayırmak için tek tek denenir
+        long baslangic = System.nanoTime();
+        List<BekleyenYorum> kaydedilenler;
+        try {
+            transactionTemplate.executeWithoutResult(durum -> topluEkle(yazilacak));
+            kaydedilenler = yazilacak;
+        } catch (DataAccessException e) {
+            logger.warn("⚠️ Yorum partisi eklenemedi, tek tek deneniyor: {}", e.getMessage());
+            kaydedilenler = new ArrayList<>(yazilacak.size());
+            for (BekleyenYorum bekleyen : yazilacak) {
+                try {
+                    transactionTemplate.executeWithoutResult(durum -> topluEkle(List.of(bekleyen)));
+                    kaydedilenler.add(bekleyen);
+                } catch (DataAccessException tekHata) {
+                    durumYaz(bekleyen.yorumId, AlimDurumu.hata("Yorum kaydedilemedi"));
+                    hataliYorum.incrementAndGet();
+                }
+            }
+        }
+        toplamYazmaSuresiNs.addAndGet(System.nanoTime() - baslangic);
+        if (kaydedilenler.isEmpty()) {
+            return;
+        }
+
+        partiSayisi.incrementAndGet();
+        kaydedilen.addAndGet(kaydedilenler.size());
+        enBuyukParti.accumulateAndGet(kaydedilenler.size(), Math::max);
+        for (BekleyenYorum bekleyen : kaydedilenler) {
+            durumYaz(bekleyen.yorumId, AlimDurumu.KAYDEDILDI);
+        }
+
+        // 4. Canlı akış aboneleri ve ana sayfa son yorumlar tamponu (commit sonrası, senkron yolla aynı)
+        for (BekleyenYorum bekleyen : kaydedilenler) {
+            String kullaniciAdi = kullaniciAdlari.get(bekleyen.kullaniciId);
+            canliYorumYayini.yorumYayinla(new YorumDTO(bekleyen.yorumId, bekleyen.macId, bekleyen.kullaniciId,
+                    kullaniciAdi, bekleyen.mesaj, bekleyen.yorumTarihi, "USER"));
+            sonYorumlarTamponu.ekle(bekleyen.yorumId, bekleyen.macId, kullaniciAdi, bekleyen.mesaj, bekleyen.yorumTarihi);
+        }
+    }
+
+    private void topluEkle(List<BekleyenYorum> yorumlar) {
+        jdbcTemplate.batchUpdate(EKLEME_SQL, yorumlar, yorumlar.size(), (ps, bekleyen) -> {
+            ps.setLong(1, bekleyen.yorumId);
+            ps.setLong(2, bekleyen.macId);
+            ps.setLong(3, bekleyen.kullaniciId);
+            ps.setString(4, bekleyen.mesaj);
+            ps.setString(5, "USER");
+            ps.setTimestamp(6, Timestamp.valueOf(bekleyen.yorumTarihi));
+        });
+    }
+
+    private void durumYaz(Long yorumId, AlimDurumu durum) {
+        synchronized (durumlar) {
+            durumlar.put(yorumId, durum);
+        }
+    }
+
+    private boolean durumYoksaHata(Long yorumId, String sebep) {
+        synchronized (durumlar) {
+            AlimDurumu mevcut = durumlar.get(yorumId);
+            if (mevcut == null || mevcut == AlimDurumu.KUYRUKTA) {
+                durumlar.put(yorumId, AlimDurumu.hata(sebep));
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Kuyruktaki yorum (yalnızca ID'ler ve mesaj)
+     */
+    static final class BekleyenYorum {
+        final Long yorumId;
+        final Long macId;
+        final Long kullaniciId;
+        final String mesaj;
+        final LocalDateTime yorumTarihi;
+
+        BekleyenYorum(Long yorumId, Long macId, Long kullaniciId, String mesaj, LocalDateTime yorumTarihi) {
+            this.yorumId = yorumId;
+            this.macId = macId;
+            this.kullaniciId = kullaniciId;
+            this.mesaj = mesaj;
+            this.yorumTarihi = yorumTarihi;
+        }
+
+        /**
+         * Moderasyon zinciri için entity yüklemeden hafif Yorum nesnesi oluşturur
+         */
+        Yorum moderasyonYorumu() {
+            Kullanici kullanici = new Kullanici();
+            kullanici.setId(kullaniciId);
+            Yorum yorum = new Yorum();
+            yorum.setKullanici(kullanici);
+            yorum.setMesaj(mesaj);
+            yorum.setYorumTarihi(yorumTarihi);
+            return yorum;
+        }
+    }
+
+    /**
+     * Kuyruğa alınan yorumun durumu
+     */
+    public static final class AlimDurumu {
+        public static final AlimDurumu KUYRUKTA = new AlimDurumu("KUYRUKTA", null);
+        public static final AlimDurumu KAYDEDILDI = new AlimDurumu("KAYDEDILDI", null);
+
+        private final String durum;
+        private final String sebep;
+
+        private AlimDurumu(String durum, String sebep) {
+            this.durum = durum;
+            this.sebep = sebep;
+        }
+
+        static AlimDurumu reddedildi(String sebep) {
+            return new AlimDurumu("REDDEDILDI", sebep);
+        }
+
+        static AlimDurumu hata(String sebep) {
+            return new AlimDurumu("HATA", sebep);
+        }
+
+        public String getDurum() {
+            return durum;
+        }
+
+        public String getSebep() {
+            return sebep;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.footbase.service;
+
+import com.footbase.repository.YorumRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Yorum beğeni sayacı (write-behind)
+ *
+ * Beğeni/beğeniyi geri alma yorum_begenileri tablosuna hemen yazılır; yorumlar.begeni_sayisi
+ * kolonundaki denormalize sayaç ise her istekte güncellenmez. Yorum başına sayaç farkları
+ * bellekte biriktirilir ve periyodik olarak tek bir JDBC batch ile yazılır. Böylece çok
+ * beğenilen bir yorumun satırı, saniyede yüzlerce beğenide bile aralık başına bir kez kilitlenir.
+ *
+ * Okumada veritabanındaki değere henüz yazılmamış fark eklenir (bkz. guncelSayi).
+ * Uygulama kapanırken bekleyen farklar yazılır; beklenmedik bir çökmede kaybolan farklar
+ * uzlastir() ile yorum_begenileri tablosundan yeniden hesaplanır.
+ *
+ * Uzlaştırma bekleyen farkları aynı transaction içinde alıp siler ve sayaçları yeniden sayar.
+ * Açık bir beğeni transaction'ı varsa veya bu arada biri tamamlandıysa (sayılan satırın farkı
+ * hâlâ yolda olabilir) transaction geri alınır, farklar geri eklenir ve yeniden denenir;
+ * böylece hiçbir beğeni iki kez sayılmaz.
+ */
+@Service
+public class YorumBegeniSayaci {
+
+    private static final Logger logger = LoggerFactory.getLogger(YorumBegeniSayaci.class);
+
+    /**
+     * Uzlaştırmanın sessiz bir an için en fazla deneme sayısı ve denemeler arası bekleme
+     */
+    private static final int UZLASTIRMA_DENEMESI = 20;
+    private static final long UZLASTIRMA_BEKLEMESI_MS = 25;
+
+    private static final String SAYAC_SQL =
+            "UPDATE yorumlar SET begeni_sayisi = begeni_sayisi + ? WHERE yorum_id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private YorumRepository yorumRepository;
+
+    @Value("${yorum.begeni.yazma-araligi-ms:2000}")
+    private long yazmaAraligiMs;
+
+    /**
+     * Yorum ID'si -> henüz veritabanına yazılmamış sayaç farkı
+     * merge/remove anahtar başına atomik olduğu için yazma sırasında gelen fark kaybolmaz
+     */
+    private final ConcurrentHashMap<Long, Long> bekleyenFarklar = new ConcurrentHashMap<>();
+
+    /**
+     * Farkı kaydedilmiş ama henüz tamamlanmamış (commit/rollback) beğeni transaction'ı sayısı
+     * ve tamamlanan fark sayısı; uzlaştırma bunlarla sessiz bir an yakalar
+     */
+    private final AtomicInteger yoldakiFarklar = new AtomicInteger();
+    private final AtomicLong tamamlananFarklar = new AtomicLong();
+
+    private final AtomicLong toplamDegisiklik = new AtomicLong();
+    private final AtomicLong yazilanSatir = new AtomicLong();
+    private final AtomicLong yazmaSayisi = new AtomicLong();
+    private final AtomicLong hataliYazma = new AtomicLong();
+    private final AtomicLong uzlastirmaTekrari = new AtomicLong();
+
+    private TransactionTemplate transactionTemplate;
+    private ScheduledExecutorService zamanlayici;
+
+    @PostConstruct
+    public void baslat() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        zamanlayici = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "yorum-begeni-sayaci");
+            thread.setDaemon(true);
+            return thread;
+        });
+        zamanlayici.scheduleWithFixedDelay(this::yazGuvenli,
+                yazmaAraligiMs, yazmaAraligiMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void durdur() {
+        if (zamanlayici != null) {
+            zamanlayici.shutdown();
+            try {
+                zamanlayici.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        yazGuvenli();
+    }
+
+    /**
+     * Beğeni satırı yazıldıktan sonra, çağıranın transaction'ı içinde sayaç farkını kaydeder
+     * Fark commit'ten sonra eklenir; geri alınan beğeni sayacı değiştirmez.
+     * Transaction yoksa fark hemen eklenir.
+     * @param yorumId Yorum ID'si
+     * @param fark +1 beğeni, -1 beğeniyi geri alma
+     */
+    public void farkKaydet(Long yorumId, int fark) {
+        yoldakiFarklar.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    degistir(yorumId, fark);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    tamamlananFarklar.incrementAndGet();
+                    yoldakiFarklar.decrementAndGet();
+                }
+            });
+        } else {
+            try {
+                degistir(yorumId, fark);
+            } finally {
+                tamamlananFarklar.incrementAndGet();
+                yoldakiFarklar.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Yorumun beğeni sayacına fark ekler (+1 beğeni, -1 beğeniyi geri alma)
+     */
+    public void degistir(Long yorumId, int fark) {
+        bekleyenFarklar.merge(yorumId, (long) fark, Long::sum);
+        toplamDegisiklik.incrementAndGet();
+    }
+
+    /**
+     * Yorumun henüz veritabanına yazılmamış sayaç farkı
+     */
+    public long bekleyenFark(Long yorumId) {
+        return bekleyenFarklar.getOrDefault(yorumId, 0L);
+    }
+
+    /**
+     * Veritabanından okunan sayıya bekleyen farkı ekler
+     * @param yorumId Yorum ID'si
+     * @param veritabaniSayisi yorumlar.begeni_sayisi değeri
+     * @return Güncel beğeni sayısı
+     */
+    public int guncelSayi(Long yorumId, int veritabaniSayisi) {
+        return (int) Math.max(0, veritabaniSayisi + bekleyenFark(yorumId));
+    }
+
+    /**
+     * Bekleyen tüm farkları tek batch ile yazar
+     * Yazma başarısız olursa farklar bir sonraki denemede tekrar yazılmak üzere geri eklenir
+     * @return Güncellenen yorum sayısı
+     */
+    public synchronized int yaz() {
+        if (bekleyenFarklar.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> parti = bekleyenleriAl();
+        if (parti.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> satirlar = new ArrayList<>(parti.size());
+        parti.forEach((yorumId, fark) -> satirlar.add(new Object[]{fark, yorumId}));
+        try {
+            transactionTemplate.executeWithoutResult(durum -> jdbcTemplate.batchUpdate(SAYAC_SQL, satirlar));
+        } catch (DataAccessException e) {
+            geriEkle(parti);
+            hataliYazma.incrementAndGet();
+            throw e;
+        }
+
+        yazilanSatir.addAndGet(parti.size());
+        yazmaSayisi.incrementAndGet();
+        return parti.size();
+    }
+
+    private void yazGuvenli() {
+        try {
+            yaz();
+        } catch (RuntimeException e) {
+            logger.error("❌ Yorum beğeni sayaçları yazılamadı: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Tüm sayaçları yorum_begenileri tablosundan yeniden hesaplar
+     *
+     * Bekleyen farklar uzlaştırma transaction'ı içinde alınıp silinir (yeniden sayım onları zaten
+     * içerir). Sayım sırasında açık ya da tamamlanmış bir beğeni transaction'ı görülürse, sayılan
+     * bir satırın farkı daha sonra da eklenebileceği için transaction geri alınır, alınan farklar
+     * geri eklenir ve kısa bir beklemeden sonra yeniden denenir.
+     *
+     * @return Düzeltilen yorum sayısı
+     * @throws IllegalStateException Beğeni trafiği yüzünden sessiz bir an yakalanamazsa
+     */
+    public synchronized int uzlastir() {
+        for (int deneme = 1; deneme <= UZLASTIRMA_DENEMESI; deneme++) {
+            Integer duzeltilen = yoldakiFarklar.get() == 0 ? uzlastirmayiDene() : null;
+            if (duzeltilen != null) {
+                return duzeltilen;
+            }
+            uzlastirmaTekrari.incrementAndGet();
+            try {
+                Thread.sleep(UZLASTIRMA_BEKLEMESI_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new IllegalStateException("Beğeni sayaçları uzlaştırılamadı: beğeni trafiği sürüyor, daha sonra tekrar deneyin");
+    }
+
+    /**
+     * Tek uzlaştırma denemesi
+     * @return Düzeltilen yorum sayısı; deneme sırasında bir beğeni tamamlandıysa null
+     */
+    private Integer uzlastirmayiDene() {
+        long surum = tamamlananFarklar.get();
+        return transactionTemplate.execute(durum -> {
+            Map<Long, Long> alinan = bekleyenleriAl();
+            try {
+                int duzeltilen = yorumRepository.begeniSayilariniUzlastir();
+                if (yoldakiFarklar.get() == 0 && tamamlananFarklar.get() == surum) {
+                    return duzeltilen;
+                }
+                durum.setRollbackOnly();
+            } catch (RuntimeException e) {
+                geriEkle(alinan);
+                throw e;
+            }
+            geriEkle(alinan);
+            return null;
+        });
+    }
+
+    private Map<Long, Long> bekleyenleriAl() {
+        Map<Long, Long> alinan = new LinkedHashMap<>();
+        for (Long yorumId : bekleyenFarklar.keySet()) {
+            Long fark = bekleyenFarklar.remove(yorumId);
+            if (fark != null && fark != 0) {
+                alinan.put(yorumId, fark);
+            }
+        }
+        return alinan;
+    }
+
+    private void geriEkle(Map<Long, Long> farklar) {
+        farklar.forEach((yorumId, fark) -> bekleyenFarklar.merge(yorumId, fark, Long::sum));
+    }
+
+    /**
+     * Sayaç istatistikleri (admin paneli)
+     */
+    public Map<String, Object> istatistikler() {
+        Map<String, Object> istatistik = new LinkedHashMap<>();
+        istatistik.put("bekleyenYorumSayisi", bekleyenFarklar.size());
+        istatistik.put("toplamDegisiklik", toplamDegisiklik.get());
+        istatistik.put("yazilanSatir", yazilanSatir.get());
+        istatistik.put("yazmaSayisi", yazmaSayisi.get());
+        istatistik.put("hataliYazma", hataliYazma.get());
+        istatistik.put("yoldakiFark", yoldakiFarklar.get());
+        istatistik.put("uzlastirmaTekrari", uzlastirmaTekrari.get());
+        istatistik.put("yazmaAraligiMs", yazmaAraligiMs);
+        return istatistik;
+    }
+}
@@ -1,5 +1,8 @@
 package com.footbase.service;
 
+import com.footbase.dto.SonYorumDTO;
+import com.footbase.dto.YorumDTO;
+import com.footbase.dto.YorumSayfasiDTO;
 import com.footbase.entity.Kullanici;
 import com.footbase.entity.Mac;
 import com.footbase.entity.Yorum;
@@ -9,8 +12,16 @@ import com.footbase.repository.YorumRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Yorum servisi
@@ -19,6 +30,14 @@ import java.util.List;
 @Service
 public class YorumService {
 
+    public static final int VARSAYILAN_SAYFA_BOYUTU = 20;
+    public static final int EN_BUYUK_SAYFA_BOYUTU = 100;
+
+    /**
+     * İlk sayfa imleci (tüm yorumlardan sonra)
+     */
+    private static final LocalDateTime EN_SON_TARIH = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
     @Autowired
     private YorumRepository yorumRepository;
 
@@ -28,16 +47,142 @@ public class YorumService {
     @Autowired
     private KullaniciRepository kullaniciRepository;
 
+    @Autowired
+    private SonYorumlarTamponu sonYorumlarTamponu;
+
+    @Autowired
+    private YorumBegeniSayaci yorumBegeniSayaci;
+
+    @Autowired
+    private CanliYorumYayini canliYorumYayini;
+
     /**
      * Maça ait yorumları getirir
      * @param macId Maç ID'si
      * @return Yorum listesi
      */
     public List<Yorum> macYorumlariniGetir(Long macId) {
-        return yorumRepository.findByMacOrderByYorumTarihiDesc(
+        return macYorumlariniGetir(macId, null);
+    }
+
+    /**
+     * Maça ait yorumları beğeni bilgileriyle birlikte getirir
+     * @param macId Maç ID'si
+     * @param kullaniciId İsteği yapan kullanıcının ID'si (giriş yapılmamışsa null)
+     * @return Yorum listesi (begeniSayisi ve begendim dolu)
+     */
+    public List<Yorum> macYorumlariniGetir(Long macId, Long kullaniciId) {
+        List<Yorum> yorumlar = yorumRepository.findByMacOrderByYorumTarihiDesc(
                 macRepository.findById(macId)
                         .orElseThrow(() -> new RuntimeException("Maç bulunamadı"))
         );
+        begeniBilgileriniDoldur(yorumlar, kullaniciId);
+        return yorumlar;
+    }
+
+    /**
+     * Yorum listesine güncel beğeni sayısını ve "beğendim mi" bilgisini ekler
+     * Kullanıcının beğenileri tüm liste için tek sorguyla bulunur
+     * @param yorumlar Yorumlar
+     * @param kullaniciId Kullanıcı ID'si (null ise begendim doldurulmaz)
+     */
+    public void begeniBilgileriniDoldur(List<Yorum> yorumlar, Long kullaniciId) {
+        if (yorumlar.isEmpty()) {
+            return;
+        }
+
+        Set<Long> begenilenler = Collections.emptySet();
+        if (kullaniciId != null) {
+            List<Long> yorumIdleri = new ArrayList<>(yorumlar.size());
+            for (Yorum yorum : yorumlar) {
+                yorumIdleri.add(yorum.getId());
+            }
+            begenilenler = new HashSet<>(yorumRepository.findBegenilenYorumIdleri(kullaniciId, yorumIdleri));
+        }
+
+        for (Yorum yorum : yorumlar) {
+            yorum.setBegeniSayisi(yorumBegeniSayaci.guncelSayi(yorum.getId(), yorum.getBegeniSayisi()));
+            if (kullaniciId != null) {
+                yorum.setBegendim(begenilenler.contains(yorum.getId()));
+            }
+        }
+    }
+
+    /**
+     * Maçın yorum geçmişinden bir sayfa getirir (yeniden eskiye, keyset sayfalama)
+     * Canlı akışla birlikte kullanılır: istemci ilk sayfayı okur, dönen sonOlayNo ile akışa abone olur
+     * @param macId Maç ID'si
+     * @param imlec Önceki sayfadan dönen sonrakiImlec (ilk sayfa için null)
+     * @param boyut Sayfa boyutu (1..EN_BUYUK_SAYFA_BOYUTU)
+     * @param kullaniciId İsteği yapan kullanıcının ID'si (giriş yapılmamışsa null)
+     * @return Yorum sayfası
+     * @throws RuntimeException Maç bulunamazsa, boyut veya imleç geçersizse
+     */
+    public YorumSayfasiDTO macYorumSayfasiGetir(Long macId, String imlec, int boyut, Long kullaniciId) {
+        if (boyut < 1 || boyut > EN_BUYUK_SAYFA_BOYUTU) {
+            throw new RuntimeException("Sayfa boyutu 1 ile " + EN_BUYUK_SAYFA_BOYUTU + " arasında olmalıdır");
+        }
+        if (!macRepository.existsById(macId)) {
+            throw new RuntimeException("Maç bulunamadı");
+        }
+
+        LocalDateTime imlecTarihi = EN_SON_TARIH;
+        Long imlecId = Long.MAX_VALUE;
+        if (imlec != null && !imlec.isBlank()) {
+            Object[] cozulen = imleciCoz(imlec);
+            imlecTarihi = (LocalDateTime) cozulen[0];
+            imlecId = (Long) cozulen[1];
+        }
+
+        // Olay numarası sorgudan ÖNCE alınır: arada kaydedilen yorum akıştan tekrar gelir, kaçırılmaz
+        long sonOlayNo = canliYorumYayini.sonOlayNo(macId);
+
+        // Bir fazla satır istenir; gelirse sonraki sayfa vardır
+        List<Yorum> yorumlar = new ArrayList<>(yorumRepository.findSayfaImlectenOnce(
+                macId, imlecTarihi, imlecId, PageRequest.of(0, boyut + 1)));
+        boolean dahaFazlaVar = yorumlar.size() > boyut;
+        if (dahaFazlaVar) {
+            yorumlar = yorumlar.subList(0, boyut);
+        }
+        begeniBilgileriniDoldur(yorumlar, kullaniciId);
+
+        List<YorumDTO> dtolar = new ArrayList<>(yorumlar.size());
+        for (Yorum yorum : yorumlar) {
+            dtolar.add(YorumDTO.yorumdan(yorum));
+        }
+
+        String sonrakiImlec = null;
+        if (dahaFazlaVar) {
+            Yorum son = yorumlar.get(yorumlar.size() - 1);
+            sonrakiImlec = imleciKodla(son.getYorumTarihi(), son.getId());
+        }
+        return new YorumSayfasiDTO(dtolar, sonrakiImlec, dahaFazlaVar, sonOlayNo);
+    }
+
+    /**
+     * İmleci URL güvenli Base64 metne çevirir ("yorumTarihi|id")
+     */
+    static String imleciKodla(LocalDateTime yorumTarihi, Long id) {
+        String ham = yorumTarihi + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(ham.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * İstemciden gelen imleç metnini çözer
+     * @return [yorumTarihi, id]
+     * @throws RuntimeException İmleç geçersizse
+     */
+    static Object[] imleciCoz(String imlec) {
+        try {
+            String ham = new String(Base64.getUrlDecoder().decode(imlec), StandardCharsets.UTF_8);
+            String[] parcalar = ham.split("\\|");
+            if (parcalar.length != 2) {
+                throw new IllegalArgumentException("Parça sayısı hatalı");
+            }
+            return new Object[]{LocalDateTime.parse(parcalar[0]), Long.parseLong(parcalar[1])};
+        } catch (Exception e) {
+            throw new RuntimeException("Geçersiz imleç: " + imlec);
+        }
     }
 
     /**
@@ -58,7 +203,11 @@ public class YorumService {
         yorum.setKullanici(kullanici);
         yorum.setMesaj(mesaj);
 
-        return yorumRepository.save(yorum);
+        Yorum kaydedilenYorum = yorumRepository.save(yorum);
+        canliYorumYayini.yorumYayinla(YorumDTO.yorumdan(kaydedilenYorum));
+        sonYorumlarTamponu.ekle(kaydedilenYorum.getId(), macId, kullanici.getKullaniciAdi(),
+                kaydedilenYorum.getMesaj(), kaydedilenYorum.getYorumTarihi());
+        return kaydedilenYorum;
     }
 
     /**
@@ -79,7 +228,9 @@ public class YorumService {
         }
 
         yorum.setMesaj(mesaj);
-        return yorumRepository.save(yorum);
+        Yorum guncellenenYorum = yorumRepository.save(yorum);
+        sonYorumlarTamponu.guncelle(yorumId, mesaj);
+        return guncellenenYorum;
     }
 
     /**
@@ -98,43 +249,42 @@ public class YorumService {
         }
 
         yorumRepository.delete(yorum);
+        sonYorumlarTamponu.cikar(yorumId); // Silinen yorum ana sayfadan kalksın
     }
 
     /**
      * Yorumu beğenir veya beğeniyi kaldırır
+     * Yorum ve kullanıcı yüklenmez: önce beğeni silinmeye çalışılır, silinecek satır yoksa
+     * koşullu olarak eklenir. Sayaç farkı commit'ten sonra YorumBegeniSayaci'na bırakılır.
      * @param yorumId Yorum ID'si
      * @param kullaniciId Kullanıcı ID'si
      * @return Beğeni durumu (beğenildi mi?)
      */
+    @Transactional
     public boolean yorumBegen(Long yorumId, Long kullaniciId) {
-        Yorum yorum = yorumRepository.findById(yorumId)
-                .orElseThrow(() -> new RuntimeException("Yorum bulunamadı"));
-        Kullanici kullanici = kullaniciRepository.findById(kullaniciId)
-                .orElseThrow(() -> new RuntimeException("Kullanıcı bulunamadı"));
-
-        // Beğeni durumunu kontrol et
-        boolean begenildi = yorum.getBegenenKullanicilar().contains(kullanici);
+        if (yorumRepository.begeniSil(yorumId, kullaniciId) > 0) {
+            yorumBegeniSayaci.farkKaydet(yorumId, -1);
+            return false;
+        }
 
-        if (begenildi) {
-            // Beğeniyi kaldır
-            yorum.getBegenenKullanicilar().remove(kullanici);
-        } else {
-            // Beğen
-            yorum.getBegenenKullanicilar().add(kullanici);
+        if (yorumRepository.begeniEkle(yorumId, kullaniciId) > 0) {
+            yorumBegeniSayaci.farkKaydet(yorumId, 1);
+            return true;
         }
 
-        yorumRepository.save(yorum);
-        return !begenildi; // Yeni durum
+        // Eklenmedi: ya yorum yok ya da aynı kullanıcının eşzamanlı isteği önce beğendi
+        if (!yorumRepository.existsById(yorumId)) {
+            throw new RuntimeException("Yorum bulunamadı");
+        }
+        return true;
     }
 
     /**
-     * En son yorumları getirir
+     * En son yorumları getirir (bellekteki tampondan, veritabanına gidilmez)
      * @param limit Kaç yorum getirileceği
      * @return En son yorumlar listesi
      */
-    public List<Yorum> sonYorumlariGetir(int limit) {
-        return yorumRepository.findTopByOrderByYorumTarihiDesc(PageRequest.of(0, limit));
+    public List<SonYorumDTO> sonYorumlariGetir(int limit) {
+        return sonYorumlarTamponu.sonYorumlar(limit);
     }
 }
-
-
@@ -0,0 +1,23 @@
+-- Lig Puan Durumu: Maç Sonuç Kolonu
+-- Puan durumu, sonucu kesinleşmiş (sonuclandi = TRUE) maçlardan oluşur; henüz oynanmamış
+-- maçların varsayılan 0-0 skoru puan tablosuna girmez. Kolon MacSonlandirCommand ve
+-- MacService.macSonuclandir tarafından yazılır, komut geri alınınca eski değerine döner.
+-- Bellekteki puan durumu (LigPuanDurumu) bu kolon ve mac_takimlari skorlarından yeniden kurulur.
+-- Not: oyuncu_istatistikleri.sql (fn_sezon) bu script'ten ÖNCE çalıştırılmalıdır.
+
+ALTER TABLE maclar ADD COLUMN IF NOT EXISTS sonuclandi BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- İlk doldurma (backfill): başlama saatinin üzerinden 2 saat geçmiş yayındaki maçlar sonuçlanmış sayılır
+UPDATE maclar m
+SET sonuclandi = TRUE
+WHERE NOT m.sonuclandi
+  AND m.tarih + m.saat < now() - INTERVAL '2 hours'
+  AND EXISTS (SELECT 1 FROM mac_guncel_durum mgd WHERE mgd.mac_id = m.id AND mgd.durum = 'YAYINDA');
+
+-- İndeksler (Performans optimizasyonu)
+-- Puan durumunun yeniden kurulması yalnızca sonuçlanmış maçları okur
+CREATE INDEX IF NOT EXISTS idx_maclar_sonuclandi ON maclar(id) WHERE sonuclandi;
+CREATE INDEX IF NOT EXISTS idx_mac_takimlari_mac_ev_sahibi ON mac_takimlari(mac_id, ev_sahibi);
+
+-- Yorumlar
+COMMENT ON COLUMN maclar.sonuclandi IS 'Maç sonucu kesinleşti mi (puan durumuna dahil edilir)';
@@ -0,0 +1,38 @@
+-- Maç Güncel Durum Tablosu Oluşturma Script'i
+-- mac_durum_gecmisi tablosundaki her maçın EN SON durumunu tek satırda tutar.
+-- Listeleme sorguları tüm geçmişi taramak yerine bu tablodan indeksli okuma yapar.
+-- Tablo, MacDurumServisi tarafından geçmiş kaydıyla AYNI transaction içinde güncellenir.
+
+CREATE TABLE IF NOT EXISTS mac_guncel_durum (
+    -- Primary Key (her maç için tek satır)
+    mac_id BIGINT PRIMARY KEY,
+    CONSTRAINT fk_mac_guncel_durum_mac FOREIGN KEY (mac_id)
+        REFERENCES maclar(id) ON DELETE CASCADE,
+
+    -- En son durum
+    durum yayim_durumu_enum NOT NULL,
+
+    -- En son durum kaydının zamanı
+    islem_tarihi TIMESTAMP NOT NULL,
+
+    -- En son durumu yazan kullanıcı
+    islem_yapan_kullanici_id BIGINT
+);
+
+-- İndeksler (Performans optimizasyonu)
+CREATE INDEX IF NOT EXISTS idx_mac_guncel_durum_durum ON mac_guncel_durum(durum);
+CREATE INDEX IF NOT EXISTS idx_mac_durum_gecmisi_mac_tarih ON mac_durum_gecmisi(mac_id, islem_tarihi DESC, id DESC);
+
+-- İlk doldurma (backfill): mevcut geçmişten her maçın en son kaydı alınır
+INSERT INTO mac_guncel_durum (mac_id, durum, islem_tarihi, islem_yapan_kullanici_id)
+SELECT DISTINCT ON (mdg.mac_id) mdg.mac_id, mdg.durum, COALESCE(mdg.islem_tarihi, now()), mdg.islem_yapan_kullanici_id
+FROM mac_durum_gecmisi mdg
+ORDER BY mdg.mac_id, mdg.islem_tarihi DESC NULLS LAST, mdg.id DESC
+ON CONFLICT (mac_id) DO UPDATE
+    SET durum = EXCLUDED.durum,
+        islem_tarihi = EXCLUDED.islem_tarihi,
+        islem_yapan_kullanici_id = EXCLUDED.islem_yapan_kullanici_id;
+
+-- Yorumlar
+COMMENT ON TABLE mac_guncel_durum IS 'mac_durum_gecmisi tablosunun maç başına en son durum projeksiyonu';
+COMMENT ON COLUMN mac_guncel_durum.durum IS 'ONAY_BEKLIYOR, YAYINDA, REDDEDILDI';
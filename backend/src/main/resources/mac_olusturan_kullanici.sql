@@ -0,0 +1,26 @@
+-- Maç Oluşturan Kullanıcı Kolonları
+-- Bir maçı oluşturan kullanıcı (editör), mac_durum_gecmisi tablosundaki İLK kaydın
+-- islem_yapan_kullanici_id değeridir. Onay kuyrukları bu bilgiyi maç başına ayrı
+-- bir MIN(islem_tarihi) alt sorgusuyla çözmek yerine mac_guncel_durum projeksiyonundan okur.
+-- Kolonlar MacDurumServisi.durumKaydet tarafından aynı transaction içinde güncellenir.
+-- Not: mac_guncel_durum_tablo.sql bu script'ten ÖNCE çalıştırılmalıdır.
+
+ALTER TABLE mac_guncel_durum ADD COLUMN IF NOT EXISTS olusturan_kullanici_id BIGINT;
+ALTER TABLE mac_guncel_durum ADD COLUMN IF NOT EXISTS ilk_islem_tarihi TIMESTAMP;
+
+-- İlk doldurma (backfill): her maçın en eski geçmiş kaydı alınır
+UPDATE mac_guncel_durum mgd
+SET olusturan_kullanici_id = ilk.islem_yapan_kullanici_id,
+    ilk_islem_tarihi = ilk.islem_tarihi
+FROM (SELECT DISTINCT ON (mdg.mac_id) mdg.mac_id, mdg.islem_yapan_kullanici_id, COALESCE(mdg.islem_tarihi, now()) AS islem_tarihi
+      FROM mac_durum_gecmisi mdg
+      ORDER BY mdg.mac_id, mdg.islem_tarihi ASC NULLS LAST, mdg.id ASC) ilk
+WHERE ilk.mac_id = mgd.mac_id;
+
+-- İndeksler (Performans optimizasyonu)
+-- Admin kuyruğu: durum + editör listesi, editör paneli: tek editör
+CREATE INDEX IF NOT EXISTS idx_mac_guncel_durum_olusturan_durum ON mac_guncel_durum(olusturan_kullanici_id, durum);
+
+-- Yorumlar
+COMMENT ON COLUMN mac_guncel_durum.olusturan_kullanici_id IS 'Maçın ilk durum kaydını yazan kullanıcı (maçı ekleyen editör)';
+COMMENT ON COLUMN mac_guncel_durum.ilk_islem_tarihi IS 'Maçın ilk durum kaydının zamanı';
@@ -0,0 +1,39 @@
+-- Maç Puanı Toplamları (artımlı ağırlıklı ortalama)
+-- mac_puanlari tablosu maç başına (SUM(puan*agirlik), SUM(agirlik), COUNT) toplamlarını tutar.
+-- Puanlama oluşturulurken/değiştirilirken PuanlamaService yalnızca eski ve yeni değer
+-- arasındaki farkı tek bir UPSERT ile ekler; ağırlıklı ortalama (puan) aynı ifadede yeniden
+-- hesaplanır. Her satır yazımında DELETE + tüm maçı yeniden toplayan eski tetikleyici kaldırılır.
+-- Sapmalar (ör. kullanıcı silinince CASCADE ile giden puanlamalar) MacPuanToplamlari
+-- uzlaştırma işi ile mac_puanlamalari tablosundan düzeltilir.
+
+ALTER TABLE mac_puanlari ADD COLUMN IF NOT EXISTS agirlikli_toplam BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE mac_puanlari ADD COLUMN IF NOT EXISTS agirlik_toplami BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE mac_puanlari ADD COLUMN IF NOT EXISTS puanlama_sayisi INTEGER NOT NULL DEFAULT 0;
+
+-- Tam yeniden toplama yapan tetikleyici artık gerekmiyor
+DROP TRIGGER IF EXISTS trg_mac_puanlari_after_change ON mac_puanlamalari;
+
+-- İlk doldurma (backfill) / toplam düzeltme: script tekrar çalıştırılabilir
+INSERT INTO mac_puanlari (mac_id, puan, agirlikli_toplam, agirlik_toplami, puanlama_sayisi)
+SELECT mp.mac_id,
+       COALESCE(ROUND(SUM(mp.puan * mp.agirlik)::numeric / NULLIF(SUM(mp.agirlik), 0), 2), 0),
+       SUM(mp.puan * mp.agirlik),
+       SUM(mp.agirlik),
+       COUNT(*)
+FROM mac_puanlamalari mp
+GROUP BY mp.mac_id
+ON CONFLICT (mac_id) DO UPDATE
+SET puan = EXCLUDED.puan,
+    agirlikli_toplam = EXCLUDED.agirlikli_toplam,
+    agirlik_toplami = EXCLUDED.agirlik_toplami,
+    puanlama_sayisi = EXCLUDED.puanlama_sayisi;
+
+-- Puanlaması kalmamış maçların toplam satırları
+DELETE FROM mac_puanlari p
+WHERE NOT EXISTS (SELECT 1 FROM mac_puanlamalari mp WHERE mp.mac_id = p.mac_id);
+
+-- Yorumlar
+COMMENT ON COLUMN mac_puanlari.puan IS 'Ağırlıklı ortalama puan (agirlikli_toplam / agirlik_toplami)';
+COMMENT ON COLUMN mac_puanlari.agirlikli_toplam IS 'Maçın tüm puanlamaları için SUM(puan * agirlik)';
+COMMENT ON COLUMN mac_puanlari.agirlik_toplami IS 'Maçın tüm puanlamaları için SUM(agirlik)';
+COMMENT ON COLUMN mac_puanlari.puanlama_sayisi IS 'Maça yapılan puanlama sayısı';
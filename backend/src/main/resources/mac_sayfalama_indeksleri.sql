@@ -0,0 +1,16 @@
+-- Maç Listesi Sayfalama İndeksleri
+-- /api/matches/page uç noktası (tarih, saat, id) üzerinde keyset sayfalama yapar.
+-- Bu indeksler sayesinde sayfa maliyeti tablo boyutundan bağımsız kalır.
+
+-- Başlama zamanı sırası (tarih/saat ile sıralayan diğer sorgular için)
+CREATE INDEX IF NOT EXISTS idx_maclar_tarih_saat_id ON maclar(tarih, saat, id);
+
+-- Keyset sırası (imleç ile aynı ifadeler: tarihsiz maç 1900-01-01, saatsiz maç 00:00)
+CREATE INDEX IF NOT EXISTS idx_maclar_baslama_sirasi
+    ON maclar ((COALESCE(tarih, DATE '1900-01-01')), (COALESCE(saat, TIME '00:00')), id);
+
+-- Takım filtresi (EXISTS alt sorgusu takim_id ile başlar)
+CREATE INDEX IF NOT EXISTS idx_mac_takimlari_takim_mac ON mac_takimlari(takim_id, mac_id);
+
+-- Lig filtresi (takımlar üzerinden)
+CREATE INDEX IF NOT EXISTS idx_takimlar_lig ON takimlar(lig_id);
@@ -0,0 +1,66 @@
+-- Oyuncu İstatistik Sayaçları
+-- Oyuncu başına gol, sarı kart, kırmızı kart ve maç sayısı sayaçları. Her oyuncu için
+-- bir "tüm zamanlar" satırı (sezon = 0, lig_id = 0) ve her (sezon, lig) için bir kırılım
+-- satırı tutulur. MacService.macOlayEkle / macOlaySil olayla aynı transaction içinde
+-- yalnızca ilgili satırlara fark ekler; /api/players/{id}/statistics tüm olayları taramaz.
+-- Sayaçlar OyuncuIstatistikleri.yenidenHesapla ile ham tablolardan yeniden kurulabilir.
+--
+-- Sezon: maç tarihinden (Temmuz-Haziran), başladığı yıl ile tutulur (2024 = 2024-25)
+-- Lig: maçın ev sahibi takımının ligi (maçların kendi lig kolonu yok); ligi olmayan maç için 0
+
+CREATE OR REPLACE FUNCTION fn_sezon(p_tarih DATE) RETURNS SMALLINT
+    LANGUAGE sql IMMUTABLE
+    AS $$
+    SELECT CAST(CASE WHEN EXTRACT(MONTH FROM p_tarih) >= 7
+                     THEN EXTRACT(YEAR FROM p_tarih)
+                     ELSE EXTRACT(YEAR FROM p_tarih) - 1 END AS SMALLINT)
+$$;
+
+CREATE TABLE IF NOT EXISTS oyuncu_istatistikleri (
+    oyuncu_id BIGINT NOT NULL REFERENCES oyuncular(id) ON DELETE CASCADE,
+    sezon SMALLINT NOT NULL,
+    lig_id BIGINT NOT NULL,
+    gol INTEGER NOT NULL DEFAULT 0,
+    sari_kart INTEGER NOT NULL DEFAULT 0,
+    kirmizi_kart INTEGER NOT NULL DEFAULT 0,
+    mac_sayisi INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (oyuncu_id, sezon, lig_id)
+);
+
+-- Olay eklenirken/silinirken "oyuncunun bu maçtaki başka olayı var mı?" kontrolü
+CREATE INDEX IF NOT EXISTS idx_mac_oyuncu_olaylari_oyuncu_mac ON mac_oyuncu_olaylari(oyuncu_id, mac_id);
+
+-- İlk doldurma (backfill) / tam yeniden hesaplama: script tekrar çalıştırılabilir
+-- Maç sayısı: kadroda bulunduğu veya olayı olan farklı maçlar
+BEGIN;
+DELETE FROM oyuncu_istatistikleri;
+INSERT INTO oyuncu_istatistikleri (oyuncu_id, sezon, lig_id, gol, sari_kart, kirmizi_kart, mac_sayisi)
+SELECT x.oyuncu_id,
+       COALESCE(fn_sezon(m.tarih), 0),
+       COALESCE(ml.lig_id, 0),
+       SUM(x.gol), SUM(x.sari_kart), SUM(x.kirmizi_kart), COUNT(*)
+FROM (
+    SELECT oyuncu_id, mac_id,
+           COUNT(*) FILTER (WHERE olay_turu = 'GOL') AS gol,
+           COUNT(*) FILTER (WHERE olay_turu = 'SARI_KART') AS sari_kart,
+           COUNT(*) FILTER (WHERE olay_turu = 'KIRMIZI_KART') AS kirmizi_kart
+    FROM (
+        SELECT oyuncu_id, mac_id, olay_turu FROM mac_oyuncu_olaylari
+        UNION ALL
+        SELECT oyuncu_id, mac_id, NULL FROM mac_kadrolari
+    ) olay_ve_kadro
+    GROUP BY oyuncu_id, mac_id
+) x
+JOIN maclar m ON m.id = x.mac_id
+LEFT JOIN LATERAL (
+    SELECT t.lig_id FROM mac_takimlari mt JOIN takimlar t ON t.id = mt.takim_id
+    WHERE mt.mac_id = m.id AND mt.ev_sahibi LIMIT 1
+) ml ON TRUE
+GROUP BY GROUPING SETS ((x.oyuncu_id), (x.oyuncu_id, fn_sezon(m.tarih), ml.lig_id));
+COMMIT;
+
+-- Yorumlar
+COMMENT ON TABLE oyuncu_istatistikleri IS 'Oyuncu olay sayaçları: sezon=0/lig_id=0 tüm zamanlar, diğerleri sezon ve lig kırılımı';
+COMMENT ON COLUMN oyuncu_istatistikleri.sezon IS 'Sezonun başladığı yıl (fn_sezon), tüm zamanlar satırında 0';
+COMMENT ON COLUMN oyuncu_istatistikleri.lig_id IS 'Maçın ev sahibi takımının ligi, ligsiz maçlar ve tüm zamanlar satırında 0';
+COMMENT ON COLUMN oyuncu_istatistikleri.mac_sayisi IS 'Kadroda bulunduğu veya olayı olan farklı maç sayısı';
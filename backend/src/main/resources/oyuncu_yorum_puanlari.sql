@@ -0,0 +1,47 @@
+-- Oyuncu Yorum Puanları
+-- Oyuncu yorumlarındaki 1-10 puan artık metinden ("[8/10] ...") ayrıştırılmaz; oyuncu_yorumlari.puan
+-- kolonunda tutulur. Oyuncu başına puan toplamı ve sayısı oyuncu_yorum_puanlari tablosunda
+-- tutulur ve OyuncuService.oyuncuYorumEkle tarafından aynı transaction içinde artırılır;
+-- oyuncu profilindeki ortalama tek satır okunarak hesaplanır. Uygulama dışında giden yorumlar
+-- (ör. kullanıcı silinince CASCADE) için özetler OyuncuYorumPuanlari tarafından periyodik olarak
+-- ve admin isteğiyle (POST /api/admin/player-ratings/recompute) yeniden hesaplanır.
+
+ALTER TABLE oyuncu_yorumlari ADD COLUMN IF NOT EXISTS puan SMALLINT;
+
+-- Tek seferlik doldurma (backfill): mevcut yorumların başındaki "[x/10]" puanı
+-- Yalnızca 1-10 tam sayıları alınır (uygulama başka biçim yazmadı); tekrar çalıştırılabilir
+UPDATE oyuncu_yorumlari
+SET puan = CAST(substring(icerik FROM '^\[(10|[1-9])/10\]') AS SMALLINT)
+WHERE puan IS NULL
+  AND icerik ~ '^\[(10|[1-9])/10\]';
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'oyuncu_yorumlari_puan_check') THEN
+        ALTER TABLE oyuncu_yorumlari
+            ADD CONSTRAINT oyuncu_yorumlari_puan_check CHECK (puan IS NULL OR puan BETWEEN 1 AND 10);
+    END IF;
+END $$;
+
+-- Oyuncu başına puan özeti
+CREATE TABLE IF NOT EXISTS oyuncu_yorum_puanlari (
+    oyuncu_id BIGINT PRIMARY KEY REFERENCES oyuncular(id) ON DELETE CASCADE,
+    puan_toplami BIGINT NOT NULL DEFAULT 0,
+    puan_sayisi INTEGER NOT NULL DEFAULT 0
+);
+
+-- İlk doldurma / özet düzeltme: script tekrar çalıştırılabilir
+INSERT INTO oyuncu_yorum_puanlari (oyuncu_id, puan_toplami, puan_sayisi)
+SELECT oy.oyuncu_id, SUM(oy.puan), COUNT(oy.puan)
+FROM oyuncu_yorumlari oy
+WHERE oy.puan IS NOT NULL
+GROUP BY oy.oyuncu_id
+ON CONFLICT (oyuncu_id) DO UPDATE
+SET puan_toplami = EXCLUDED.puan_toplami,
+    puan_sayisi = EXCLUDED.puan_sayisi;
+
+-- Yorumlar
+COMMENT ON COLUMN oyuncu_yorumlari.puan IS 'Yorumla verilen puan (1-10), puansız yorumda NULL';
+COMMENT ON TABLE oyuncu_yorum_puanlari IS 'Oyuncu yorum puanlarının oyuncu başına toplamı ve sayısı';
+COMMENT ON COLUMN oyuncu_yorum_puanlari.puan_toplami IS 'SUM(oyuncu_yorumlari.puan)';
+COMMENT ON COLUMN oyuncu_yorum_puanlari.puan_sayisi IS 'Puanlı yorum sayısı';
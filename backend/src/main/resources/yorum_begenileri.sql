@@ -0,0 +1,31 @@
+-- Yorum Beğenileri Tablosu ve Beğeni Sayacı
+-- Beğeni/beğeniyi geri alma tek bir koşullu INSERT veya DELETE ile yapılır;
+-- yorum ve kullanıcı nesneleri yüklenmez. Her yorumun beğeni sayısı yorumlar
+-- tablosunda tutulur (begeni_sayisi), sık beğenilen yorumların sayaç farkları
+-- YorumBegeniSayaci tarafından bellekte biriktirilip periyodik olarak yazılır.
+
+CREATE TABLE IF NOT EXISTS yorum_begenileri (
+    yorum_id BIGINT NOT NULL REFERENCES yorumlar(yorum_id) ON DELETE CASCADE,
+    kullanici_id BIGINT NOT NULL REFERENCES kullanicilar(kullanici_id) ON DELETE CASCADE,
+    begeni_tarihi TIMESTAMP NOT NULL DEFAULT now(),
+    PRIMARY KEY (yorum_id, kullanici_id)
+);
+
+-- "Bu sayfadaki hangi yorumları beğendim?" sorgusu kullanıcı ile başlar
+CREATE INDEX IF NOT EXISTS idx_yorum_begenileri_kullanici_yorum ON yorum_begenileri(kullanici_id, yorum_id);
+
+-- Denormalize beğeni sayacı
+ALTER TABLE yorumlar ADD COLUMN IF NOT EXISTS begeni_sayisi INTEGER NOT NULL DEFAULT 0;
+
+-- İlk doldurma (backfill) / sayaç düzeltme: script tekrar çalıştırılabilir
+UPDATE yorumlar y
+SET begeni_sayisi = COALESCE(b.sayi, 0)
+FROM yorumlar y2
+LEFT JOIN (SELECT yorum_id, COUNT(*) AS sayi FROM yorum_begenileri GROUP BY yorum_id) b
+       ON b.yorum_id = y2.yorum_id
+WHERE y2.yorum_id = y.yorum_id
+  AND y.begeni_sayisi <> COALESCE(b.sayi, 0);
+
+-- Yorumlar
+COMMENT ON TABLE yorum_begenileri IS 'Kullanıcıların beğendiği yorumlar (yorum başına kullanıcı en fazla bir kez)';
+COMMENT ON COLUMN yorumlar.begeni_sayisi IS 'Yorumun beğeni sayısı (yorum_begenileri satır sayısının denormalize kopyası)';
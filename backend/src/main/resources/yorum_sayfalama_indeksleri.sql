@@ -0,0 +1,9 @@
+-- Yorum Geçmişi Sayfalama İndeksleri
+-- /api/matches/{id}/comments/page uç noktası maç yorumlarını (olusturma_tarihi, yorum_id)
+-- üzerinde yeniden eskiye keyset sayfalama ile okur. İndeks sıralamayla aynı olduğu için
+-- her sayfa, maçın toplam yorum sayısından bağımsız olarak indeks aralık taramasıyla okunur.
+
+CREATE INDEX IF NOT EXISTS idx_yorumlar_mac_tarih_id ON yorumlar(mac_id, olusturma_tarihi DESC, yorum_id DESC);
+
+-- Son yorumlar (tüm maçlar): SonYorumlarTamponu açılışta en son yorumları bu sırayla okur
+CREATE INDEX IF NOT EXISTS idx_yorumlar_tarih_id ON yorumlar(olusturma_tarihi DESC, yorum_id DESC);
@@ -0,0 +1,122 @@
+package com.footbase.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.footbase.patterns.strategy.AdminDegerlendirmeStrateji;
+import com.footbase.patterns.strategy.DegerlendirmeContext;
+import com.footbase.patterns.strategy.DegerlendirmePuanlayici;
+import com.footbase.patterns.strategy.EditorDegerlendirmeStrateji;
+import com.footbase.patterns.strategy.NormalKullaniciDegerlendirmeStrateji;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Değerlendirme Puanlama Benchmark'ı
+ *
+ * Aynı değerlendirme partisinin toplam puanını üç yolla hesaplar:
+ * - tekTek: her değerlendirme için rol adıyla puanHesapla(String, int)
+ * - liste: DegerlendirmeContext.toplamPuanHesapla (Degerlendirme nesneleri listesi)
+ * - dizi: DegerlendirmePuanlayici.toplamPuanHesapla (rol kodu ve yıldız ilkel dizileri,
+ *   öğe başına nesne yok)
+ *
+ * Çalıştırma: test sınıf yolu ile main metodu (IDE veya exec:java)
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DegerlendirmePuanlamaBenchmark {
+
+    private static final String[] ROLLER = {"ADMIN", "EDITOR", "USER"};
+
+    @Param({"1000", "100000"})
+    public int adet;
+
+    private DegerlendirmePuanlayici puanlayici;
+    private DegerlendirmeContext context;
+    private String[] roller;
+    private int[] rolKodlari;
+    private int[] yildizlar;
+    private List<DegerlendirmeContext.Degerlendirme> liste;
+
+    @Setup
+    public void setUp() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.footbase")).setLevel(Level.WARN);
+
+        puanlayici = new DegerlendirmePuanlayici();
+        stratejileriBagla(puanlayici);
+        puanlayici.tabloyuOlustur();
+
+        context = new DegerlendirmeContext();
+        stratejileriBagla(context);
+        ReflectionTestUtils.setField(context, "puanlayici", puanlayici);
+
+        Random rastgele = new Random(42);
+        roller = new String[adet];
+        rolKodlari = new int[adet];
+        yildizlar = new int[adet];
+        liste = new ArrayList<>(adet);
+        for (int i = 0; i < adet; i++) {
+            roller[i] = ROLLER[rastgele.nextInt(ROLLER.length)];
+            rolKodlari[i] = puanlayici.rolKodu(roller[i]);
+            yildizlar[i] = 1 + rastgele.nextInt(5);
+            liste.add(new DegerlendirmeContext.Degerlendirme(roller[i], yildizlar[i]));
+        }
+    }
+
+    private static void stratejileriBagla(Object hedef) {
+        ReflectionTestUtils.setField(hedef, "adminStrateji", new AdminDegerlendirmeStrateji());
+        ReflectionTestUtils.setField(hedef, "editorStrateji", new EditorDegerlendirmeStrateji());
+        ReflectionTestUtils.setField(hedef, "normalKullaniciStrateji", new NormalKullaniciDegerlendirmeStrateji());
+    }
+
+    @Benchmark
+    public double tekTek() {
+        double toplam = 0.0;
+        for (int i = 0; i < adet; i++) {
+            toplam += puanlayici.puanHesapla(roller[i], yildizlar[i]);
+        }
+        return toplam;
+    }
+
+    @Benchmark
+    public double liste() {
+        return context.toplamPuanHesapla(liste);
+    }
+
+    @Benchmark
+    public double dizi() {
+        return puanlayici.toplamPuanHesapla(rolKodlari, yildizlar, adet);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options secenekler = new OptionsBuilder()
+                .include(DegerlendirmePuanlamaBenchmark.class.getSimpleName())
+                .build();
+        new Runner(secenekler).run();
+    }
+}
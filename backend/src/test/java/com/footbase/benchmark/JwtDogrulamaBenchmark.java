@@ -0,0 +1,99 @@
+package com.footbase.benchmark;
+
+import com.footbase.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT Doğrulama Benchmark'ı
+ *
+ * JwtAuthenticationFilter'ın istek başına kimlik doğrulama maliyetini ölçer:
+ * - eskiYol: her çağrıda anahtar + parser yeniden oluşturulur, token iki kez çözümlenir
+ *   (getKullaniciEmailFromToken + validateToken)
+ * - tekCozumleme: önceden oluşturulmuş parser ile tek çözümleme (önbellek ıskası)
+ * - onbellekli: JwtUtil.tokenDogrula (aynı token tekrar geldiğinde önbellek isabeti)
+ *
+ * Çalıştırma: test sınıf yolu ile main metodu (IDE veya exec:java)
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtDogrulamaBenchmark {
+
+    private static final String GIZLI_ANAHTAR = "footbaseSuperGizliAnahtar2024SecretKeyForJWTTokenGeneration";
+
+    private JwtUtil jwtUtil;
+    private JwtParser hazirParser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "gizliAnahtar", GIZLI_ANAHTAR);
+        ReflectionTestUtils.setField(jwtUtil, "gecerlilikSuresi", 86_400_000L);
+        jwtUtil.init();
+        token = jwtUtil.generateToken("kullanici@footbase.com", 42L);
+        hazirParser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(GIZLI_ANAHTAR.getBytes(StandardCharsets.UTF_8)))
+                .build();
+    }
+
+    @Benchmark
+    public String eskiYol() {
+        // Eski filtre: önce email için, sonra doğrulama için; her seferinde yeni anahtar ve parser
+        String email = eskiCozumle(token).getSubject();
+        eskiCozumle(token);
+        return email;
+    }
+
+    @Benchmark
+    public String tekCozumleme() {
+        return hazirParser.parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public String onbellekli() {
+        return jwtUtil.tokenDogrula(token).getSubject();
+    }
+
+    private Claims eskiCozumle(String jwt) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(GIZLI_ANAHTAR.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(jwt)
+                .getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options secenekler = new OptionsBuilder()
+                .include(JwtDogrulamaBenchmark.class.getSimpleName())
+                .build();
+        new Runner(secenekler).run();
+    }
+}
@@ -0,0 +1,146 @@
+package com.footbase.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.footbase.service.LiderlikTablolari;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Liderlik Tablosu Benchmark'ı
+ *
+ * Bir lig sezonu büyüklüğünde (oyuncu başına ~4 olay) olay akışı tablolara tek tek
+ * uygulandıktan sonra şunları ölçer:
+ * - olayUygula: tek oyuncunun gol sayısının değişmesi (ağaçtan sil + ekle)
+ * - ilkSayfa: gol krallığının ilk 20 satırı
+ * - oyuncuSirasi: tek oyuncunun sırası
+ * - naifYenidenSayma: aynı sonucun olaylardan her istekte yeniden sayılıp sıralanması
+ *   (tablolardan önceki yaklaşım)
+ *
+ * Çalıştırma: test sınıf yolu ile main metodu (IDE veya exec:java)
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LiderlikTablosuBenchmark {
+
+    private static final long LIG = 1L;
+    private static final int SEZON = 2024;
+    private static final int OLAY_CARPANI = 4;
+
+    @Param({"600", "20000"})
+    public int oyuncu;
+
+    private LiderlikTablolari tablolar;
+    private int[] gol;
+    private int[] sariKart;
+    private int[] kirmiziKart;
+    private long[] olayOyunculari;
+    private String[] olayTurleri;
+    private int[] rastgeleOyuncular;
+    private int adim;
+
+    @Setup
+    public void setUp() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.footbase")).setLevel(Level.WARN);
+
+        tablolar = new LiderlikTablolari();
+        gol = new int[oyuncu];
+        sariKart = new int[oyuncu];
+        kirmiziKart = new int[oyuncu];
+
+        // Olaylar birkaç oyuncuda yoğunlaşır (forvetler gol, stoperler kart toplar)
+        Random rastgele = new Random(42);
+        int olay = oyuncu * OLAY_CARPANI;
+        olayOyunculari = new long[olay];
+        olayTurleri = new String[olay];
+        for (int i = 0; i < olay; i++) {
+            int o = (int) (Math.pow(rastgele.nextDouble(), 2) * oyuncu);
+            int tur = rastgele.nextInt(100);
+            olayOyunculari[i] = o;
+            if (tur < 55) {
+                olayTurleri[i] = "GOL";
+                gol[o]++;
+            } else if (tur < 95) {
+                olayTurleri[i] = "SARI_KART";
+                sariKart[o]++;
+            } else {
+                olayTurleri[i] = "KIRMIZI_KART";
+                kirmiziKart[o]++;
+            }
+            tablolar.oyuncuGuncelle(LIG, SEZON, o, "Oyuncu " + o, gol[o], sariKart[o], kirmiziKart[o]);
+        }
+
+        rastgeleOyuncular = new int[1024];
+        for (int i = 0; i < rastgeleOyuncular.length; i++) {
+            rastgeleOyuncular[i] = rastgele.nextInt(oyuncu);
+        }
+    }
+
+    @Benchmark
+    public int olayUygula() {
+        // Tek adımda gol eklenir, sonraki adımda geri alınır: tablo boyutu sabit kalır
+        int o = rastgeleOyuncular[(adim >> 1) & (rastgeleOyuncular.length - 1)];
+        gol[o] += (adim & 1) == 0 ? 1 : -1;
+        adim++;
+        tablolar.oyuncuGuncelle(LIG, SEZON, o, "Oyuncu " + o, gol[o], sariKart[o], kirmiziKart[o]);
+        return gol[o];
+    }
+
+    @Benchmark
+    public Map<String, Object> ilkSayfa() {
+        return tablolar.sayfa(LIG, SEZON, LiderlikTablolari.Tur.GOL, 0, 20);
+    }
+
+    @Benchmark
+    public LiderlikTablolari.Satir oyuncuSirasi() {
+        int o = rastgeleOyuncular[adim++ & (rastgeleOyuncular.length - 1)];
+        return tablolar.oyuncuSirasi(LIG, SEZON, LiderlikTablolari.Tur.GOL, (long) o);
+    }
+
+    @Benchmark
+    public List<long[]> naifYenidenSayma() {
+        Map<Long, long[]> sayaclar = new HashMap<>();
+        for (int i = 0; i < olayOyunculari.length; i++) {
+            if ("GOL".equals(olayTurleri[i])) {
+                sayaclar.computeIfAbsent(olayOyunculari[i], id -> new long[]{id, 0})[1]++;
+            }
+        }
+        List<long[]> sirali = new ArrayList<>(sayaclar.values());
+        sirali.sort((a, b) -> a[1] != b[1] ? Long.compare(b[1], a[1]) : Long.compare(a[0], b[0]));
+        return sirali.subList(0, Math.min(20, sirali.size()));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options secenekler = new OptionsBuilder()
+                .include(LiderlikTablosuBenchmark.class.getSimpleName())
+                .build();
+        new Runner(secenekler).run();
+    }
+}
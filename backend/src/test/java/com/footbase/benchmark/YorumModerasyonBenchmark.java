@@ -0,0 +1,134 @@
+package com.footbase.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.footbase.entity.Yorum;
+import com.footbase.patterns.chain.HandlerResult;
+import com.footbase.patterns.chain.yorum.KufurFiltresiHandler;
+import com.footbase.patterns.chain.yorum.LinkKontrolHandler;
+import com.footbase.patterns.chain.yorum.SpamKontrolHandler;
+import com.footbase.patterns.chain.yorum.TekrarIcerikKontrolHandler;
+import com.footbase.patterns.chain.yorum.UzunlukKontrolHandler;
+import com.footbase.patterns.chain.yorum.YorumHizSinirlayici;
+import com.footbase.patterns.chain.yorum.YorumModerationChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Yorum Moderasyonu Benchmark'ı
+ *
+ * Aynı yorum karışımı için iki moderasyon modunu karşılaştırır:
+ * - zincir: her işleyici mesajı ayrı tarar (trim, chars() akışları, regex, küfür taraması)
+ * - tekGecis: mesaj bir kez taranıp YorumOzellikleri doldurulur, işleyiciler kayıttan karar verir
+ *
+ * logSeviyesi=WARN yalnızca tarama maliyetini ölçer; INFO ile çalıştırıldığında
+ * (-p logSeviyesi=INFO) zincirin yorum başına yazdığı log satırlarının maliyeti de dahil olur.
+ *
+ * Çalıştırma: test sınıf yolu ile main metodu (IDE veya exec:java)
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class YorumModerasyonBenchmark {
+
+    private static final String[] ORNEKLER = {
+        "Bugünkü maçta hakem çok kötü karar verdi, penaltı açıktı ama verilmedi.",
+        "Harika bir ikinci yarı! Forvet hattı sonunda uyandı, tebrikler çocuklar.",
+        "MAÇIN EN İYİ OYUNCUSU KESİNLİKLE KALECİYDİ, İNANILMAZ KURTARIŞLAR YAPTI",
+        "Özet videosu burada: https://www.footbase.com/mac/123/ozet izleyin.",
+        "Defans yine dağınıktı, teknik direktör taktiği değiştirmeli bence. Ofsayt tuzağı hiç çalışmadı, "
+            + "orta sahada top kaybı çok fazlaydı ve kanatlardan gelen ortalara kimse hareketlenmedi.",
+        "gooooooool!!! müthiş şut",
+        "Bu hakem tam bir aptal, maçı resmen kaybettirdi.",
+        "Transfer döneminde www.ornek.com ve http://haber.example.org/spor linklerinde yazanlar doğru mu?",
+        "Tribünler doluydu, atmosfer muhteşemdi, deplasmanda böyle bir destek görmedim.",
+        "ok"
+    };
+
+    @Param({"WARN"})
+    public String logSeviyesi;
+
+    private YorumModerationChain zincir;
+    private Yorum[] yorumlar;
+    private int sira;
+
+    @Setup
+    public void setUp() throws Exception {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.footbase")).setLevel(Level.toLevel(logSeviyesi));
+
+        KufurFiltresiHandler kufur = new KufurFiltresiHandler();
+        ReflectionTestUtils.setField(kufur, "sozlukYolu", "classpath:kufur-sozlugu.txt");
+        ReflectionTestUtils.setField(kufur, "resourceLoader", new DefaultResourceLoader());
+        kufur.sozluguYenidenYukle();
+
+        // Kullanıcısız yorumlar hız sınırına takılmaz; her iki mod da aynı işi yapar
+        SpamKontrolHandler spam = new SpamKontrolHandler();
+        ReflectionTestUtils.setField(spam, "hizSinirlayici", new YorumHizSinirlayici(1, 10, 20, 600, 100_000));
+
+        // Eşik yüksek tutulur ki tekrar eden örnekler zinciri erken bitirmesin
+        TekrarIcerikKontrolHandler tekrar = new TekrarIcerikKontrolHandler();
+        ReflectionTestUtils.setField(tekrar, "pencereDakika", 60);
+        ReflectionTestUtils.setField(tekrar, "kapasite", 50_000);
+        ReflectionTestUtils.setField(tekrar, "esikSayisi", Integer.MAX_VALUE);
+        ReflectionTestUtils.setField(tekrar, "enFazlaMesafe", 3);
+        tekrar.init();
+
+        zincir = new YorumModerationChain();
+        ReflectionTestUtils.setField(zincir, "kufurFiltresi", kufur);
+        ReflectionTestUtils.setField(zincir, "spamKontrol", spam);
+        ReflectionTestUtils.setField(zincir, "uzunlukKontrol", new UzunlukKontrolHandler());
+        ReflectionTestUtils.setField(zincir, "linkKontrol", new LinkKontrolHandler());
+        ReflectionTestUtils.setField(zincir, "tekrarIcerikKontrol", tekrar);
+        zincir.buildChain();
+
+        Random rastgele = new Random(42);
+        yorumlar = new Yorum[1024];
+        for (int i = 0; i < yorumlar.length; i++) {
+            Yorum yorum = new Yorum();
+            yorum.setMesaj(ORNEKLER[rastgele.nextInt(ORNEKLER.length)] + " #" + i);
+            yorumlar[i] = yorum;
+        }
+        sira = 0;
+    }
+
+    @Benchmark
+    public HandlerResult zincir() {
+        return zincir.zincirleModerate(yorumlar[sira++ & (yorumlar.length - 1)]);
+    }
+
+    @Benchmark
+    public HandlerResult tekGecis() {
+        return zincir.tekGeciseModerate(yorumlar[sira++ & (yorumlar.length - 1)]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options secenekler = new OptionsBuilder()
+                .include(YorumModerasyonBenchmark.class.getSimpleName())
+                .build();
+        new Runner(secenekler).run();
+    }
+}
@@ -0,0 +1,110 @@
+package com.footbase.benchmark;
+
+import com.footbase.patterns.chain.yorum.KufurOtomati;
+import com.footbase.patterns.chain.yorum.YorumParmakIziIndeksi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Yakın Tekrar Yorum İndeksi Benchmark'ı
+ *
+ * TekrarIcerikKontrolHandler'ın yorum başına maliyetini ölçer. İndeks, bir saatlik
+ * pencerede saatte on binlerce yorum senaryosuna denk gelecek şekilde önceden doldurulur;
+ * bir kısmı aynı kopyala-yapıştır metninin varyasyonlarıdır (dolu kovalar).
+ * - parmakIzi: normalizasyon + SimHash
+ * - araVeEkle: normalizasyon + SimHash + indeks araması + ekleme
+ *
+ * Çalıştırma: test sınıf yolu ile main metodu (IDE veya exec:java)
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class YorumParmakIziBenchmark {
+
+    private static final String[] KELIMELER = {
+        "maç", "gol", "hakem", "penaltı", "ofsayt", "taraftar", "forvet", "kaleci", "defans",
+        "harika", "berbat", "kart", "korner", "şut", "pas", "taktik", "teknik", "direktör",
+        "ikinci", "yarı", "deplasman", "stat", "transfer", "sezon", "lig", "şampiyon"
+    };
+
+    private static final String SEL_METNI = "Herkes bu kanala katılsın, en iyi maç analizleri burada paylaşılıyor!";
+
+    @Param({"50000"})
+    public int indeksBoyutu;
+
+    private YorumParmakIziIndeksi indeks;
+    private String[] mesajlar;
+    private int sira;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Random rastgele = new Random(42);
+        indeks = new YorumParmakIziIndeksi(indeksBoyutu, 3_600_000L, System::currentTimeMillis);
+        for (int i = 0; i < indeksBoyutu; i++) {
+            String mesaj = i % 10 == 0 ? SEL_METNI + " " + i : rastgeleMesaj(rastgele);
+            indeks.araVeEkle(YorumParmakIziIndeksi.parmakIziHesapla(KufurOtomati.normalizeEt(mesaj)),
+                    (long) (i % 5000), YorumParmakIziIndeksi.EN_FAZLA_MESAFE);
+        }
+
+        mesajlar = new String[1024];
+        for (int i = 0; i < mesajlar.length; i++) {
+            mesajlar[i] = i % 10 == 0 ? SEL_METNI : rastgeleMesaj(rastgele);
+        }
+        sira = 0;
+    }
+
+    @Benchmark
+    public long parmakIzi() {
+        String mesaj = mesajlar[sira++ & (mesajlar.length - 1)];
+        return YorumParmakIziIndeksi.parmakIziHesapla(KufurOtomati.normalizeEt(mesaj));
+    }
+
+    @Benchmark
+    public YorumParmakIziIndeksi.Eslesme araVeEkle() {
+        int i = sira++ & (mesajlar.length - 1);
+        long parmakIzi = YorumParmakIziIndeksi.parmakIziHesapla(KufurOtomati.normalizeEt(mesajlar[i]));
+        return indeks.araVeEkle(parmakIzi, (long) i, YorumParmakIziIndeksi.EN_FAZLA_MESAFE);
+    }
+
+    private static String rastgeleMesaj(Random rastgele) {
+        int kelimeSayisi = 6 + rastgele.nextInt(15);
+        StringBuilder mesaj = new StringBuilder();
+        for (int k = 0; k < kelimeSayisi; k++) {
+            if (k > 0) {
+                mesaj.append(' ');
+            }
+            mesaj.append(KELIMELER[rastgele.nextInt(KELIMELER.length)]);
+        }
+        return mesaj.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options secenekler = new OptionsBuilder()
+                .include(YorumParmakIziBenchmark.class.getSimpleName())
+                .build();
+        new Runner(secenekler).run();
+    }
+}
@@ -0,0 +1,119 @@
+package com.footbase.patterns.chain.yorum;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * KufurOtomati Test Sınıfı
+ *
+ * Normalizasyonu (Türkçe harfler, leetspeak, tekrar eden harfler), maskelemenin orijinal
+ * metindeki karakterlere eşlenmesini, kelime sınırı girdilerini, masum kelimelerde yanlış
+ * pozitif olmamasını ve sözlüğün yeniden yüklenmesini test eder.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+class KufurOtomatiTest {
+
+    private static final KufurOtomati OTOMAT = KufurOtomati.olustur(List.of("aptal", "salak", "gerizekalı"));
+
+    @TempDir
+    Path geciciKlasor;
+
+    @Test
+    @DisplayName("Normalizasyon: Türkçe harfler, kelime içi leetspeak, tekrarlar; sayılar rakam kalır")
+    void testNormalizeEt() {
+        assertEquals("istanbul da", KufurOtomati.normalizeEt("İSTANBUL'da"));
+        assertEquals("igdir", KufurOtomati.normalizeEt("Iğdır"));
+        assertEquals("aptal", KufurOtomati.normalizeEt("4pt4l"));
+        assertEquals("gerizekali", KufurOtomati.normalizeEt("ger1zekal1"));
+        assertEquals("salak", KufurOtomati.normalizeEt("$@l@k"));
+        assertEquals("gol ", KufurOtomati.normalizeEt("Gooool!!!"));
+        assertEquals("3 0", KufurOtomati.normalizeEt("3-0"));
+        assertEquals("1907 den", KufurOtomati.normalizeEt("1907'den"));
+    }
+
+    @Test
+    @DisplayName("Leetspeak ve tekrar eden harflerle yazılmış kelimeler yakalanır")
+    void testVaryasyonlarYakalanir() {
+        for (String mesaj : List.of("4pt4l", "APTAL", "aaaptaaaal", "ger1zekal1", "s@l@k", "$alak", "5al4k",
+                "GERİZEKALI", "gerizekali", "Ne salaklık!")) {
+            assertTrue(OTOMAT.tara(mesaj).kufurVar(), mesaj);
+        }
+        assertEquals(List.of("salak", "aptal"), OTOMAT.tara("salak ve aptal").getBulunanKelimeler());
+    }
+
+    @Test
+    @DisplayName("Maskeleme orijinal metindeki karakterlere (tekrarlar dahil) eşlenir")
+    void testMaskeAraliklari() {
+        assertEquals("Bu ne ******* bir hareket", OTOMAT.tara("Bu ne 4ptaaal bir hareket").getMaskeliMetin());
+        assertEquals("Sen ********** mısın?", OTOMAT.tara("Sen GERİZEKALI mısın?").getMaskeliMetin());
+        assertEquals("***** ve *****!", OTOMAT.tara("SaLaK ve 4pt4l!").getMaskeliMetin());
+        assertEquals("******ık", OTOMAT.tara("aptallık").getMaskeliMetin());
+        assertEquals("Harika maç", OTOMAT.tara("Harika maç").getMaskeliMetin());
+    }
+
+    @Test
+    @DisplayName("Kelime sınırı girdileri yalnızca tek başına kelimede eşleşir, sınır maskelenmez")
+    void testKelimeSiniri() {
+        KufurOtomati otomat = KufurOtomati.olustur(List.of("|it|", "|oç|"));
+
+        assertEquals("Sen bir **!", otomat.tara("Sen bir it!").getMaskeliMetin());
+        assertEquals("**", otomat.tara("İT").getMaskeliMetin());
+        assertEquals("** herif", otomat.tara("i7 herif").getMaskeliMetin());
+        assertEquals("*** ve **", otomat.tara("oçç ve it").getMaskeliMetin());
+        assertEquals(List.of("it"), otomat.tara("it").getBulunanKelimeler());
+    }
+
+    @Test
+    @DisplayName("Sözlük kelimelerini içeren masum kelimeler ve sayılar yakalanmaz")
+    void testMasumKelimeler() {
+        KufurOtomati otomat = KufurOtomati.olustur(List.of("|it|", "|oç|", "aptal", "salak", "gerizekalı"));
+
+        for (String mesaj : List.of(
+                "itiraz ediyorum", "Ümit harika oynadı", "gitti gidiyor", "Umut ite kaka etmedi",
+                "Koç takımı iyi hazırlamış", "Göç yolu", "Koçak",
+                "Kadroda 17 oyuncu var", "Maç 1-1 bitti!", "Skor 3-0", "1907'den beri",
+                "Kaptan harika oynadı", "Salı akşamı derbi var", "Küfüre gerek yok")) {
+            assertFalse(otomat.tara(mesaj).kufurVar(), mesaj);
+            assertEquals(mesaj, otomat.tara(mesaj).getMaskeliMetin());
+        }
+    }
+
+    @Test
+    @DisplayName("Sözlük yeniden yüklenince yeni otomat devreye girer, okunamazsa eskisi kalır")
+    void testSozlukYenidenYukleme() throws IOException {
+        // Given
+        Path sozluk = geciciKlasor.resolve("sozluk.txt");
+        Files.writeString(sozluk, "# yorum\naptal\n\n|it|\n", StandardCharsets.UTF_8);
+        KufurFiltresiHandler handler = new KufurFiltresiHandler();
+        ReflectionTestUtils.setField(handler, "resourceLoader", new DefaultResourceLoader());
+        ReflectionTestUtils.setField(handler, "sozlukYolu", sozluk.toUri().toString());
+
+        // When & Then
+        assertEquals(2, handler.sozluguYenidenYukle());
+        assertTrue(handler.tara("Sen it!").kufurVar());
+        assertFalse(handler.tara("salak").kufurVar());
+
+        Files.writeString(sozluk, "salak\n", StandardCharsets.UTF_8);
+        assertEquals(1, handler.sozluguYenidenYukle());
+        assertTrue(handler.tara("salak").kufurVar());
+        assertFalse(handler.tara("aptal").kufurVar());
+
+        ReflectionTestUtils.setField(handler, "sozlukYolu", geciciKlasor.resolve("yok.txt").toUri().toString());
+        assertThrows(IOException.class, handler::sozluguYenidenYukle);
+        assertEquals(1, handler.getKelimeSayisi());
+        assertEquals("*****", handler.maskProfanity("salak"));
+    }
+}
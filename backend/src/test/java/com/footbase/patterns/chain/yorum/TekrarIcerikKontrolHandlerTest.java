@@ -0,0 +1,137 @@
+package com.footbase.patterns.chain.yorum;
+
+import com.footbase.entity.Kullanici;
+import com.footbase.entity.Yorum;
+import com.footbase.patterns.chain.HandlerResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TekrarIcerikKontrolHandler ve YorumParmakIziIndeksi Test Sınıfı
+ *
+ * Bant eşleşmesini ve mesafe sınırını, zaman penceresi ve kapasite ile kayıt düşmesini,
+ * kısa yorumların kontrol edilmemesini ve yakın tekrarların reddedilmesini test eder.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+class TekrarIcerikKontrolHandlerTest {
+
+    private static final long PARMAK_IZI = 0x1234_5678_9ABC_DEF0L;
+
+    private static final String MESAJ = "Hakem bugün çok kötü yönetti, penaltı kesinlikle verilmeliydi";
+
+    /**
+     * Normalizasyondan sonra MESAJ ile aynı: büyük harf, aksansız yazım, farklı noktalama
+     */
+    private static final String YAKIN_TEKRAR = "HAKEM BUGUN COK KOTU YONETTI!!! Penaltı kesinlikle verilmeliydi.";
+
+    private TekrarIcerikKontrolHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new TekrarIcerikKontrolHandler();
+        ReflectionTestUtils.setField(handler, "pencereDakika", 60);
+        ReflectionTestUtils.setField(handler, "kapasite", 1000);
+        ReflectionTestUtils.setField(handler, "esikSayisi", 3);
+        ReflectionTestUtils.setField(handler, "enFazlaMesafe", 3);
+        handler.init();
+    }
+
+    @Test
+    @DisplayName("En fazla 3 bit farklı parmak izi bulunur ve bir kez sayılır, 4 bit farklı olan bulunmaz")
+    void testBantEslesmesi() {
+        // Üç farklı bantta birer bit: dördüncü bant aynı
+        assertEquals(1, benzerSayisi(PARMAK_IZI ^ (1L | 1L << 16 | 1L << 32), 3));
+        // Dört bandın hepsinde birer bit: ortak bant yok
+        assertEquals(0, benzerSayisi(PARMAK_IZI ^ (1L | 1L << 16 | 1L << 32 | 1L << 48), 3));
+        // Tek bantta 4 bit: üç bant aynı ama mesafe sınırın üstünde
+        assertEquals(0, benzerSayisi(PARMAK_IZI ^ 0xFL, 3));
+        // Tek bantta 2 bit: üç bantta eşleşir, bir kez sayılır
+        assertEquals(1, benzerSayisi(PARMAK_IZI ^ 0x3L, 3));
+        // Mesafe sınırı 0: yalnızca birebir aynı
+        assertEquals(0, benzerSayisi(PARMAK_IZI ^ 0x1L, 0));
+        assertEquals(1, benzerSayisi(PARMAK_IZI, 0));
+    }
+
+    @Test
+    @DisplayName("Pencereden çıkan ve kapasiteyi aşan kayıtlar eşleşmez")
+    void testZamanPenceresiVeKapasite() {
+        // Given
+        AtomicLong saat = new AtomicLong(0);
+        YorumParmakIziIndeksi indeks = new YorumParmakIziIndeksi(2, 1_000, saat::get);
+        indeks.araVeEkle(PARMAK_IZI, 1L, 3);
+
+        // When & Then: pencere içinde
+        saat.set(999);
+        assertEquals(1, indeks.araVeEkle(PARMAK_IZI, 2L, 3).getBenzerSayisi());
+
+        // İlk kayıt pencereden çıktı, ikincisi hâlâ içeride
+        saat.set(1_000);
+        assertEquals(1, indeks.araVeEkle(PARMAK_IZI, 3L, 3).getBenzerSayisi());
+        assertEquals(2, indeks.boyut());
+
+        // Kapasite 2: iki farklı kayıt eklenince PARMAK_IZI kayıtları düşer
+        indeks.araVeEkle(~PARMAK_IZI, 4L, 3);
+        indeks.araVeEkle(~PARMAK_IZI, 5L, 3);
+        assertEquals(0, indeks.araVeEkle(PARMAK_IZI, 6L, 3).getBenzerSayisi());
+    }
+
+    @Test
+    @DisplayName("Normalize metni 15 karakterden kısa yorumlar tekrar olarak sayılmaz")
+    void testKisaYorumlarKontrolEdilmez() {
+        for (int i = 0; i < 5; i++) {
+            assertTrue(handler.handle(yorum(1L, "GOOOOL! harika")).isSuccess());
+        }
+        assertEquals(0, handler.getIndeksBoyutu());
+
+        assertTrue(handler.handle(yorum(1L, "Harika bir gol, tebrikler")).isSuccess());
+        assertEquals(1, handler.getIndeksBoyutu());
+    }
+
+    @Test
+    @DisplayName("Aynı kullanıcının yakın tekrarı reddedilir; farklı kullanıcılarda eşik aşılınca reddedilir")
+    void testYakinTekrar() {
+        // Given
+        assertTrue(handler.handle(yorum(1L, MESAJ)).isSuccess());
+
+        // When & Then: aynı kullanıcı, yalnızca yazımı farklı
+        HandlerResult ayniKullanici = handler.handle(yorum(1L, YAKIN_TEKRAR));
+        assertFalse(ayniKullanici.isSuccess());
+        assertEquals("Bu yorumu kısa süre önce zaten paylaştınız", ayniKullanici.getMessage());
+        assertEquals("TekrarIcerikKontrolHandler", ayniKullanici.getHandlerName());
+
+        // Aynı kullanıcının farklı yorumu kabul edilir
+        assertTrue(handler.handle(yorum(1L, MESAJ + " bence")).isSuccess());
+
+        // Farklı kullanıcılar: indekste 2 benzer varken kabul, 3 benzer olunca red
+        assertTrue(handler.handle(yorum(2L, YAKIN_TEKRAR)).isSuccess());
+        HandlerResult esikAsildi = handler.handle(yorum(3L, MESAJ));
+        assertFalse(esikAsildi.isSuccess());
+        assertEquals("Bu yorum kısa süre içinde çok sayıda kez paylaşıldı", esikAsildi.getMessage());
+    }
+
+    /**
+     * PARMAK_IZI'nin tek kayıtlı olduğu indekste sorgunun benzer sayısı
+     */
+    private static int benzerSayisi(long sorgu, int enFazlaMesafe) {
+        YorumParmakIziIndeksi indeks = new YorumParmakIziIndeksi(100, 60_000, () -> 0L);
+        indeks.araVeEkle(PARMAK_IZI, 1L, enFazlaMesafe);
+        return indeks.araVeEkle(sorgu, 2L, enFazlaMesafe).getBenzerSayisi();
+    }
+
+    private static Yorum yorum(Long kullaniciId, String mesaj) {
+        Kullanici kullanici = new Kullanici();
+        kullanici.setId(kullaniciId);
+        Yorum yorum = new Yorum();
+        yorum.setKullanici(kullanici);
+        yorum.setMesaj(mesaj);
+        return yorum;
+    }
+}
@@ -0,0 +1,152 @@
+package com.footbase.patterns.chain.yorum;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.footbase.test.EszamanliCalistirici.eszamanliCalistir;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * YorumHizSinirlayici Test Sınıfı
+ *
+ * Kayan pencere kurallarını ve yüzlerce eşzamanlı yorumcu altında
+ * hiçbir güncellemenin kaybolmadığını test eder.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+class YorumHizSinirlayiciTest {
+
+    private static final int IS_PARCACIGI = 200;
+
+    @Test
+    @DisplayName("Patlama penceresi dolunca red, pencere kayınca tekrar izin")
+    void testPatlamaPenceresi() {
+        // Given
+        AtomicLong saat = new AtomicLong(1_000_000);
+        YorumHizSinirlayici sinirlayici = new YorumHizSinirlayici(2, 10_000, 100, 600_000, 1000, saat::get);
+
+        // When & Then
+        assertTrue(sinirlayici.dene(1L).izinVerildi());
+        assertTrue(sinirlayici.dene(1L).izinVerildi());
+
+        YorumHizSinirlayici.Karar red = sinirlayici.dene(1L);
+        assertFalse(red.izinVerildi());
+        assertEquals(YorumHizSinirlayici.RedSebebi.PATLAMA, red.getSebep());
+        assertEquals(10, red.getBekleSaniye());
+
+        saat.addAndGet(10_000);
+        assertTrue(sinirlayici.dene(1L).izinVerildi());
+
+        // Başka kullanıcı etkilenmez
+        assertTrue(sinirlayici.dene(2L).izinVerildi());
+    }
+
+    @Test
+    @DisplayName("Sürekli pencere, patlama penceresinden bağımsız olarak uygulanır")
+    void testSurekliPencere() {
+        // Given: 1 sn'de 1, 60 sn'de en fazla 3 yorum
+        AtomicLong saat = new AtomicLong(0);
+        YorumHizSinirlayici sinirlayici = new YorumHizSinirlayici(1, 1_000, 3, 60_000, 1000, saat::get);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertTrue(sinirlayici.dene(7L).izinVerildi());
+            saat.addAndGet(1_000);
+        }
+        YorumHizSinirlayici.Karar red = sinirlayici.dene(7L);
+
+        // Then
+        assertFalse(red.izinVerildi());
+        assertEquals(YorumHizSinirlayici.RedSebebi.SUREKLI, red.getSebep());
+        assertEquals(57_000, red.getBekleMs());
+
+        saat.set(60_000);
+        assertTrue(sinirlayici.dene(7L).izinVerildi());
+    }
+
+    @Test
+    @DisplayName("Tek kullanıcıya eşzamanlı yüzlerce istek: tam olarak limit kadar kabul")
+    void testTekKullaniciEszamanliKayipGuncellemeYok() throws Exception {
+        // Given
+        int limit = 50;
+        int denemeBasina = 20;
+        YorumHizSinirlayici sinirlayici = new YorumHizSinirlayici(limit, 10_000, 10_000, 600_000, 1000, () -> 42L);
+        AtomicInteger kabulEdilen = new AtomicInteger();
+
+        // When
+        eszamanliCalistir(IS_PARCACIGI, sira -> {
+            for (int i = 0; i < denemeBasina; i++) {
+                if (sinirlayici.dene(99L).izinVerildi()) {
+                    kabulEdilen.incrementAndGet();
+                }
+            }
+        });
+
+        // Then
+        assertEquals(limit, kabulEdilen.get());
+        assertEquals(limit, sinirlayici.getKabulSayisi());
+        assertEquals((long) IS_PARCACIGI * denemeBasina - limit, sinirlayici.getRedSayisi());
+    }
+
+    @Test
+    @DisplayName("Çok kullanıcıya eşzamanlı istek: her kullanıcı tam olarak limit kadar kabul alır")
+    void testCokKullaniciEszamanliKayipGuncellemeYok() throws Exception {
+        // Given
+        int kullaniciSayisi = 500;
+        int limit = 7;
+        int turSayisi = 10;
+        YorumHizSinirlayici sinirlayici = new YorumHizSinirlayici(limit, 10_000, 10_000, 600_000, 10_000, () -> 42L);
+        AtomicIntegerArray kullaniciBasinaKabul = new AtomicIntegerArray(kullaniciSayisi);
+
+        // When: her iş parçacığı tüm kullanıcılar için farklı sırayla deneme yapar
+        eszamanliCalistir(IS_PARCACIGI, kaydirma -> {
+            for (int tur = 0; tur < turSayisi; tur++) {
+                for (int i = 0; i < kullaniciSayisi; i++) {
+                    int kullanici = (i + kaydirma) % kullaniciSayisi;
+                    if (sinirlayici.dene((long) kullanici).izinVerildi()) {
+                        kullaniciBasinaKabul.incrementAndGet(kullanici);
+                    }
+                }
+            }
+        });
+
+        // Then
+        for (int i = 0; i < kullaniciSayisi; i++) {
+            assertEquals(limit, kullaniciBasinaKabul.get(i), "Kullanıcı " + i);
+        }
+        long toplamDeneme = (long) IS_PARCACIGI * turSayisi * kullaniciSayisi;
+        assertEquals((long) kullaniciSayisi * limit, sinirlayici.getKabulSayisi());
+        assertEquals(toplamDeneme, sinirlayici.getKabulSayisi() + sinirlayici.getRedSayisi());
+        assertEquals(kullaniciSayisi, sinirlayici.getBoyut());
+    }
+
+    @Test
+    @DisplayName("Boşta kalan kullanıcılar temizlenir ve kapasite aşılmaz")
+    void testBostakilerTemizlenirVeKapasiteAsilmaz() {
+        // Given
+        AtomicLong saat = new AtomicLong(0);
+        YorumHizSinirlayici sinirlayici = new YorumHizSinirlayici(1, 1_000, 5, 60_000, 100, saat::get);
+
+        // When
+        for (long id = 0; id < 50; id++) {
+            sinirlayici.dene(id);
+        }
+        saat.set(60_000);
+        int silinen = sinirlayici.bostakilerTemizle();
+
+        // Then
+        assertEquals(50, silinen);
+        assertEquals(0, sinirlayici.getBoyut());
+
+        // Kapasitenin üzerinde kullanıcı gelse bile boyut sınırlı kalır
+        for (long id = 0; id < 1_000; id++) {
+            sinirlayici.dene(id);
+        }
+        assertTrue(sinirlayici.getBoyut() <= 100);
+    }
+}
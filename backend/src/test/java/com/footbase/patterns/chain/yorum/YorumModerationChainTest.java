@@ -0,0 +1,148 @@
+package com.footbase.patterns.chain.yorum;
+
+import com.footbase.entity.Kullanici;
+import com.footbase.entity.Yorum;
+import com.footbase.patterns.chain.HandlerResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.regex.Matcher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * YorumModerationChain Test Sınıfı
+ *
+ * Tek geçişli moderasyonun (tekGeciseModerate) klasik zincirle (zincirleModerate) aynı
+ * derlem üzerinde aynı kararı aynı işleyiciden verdiğini ve YorumOzellikleri'nin link
+ * sayısının LinkKontrolHandler desenindeki sayıyla aynı olduğunu test eder.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+class YorumModerationChainTest {
+
+    /**
+     * Derlem: [kullanıcı ID'si, mesaj]; sıra önemlidir (hız sınırı ve tekrar kontrolü durum tutar)
+     */
+    private static final List<Object[]> DERLEM = List.of(
+            // Linkler: şemalı/şemasız, büyük harf, cümle sonunda www., Türkçe karakterli alan adı
+            new Object[]{1L, "Maç özeti https://footbase.com/mac/12 adresinde"},
+            new Object[]{2L, "Bakın: footbase.com ve www.footbase.com."},
+            new Object[]{3L, "Linkler: http://a.com http://b.com http://c.com"},
+            new Object[]{4L, "Siteler: www.a.com, www.b.com, www.c.com."},
+            new Object[]{5L, "HTTPS://FOOTBASE.COM/MAC?ID=5&SEKME=2!"},
+            new Object[]{6L, "Detaylar için bakınız www."},
+            new Object[]{7L, "Kaynak: https://örnek.com ve ftp://dosya.net/x"},
+            new Object[]{8L, "xhttp://a.com;http://b.com;http://c.com"},
+            new Object[]{9L, "http:// ve www. yarım kalmış"},
+            new Object[]{10L, "http://a.com, https://b.com, www.c.com, ftp://d.com"},
+            // Küfür: leetspeak, Türkçe İ/ı, masum kelimeler ve sayılar
+            new Object[]{11L, "Sen tam bir 4pt4l oyuncusun"},
+            new Object[]{12L, "S@L@K hakem"},
+            new Object[]{13L, "GERİZEKALI kararlar"},
+            new Object[]{14L, "gerızekalı kararlar"},
+            new Object[]{15L, "Iğdır'dan selamlar, İstanbul'da maç güzeldi"},
+            new Object[]{16L, "Kaptan harika, kadroda 17 oyuncu var, skor 3-0"},
+            // Uzunluk ve spam
+            new Object[]{17L, "ok"},
+            new Object[]{18L, "     "},
+            new Object[]{19L, "a".repeat(3) + " " + "uzun yorum ".repeat(50)},
+            new Object[]{20L, "gooooooool harika"},
+            new Object[]{21L, "TAMAMEN BÜYÜK HARFLE YAZILMIŞ YORUM"},
+            // Aynı kullanıcı: yakın tekrar, sonra hız sınırı
+            new Object[]{22L, "Hakem bugün çok kötü yönetti, penaltı verilmeliydi"},
+            new Object[]{22L, "HAKEM BUGUN COK KOTU YONETTI!!! Penaltı verilmeliydi."},
+            new Object[]{22L, "Üçüncü yorum hız sınırına takılır"}
+    );
+
+    @Test
+    @DisplayName("Tek geçiş ve klasik zincir aynı derlemde aynı kararı aynı işleyiciden verir")
+    void testTekGecisZincirleAyniKarar() throws Exception {
+        // Given: her mod kendi (durumlu) işleyicileriyle
+        YorumModerationChain tekGecis = zincirKur();
+        YorumModerationChain zincir = zincirKur();
+
+        int red = 0;
+        for (Object[] girdi : DERLEM) {
+            // When
+            HandlerResult tekGecisSonucu = tekGecis.tekGeciseModerate(yorum((Long) girdi[0], (String) girdi[1]));
+            HandlerResult zincirSonucu = zincir.zincirleModerate(yorum((Long) girdi[0], (String) girdi[1]));
+
+            // Then
+            String mesaj = (String) girdi[1];
+            assertEquals(zincirSonucu.isSuccess(), tekGecisSonucu.isSuccess(), mesaj);
+            assertEquals(zincirSonucu.getHandlerName(), tekGecisSonucu.getHandlerName(), mesaj);
+            assertEquals(zincirSonucu.getMessage(), tekGecisSonucu.getMessage(), mesaj);
+            if (!zincirSonucu.isSuccess()) {
+                red++;
+            }
+        }
+        // Derlem her işleyicinin red yolunu kapsar
+        assertTrue(red >= 10, "Red sayısı: " + red);
+    }
+
+    @Test
+    @DisplayName("Özellik kaydı link sayısında URL desenine, küfür ve normalize metinde otomata eşittir")
+    void testOzelliklerTekTekAyni() throws Exception {
+        KufurFiltresiHandler kufurFiltresi = kufurFiltresiKur();
+        YorumOzellikleri ozellikler = new YorumOzellikleri();
+
+        for (Object[] girdi : DERLEM) {
+            String mesaj = (String) girdi[1];
+            ozellikler.hesapla(mesaj, kufurFiltresi.getOtomat());
+
+            Matcher matcher = LinkKontrolHandler.URL_PATTERN.matcher(mesaj);
+            int linkSayisi = 0;
+            while (matcher.find()) {
+                linkSayisi++;
+            }
+            assertEquals(linkSayisi, ozellikler.getLinkSayisi(), mesaj);
+            assertEquals(kufurFiltresi.tara(mesaj).kufurVar(), ozellikler.kufurVar(), mesaj);
+            assertEquals(KufurOtomati.normalizeEt(mesaj).trim(), ozellikler.getKirpilmisNormalMetin(), mesaj);
+            assertEquals(mesaj.trim().length(), ozellikler.getKirpilmisUzunluk(), mesaj);
+        }
+    }
+
+    private static YorumModerationChain zincirKur() throws Exception {
+        SpamKontrolHandler spamKontrol = new SpamKontrolHandler();
+        ReflectionTestUtils.setField(spamKontrol, "hizSinirlayici",
+                new YorumHizSinirlayici(2, 10_000, 100, 600_000, 1000, () -> 0L));
+
+        TekrarIcerikKontrolHandler tekrarIcerikKontrol = new TekrarIcerikKontrolHandler();
+        ReflectionTestUtils.setField(tekrarIcerikKontrol, "pencereDakika", 60);
+        ReflectionTestUtils.setField(tekrarIcerikKontrol, "kapasite", 1000);
+        ReflectionTestUtils.setField(tekrarIcerikKontrol, "esikSayisi", 3);
+        ReflectionTestUtils.setField(tekrarIcerikKontrol, "enFazlaMesafe", 3);
+        tekrarIcerikKontrol.init();
+
+        YorumModerationChain zincir = new YorumModerationChain();
+        ReflectionTestUtils.setField(zincir, "kufurFiltresi", kufurFiltresiKur());
+        ReflectionTestUtils.setField(zincir, "spamKontrol", spamKontrol);
+        ReflectionTestUtils.setField(zincir, "uzunlukKontrol", new UzunlukKontrolHandler());
+        ReflectionTestUtils.setField(zincir, "linkKontrol", new LinkKontrolHandler());
+        ReflectionTestUtils.setField(zincir, "tekrarIcerikKontrol", tekrarIcerikKontrol);
+        zincir.buildChain();
+        return zincir;
+    }
+
+    private static KufurFiltresiHandler kufurFiltresiKur() throws Exception {
+        KufurFiltresiHandler kufurFiltresi = new KufurFiltresiHandler();
+        ReflectionTestUtils.setField(kufurFiltresi, "resourceLoader", new DefaultResourceLoader());
+        ReflectionTestUtils.setField(kufurFiltresi, "sozlukYolu", "classpath:kufur-sozlugu.txt");
+        kufurFiltresi.sozluguYenidenYukle();
+        return kufurFiltresi;
+    }
+
+    private static Yorum yorum(Long kullaniciId, String mesaj) {
+        Kullanici kullanici = new Kullanici();
+        kullanici.setId(kullaniciId);
+        Yorum yorum = new Yorum();
+        yorum.setKullanici(kullanici);
+        yorum.setMesaj(mesaj);
+        return yorum;
+    }
+}
@@ -0,0 +1,207 @@
+package com.footbase.patterns.facade;
+
+import com.footbase.dto.MacDetayDTO;
+import com.footbase.entity.Mac;
+import com.footbase.repository.MacDurumGecmisiRepository;
+import com.footbase.repository.MacMedyaRepository;
+import com.footbase.repository.MacOyuncuOlaylariRepository;
+import com.footbase.repository.MacTakimlariRepository;
+import com.footbase.service.MacService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * MacIstatistikFacade Test Sınıfı
+ *
+ * Paralel maç detayı yüklemesinde son tarihi aşan, hata veren ve havuz dolu olduğu için
+ * reddedilen bölümlerin eksik bölüm olarak raporlandığını; zorunlu maç bölümü
+ * yüklenemediğinde ise hata fırlatıldığını test eder.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class MacIstatistikFacadeTest {
+
+    private static final long MAC_ID = 1L;
+    private static final long SINIR_MS = 200;
+
+    @Mock
+    private MacService macService;
+
+    @Mock
+    private MacTakimlariRepository macTakimlariRepository;
+
+    @Mock
+    private MacOyuncuOlaylariRepository macOyuncuOlaylariRepository;
+
+    @Mock
+    private MacMedyaRepository macMedyaRepository;
+
+    @Mock
+    private MacDurumGecmisiRepository macDurumGecmisiRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private MacIstatistikFacade facade;
+
+    /**
+     * Yavaş bölümleri tutan kilit; test sonunda açılır
+     */
+    private final CountDownLatch serbest = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        facade.baslat();
+        lenient().when(macService.macGetir(MAC_ID)).thenReturn(new Mac());
+        lenient().when(macTakimlariRepository.findByMacIdWithDetails(MAC_ID)).thenReturn(List.of());
+        lenient().when(macOyuncuOlaylariRepository.findByMacIdWithDetails(MAC_ID)).thenReturn(List.of());
+        lenient().when(macMedyaRepository.findByMacIdWithDetails(MAC_ID)).thenReturn(List.of());
+        lenient().when(macDurumGecmisiRepository.findByMacIdWithDetails(MAC_ID)).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        serbest.countDown();
+        facade.durdur();
+    }
+
+    @Test
+    @DisplayName("Tüm bölümler zamanında gelirse sonuç tam olmalı")
+    void testTamSonuc() {
+        // When
+        MacDetayDTO detay = facade.macDetaylariniParalelGetir(MAC_ID, SINIR_MS);
+
+        // Then
+        assertNotNull(detay.getMac());
+        assertFalse(detay.isKismiSonuc());
+        assertTrue(detay.getEksikBolumler().isEmpty());
+        assertEquals(5, detay.getBolumSureleriMs().size());
+    }
+
+    @Test
+    @DisplayName("Son tarihi aşan bölüm boş dönmeli ve eksik bölüm olarak raporlanmalı")
+    void testZamanAsimiKismiSonuc() {
+        // Given
+        when(macMedyaRepository.findByMacIdWithDetails(MAC_ID)).thenAnswer(cagri -> bekle());
+
+        // When
+        long baslangic = System.nanoTime();
+        MacDetayDTO detay = facade.macDetaylariniParalelGetir(MAC_ID, SINIR_MS);
+        long gecen = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - baslangic);
+
+        // Then
+        assertTrue(detay.isKismiSonuc());
+        assertEquals(List.of(MacIstatistikFacade.BOLUM_MEDYA), detay.getEksikBolumler());
+        assertTrue(detay.getMedya().isEmpty());
+        assertNotNull(detay.getMac());
+        assertTrue(gecen < SINIR_MS + 1000, "Son tarih aşıldı: " + gecen + " ms");
+    }
+
+    @Test
+    @DisplayName("Hata veren isteğe bağlı bölüm boş dönmeli, diğer bölümler gelmeli")
+    void testHataliBolumKismiSonuc() {
+        // Given
+        when(macOyuncuOlaylariRepository.findByMacIdWithDetails(MAC_ID))
+                .thenThrow(new IllegalStateException("okuma hatası"));
+
+        // When
+        MacDetayDTO detay = facade.macDetaylariniParalelGetir(MAC_ID, SINIR_MS);
+
+        // Then
+        assertTrue(detay.isKismiSonuc());
+        assertEquals(List.of(MacIstatistikFacade.BOLUM_OLAYLAR), detay.getEksikBolumler());
+        assertTrue(detay.getOlaylar().isEmpty());
+        verify(macMedyaRepository).findByMacIdWithDetails(MAC_ID);
+    }
+
+    @Test
+    @DisplayName("Zorunlu maç bölümü hata verirse veya zaman aşımına uğrarsa hata fırlatılmalı")
+    void testZorunluBolumHatasi() {
+        // Given: hata
+        when(macService.macGetir(MAC_ID)).thenThrow(new RuntimeException("Maç bulunamadı"));
+
+        // When & Then
+        RuntimeException hata = assertThrows(RuntimeException.class,
+                () -> facade.macDetaylariniParalelGetir(MAC_ID, SINIR_MS));
+        assertEquals("Maç bulunamadı", hata.getMessage());
+
+        // Given: zaman aşımı
+        reset(macService);
+        when(macService.macGetir(MAC_ID)).thenAnswer(cagri -> {
+            bekle();
+            return new Mac();
+        });
+
+        // When & Then
+        hata = assertThrows(RuntimeException.class,
+                () -> facade.macDetaylariniParalelGetir(MAC_ID, SINIR_MS));
+        assertTrue(hata.getMessage().contains("yüklenemedi"));
+    }
+
+    @Test
+    @DisplayName("Havuz doluysa bölümler istek thread'inde çalışmamalı, eksik bölüm olarak raporlanmalı")
+    void testReddedilenBolumler() {
+        // Given: tek işçi ve tek kuyruk yeri; maç çalışır, takımlar kuyruğa girer, gerisi reddedilir
+        ThreadPoolExecutor havuz = MacIstatistikFacade.havuzOlustur(1, 1);
+        ReflectionTestUtils.setField(facade, "bolumYukleyici", havuz);
+        when(macService.macGetir(MAC_ID)).thenAnswer(cagri -> {
+            Thread.sleep(50);
+            return new Mac();
+        });
+
+        // When
+        MacDetayDTO detay = facade.macDetaylariniParalelGetir(MAC_ID, 2000);
+
+        // Then
+        assertTrue(detay.isKismiSonuc());
+        assertEquals(List.of(MacIstatistikFacade.BOLUM_OLAYLAR, MacIstatistikFacade.BOLUM_MEDYA,
+                MacIstatistikFacade.BOLUM_DURUM_GECMISI), detay.getEksikBolumler());
+        verify(macOyuncuOlaylariRepository, never()).findByMacIdWithDetails(anyLong());
+        verify(macMedyaRepository, never()).findByMacIdWithDetails(anyLong());
+        verify(macDurumGecmisiRepository, never()).findByMacIdWithDetails(anyLong());
+    }
+
+    @Test
+    @DisplayName("Havuz doluyken maç bölümü reddedilirse hata fırlatılmalı")
+    void testReddedilenZorunluBolum() {
+        // Given: işçi ve kuyruk başka isteklerle dolu
+        ThreadPoolExecutor havuz = MacIstatistikFacade.havuzOlustur(1, 1);
+        ReflectionTestUtils.setField(facade, "bolumYukleyici", havuz);
+        havuz.submit(this::bekle);
+        havuz.submit(this::bekle);
+
+        // When & Then
+        RuntimeException hata = assertThrows(RuntimeException.class,
+                () -> facade.macDetaylariniParalelGetir(MAC_ID, SINIR_MS));
+        assertTrue(hata.getMessage().contains("havuzu dolu"));
+        verify(macService, never()).macGetir(anyLong());
+    }
+
+    /**
+     * Test bitene (veya görev iptal edilene) kadar bekleyen yavaş bölüm
+     */
+    private List<Object> bekle() throws InterruptedException {
+        serbest.await(5, TimeUnit.SECONDS);
+        return List.of();
+    }
+}
@@ -0,0 +1,214 @@
+package com.footbase.patterns.strategy;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.footbase.test.EszamanliCalistirici.eszamanliCalistir;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DegerlendirmeContext Test Sınıfı
+ *
+ * Tek bir context bean'ini farklı rollerle eşzamanlı (veya aynı havuz iş parçacığında
+ * art arda) kullanan isteklerin birbirinin stratejisini görmediğini ve toplu puanlama API'sinin tek tek hesaplamayla aynı
+ * sonucu verdiğini test eder.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+class DegerlendirmeContextTest {
+
+    private static final String[] ROLLER = {"ADMIN", "EDITOR", "USER"};
+    private static final double[] AGIRLIKLAR = {3.0, 2.0, 1.0};
+    private static final int IS_PARCACIGI = 12;
+    private static final int TEKRAR = 20_000;
+
+    private final Logger stratejiLogger = (Logger) LoggerFactory.getLogger("com.footbase.patterns.strategy");
+
+    private DegerlendirmeContext context;
+    private DegerlendirmePuanlayici puanlayici;
+    private Level oncekiSeviye;
+
+    @BeforeEach
+    void setUp() {
+        // Konsol logu iş parçacıklarını sıraya sokup yarışı gizlemesin
+        oncekiSeviye = stratejiLogger.getLevel();
+        stratejiLogger.setLevel(Level.WARN);
+
+        puanlayici = new DegerlendirmePuanlayici();
+        stratejileriBagla(puanlayici);
+        puanlayici.tabloyuOlustur();
+
+        context = new DegerlendirmeContext();
+        stratejileriBagla(context);
+        ReflectionTestUtils.setField(context, "puanlayici", puanlayici);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stratejiLogger.setLevel(oncekiSeviye);
+    }
+
+    @Test
+    @DisplayName("Eşzamanlı istekler farklı rollerle hesapla() çağırınca her biri kendi ağırlığını alır")
+    void testEszamanliHesaplaRollerKarismaz() throws Exception {
+        // Given
+        ConcurrentLinkedQueue<String> hatalar = new ConcurrentLinkedQueue<>();
+
+        // When: her iş parçacığı sabit bir rolle hesaplar
+        eszamanliCalistir(IS_PARCACIGI, sira -> {
+            int rol = sira % ROLLER.length;
+            for (int i = 0; i < TEKRAR; i++) {
+                int yildiz = 1 + (i % 5);
+                double puan = context.hesapla(ROLLER[rol], yildiz);
+                if (puan != yildiz * AGIRLIKLAR[rol]) {
+                    hatalar.add(ROLLER[rol] + " " + yildiz + " yıldız -> " + puan);
+                }
+            }
+        });
+
+        // Then
+        assertTrue(hatalar.isEmpty(), "Başka isteğin stratejisiyle hesaplanan puanlar: " + hatalar.size()
+                + " örn. " + hatalar.peek());
+    }
+
+    @Test
+    @DisplayName("stratejiSec() seçimi saklamaz; aynı iş parçacığındaki sonraki istek önceki seçimi görmez")
+    void testStratejiSecimiDurumBirakmaz() throws Exception {
+        // Given: havuzlanmış tek iş parçacığı (servlet thread'i gibi)
+        ExecutorService havuz = Executors.newSingleThreadExecutor();
+        try {
+            // When: ilk istek ADMIN seçer, sonraki istek kendi rolüyle sorar
+            DegerlendirmeStrateji secilen = havuz.submit(() -> context.stratejiSec("ADMIN"))
+                    .get(10, TimeUnit.SECONDS);
+            double sonrakiAgirlik = havuz.submit(() -> context.getAgirlik("USER")).get(10, TimeUnit.SECONDS);
+
+            // Then
+            assertEquals(3.0, secilen.getAgirlik());
+            assertEquals(15.0, secilen.puanHesapla(5));
+            assertEquals(1.0, sonrakiAgirlik);
+            assertEquals(String.format("%s (Ağırlık: %.1fx)", new EditorDegerlendirmeStrateji().getStratejAdi(), 2.0),
+                    context.stratejiBilgisi("EDITOR"));
+            assertThrows(IllegalArgumentException.class, () -> context.getAgirlik("MISAFIR"));
+        } finally {
+            havuz.shutdownNow();
+        }
+
+        // When: eşzamanlı istekler farklı rolleri seçer
+        ConcurrentLinkedQueue<String> hatalar = new ConcurrentLinkedQueue<>();
+        CyclicBarrier hepsiSecti = new CyclicBarrier(IS_PARCACIGI);
+        eszamanliCalistir(IS_PARCACIGI, sira -> {
+            int rol = sira % ROLLER.length;
+            DegerlendirmeStrateji strateji = context.stratejiSec(ROLLER[rol]);
+            hepsiSecti.await();
+            for (int i = 0; i < TEKRAR / 10; i++) {
+                if (strateji.getAgirlik() != AGIRLIKLAR[rol] || context.getAgirlik(ROLLER[rol]) != AGIRLIKLAR[rol]) {
+                    hatalar.add(ROLLER[rol] + " -> " + strateji.getAgirlik());
+                }
+            }
+        });
+
+        // Then
+        assertTrue(hatalar.isEmpty(), "Başka isteğin seçtiği strateji görüldü: " + hatalar.peek());
+    }
+
+    @Test
+    @DisplayName("Eşzamanlı toplu hesaplamalar (liste API'si) doğru toplamı verir")
+    void testEszamanliToplamPuan() throws Exception {
+        // Given: her iş parçacığı tek rollü bir liste puanlar
+        ConcurrentLinkedQueue<String> hatalar = new ConcurrentLinkedQueue<>();
+
+        // When
+        eszamanliCalistir(IS_PARCACIGI, sira -> {
+            int rol = sira % ROLLER.length;
+            List<DegerlendirmeContext.Degerlendirme> liste = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                liste.add(new DegerlendirmeContext.Degerlendirme(ROLLER[rol], 5));
+            }
+            for (int i = 0; i < TEKRAR / 50; i++) {
+                double toplam = context.toplamPuanHesapla(liste);
+                if (toplam != 50 * 5 * AGIRLIKLAR[rol]) {
+                    hatalar.add(ROLLER[rol] + " -> " + toplam);
+                }
+            }
+        });
+
+        // Then
+        assertTrue(hatalar.isEmpty(), "Yanlış toplam: " + hatalar.peek());
+    }
+
+    @Test
+    @DisplayName("Toplu dizi API'si tek tek hesaplamayla aynı puanları, toplamı ve ortalamayı verir")
+    void testTopluApiTekTekHesaplamaylaAyni() {
+        // Given
+        int adet = 10_000;
+        Random rastgele = new Random(42);
+        int[] rolKodlari = new int[adet];
+        int[] yildizlar = new int[adet];
+        List<DegerlendirmeContext.Degerlendirme> liste = new ArrayList<>(adet);
+        for (int i = 0; i < adet; i++) {
+            int rol = rastgele.nextInt(ROLLER.length);
+            rolKodlari[i] = puanlayici.rolKodu(ROLLER[rol]);
+            yildizlar[i] = 1 + rastgele.nextInt(5);
+            liste.add(new DegerlendirmeContext.Degerlendirme(ROLLER[rol], yildizlar[i]));
+        }
+
+        // When
+        double[] puanlar = new double[adet];
+        puanlayici.puanlariHesapla(rolKodlari, yildizlar, puanlar, adet);
+        double toplam = puanlayici.toplamPuanHesapla(rolKodlari, yildizlar, adet);
+        double ortalama = puanlayici.ortalamaPuanHesapla(rolKodlari, yildizlar, adet);
+
+        // Then
+        double beklenenToplam = 0.0;
+        double beklenenAgirlik = 0.0;
+        for (int i = 0; i < adet; i++) {
+            double beklenen = yildizlar[i] * puanlayici.agirlik(rolKodlari[i]);
+            assertEquals(beklenen, puanlar[i]);
+            beklenenToplam += beklenen;
+            beklenenAgirlik += puanlayici.agirlik(rolKodlari[i]);
+        }
+        assertEquals(beklenenToplam, toplam, 1e-9);
+        assertEquals(beklenenToplam / beklenenAgirlik, ortalama, 1e-9);
+        assertEquals(toplam, context.toplamPuanHesapla(liste), 1e-9);
+        assertEquals(ortalama, context.ortalamaPuanHesapla(liste), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Geçersiz rol ve yıldız toplu API'de sırasıyla raporlanır")
+    void testGecersizGirdi() {
+        // Given
+        int[] rolKodlari = {DegerlendirmePuanlayici.ADMIN, DegerlendirmePuanlayici.NORMAL};
+        int[] yildizlar = {5, 6};
+
+        // When & Then
+        IllegalArgumentException hata = assertThrows(IllegalArgumentException.class,
+                () -> puanlayici.toplamPuanHesapla(rolKodlari, yildizlar, 2));
+        assertTrue(hata.getMessage().contains("sıra 1"));
+        assertThrows(IllegalArgumentException.class, () -> puanlayici.rolKodu("MISAFIR"));
+        assertThrows(IllegalArgumentException.class, () -> puanlayici.rolKodu(" "));
+        assertEquals(DegerlendirmePuanlayici.EDITOR, puanlayici.rolKodu(" editör "));
+        assertEquals(0.0, puanlayici.ortalamaPuanHesapla(new int[0], new int[0], 0));
+    }
+
+    private static void stratejileriBagla(Object hedef) {
+        ReflectionTestUtils.setField(hedef, "adminStrateji", new AdminDegerlendirmeStrateji());
+        ReflectionTestUtils.setField(hedef, "editorStrateji", new EditorDegerlendirmeStrateji());
+        ReflectionTestUtils.setField(hedef, "normalKullaniciStrateji", new NormalKullaniciDegerlendirmeStrateji());
+    }
+}
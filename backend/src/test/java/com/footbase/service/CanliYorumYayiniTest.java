@@ -0,0 +1,140 @@
+package com.footbase.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.footbase.dto.YorumDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CanliYorumYayini Test Sınıfı
+ *
+ * Yazması takılan bir abonenin gönderici havuzunu kilitlemediğini: diğer abonelerin olayları
+ * almaya devam ettiğini ve takılan abonenin yazma zaman aşımında tek başına düşürüldüğünü test eder.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+class CanliYorumYayiniTest {
+
+    private CanliYorumYayini yayin;
+
+    /**
+     * Takılan abonenin yazmasını serbest bırakır (kesmeyi yok sayan bir TCP yazması gibi davranır)
+     */
+    private final CountDownLatch takiliYazmaBitir = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        yayin = new CanliYorumYayini();
+        ReflectionTestUtils.setField(yayin, "objectMapper", new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(yayin, "tamponBoyutu", 10);
+        ReflectionTestUtils.setField(yayin, "aboneKuyrugu", 10);
+        ReflectionTestUtils.setField(yayin, "enFazlaAbone", 10);
+        ReflectionTestUtils.setField(yayin, "zamanAsimiDakika", 1L);
+        ReflectionTestUtils.setField(yayin, "gondericiSayisi", 1);
+        ReflectionTestUtils.setField(yayin, "nabizSaniye", 60);
+        ReflectionTestUtils.setField(yayin, "yazmaZamanAsimiMs", 200L);
+        yayin.baslat();
+    }
+
+    @AfterEach
+    void tearDown() {
+        takiliYazmaBitir.countDown();
+        yayin.durdur();
+    }
+
+    @Test
+    @DisplayName("Yazması takılan abone tek başına düşürülür, diğer aboneler olayları almaya devam eder")
+    void testTakilanAboneDigerleriniDurdurmaz() throws Exception {
+        // Given: tek gönderici, önce takılan abone sonra iki sağlıklı abone (biri başka maçta)
+        CountDownLatch takiliYazmaBasladi = new CountDownLatch(1);
+        yayin.aboneOl(1L, null, new TakilanEmitter(takiliYazmaBasladi));
+        CountDownLatch ayniMac = new CountDownLatch(3);
+        CountDownLatch baskaMac = new CountDownLatch(3);
+        yayin.aboneOl(1L, null, new SayanEmitter(ayniMac));
+        yayin.aboneOl(2L, null, new SayanEmitter(baskaMac));
+
+        // When: ilk olay tek göndericiyi takılan aboneye kilitler
+        yayin.yorumYayinla(yorum(1L, 1L, "ilk yorum"));
+        assertTrue(takiliYazmaBasladi.await(2, TimeUnit.SECONDS));
+        yayin.yorumYayinla(yorum(2L, 2L, "diğer maç"));
+        yayin.yorumYayinla(yorum(3L, 1L, "ikinci yorum"));
+        yayin.yorumYayinla(yorum(4L, 2L, "diğer maç 2"));
+        yayin.yorumYayinla(yorum(5L, 1L, "üçüncü yorum"));
+        yayin.yorumYayinla(yorum(6L, 2L, "diğer maç 3"));
+
+        // Then
+        assertTrue(ayniMac.await(5, TimeUnit.SECONDS), "Aynı maçtaki sağlıklı abone olayları almadı");
+        assertTrue(baskaMac.await(5, TimeUnit.SECONDS), "Başka maçtaki abone olayları almadı");
+        assertEquals(1L, yayin.istatistikler().get("zamanAsimiDusurulen"));
+        assertEquals(2, yayin.istatistikler().get("aboneSayisi"));
+        assertEquals(1, yayin.istatistikler().get("takiliGonderim"));
+
+        // Takılan yazma dönünce havuz eski boyutuna iner
+        takiliYazmaBitir.countDown();
+        long bitis = System.currentTimeMillis() + 2_000;
+        while (!Integer.valueOf(0).equals(yayin.istatistikler().get("takiliGonderim"))
+                && System.currentTimeMillis() < bitis) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, yayin.istatistikler().get("takiliGonderim"));
+    }
+
+    private static YorumDTO yorum(Long id, Long macId, String mesaj) {
+        return new YorumDTO(id, macId, 1L, "kullanici", mesaj, LocalDateTime.now(), "NORMAL");
+    }
+
+    /**
+     * Her gönderimi sayar
+     */
+    private static final class SayanEmitter extends SseEmitter {
+        private final CountDownLatch sayac;
+
+        SayanEmitter(CountDownLatch sayac) {
+            this.sayac = sayac;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sayac.countDown();
+        }
+    }
+
+    /**
+     * Gönderimi test bitene kadar döndürmez; kesmeyi yok sayar
+     */
+    private final class TakilanEmitter extends SseEmitter {
+        private final CountDownLatch basladi;
+
+        TakilanEmitter(CountDownLatch basladi) {
+            this.basladi = basladi;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            basladi.countDown();
+            boolean kesildi = false;
+            while (true) {
+                try {
+                    takiliYazmaBitir.await();
+                    break;
+                } catch (InterruptedException e) {
+                    kesildi = true;
+                }
+            }
+            if (kesildi) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
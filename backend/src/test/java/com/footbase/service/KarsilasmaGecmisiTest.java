@@ -0,0 +1,175 @@
+package com.footbase.service;
+
+import com.footbase.repository.MacTakimlariRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Karşılaşma Geçmişi Test Sınıfı
+ *
+ * Sonuçların sırasız takım çiftine artımlı yansımasını, skor düzeltmesi ve geri almayı,
+ * son N karşılaşmanın tutulmasını ve yeniden kurulan geçmişle tutarlılığı test eder.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class KarsilasmaGecmisiTest {
+
+    private static final long A = 10L;
+    private static final long B = 20L;
+
+    @Mock
+    private MacTakimlariRepository macTakimlariRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private KarsilasmaGecmisi karsilasmaGecmisi;
+
+    private SahteMacSonuclari sonuclar;
+
+    @BeforeEach
+    void setUp() {
+        sonuclar = new SahteMacSonuclari(macTakimlariRepository);
+        ReflectionTestUtils.setField(karsilasmaGecmisi, "sonMacSayisi", 3);
+        karsilasmaGecmisi.baslat();
+        karsilasmaGecmisi.yenidenOlustur();
+    }
+
+    @Test
+    @DisplayName("Ev sahibi/deplasman farketmeksizin aynı çiftin sayaçları birikir, özet istenen takım açısından döner")
+    void testSiraliOlmayanCift() {
+        // Given: A evinde 2-1 kazanır, B evinde 3-0 kazanır, sonra 1-1
+        sonuclar.yaz(1L, 1, A, B, 2, 1);
+        sonuclar.yaz(2L, 2, B, A, 3, 0);
+        sonuclar.yaz(3L, 3, A, B, 1, 1);
+
+        // When
+        for (long macId = 1; macId <= 3; macId++) {
+            karsilasmaGecmisi.sonucDegisti(macId);
+        }
+
+        // Then
+        KarsilasmaGecmisi.Ozet aAcisindan = karsilasmaGecmisi.ozet(A, B);
+        assertEquals(3, aAcisindan.getMacSayisi());
+        assertEquals(1, aAcisindan.getTakim1Galibiyet());
+        assertEquals(1, aAcisindan.getBeraberlik());
+        assertEquals(1, aAcisindan.getTakim2Galibiyet());
+        assertEquals(3, aAcisindan.getTakim1Gol());
+        assertEquals(5, aAcisindan.getTakim2Gol());
+        assertEquals("Takım 10", aAcisindan.getTakim1Adi());
+
+        KarsilasmaGecmisi.Ozet bAcisindan = karsilasmaGecmisi.ozet(B, A);
+        assertEquals(B, bAcisindan.getTakim1Id());
+        assertEquals(5, bAcisindan.getTakim1Gol());
+        assertEquals(aAcisindan.getSonKarsilasmalar(), bAcisindan.getSonKarsilasmalar());
+    }
+
+    @Test
+    @DisplayName("Yalnızca son N karşılaşma tutulur, en yeni önce")
+    void testSonKarsilasmalar() {
+        // Given
+        for (long macId = 1; macId <= 5; macId++) {
+            sonuclar.yaz(macId, (int) macId, A, B, (int) macId, 0);
+            karsilasmaGecmisi.sonucDegisti(macId);
+        }
+
+        // When
+        KarsilasmaGecmisi.Ozet ozet = karsilasmaGecmisi.ozet(A, B);
+
+        // Then
+        assertEquals(5, ozet.getMacSayisi());
+        assertEquals(List.of(5L, 4L, 3L),
+                ozet.getSonKarsilasmalar().stream().map(KarsilasmaGecmisi.Karsilasma::getMacId).toList());
+        assertEquals(LocalDate.of(2024, 8, 5), ozet.getSonKarsilasmalar().get(0).getTarih());
+
+        // When: en yeni maç geri alınır, bir önceki listeye geri girer
+        sonuclar.sil(5L);
+        karsilasmaGecmisi.sonucDegisti(5L);
+
+        // Then
+        assertEquals(List.of(4L, 3L, 2L), karsilasmaGecmisi.ozet(A, B).getSonKarsilasmalar().stream()
+                .map(KarsilasmaGecmisi.Karsilasma::getMacId).toList());
+    }
+
+    @Test
+    @DisplayName("Skor düzeltmesi eski sonucu düşer, son maçın geri alınması çifti boşaltır")
+    void testSkorDuzeltmeVeGeriAlma() {
+        // Given
+        sonuclar.yaz(1L, 1, A, B, 2, 0);
+        karsilasmaGecmisi.sonucDegisti(1L);
+
+        // When
+        sonuclar.yaz(1L, 1, A, B, 0, 1);
+        karsilasmaGecmisi.sonucDegisti(1L);
+
+        // Then
+        KarsilasmaGecmisi.Ozet ozet = karsilasmaGecmisi.ozet(A, B);
+        assertEquals(1, ozet.getMacSayisi());
+        assertEquals(0, ozet.getTakim1Galibiyet());
+        assertEquals(1, ozet.getTakim2Galibiyet());
+        assertEquals(0, ozet.getTakim1Gol());
+
+        // When
+        sonuclar.sil(1L);
+        karsilasmaGecmisi.sonucDegisti(1L);
+
+        // Then
+        ozet = karsilasmaGecmisi.ozet(B, A);
+        assertEquals(0, ozet.getMacSayisi());
+        assertTrue(ozet.getSonKarsilasmalar().isEmpty());
+        assertEquals(0, karsilasmaGecmisi.istatistikler().get("cift"));
+    }
+
+    @Test
+    @DisplayName("Artımlı geçmiş, sıfırdan kurulanla aynıdır; okumalar veritabanına gitmez")
+    void testYenidenOlusturmaTutarli() {
+        // Given
+        sonuclar.yaz(1L, 1, A, B, 1, 0);
+        karsilasmaGecmisi.sonucDegisti(1L);
+        sonuclar.yaz(2L, 2, B, 30L, 2, 2);
+        karsilasmaGecmisi.sonucDegisti(2L);
+        sonuclar.yaz(1L, 1, A, B, 0, 3);
+        karsilasmaGecmisi.sonucDegisti(1L);
+        sonuclar.yaz(3L, 3, B, A, 1, 1);
+        karsilasmaGecmisi.sonucDegisti(3L);
+        clearInvocations(macTakimlariRepository);
+        KarsilasmaGecmisi.Ozet artimli = karsilasmaGecmisi.ozet(A, B);
+        verify(macTakimlariRepository, never()).findMacSonucu(anyLong());
+
+        // When
+        Map<String, Object> sonuc = karsilasmaGecmisi.yenidenOlustur();
+
+        // Then
+        assertEquals(3, sonuc.get("mac"));
+        assertEquals(2, sonuc.get("cift"));
+        KarsilasmaGecmisi.Ozet kurulan = karsilasmaGecmisi.ozet(A, B);
+        assertEquals(artimli.getMacSayisi(), kurulan.getMacSayisi());
+        assertEquals(artimli.getTakim1Galibiyet(), kurulan.getTakim1Galibiyet());
+        assertEquals(artimli.getBeraberlik(), kurulan.getBeraberlik());
+        assertEquals(artimli.getTakim2Galibiyet(), kurulan.getTakim2Galibiyet());
+        assertEquals(artimli.getTakim1Gol(), kurulan.getTakim1Gol());
+        assertEquals(artimli.getTakim2Gol(), kurulan.getTakim2Gol());
+        assertEquals(artimli.getSonKarsilasmalar(), kurulan.getSonKarsilasmalar());
+        assertThrows(IllegalArgumentException.class, () -> karsilasmaGecmisi.ozet(A, A));
+    }
+}
@@ -0,0 +1,168 @@
+package com.footbase.service;
+
+import com.footbase.repository.MacOyuncuOlaylariRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Liderlik Tabloları Test Sınıfı
+ *
+ * Gol ve disiplin tablolarının artımlı güncellenmesini, sıfırlanan oyuncunun çıkarılmasını,
+ * eşit puanda paylaşılan sıra numaralarını ve sayfalamayı test eder.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class LiderlikTablolariTest {
+
+    private static final long LIG = 1L;
+    private static final int SEZON = 2024;
+
+    @Mock
+    private MacOyuncuOlaylariRepository macOyuncuOlaylariRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private LiderlikTablolari liderlikTablolari;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(macOyuncuOlaylariRepository.findTumLiderlikSatirlari()).thenReturn(new ArrayList<>());
+        liderlikTablolari.baslat();
+        liderlikTablolari.yenidenOlustur();
+    }
+
+    @Test
+    @DisplayName("Olay sonrası oyuncunun sezon satırı okunup tabloya yazılır")
+    void testOyuncuDegisti() {
+        // Given
+        when(macOyuncuOlaylariRepository.findLiderlikSatiri(7L, 3L)).thenReturn(List.<Object[]>of(
+                new Object[]{LIG, (short) SEZON, "Ali", "Yılmaz", 2, 1, 0}));
+
+        // When
+        liderlikTablolari.oyuncuDegisti(7L, 3L);
+
+        // Then
+        LiderlikTablolari.Satir satir = liderlikTablolari.oyuncuSirasi(LIG, SEZON, LiderlikTablolari.Tur.GOL, 7L);
+        assertNotNull(satir);
+        assertEquals(1, satir.getSira());
+        assertEquals("Ali Yılmaz", satir.getOyuncuAdi());
+        assertEquals(2, satir.getGol());
+        assertEquals(1, liderlikTablolari.oyuncuSirasi(LIG, null, LiderlikTablolari.Tur.KART, 7L).getDisiplinPuani());
+    }
+
+    @Test
+    @DisplayName("Puanı değişen oyuncu yer değiştirir, sıfırlanan oyuncu tablodan çıkar")
+    void testGuncellemeVeCikarma() {
+        // Given
+        liderlikTablolari.oyuncuGuncelle(LIG, SEZON, 10L, "A", 5, 0, 0);
+        liderlikTablolari.oyuncuGuncelle(LIG, SEZON, 20L, "B", 3, 2, 0);
+
+        // When: B iki gol daha atar, A'nın golleri silinir
+        liderlikTablolari.oyuncuGuncelle(LIG, SEZON, 20L, "B", 6, 2, 0);
+        liderlikTablolari.oyuncuGuncelle(LIG, SEZON, 10L, "A", 0, 0, 0);
+
+        // Then
+        Map<String, Object> sayfa = liderlikTablolari.sayfa(LIG, SEZON, LiderlikTablolari.Tur.GOL, 0, 10);
+        assertEquals(1, sayfa.get("toplam"));
+        assertEquals(20L, satirlar(sayfa).get(0).getOyuncuId());
+        assertNull(liderlikTablolari.oyuncuSirasi(LIG, SEZON, LiderlikTablolari.Tur.GOL, 10L));
+        // B'nin kartları disiplin tablosunda kalır
+        assertEquals(1, liderlikTablolari.oyuncuSirasi(LIG, SEZON, LiderlikTablolari.Tur.KART, 20L).getSira());
+    }
+
+    @Test
+    @DisplayName("Eşit puanlı oyuncular aynı sırayı paylaşır, sayfa sınırında da")
+    void testPaylasilanSiraVeSayfalama() {
+        // Given: 4, 3, 3, 3, 1 gol
+        liderlikTablolari.oyuncuGuncelle(LIG, SEZON, 1L, "A", 4, 0, 0);
+        liderlikTablolari.oyuncuGuncelle(LIG, SEZON, 2L, "B", 3, 0, 0);
+        liderlikTablolari.oyuncuGuncelle(LIG, SEZON, 3L, "C", 3, 0, 0);
+        liderlikTablolari.oyuncuGuncelle(LIG, SEZON, 4L, "D", 3, 0, 0);
+        liderlikTablolari.oyuncuGuncelle(LIG, SEZON, 5L, "E", 1, 0, 0);
+
+        // When
+        List<LiderlikTablolari.Satir> ilkSayfa = satirlar(
+                liderlikTablolari.sayfa(LIG, SEZON, LiderlikTablolari.Tur.GOL, 0, 3));
+        List<LiderlikTablolari.Satir> ikinciSayfa = satirlar(
+                liderlikTablolari.sayfa(LIG, SEZON, LiderlikTablolari.Tur.GOL, 1, 3));
+
+        // Then
+        assertEquals(List.of(1, 2, 2), ilkSayfa.stream().map(LiderlikTablolari.Satir::getSira).toList());
+        assertEquals(List.of(2, 5), ikinciSayfa.stream().map(LiderlikTablolari.Satir::getSira).toList());
+        assertEquals(List.of(4L, 5L), ikinciSayfa.stream().map(LiderlikTablolari.Satir::getOyuncuId).toList());
+        assertEquals(2, liderlikTablolari.oyuncuSirasi(LIG, SEZON, LiderlikTablolari.Tur.GOL, 4L).getSira());
+        assertTrue(satirlar(liderlikTablolari.sayfa(LIG, SEZON, LiderlikTablolari.Tur.GOL, 5, 3)).isEmpty());
+        assertThrows(IllegalArgumentException.class,
+                () -> liderlikTablolari.sayfa(LIG, SEZON, LiderlikTablolari.Tur.GOL, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Disiplin sıralaması sarı + 3 x kırmızıya, eşitlikte kırmızı karta göredir")
+    void testDisiplinSiralamasi() {
+        // Given: üçünün de disiplin puanı 3
+        liderlikTablolari.oyuncuGuncelle(LIG, SEZON, 1L, "A", 0, 3, 0);
+        liderlikTablolari.oyuncuGuncelle(LIG, SEZON, 2L, "B", 0, 0, 1);
+        liderlikTablolari.oyuncuGuncelle(LIG, SEZON, 3L, "C", 0, 5, 0);
+
+        // When
+        List<LiderlikTablolari.Satir> tablo = satirlar(
+                liderlikTablolari.sayfa(LIG, SEZON, LiderlikTablolari.Tur.KART, 0, 10));
+
+        // Then
+        assertEquals(List.of(3L, 2L, 1L), tablo.stream().map(LiderlikTablolari.Satir::getOyuncuId).toList());
+        assertEquals(List.of(1, 2, 3), tablo.stream().map(LiderlikTablolari.Satir::getSira).toList());
+        // Golü olmayanlar gol tablosunda yer almaz
+        assertEquals(0, liderlikTablolari.sayfa(LIG, SEZON, LiderlikTablolari.Tur.GOL, 0, 10).get("toplam"));
+    }
+
+    @Test
+    @DisplayName("Tablolar oyuncu_istatistikleri'nden kurulur, okumalar veritabanına gitmez")
+    void testYenidenOlusturVeOkuma() {
+        // Given
+        when(macOyuncuOlaylariRepository.findTumLiderlikSatirlari()).thenReturn(List.of(
+                new Object[]{LIG, (short) 2023, 1L, "A", null, 9, 0, 0},
+                new Object[]{LIG, (short) SEZON, 2L, "B", "Kaya", 4, 1, 0},
+                new Object[]{2L, (short) SEZON, 3L, "C", null, 1, 0, 0}));
+
+        // When
+        int kayit = liderlikTablolari.yenidenOlustur();
+        clearInvocations(macOyuncuOlaylariRepository);
+        Map<String, Object> sonSezon = liderlikTablolari.sayfa(LIG, null, LiderlikTablolari.Tur.GOL, 0, 20);
+
+        // Then
+        assertEquals(3, kayit);
+        assertEquals(SEZON, sonSezon.get("sezon"));
+        assertEquals("B Kaya", satirlar(sonSezon).get(0).getOyuncuAdi());
+        assertEquals(9, liderlikTablolari.oyuncuSirasi(LIG, 2023, LiderlikTablolari.Tur.GOL, 1L).getGol());
+        assertNull(liderlikTablolari.oyuncuSirasi(LIG, 2022, LiderlikTablolari.Tur.GOL, 1L));
+        verify(macOyuncuOlaylariRepository, never()).findLiderlikSatiri(anyLong(), anyLong());
+        verify(macOyuncuOlaylariRepository, never()).findTumLiderlikSatirlari();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<LiderlikTablolari.Satir> satirlar(Map<String, Object> sayfa) {
+        return (List<LiderlikTablolari.Satir>) sayfa.get("satirlar");
+    }
+}
@@ -0,0 +1,173 @@
+package com.footbase.service;
+
+import com.footbase.repository.MacTakimlariRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Lig Puan Durumu Test Sınıfı
+ *
+ * Sonuç girişi, skor düzeltmesi ve geri almanın puan tablosuna artımlı yansımasını,
+ * sıralama kriterlerini ve veritabanından yeniden kurulan tabloyla tutarlılığı test eder.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class LigPuanDurumuTest {
+
+    private static final long LIG = SahteMacSonuclari.LIG;
+    private static final int SEZON = SahteMacSonuclari.SEZON;
+
+    @Mock
+    private MacTakimlariRepository macTakimlariRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private LigPuanDurumu ligPuanDurumu;
+
+    private SahteMacSonuclari sonuclar;
+
+    @BeforeEach
+    void setUp() {
+        sonuclar = new SahteMacSonuclari(macTakimlariRepository);
+        ligPuanDurumu.baslat();
+        ligPuanDurumu.yenidenOlustur();
+    }
+
+    @Test
+    @DisplayName("Sonuçlanan maç iki takımın satırını da günceller")
+    void testSonucEklenir() {
+        // Given
+        sonuclar.yaz(100L, 1, 10L, 20L, 2, 1);
+
+        // When
+        ligPuanDurumu.sonucDegisti(100L);
+
+        // Then
+        List<LigPuanDurumu.Satir> tablo = ligPuanDurumu.puanDurumu(LIG, SEZON);
+        assertEquals(2, tablo.size());
+        LigPuanDurumu.Satir lider = tablo.get(0);
+        assertEquals(10L, lider.getTakimId());
+        assertEquals(1, lider.getSira());
+        assertEquals(3, lider.getPuan());
+        assertEquals(1, lider.getGalibiyet());
+        assertEquals(2, lider.getAtilanGol());
+        assertEquals(1, lider.getYenilenGol());
+        LigPuanDurumu.Satir ikinci = tablo.get(1);
+        assertEquals(20L, ikinci.getTakimId());
+        assertEquals(0, ikinci.getPuan());
+        assertEquals(1, ikinci.getMaglubiyet());
+        assertEquals(-1, ikinci.getAveraj());
+    }
+
+    @Test
+    @DisplayName("Skor düzeltmesi eski katkıyı düşüp yenisini ekler, geri alma maçı tablodan çıkarır")
+    void testSkorDuzeltmeVeGeriAlma() {
+        // Given
+        sonuclar.yaz(100L, 1, 10L, 20L, 2, 1);
+        ligPuanDurumu.sonucDegisti(100L);
+
+        // When: skor 2-2'ye düzeltilir
+        sonuclar.yaz(100L, 1, 10L, 20L, 2, 2);
+        ligPuanDurumu.sonucDegisti(100L);
+
+        // Then
+        for (LigPuanDurumu.Satir satir : ligPuanDurumu.puanDurumu(LIG, SEZON)) {
+            assertEquals(1, satir.getOynanan());
+            assertEquals(1, satir.getBeraberlik());
+            assertEquals(0, satir.getGalibiyet() + satir.getMaglubiyet());
+            assertEquals(1, satir.getPuan());
+        }
+
+        // When: sonlandırma geri alınır (maç artık sonuçlanmamış)
+        sonuclar.sil(100L);
+        ligPuanDurumu.sonucDegisti(100L);
+
+        // Then
+        assertTrue(ligPuanDurumu.puanDurumu(LIG, SEZON).isEmpty());
+        assertTrue(ligPuanDurumu.sezonlar(LIG).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Eşit puanda averaj, sonra atılan gol belirleyicidir")
+    void testSiralamaKriterleri() {
+        // Given: 10, 20 ve 30 birer galibiyetle 3 puanda
+        sonuclar.yaz(1L, 1, 10L, 40L, 3, 0);  // averaj +3
+        sonuclar.yaz(2L, 1, 20L, 50L, 1, 0);  // averaj +1
+        sonuclar.yaz(3L, 1, 30L, 60L, 4, 1);  // averaj +3, daha çok gol
+        for (long macId = 1; macId <= 3; macId++) {
+            ligPuanDurumu.sonucDegisti(macId);
+        }
+
+        // When
+        List<LigPuanDurumu.Satir> tablo = ligPuanDurumu.puanDurumu(LIG, null);
+
+        // Then
+        assertEquals(List.of(30L, 10L, 20L),
+                tablo.subList(0, 3).stream().map(LigPuanDurumu.Satir::getTakimId).toList());
+        assertEquals(6, tablo.size());
+    }
+
+    @Test
+    @DisplayName("Artımlı tablo, mac_takimlari'ndan sıfırdan kurulan tabloyla aynıdır")
+    void testYenidenOlusturmaTutarli() {
+        // Given: aynı maçın skoru birkaç kez değişir, bir maç geri alınır
+        sonuclar.yaz(1L, 1, 10L, 20L, 1, 0);
+        ligPuanDurumu.sonucDegisti(1L);
+        sonuclar.yaz(2L, 1, 20L, 30L, 2, 2);
+        ligPuanDurumu.sonucDegisti(2L);
+        sonuclar.yaz(1L, 1, 10L, 20L, 0, 3);
+        ligPuanDurumu.sonucDegisti(1L);
+        sonuclar.yaz(3L, 1, 30L, 10L, 1, 1);
+        ligPuanDurumu.sonucDegisti(3L);
+        sonuclar.sil(2L);
+        ligPuanDurumu.sonucDegisti(2L);
+        List<LigPuanDurumu.Satir> artimli = ligPuanDurumu.puanDurumu(LIG, SEZON);
+
+        // When
+        Map<String, Object> sonuc = ligPuanDurumu.yenidenOlustur();
+
+        // Then
+        assertEquals(0, sonuc.get("farkliTablo"));
+        assertEquals(2, sonuc.get("mac"));
+        assertEquals(artimli, ligPuanDurumu.puanDurumu(LIG, SEZON));
+    }
+
+    @Test
+    @DisplayName("Puan durumu okumaları veritabanına gitmez")
+    void testOkumaVeritabaninaGitmez() {
+        // Given
+        sonuclar.yaz(1L, 1, 10L, 20L, 1, 0);
+        ligPuanDurumu.sonucDegisti(1L);
+        clearInvocations(macTakimlariRepository);
+
+        // When
+        ligPuanDurumu.puanDurumu(LIG, null);
+        ligPuanDurumu.takimSatiri(LIG, SEZON, 10L);
+        ligPuanDurumu.sezonlar(LIG);
+
+        // Then
+        verify(macTakimlariRepository, never()).findLigMacSonucu(anyLong());
+        verify(macTakimlariRepository, never()).findLigMacSonuclari();
+        assertEquals(List.of(SEZON), ligPuanDurumu.sezonlar(LIG));
+        assertNull(ligPuanDurumu.takimSatiri(2L, null, 10L));
+    }
+}
@@ -0,0 +1,158 @@
+package com.footbase.service;
+
+import com.footbase.dto.MacSayfasiDTO;
+import com.footbase.entity.Mac;
+import com.footbase.repository.MacRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Maç Sayfalama Servisi Test Sınıfı
+ *
+ * Keyset sayfalamanın imleç üretimini (tarihsiz/saatsiz maçlar dahil) ve "daha fazla var"
+ * tespitini test eder.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class MacSayfalamaServisiTest {
+
+    @Mock
+    private MacRepository macRepository;
+
+    @Mock
+    private MacVeriDoldurucu macVeriDoldurucu;
+
+    @InjectMocks
+    private MacSayfalamaServisi macSayfalamaServisi;
+
+    @Test
+    @DisplayName("İmleç kodlanıp çözüldüğünde aynı değerleri vermeli")
+    void testImlecGidisDonus() {
+        // Given
+        MacSayfalamaServisi.Imlec imlec = new MacSayfalamaServisi.Imlec(
+                LocalDate.of(2024, 8, 17), LocalTime.of(20, 45), 42L);
+
+        // When
+        MacSayfalamaServisi.Imlec cozulen = MacSayfalamaServisi.imleciCoz(MacSayfalamaServisi.imleciKodla(imlec));
+
+        // Then
+        assertEquals(imlec.tarih, cozulen.tarih);
+        assertEquals(imlec.saat, cozulen.saat);
+        assertEquals(imlec.id, cozulen.id);
+    }
+
+    @Test
+    @DisplayName("Bozuk imleç hata vermeli")
+    void testGecersizImlec() {
+        assertThrows(RuntimeException.class,
+                () -> macSayfalamaServisi.sayfaGetir(null, "bozuk-imlec", 10, true));
+    }
+
+    @Test
+    @DisplayName("Limit + 1 satır gelirse sonraki sayfa imleci son maçtan üretilmeli")
+    void testSonrakiSayfaImleci() {
+        // Given
+        when(macRepository.findSayfaIdleriArtan(eq("YAYINDA"), eq(0L), eq(0L), any(), any(), any(), any(), any(), eq(3)))
+                .thenReturn(List.of(1L, 2L, 3L));
+        when(macRepository.findByIdIn(anyCollection())).thenAnswer(inv -> {
+            Collection<Long> idler = inv.getArgument(0);
+            List<Mac> maclar = new ArrayList<>();
+            for (Long id : idler) {
+                maclar.add(mac(id, LocalDate.of(2024, 8, id.intValue()), LocalTime.of(19, 0)));
+            }
+            return maclar;
+        });
+
+        // When
+        MacSayfasiDTO sayfa = macSayfalamaServisi.sayfaGetir(null, null, 2, true);
+
+        // Then
+        assertTrue(sayfa.isDahaFazlaVar());
+        assertEquals(2, sayfa.getBoyut());
+        assertEquals(List.of(1L, 2L), sayfa.getMaclar().stream().map(Mac::getId).toList());
+        MacSayfalamaServisi.Imlec imlec = MacSayfalamaServisi.imleciCoz(sayfa.getSonrakiImlec());
+        assertEquals(2L, imlec.id);
+        assertEquals(LocalDate.of(2024, 8, 2), imlec.tarih);
+        verify(macVeriDoldurucu).takimBilgileriniDoldur(anyList());
+    }
+
+    @Test
+    @DisplayName("Tarihsiz/saatsiz maçtan üretilen imleç SQL sırasındaki değerleri (1900-01-01, 00:00) taşımalı")
+    void testTarihsizMacImleci() {
+        // Given: azalan sırada tarihli maçtan sonra tarihsiz maçlar gelir
+        LocalDate enKucukTarih = LocalDate.of(1900, 1, 1);
+        when(macRepository.findSayfaIdleriAzalan(eq("YAYINDA"), eq(0L), eq(0L), any(), any(), any(), any(), any(), eq(3)))
+                .thenReturn(List.of(3L, 2L, 1L));
+        when(macRepository.findByIdIn(anyCollection())).thenReturn(List.of(
+                mac(3L, LocalDate.of(2024, 8, 3), null),
+                mac(2L, null, null)));
+
+        // When
+        MacSayfasiDTO sayfa = macSayfalamaServisi.sayfaGetir(null, null, 2, false);
+        macSayfalamaServisi.sayfaGetir(null, sayfa.getSonrakiImlec(), 2, false);
+
+        // Then: sonraki sayfa tarihsiz maçtan, atlamadan devam eder
+        assertEquals(List.of(3L, 2L), sayfa.getMaclar().stream().map(Mac::getId).toList());
+        MacSayfalamaServisi.Imlec imlec = MacSayfalamaServisi.imleciCoz(sayfa.getSonrakiImlec());
+        assertEquals(enKucukTarih, imlec.tarih);
+        assertEquals(LocalTime.MIN, imlec.saat);
+        assertEquals(2L, imlec.id);
+        verify(macRepository).findSayfaIdleriAzalan(eq("YAYINDA"), eq(0L), eq(0L), any(), any(),
+                eq(enKucukTarih), eq(LocalTime.MIN), eq(2L), eq(3));
+    }
+
+    @Test
+    @DisplayName("Son sayfada imleç null olmalı")
+    void testSonSayfa() {
+        // Given
+        when(macRepository.findSayfaIdleriAzalan(any(), any(), any(), any(), any(), any(), any(), any(), anyInt()))
+                .thenReturn(List.of());
+
+        // When
+        MacSayfasiDTO sayfa = macSayfalamaServisi.sayfaGetir(null, null, 10, false);
+
+        // Then
+        assertFalse(sayfa.isDahaFazlaVar());
+        assertNull(sayfa.getSonrakiImlec());
+        verify(macRepository, never()).findByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Toplam sayı sayfalarla aynı filtreyle (varsayılan YAYINDA) sayılmalı")
+    void testSayiGetirAyniFiltre() {
+        // Given
+        when(macRepository.countFiltreli(eq("YAYINDA"), eq(5L), eq(0L), any(), any())).thenReturn(7L);
+
+        // When
+        long sayi = macSayfalamaServisi.sayiGetir(new MacSayfalamaServisi.MacFiltre().setTakimId(5L));
+
+        // Then
+        assertEquals(7L, sayi);
+        assertThrows(RuntimeException.class,
+                () -> macSayfalamaServisi.sayiGetir(new MacSayfalamaServisi.MacFiltre().setDurum("BILINMEYEN")));
+    }
+
+    private static Mac mac(Long id, LocalDate tarih, LocalTime saat) {
+        Mac mac = new Mac();
+        mac.setId(id);
+        mac.setTarih(tarih);
+        mac.setSaat(saat);
+        return mac;
+    }
+}
@@ -0,0 +1,95 @@
+package com.footbase.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * MacSonucuBildirici Test Sınıfı
+ *
+ * Bildirimin transaction içinde tek bir commit sonrası kaydıyla ertelendiğini, geri alınan
+ * transaction'ın dinleyicilere ulaşmadığını ve bir dinleyicinin hatasının diğerlerini
+ * durdurmadığını test eder.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class MacSonucuBildiriciTest {
+
+    @Mock
+    private MacSonucuDinleyicisi birinci;
+
+    @Mock
+    private MacSonucuDinleyicisi ikinci;
+
+    private MacSonucuBildirici bildirici;
+
+    @BeforeEach
+    void setUp() {
+        bildirici = new MacSonucuBildirici();
+        ReflectionTestUtils.setField(bildirici, "dinleyiciler", List.of(birinci, ikinci));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("Transaction içinde bildirim tek kayıtla commit'e ertelenir, hatalı dinleyici diğerini durdurmaz")
+    void testCommitSonrasiIletilir() {
+        // Given
+        doThrow(new IllegalStateException("okuma hatası")).when(birinci).sonucDegisti(7L);
+
+        // When
+        bildirici.sonucDegisti(7L);
+
+        // Then: commit'ten önce kimse çağrılmaz
+        List<TransactionSynchronization> kayitlar = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, kayitlar.size());
+        verifyNoInteractions(birinci, ikinci);
+
+        kayitlar.get(0).afterCommit();
+        verify(birinci).sonucDegisti(7L);
+        verify(ikinci).sonucDegisti(7L);
+    }
+
+    @Test
+    @DisplayName("Geri alınan transaction dinleyicilere ulaşmaz; transaction yoksa hemen iletilir")
+    void testGeriAlmaVeTransactionsiz() {
+        // When: geri alma (afterCommit çağrılmaz)
+        bildirici.sonucDegisti(7L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(kayit -> kayit.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        verify(birinci, never()).sonucDegisti(7L);
+
+        // When: transaction yok
+        TransactionSynchronizationManager.clearSynchronization();
+        bildirici.sonucDegisti(8L);
+        bildirici.sonucDegisti(null);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Then
+        verify(birinci).sonucDegisti(8L);
+        verify(ikinci).sonucDegisti(8L);
+    }
+}
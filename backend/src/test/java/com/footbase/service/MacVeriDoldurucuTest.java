@@ -0,0 +1,163 @@
+package com.footbase.service;
+
+import com.footbase.entity.Mac;
+import com.footbase.entity.MacTakimlari;
+import com.footbase.entity.Takim;
+import com.footbase.repository.MacTakimlariRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Maç Veri Doldurucu Test Sınıfı
+ *
+ * MacVeriDoldurucu'nun maç sayısından bağımsız, sabit sayıda sorgu ile
+ * takım/skor/durum bilgilerini doldurduğunu test eder.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class MacVeriDoldurucuTest {
+
+    @Mock
+    private MacTakimlariRepository macTakimlariRepository;
+
+    @Mock
+    private MacDurumServisi macDurumServisi;
+
+    @InjectMocks
+    private MacVeriDoldurucu macVeriDoldurucu;
+
+    private final Takim evSahibi = takim(1L, "Ev Sahibi");
+    private final Takim deplasman = takim(2L, "Deplasman");
+
+    @BeforeEach
+    void setUp() {
+        // Her IN sorgusu, parçadaki her maç için iki mac_takimlari satırı döndürür
+        lenient().when(macTakimlariRepository.findByMacIdInWithDetails(anyCollection())).thenAnswer(inv -> {
+            Collection<Long> idler = inv.getArgument(0);
+            List<MacTakimlari> satirlar = new ArrayList<>();
+            for (Long id : idler) {
+                Mac ref = new Mac();
+                ref.setId(id);
+                satirlar.add(macTakim(ref, evSahibi, true, 2));
+                satirlar.add(macTakim(ref, deplasman, false, 1));
+            }
+            return satirlar;
+        });
+        lenient().when(macDurumServisi.guncelDurumlariGetir(anyCollection())).thenAnswer(inv -> {
+            Collection<Long> idler = inv.getArgument(0);
+            Map<Long, String> durumlar = new HashMap<>();
+            idler.forEach(id -> durumlar.put(id, "YAYINDA"));
+            return durumlar;
+        });
+    }
+
+    @Test
+    @DisplayName("Maçların takım, skor ve durum bilgileri doldurulmalı")
+    void testDoldur() {
+        // Given
+        List<Mac> maclar = maclar(3);
+
+        // When
+        macVeriDoldurucu.doldur(maclar);
+
+        // Then
+        for (Mac mac : maclar) {
+            assertSame(evSahibi, mac.getEvSahibiTakim());
+            assertSame(deplasman, mac.getDeplasmanTakim());
+            assertEquals(2, mac.getEvSahibiSkor());
+            assertEquals(1, mac.getDeplasmanSkor());
+            assertEquals("YAYINDA", mac.getOnayDurumu());
+        }
+    }
+
+    @Test
+    @DisplayName("Sorgu sayısı maç sayısı arttıkça sabit kalmalı")
+    void testSorguSayisiSabit() {
+        // Given
+        List<Mac> azMac = maclar(5);
+        List<Mac> cokMac = maclar(MacVeriDoldurucu.PARCA_BOYUTU);
+
+        // When
+        macVeriDoldurucu.doldur(azMac);
+        int azMacSorgu = mockingDetails(macTakimlariRepository).getInvocations().size()
+                + mockingDetails(macDurumServisi).getInvocations().size();
+        clearInvocations(macTakimlariRepository, macDurumServisi);
+
+        macVeriDoldurucu.doldur(cokMac);
+        int cokMacSorgu = mockingDetails(macTakimlariRepository).getInvocations().size()
+                + mockingDetails(macDurumServisi).getInvocations().size();
+
+        // Then
+        assertEquals(2, azMacSorgu);
+        assertEquals(azMacSorgu, cokMacSorgu);
+        verify(macTakimlariRepository, never()).findByMacIdWithDetails(any());
+    }
+
+    @Test
+    @DisplayName("Parça boyutunu aşan listeler parça sayısı kadar sorgu atmalı")
+    void testParcalama() {
+        // Given
+        List<Mac> maclar = maclar(MacVeriDoldurucu.PARCA_BOYUTU * 2 + 1);
+
+        // When
+        macVeriDoldurucu.doldur(maclar);
+
+        // Then
+        verify(macTakimlariRepository, times(3)).findByMacIdInWithDetails(anyCollection());
+        verify(macDurumServisi, times(3)).guncelDurumlariGetir(anyCollection());
+        assertSame(deplasman, maclar.get(maclar.size() - 1).getDeplasmanTakim());
+    }
+
+    @Test
+    @DisplayName("Boş liste için sorgu atılmamalı")
+    void testBosListe() {
+        // When
+        macVeriDoldurucu.doldur(new ArrayList<>());
+
+        // Then
+        verifyNoInteractions(macTakimlariRepository, macDurumServisi);
+    }
+
+    private static List<Mac> maclar(int adet) {
+        List<Mac> maclar = new ArrayList<>(adet);
+        for (long i = 1; i <= adet; i++) {
+            Mac mac = new Mac();
+            mac.setId(i);
+            maclar.add(mac);
+        }
+        return maclar;
+    }
+
+    private static Takim takim(Long id, String ad) {
+        Takim takim = new Takim();
+        takim.setId(id);
+        takim.setAd(ad);
+        return takim;
+    }
+
+    private static MacTakimlari macTakim(Mac mac, Takim takim, boolean evSahibi, int skor) {
+        MacTakimlari mt = new MacTakimlari();
+        mt.setMac(mac);
+        mt.setTakim(takim);
+        mt.setEvSahibi(evSahibi);
+        mt.setSkor(skor);
+        return mt;
+    }
+}
@@ -0,0 +1,120 @@
+package com.footbase.service;
+
+import com.footbase.repository.MacRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+/**
+ * Maç Zaman Çizelgesi Test Sınıfı
+ *
+ * Başlama zamanı indeksinin aralık okumalarını, yeniden konumlandırmayı
+ * ve veritabanı doğrulamasını test eder.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class MacZamanCizelgesiTest {
+
+    private static final LocalDate GUN = LocalDate.of(2024, 9, 1);
+
+    @Mock
+    private MacRepository macRepository;
+
+    @InjectMocks
+    private MacZamanCizelgesi macZamanCizelgesi;
+
+    private final List<Object[]> yayindakiMaclar = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // Saat 12:00 - 18:00 arası her saat başı bir maç (ID = saat)
+        for (long saat = 12; saat <= 18; saat++) {
+            yayindakiMaclar.add(new Object[]{saat, GUN, LocalTime.of((int) saat, 0)});
+        }
+        when(macRepository.findYayindakiMacZamanlari()).thenReturn(yayindakiMaclar);
+        macZamanCizelgesi.yenidenOlustur();
+    }
+
+    @Test
+    @DisplayName("Sıradaki ve son maçlar yakından uzağa sıralı dönmeli")
+    void testAralikOkuma() {
+        // Given
+        LocalDateTime simdi = LocalDateTime.of(GUN, LocalTime.of(15, 0));
+
+        // When
+        List<Long> siradaki = macZamanCizelgesi.siradakiMacIdleri(simdi, 2);
+        List<Long> son = macZamanCizelgesi.sonMacIdleri(simdi, 3);
+
+        // Then
+        assertEquals(List.of(16L, 17L), siradaki);
+        assertEquals(List.of(15L, 14L, 13L), son); // Tam şu an başlayan maç geçmiş sayılır
+    }
+
+    @Test
+    @DisplayName("Zamanı güncellenen maç yeni yerine taşınmalı, durumu değişen çıkarılmalı")
+    void testGuncellemeVeCikarma() {
+        // Given
+        LocalDateTime simdi = LocalDateTime.of(GUN, LocalTime.of(11, 0));
+
+        // When
+        macZamanCizelgesi.zamanGuncellendi(12L, GUN.plusDays(1), LocalTime.of(12, 0));
+        macZamanCizelgesi.durumDegisti(13L, "REDDEDILDI");
+        macZamanCizelgesi.zamanGuncellendi(99L, GUN, LocalTime.of(11, 30)); // İndekste olmayan maç eklenmez
+
+        // Then
+        List<Long> siradaki = macZamanCizelgesi.siradakiMacIdleri(simdi, 100);
+        assertEquals(List.of(14L, 15L, 16L, 17L, 18L, 12L), siradaki);
+        assertEquals(6, macZamanCizelgesi.boyut());
+    }
+
+    @Test
+    @DisplayName("YAYINDA durumuna geçen maç veritabanındaki zamanıyla eklenmeli")
+    void testYayinaAlinanMac() {
+        // Given
+        List<Object[]> zaman = new ArrayList<>();
+        zaman.add(new Object[]{50L, GUN, LocalTime.of(12, 30)});
+        when(macRepository.findMacZamanlari(anyCollection())).thenReturn(zaman);
+
+        // When
+        macZamanCizelgesi.durumDegisti(50L, "YAYINDA");
+
+        // Then
+        LocalDateTime simdi = LocalDateTime.of(GUN, LocalTime.of(12, 0));
+        assertEquals(List.of(50L, 13L), macZamanCizelgesi.siradakiMacIdleri(simdi, 2));
+    }
+
+    @Test
+    @DisplayName("Doğrulama indeks ile veritabanı arasındaki farkları raporlamalı")
+    void testDogrulama() {
+        // Given: indeks yüklendikten sonra veritabanı değişti
+        yayindakiMaclar.remove(0);                                           // 12 artık yayında değil
+        yayindakiMaclar.add(new Object[]{30L, GUN, LocalTime.of(20, 0)});     // 30 yayına alındı
+        yayindakiMaclar.set(0, new Object[]{13L, GUN, LocalTime.of(21, 0)}); // 13'ün saati değişti
+
+        // When
+        Map<String, Object> rapor = macZamanCizelgesi.dogrula();
+
+        // Then
+        assertEquals(false, rapor.get("tutarli"));
+        assertEquals(List.of(30L), rapor.get("eksik"));
+        assertEquals(List.of(12L), rapor.get("fazla"));
+        assertEquals(List.of(13L), rapor.get("zamaniFarkli"));
+    }
+}
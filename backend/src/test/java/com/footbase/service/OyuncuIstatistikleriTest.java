@@ -0,0 +1,141 @@
+package com.footbase.service;
+
+import com.footbase.entity.Mac;
+import com.footbase.entity.MacOyuncuOlaylari;
+import com.footbase.entity.Oyuncu;
+import com.footbase.repository.MacOyuncuOlaylariRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Oyuncu İstatistikleri Test Sınıfı
+ *
+ * Olay eklenince/silinince sayaçlara yazılan farkları (maç sayısı dahil) ve
+ * istatistik satırlarının yanıt biçimine dönüştürülmesini test eder.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class OyuncuIstatistikleriTest {
+
+    private static final Long OYUNCU_ID = 7L;
+    private static final Long MAC_ID = 3L;
+
+    @Mock
+    private MacOyuncuOlaylariRepository macOyuncuOlaylariRepository;
+
+    @Mock
+    private LiderlikTablolari liderlikTablolari;
+
+    @InjectMocks
+    private OyuncuIstatistikleri oyuncuIstatistikleri;
+
+    @Test
+    @DisplayName("Oyuncunun maçtaki ilk golü gol ve maç sayısını birer artırır")
+    void testIlkOlayMacSayisiniArtirir() {
+        // Given
+        MacOyuncuOlaylari olay = olay(100L, "GOL");
+        when(macOyuncuOlaylariRepository.mactaBaskaKaydiVar(OYUNCU_ID, MAC_ID, 100L)).thenReturn(false);
+
+        // When
+        oyuncuIstatistikleri.olayEklendi(olay);
+
+        // Then: kontrolden önce oyuncu kilitlenir
+        InOrder sira = inOrder(macOyuncuOlaylariRepository);
+        sira.verify(macOyuncuOlaylariRepository).oyuncuyuKilitle(OYUNCU_ID);
+        sira.verify(macOyuncuOlaylariRepository).mactaBaskaKaydiVar(OYUNCU_ID, MAC_ID, 100L);
+        sira.verify(macOyuncuOlaylariRepository).istatistikFarkEkle(OYUNCU_ID, MAC_ID, 1, 0, 0, 1);
+        verify(liderlikTablolari).oyuncuDegisti(OYUNCU_ID, MAC_ID);
+    }
+
+    @Test
+    @DisplayName("Aynı maçtaki ikinci olay maç sayısını değiştirmez, son olayın silinmesi düşürür")
+    void testMacSayisiFarki() {
+        // Given
+        when(macOyuncuOlaylariRepository.mactaBaskaKaydiVar(OYUNCU_ID, MAC_ID, 101L)).thenReturn(true);
+        when(macOyuncuOlaylariRepository.mactaBaskaKaydiVar(OYUNCU_ID, MAC_ID, 102L)).thenReturn(false);
+
+        // When
+        oyuncuIstatistikleri.olayEklendi(olay(101L, "SARI_KART"));
+        oyuncuIstatistikleri.olaySilindi(olay(102L, "KIRMIZI_KART"));
+
+        // Then
+        verify(macOyuncuOlaylariRepository).istatistikFarkEkle(OYUNCU_ID, MAC_ID, 0, 1, 0, 0);
+        verify(macOyuncuOlaylariRepository).istatistikFarkEkle(OYUNCU_ID, MAC_ID, 0, 0, -1, -1);
+        assertEquals(1L, oyuncuIstatistikleri.istatistikler().get("eklenenOlay"));
+        assertEquals(1L, oyuncuIstatistikleri.istatistikler().get("silinenOlay"));
+    }
+
+    @Test
+    @DisplayName("İstatistik okuması toplamları ve sezon/lig kırılımını tek sorgudan döndürür")
+    void testGetir() {
+        // Given: tüm zamanlar satırı, lig kırılımı ve ligsiz maç satırı
+        when(macOyuncuOlaylariRepository.findIstatistiklerByOyuncuId(OYUNCU_ID)).thenReturn(List.of(
+                new Object[]{(short) 0, 0L, null, 12, 3, 1, 30},
+                new Object[]{(short) 2024, 5L, "Süper Lig", 8, 2, 0, 18},
+                new Object[]{(short) 2023, 0L, null, 4, 1, 1, 12}));
+
+        // When
+        Map<String, Object> istatistik = oyuncuIstatistikleri.getir(OYUNCU_ID);
+
+        // Then
+        assertEquals(12, istatistik.get("toplam_gol"));
+        assertEquals(3, istatistik.get("toplam_sari_kart"));
+        assertEquals(1, istatistik.get("toplam_kirmizi_kart"));
+        assertEquals(30, istatistik.get("toplam_mac"));
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> sezonlar = (List<Map<String, Object>>) istatistik.get("sezonlar");
+        assertEquals(2, sezonlar.size());
+        assertEquals("2024-25", sezonlar.get(0).get("sezon"));
+        assertEquals(5L, sezonlar.get(0).get("lig_id"));
+        assertEquals("Süper Lig", sezonlar.get(0).get("lig_adi"));
+        assertEquals(18, sezonlar.get(0).get("mac"));
+        assertEquals("2023-24", sezonlar.get(1).get("sezon"));
+        assertNull(sezonlar.get(1).get("lig_id"));
+        verify(macOyuncuOlaylariRepository, never()).findByOyuncuId(OYUNCU_ID);
+    }
+
+    @Test
+    @DisplayName("Hiç olayı olmayan oyuncu için sıfır toplamlar döner")
+    void testOlaysizOyuncu() {
+        // Given
+        when(macOyuncuOlaylariRepository.findIstatistiklerByOyuncuId(OYUNCU_ID)).thenReturn(List.of());
+
+        // When
+        Map<String, Object> istatistik = oyuncuIstatistikleri.getir(OYUNCU_ID);
+
+        // Then
+        assertEquals(0, istatistik.get("toplam_gol"));
+        assertEquals(0, istatistik.get("toplam_mac"));
+        assertEquals(List.of(), istatistik.get("sezonlar"));
+    }
+
+    private static MacOyuncuOlaylari olay(Long id, String olayTuru) {
+        Oyuncu oyuncu = new Oyuncu();
+        oyuncu.setId(OYUNCU_ID);
+        Mac mac = new Mac();
+        mac.setId(MAC_ID);
+        MacOyuncuOlaylari olay = new MacOyuncuOlaylari();
+        olay.setId(id);
+        olay.setOyuncu(oyuncu);
+        olay.setMac(mac);
+        olay.setOlayTuru(olayTuru);
+        return olay;
+    }
+}
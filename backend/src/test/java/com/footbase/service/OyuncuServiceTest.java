@@ -0,0 +1,124 @@
+package com.footbase.service;
+
+import com.footbase.entity.Kullanici;
+import com.footbase.entity.Oyuncu;
+import com.footbase.entity.OyuncuYorumlari;
+import com.footbase.repository.KullaniciRepository;
+import com.footbase.repository.OyuncuRepository;
+import com.footbase.repository.OyuncuYorumlariRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Oyuncu Service Test Sınıfı
+ *
+ * Oyuncu yorumu eklenirken puanın yalnızca geçerli puanlı yorumlarda özete eklendiğini
+ * ve oyuncu detayındaki ortalamanın puan özetinden geldiğini test eder.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class OyuncuServiceTest {
+
+    private static final Long OYUNCU_ID = 7L;
+    private static final Long KULLANICI_ID = 3L;
+
+    @Mock
+    private OyuncuRepository oyuncuRepository;
+
+    @Mock
+    private OyuncuYorumlariRepository oyuncuYorumlariRepository;
+
+    @Mock
+    private KullaniciRepository kullaniciRepository;
+
+    @Mock
+    private OyuncuYorumPuanlari oyuncuYorumPuanlari;
+
+    @InjectMocks
+    private OyuncuService oyuncuService;
+
+    private final Oyuncu oyuncu = new Oyuncu();
+
+    @BeforeEach
+    void setUp() {
+        oyuncu.setId(OYUNCU_ID);
+        oyuncu.setAd("Arda");
+        oyuncu.setSoyad("Güler");
+        lenient().when(oyuncuRepository.findById(OYUNCU_ID)).thenReturn(Optional.of(oyuncu));
+        lenient().when(kullaniciRepository.findById(KULLANICI_ID)).thenReturn(Optional.of(new Kullanici()));
+        lenient().when(oyuncuYorumlariRepository.save(any(OyuncuYorumlari.class))).thenAnswer(cagri -> cagri.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("Puanlı yorum kaydedildikten sonra puan oyuncunun özetine eklenir")
+    void testPuanliYorumOzeteEklenir() {
+        // When
+        OyuncuYorumlari yorum = oyuncuService.oyuncuYorumEkle(OYUNCU_ID, KULLANICI_ID, 8, " harika maç ");
+
+        // Then
+        assertEquals(8, yorum.getPuan());
+        assertEquals("[8/10] harika maç", yorum.getIcerik());
+        InOrder sira = inOrder(oyuncuYorumlariRepository, oyuncuYorumPuanlari);
+        sira.verify(oyuncuYorumlariRepository).save(yorum);
+        sira.verify(oyuncuYorumPuanlari).puanEklendi(OYUNCU_ID, 8);
+    }
+
+    @Test
+    @DisplayName("Puansız veya 1-10 dışındaki puanlı yorum özeti değiştirmez")
+    void testGecersizPuanOzeteEklenmez() {
+        // When
+        OyuncuYorumlari puansiz = oyuncuService.oyuncuYorumEkle(OYUNCU_ID, KULLANICI_ID, null, "yorum");
+        OyuncuYorumlari sinirDisi = oyuncuService.oyuncuYorumEkle(OYUNCU_ID, KULLANICI_ID, 11, "yorum");
+
+        // Then
+        assertNull(puansiz.getPuan());
+        assertNull(sinirDisi.getPuan());
+        assertEquals("yorum", sinirDisi.getIcerik());
+        verify(oyuncuYorumlariRepository, times(2)).save(any(OyuncuYorumlari.class));
+        verify(oyuncuYorumPuanlari, never()).puanEklendi(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Boş yorum kaydedilmez ve özet değişmez")
+    void testBosYorumReddedilir() {
+        // When & Then
+        RuntimeException hata = assertThrows(RuntimeException.class,
+                () -> oyuncuService.oyuncuYorumEkle(OYUNCU_ID, KULLANICI_ID, 0, "  "));
+        assertEquals("Yorum içeriği gereklidir", hata.getMessage());
+        verify(oyuncuYorumlariRepository, never()).save(any());
+        verify(oyuncuYorumPuanlari, never()).puanEklendi(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Oyuncu detayındaki ortalama ve puan sayısı puan özetinden gelir")
+    void testDetayOrtalamasi() {
+        // Given
+        when(oyuncuYorumPuanlari.ozet(OYUNCU_ID)).thenReturn(Map.of("averageRating", 8.5, "ratingCount", 2));
+
+        // When
+        Map<String, Object> detay = oyuncuService.oyuncuDetaylariniGetir(OYUNCU_ID);
+
+        // Then
+        assertEquals(8.5, detay.get("averageRating"));
+        assertEquals(2, detay.get("ratingCount"));
+        assertEquals("Arda Güler", detay.get("fullName"));
+        verify(oyuncuYorumlariRepository, never()).findByOyuncuIdOrderByOlusturmaTarihiDesc(anyLong());
+    }
+}
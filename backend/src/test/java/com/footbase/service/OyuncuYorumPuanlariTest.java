@@ -0,0 +1,134 @@
+package com.footbase.service;
+
+import com.footbase.repository.OyuncuYorumlariRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Oyuncu Yorum Puanları Test Sınıfı
+ *
+ * Puanlı yorumun özete eklenmesini, ortalamanın özet satırından hesaplanmasını ve
+ * özetlerin kilit altında, tek transaction içinde yeniden hesaplanmasını test eder.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class OyuncuYorumPuanlariTest {
+
+    private static final Long OYUNCU_ID = 7L;
+
+    @Mock
+    private OyuncuYorumlariRepository oyuncuYorumlariRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private OyuncuYorumPuanlari oyuncuYorumPuanlari;
+
+    private final SimpleTransactionStatus transaction = new SimpleTransactionStatus();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(oyuncuYorumPuanlari, "transactionTemplate", new TransactionTemplate(transactionManager));
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(transaction);
+    }
+
+    @Test
+    @DisplayName("Puanlı yorum özete tek UPSERT ile eklenir")
+    void testPuanEklendi() {
+        // When
+        oyuncuYorumPuanlari.puanEklendi(OYUNCU_ID, 8);
+        oyuncuYorumPuanlari.puanEklendi(OYUNCU_ID, 10);
+
+        // Then
+        verify(oyuncuYorumlariRepository).puanOzetineEkle(OYUNCU_ID, 8);
+        verify(oyuncuYorumlariRepository).puanOzetineEkle(OYUNCU_ID, 10);
+        assertEquals(2L, oyuncuYorumPuanlari.istatistikler().get("eklenenPuan"));
+    }
+
+    @Test
+    @DisplayName("Ortalama puan özet satırındaki toplam ve sayıdan hesaplanır")
+    void testOzetOrtalama() {
+        // Given
+        when(oyuncuYorumlariRepository.findPuanOzeti(OYUNCU_ID))
+                .thenReturn(List.<Object[]>of(new Object[]{17L, 2}));
+
+        // When
+        Map<String, Object> ozet = oyuncuYorumPuanlari.ozet(OYUNCU_ID);
+
+        // Then
+        assertEquals(8.5, (double) ozet.get("averageRating"), 1e-9);
+        assertEquals(2, ozet.get("ratingCount"));
+    }
+
+    @Test
+    @DisplayName("Özet satırı yoksa veya puan sayısı sıfırsa ortalama 0 olur")
+    void testOzetPuanYok() {
+        // Given
+        when(oyuncuYorumlariRepository.findPuanOzeti(OYUNCU_ID)).thenReturn(List.of());
+        when(oyuncuYorumlariRepository.findPuanOzeti(8L))
+                .thenReturn(List.<Object[]>of(new Object[]{0L, 0}));
+
+        // When & Then
+        assertEquals(Map.of("averageRating", 0.0, "ratingCount", 0), oyuncuYorumPuanlari.ozet(OYUNCU_ID));
+        assertEquals(Map.of("averageRating", 0.0, "ratingCount", 0), oyuncuYorumPuanlari.ozet(8L));
+    }
+
+    @Test
+    @DisplayName("Yeniden hesaplama tabloyu kilitler, boş özetleri siler ve sapmış özetleri düzeltir")
+    void testYenidenHesapla() {
+        // Given: bir oyuncunun tüm puanlı yorumları CASCADE ile gitti, iki özet sapmış
+        when(oyuncuYorumlariRepository.bosPuanOzetleriniSil()).thenReturn(1);
+        when(oyuncuYorumlariRepository.puanOzetleriniYenidenHesapla()).thenReturn(2);
+
+        // When
+        int satir = oyuncuYorumPuanlari.yenidenHesapla();
+
+        // Then: kilit, sayımdan önce ve aynı transaction içinde alınır
+        assertEquals(3, satir);
+        InOrder sira = inOrder(transactionManager, oyuncuYorumlariRepository);
+        sira.verify(transactionManager).getTransaction(any());
+        sira.verify(oyuncuYorumlariRepository).puanOzetleriniKilitle();
+        sira.verify(oyuncuYorumlariRepository).bosPuanOzetleriniSil();
+        sira.verify(oyuncuYorumlariRepository).puanOzetleriniYenidenHesapla();
+        sira.verify(transactionManager).commit(transaction);
+        assertEquals(1L, oyuncuYorumPuanlari.istatistikler().get("yenidenHesaplamaSayisi"));
+        assertEquals(3, oyuncuYorumPuanlari.istatistikler().get("sonDuzeltilenSatir"));
+    }
+
+    @Test
+    @DisplayName("Yeniden hesaplama hata verirse transaction geri alınır ve hata iletilir")
+    void testYenidenHesaplamaHatasi() {
+        // Given
+        when(oyuncuYorumlariRepository.puanOzetleriniYenidenHesapla())
+                .thenThrow(new DataAccessResourceFailureException("zaman aşımı"));
+
+        // When & Then
+        assertThrows(DataAccessResourceFailureException.class, () -> oyuncuYorumPuanlari.yenidenHesapla());
+        verify(transactionManager).rollback(any(TransactionStatus.class));
+        verify(transactionManager, never()).commit(any());
+        assertEquals(0L, oyuncuYorumPuanlari.istatistikler().get("yenidenHesaplamaSayisi"));
+        assertEquals(-1, oyuncuYorumPuanlari.istatistikler().get("sonDuzeltilenSatir"));
+    }
+}
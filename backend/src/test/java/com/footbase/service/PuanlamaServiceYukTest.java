@@ -0,0 +1,259 @@
+package com.footbase.service;
+
+import com.footbase.entity.Kullanici;
+import com.footbase.entity.Mac;
+import com.footbase.entity.Puanlama;
+import com.footbase.repository.KullaniciRepository;
+import com.footbase.repository.MacRepository;
+import com.footbase.repository.PuanlamaRepository;
+import com.footbase.test.EszamanliCalistirici;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.footbase.test.EszamanliCalistirici.eszamanliCalistir;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PuanlamaService Yük Testi
+ *
+ * Tek bir maça çok sayıda kullanıcının eşzamanlı puan verip puanını değiştirdiği durumda
+ * artımlı maç toplamlarının (SUM(puan*agirlik), SUM(agirlik), COUNT) ham puanlamalarla
+ * birebir tuttuğunu ve ortalamanın ağırlıklı hesaplandığını test eder.
+ * mac_puanlamalari ve mac_puanlari tabloları bellekte taklit edilir.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class PuanlamaServiceYukTest {
+
+    private static final Long MAC_ID = 7L;
+
+    @Mock
+    private PuanlamaRepository puanlamaRepository;
+
+    @Mock
+    private KullaniciRepository kullaniciRepository;
+
+    @Mock
+    private MacRepository macRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private PuanlamaService puanlamaService;
+
+    private MacPuanToplamlari macPuanToplamlari;
+
+    /**
+     * Taklit mac_puanlamalari (kullanıcı ID'si -> puanlama) ve mac_puanlari satırı
+     */
+    private final Map<Long, Puanlama> puanlamalar = new ConcurrentHashMap<>();
+    private final long[] toplamSatiri = new long[3];
+
+    @BeforeEach
+    void setUp() {
+        macPuanToplamlari = new MacPuanToplamlari();
+        ReflectionTestUtils.setField(macPuanToplamlari, "puanlamaRepository", puanlamaRepository);
+        ReflectionTestUtils.setField(macPuanToplamlari, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(macPuanToplamlari, "uzlastirmaAraligiDakika", 60L);
+        macPuanToplamlari.baslat();
+        ReflectionTestUtils.setField(puanlamaService, "macPuanToplamlari", macPuanToplamlari);
+
+        Mac mac = new Mac();
+        mac.setId(MAC_ID);
+        lenient().when(macRepository.findById(MAC_ID)).thenReturn(Optional.of(mac));
+        lenient().when(kullaniciRepository.findById(anyLong())).thenAnswer(inv -> {
+            Kullanici kullanici = new Kullanici();
+            kullanici.setId(inv.getArgument(0));
+            return Optional.of(kullanici);
+        });
+        lenient().when(puanlamaRepository.findKilitliByKullaniciIdAndMacId(anyLong(), eq(MAC_ID)))
+                .thenAnswer(inv -> Optional.ofNullable(puanlamalar.get((Long) inv.getArgument(0))));
+        lenient().when(puanlamaRepository.save(any(Puanlama.class))).thenAnswer(inv -> {
+            Puanlama puanlama = inv.getArgument(0);
+            puanlamalar.put(puanlama.getKullanici().getId(), puanlama);
+            return puanlama;
+        });
+        lenient().when(puanlamaRepository.toplamaFarkEkle(eq(MAC_ID), anyLong(), anyLong(), anyInt()))
+                .thenAnswer(inv -> {
+                    synchronized (toplamSatiri) {
+                        toplamSatiri[0] += (long) inv.getArgument(1);
+                        toplamSatiri[1] += (long) inv.getArgument(2);
+                        toplamSatiri[2] += (int) inv.getArgument(3);
+                    }
+                    return 1;
+                });
+        lenient().when(puanlamaRepository.findToplamByMacId(MAC_ID)).thenAnswer(inv -> {
+            synchronized (toplamSatiri) {
+                if (toplamSatiri[2] == 0) {
+                    return Collections.emptyList();
+                }
+                return Collections.singletonList(new Object[]{toplamSatiri[0], toplamSatiri[1], (int) toplamSatiri[2]});
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        macPuanToplamlari.durdur();
+    }
+
+    @Test
+    @DisplayName("Yük: tek maça eşzamanlı puanlama ve puan değişikliklerinde toplamlar ham puanlamalarla tutar")
+    void testEszamanliPuanlamadaToplamlarTutarli() throws Exception {
+        // Given: her iş parçacığı kendi kullanıcılarını puanlar (aynı kullanıcı satır kilidiyle sıralanır)
+        int isParcacigi = 32;
+        int kullaniciBasina = 25;
+        int degisiklikBasina = 8;
+        AtomicBoolean bitti = new AtomicBoolean();
+        List<String> okumaHatalari = Collections.synchronizedList(new ArrayList<>());
+
+        ExecutorService okuyucular = Executors.newFixedThreadPool(4);
+        List<Future<?>> okumalar = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            okumalar.add(okuyucular.submit(() -> {
+                while (!bitti.get()) {
+                    Map<String, Object> sonuc = puanlamaService.macOrtalamaPuaniniGetir(MAC_ID);
+                    double ortalama = (double) sonuc.get("ortalamaPuan");
+                    if (ortalama < 0 || ortalama > 100) {
+                        okumaHatalari.add("Geçersiz ortalama: " + ortalama);
+                    }
+                }
+            }));
+        }
+
+        // When
+        long baslangic = System.nanoTime();
+        long sureNs;
+        try {
+            eszamanliCalistir(isParcacigi, sira -> {
+                Random rastgele = new Random(sira);
+                for (int d = 0; d < degisiklikBasina; d++) {
+                    for (int k = 0; k < kullaniciBasina; k++) {
+                        long kullaniciId = (long) sira * kullaniciBasina + k + 1;
+                        puanlamaService.macPuanla(MAC_ID, kullaniciId, rastgele.nextInt(101), 1 + rastgele.nextInt(3));
+                    }
+                }
+            });
+            sureNs = System.nanoTime() - baslangic;
+            bitti.set(true);
+            for (Future<?> okuma : okumalar) {
+                okuma.get(EszamanliCalistirici.ZAMAN_ASIMI_SANIYE, TimeUnit.SECONDS);
+            }
+        } finally {
+            bitti.set(true);
+            okuyucular.shutdownNow();
+        }
+
+        // Then
+        long beklenenAgirlikli = 0;
+        long beklenenAgirlik = 0;
+        long agirliksizToplam = 0;
+        for (Puanlama p : puanlamalar.values()) {
+            beklenenAgirlikli += (long) p.getPuan() * p.getAgirlik();
+            beklenenAgirlik += p.getAgirlik();
+            agirliksizToplam += p.getPuan();
+        }
+        int kullaniciSayisi = isParcacigi * kullaniciBasina;
+        assertEquals(kullaniciSayisi, puanlamalar.size());
+        assertTrue(okumaHatalari.isEmpty(), okumaHatalari.toString());
+
+        // Veritabanı satırı ve bellekteki toplamlar ham puanlamalarla aynı
+        assertArrayEquals(new long[]{beklenenAgirlikli, beklenenAgirlik, kullaniciSayisi}, toplamSatiri);
+        MacPuanToplamlari.Toplam toplam = macPuanToplamlari.getir(MAC_ID);
+        assertEquals(beklenenAgirlikli, toplam.getAgirlikliToplam());
+        assertEquals(beklenenAgirlik, toplam.getAgirlikToplami());
+        assertEquals(kullaniciSayisi, toplam.getSayi());
+
+        Map<String, Object> sonuc = puanlamaService.macOrtalamaPuaniniGetir(MAC_ID);
+        double beklenenOrtalama = Math.round(beklenenAgirlikli * 100.0 / beklenenAgirlik) / 100.0;
+        assertEquals(beklenenOrtalama, (double) sonuc.get("ortalamaPuan"), 1e-9);
+        assertEquals((long) kullaniciSayisi, sonuc.get("puanlamaSayisi"));
+
+        // Okumalar puanlamaları yeniden toplamaz
+        verify(puanlamaRepository, never()).findOrtalamaPuanByMacId(anyLong());
+        verify(puanlamaRepository, never()).countByMacId(anyLong());
+
+        int yazma = isParcacigi * kullaniciBasina * degisiklikBasina;
+        System.out.printf("📈 Maç puanlama: %d yazma, %.0f yazma/sn, ağırlıklı ort. %.2f (ağırlıksız %.2f), %s%n",
+                yazma, yazma * 1e9 / sureNs, beklenenOrtalama, (double) agirliksizToplam / kullaniciSayisi,
+                macPuanToplamlari.istatistikler());
+    }
+
+    @Test
+    @DisplayName("Puan güncellemesinde toplamlara yalnızca eski ve yeni değer arasındaki fark eklenir")
+    void testGuncellemeYalnizcaFarkEkler() {
+        // Given
+        puanlamaService.macPuanla(MAC_ID, 1L, 80, 1);
+
+        // When
+        puanlamaService.macPuanla(MAC_ID, 1L, 40, 3);
+
+        // Then
+        verify(puanlamaRepository).toplamaFarkEkle(MAC_ID, 80L, 1L, 1);
+        verify(puanlamaRepository).toplamaFarkEkle(MAC_ID, 40L, 2L, 0);
+        MacPuanToplamlari.Toplam toplam = macPuanToplamlari.getir(MAC_ID);
+        assertEquals(120L, toplam.getAgirlikliToplam());
+        assertEquals(3L, toplam.getAgirlikToplami());
+        assertEquals(1, toplam.getSayi());
+        assertEquals(40.0, toplam.ortalama(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Uzlaştırma sapmış toplamları ham puanlamalardan düzeltir ve belleği yeniler")
+    void testUzlastirmaSapmayiDuzeltir() {
+        // Given: iki puanlama, ardından biri toplamlar güncellenmeden silinir (ör. CASCADE)
+        puanlamaService.macPuanla(MAC_ID, 1L, 90, 2);
+        puanlamaService.macPuanla(MAC_ID, 2L, 30, 1);
+        assertEquals(2, macPuanToplamlari.getir(MAC_ID).getSayi());
+        puanlamalar.remove(2L);
+        when(puanlamaRepository.puanToplamlariniUzlastir()).thenAnswer(inv -> {
+            synchronized (toplamSatiri) {
+                toplamSatiri[0] = 0;
+                toplamSatiri[1] = 0;
+                toplamSatiri[2] = 0;
+                for (Puanlama p : puanlamalar.values()) {
+                    toplamSatiri[0] += (long) p.getPuan() * p.getAgirlik();
+                    toplamSatiri[1] += p.getAgirlik();
+                    toplamSatiri[2]++;
+                }
+            }
+            return 1;
+        });
+
+        // When
+        int duzeltilen = macPuanToplamlari.uzlastir();
+
+        // Then
+        assertEquals(1, duzeltilen);
+        MacPuanToplamlari.Toplam toplam = macPuanToplamlari.getir(MAC_ID);
+        assertEquals(180L, toplam.getAgirlikliToplam());
+        assertEquals(1, toplam.getSayi());
+        assertEquals(90.0, toplam.ortalama(), 1e-9);
+    }
+}
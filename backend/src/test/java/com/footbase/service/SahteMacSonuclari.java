@@ -0,0 +1,99 @@
+package com.footbase.service;
+
+import com.footbase.repository.MacTakimlariRepository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * Sonuç indeksi testleri için sahte veritabanı
+ *
+ * Sonuçlanmış maçları tutar ve MacTakimlariRepository'nin sonuç sorgularını (lig sonuçları,
+ * maç sonuçları, takımın son maçları) bu maçlardan yanıtlar. Tüm maçlar LIG liginde ve
+ * 2024 Ağustos'undadır (SEZON); gün maçın tarihini belirler.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+final class SahteMacSonuclari {
+
+    static final long LIG = 1L;
+    static final int SEZON = 2024;
+
+    private final Map<Long, Object[]> maclar = new LinkedHashMap<>();
+
+    /**
+     * Sorguları repository mock'una bağlar
+     */
+    SahteMacSonuclari(MacTakimlariRepository macTakimlariRepository) {
+        lenient().when(macTakimlariRepository.findMacSonucu(anyLong()))
+                .thenAnswer(cagri -> tek(cagri.<Long>getArgument(0), false));
+        lenient().when(macTakimlariRepository.findLigMacSonucu(anyLong()))
+                .thenAnswer(cagri -> tek(cagri.<Long>getArgument(0), true));
+        lenient().when(macTakimlariRepository.findMacSonuclari())
+                .thenAnswer(cagri -> maclar.values().stream().map(mac -> satir(mac, false)).toList());
+        lenient().when(macTakimlariRepository.findLigMacSonuclari())
+                .thenAnswer(cagri -> maclar.values().stream().map(mac -> satir(mac, true)).toList());
+        lenient().when(macTakimlariRepository.findTakimSonMacSonuclari(anyLong(), anyInt())).thenAnswer(cagri -> {
+            long takimId = cagri.getArgument(0);
+            int limit = cagri.getArgument(1);
+            return maclar.values().stream()
+                    .filter(mac -> (long) mac[2] == takimId || (long) mac[3] == takimId)
+                    .sorted(Comparator.comparing((Object[] mac) -> (LocalDate) mac[1])
+                            .thenComparing(mac -> (long) mac[0]).reversed())
+                    .limit(limit)
+                    .map(mac -> satir(mac, false))
+                    .toList();
+        });
+    }
+
+    /**
+     * Maçı sonuçlanmış olarak yazar (varsa skoru ve takımları değişir)
+     */
+    void yaz(long macId, int gun, long evTakimId, long depTakimId, int evSkor, int depSkor) {
+        maclar.put(macId, new Object[]{macId, LocalDate.of(SEZON, 8, gun), evTakimId, depTakimId, evSkor, depSkor});
+    }
+
+    /**
+     * Maçı sonuçlanmamış yapar (geri alma veya silme)
+     */
+    void sil(long macId) {
+        maclar.remove(macId);
+    }
+
+    private List<Object[]> tek(long macId, boolean lig) {
+        Object[] mac = maclar.get(macId);
+        return mac != null ? List.<Object[]>of(satir(mac, lig)) : List.of();
+    }
+
+    /**
+     * Sorgunun döndürdüğü satır: lig sorgularında tarih yerine sezon ve lig ID'si gelir
+     */
+    private static Object[] satir(Object[] mac, boolean lig) {
+        long evTakimId = (long) mac[2];
+        long depTakimId = (long) mac[3];
+        Object[] takimlar = {evTakimId, "Takım " + evTakimId, mac[4], depTakimId, "Takım " + depTakimId, mac[5]};
+        Object[] satir;
+        if (lig) {
+            satir = new Object[9];
+            satir[0] = mac[0];
+            satir[1] = (short) SEZON;
+            satir[2] = LIG;
+            System.arraycopy(takimlar, 0, satir, 3, takimlar.length);
+        } else {
+            satir = new Object[8];
+            satir[0] = mac[0];
+            satir[1] = Date.valueOf((LocalDate) mac[1]);
+            System.arraycopy(takimlar, 0, satir, 2, takimlar.length);
+        }
+        return satir;
+    }
+}
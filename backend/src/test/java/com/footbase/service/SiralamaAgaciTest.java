@@ -0,0 +1,100 @@
+package com.footbase.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sıralama Ağacı Test Sınıfı
+ *
+ * Rastgele ekleme/silme dizilerinden sonra sıra, seçim ve aralık sorgularının
+ * sıralı bir referans listeyle aynı sonucu verdiğini test eder.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+class SiralamaAgaciTest {
+
+    @Test
+    @DisplayName("Rastgele ekleme ve silmelerden sonra sıra, seçim ve aralık referans listeyle aynıdır")
+    void testReferansListeyleAyni() {
+        // Given
+        Random rastgele = new Random(42);
+        SiralamaAgaci<Integer> agac = new SiralamaAgaci<>(Comparator.reverseOrder());
+        List<Integer> referans = new ArrayList<>();
+
+        for (int adim = 0; adim < 5000; adim++) {
+            // When
+            int deger = rastgele.nextInt(1000);
+            boolean varMi = referans.contains(deger);
+            if (rastgele.nextInt(3) == 0) {
+                assertEquals(varMi, agac.sil(deger));
+                referans.remove(Integer.valueOf(deger));
+            } else if (!varMi) {
+                agac.ekle(deger);
+                referans.add(deger);
+            }
+
+            // Then
+            if (adim % 250 == 0) {
+                referans.sort(Comparator.reverseOrder());
+                assertEquals(referans.size(), agac.boyut());
+                assertEquals(referans, agac.aralik(0, Integer.MAX_VALUE));
+                for (int i = 0; i < referans.size(); i += 7) {
+                    assertEquals(referans.get(i), agac.sec(i));
+                    assertEquals(i, agac.kucukSay(referans.get(i)));
+                }
+                int baslangic = referans.isEmpty() ? 0 : rastgele.nextInt(referans.size());
+                assertEquals(referans.subList(baslangic, Math.min(referans.size(), baslangic + 20)),
+                        agac.aralik(baslangic, 20));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Ağaçta olmayan değer için küçük sayısı, araya gireceği konumdur")
+    void testOlmayanDegerinSirasi() {
+        // Given
+        SiralamaAgaci<Integer> agac = new SiralamaAgaci<>(Comparator.naturalOrder());
+        for (int deger : List.of(10, 20, 30, 40)) {
+            agac.ekle(deger);
+        }
+
+        // When / Then
+        assertEquals(0, agac.kucukSay(5));
+        assertEquals(2, agac.kucukSay(25));
+        assertEquals(4, agac.kucukSay(50));
+        assertEquals(List.of(), agac.aralik(4, 10));
+        assertFalse(agac.sil(25));
+    }
+
+    @Test
+    @DisplayName("Eşit eleman eklenemez, sıralı eklemede ağaç dengeli kalır")
+    void testTekrarVeDenge() {
+        // Given
+        SiralamaAgaci<Integer> agac = new SiralamaAgaci<>(Comparator.naturalOrder());
+        List<Integer> sirali = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            agac.ekle(i);
+            sirali.add(i);
+        }
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> agac.ekle(500));
+        assertThrows(IndexOutOfBoundsException.class, () -> agac.sec(100_000));
+        assertEquals(99_999, agac.sec(99_999));
+        assertEquals(sirali.subList(50_000, 50_010), agac.aralik(50_000, 10));
+        Collections.shuffle(sirali, new Random(7));
+        for (int deger : sirali) {
+            assertTrue(agac.sil(deger));
+        }
+        assertTrue(agac.bosMu());
+    }
+}
@@ -0,0 +1,283 @@
+package com.footbase.service;
+
+import com.footbase.dto.SonYorumDTO;
+import com.footbase.repository.YorumRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * SonYorumlarTamponu Test Sınıfı
+ *
+ * Kilitsiz halka tamponda eşzamanlı ekleme ve okumanın, silmenin tetiklediği yeniden
+ * doldurmanın ve canlı eklemelerle yarışan doldurmanın tekrar eden yorum, geri gelen silinmiş
+ * yorum veya yanlış sıra üretmediğini test eder.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class SonYorumlarTamponuTest {
+
+    private static final int KAPASITE = 16;
+    private static final LocalDateTime BASLANGIC = LocalDateTime.of(2024, 8, 1, 12, 0);
+
+    @Mock
+    private YorumRepository yorumRepository;
+
+    @Mock
+    private MacVeriDoldurucu macVeriDoldurucu;
+
+    private SonYorumlarTamponu tampon;
+
+    /**
+     * Sahte veritabanı: yorum ID'si -> maç ID'si (commit edilmiş yorumlar)
+     */
+    private final ConcurrentSkipListMap<Long, Long> veritabani = new ConcurrentSkipListMap<>();
+
+    @BeforeEach
+    void setUp() {
+        tampon = new SonYorumlarTamponu(KAPASITE);
+        ReflectionTestUtils.setField(tampon, "yorumRepository", yorumRepository);
+        ReflectionTestUtils.setField(tampon, "macVeriDoldurucu", macVeriDoldurucu);
+        lenient().when(yorumRepository.findSonYorumOzetleri(any())).thenAnswer(cagri -> enSonSatirlar());
+    }
+
+    @Test
+    @DisplayName("Eşzamanlı ekleme ve okumada tekrar yok, sıra yeniden eskiye ve en yeni yorum üstte")
+    void testEszamanliEkleVeOku() throws Exception {
+        // Given
+        int yaziciSayisi = 4;
+        int yorumBasina = 5_000;
+        AtomicBoolean bitti = new AtomicBoolean();
+        ConcurrentLinkedQueue<String> hatalar = new ConcurrentLinkedQueue<>();
+        List<Thread> yazicilar = new ArrayList<>();
+        for (int y = 0; y < yaziciSayisi; y++) {
+            long taban = (y + 1) * 1_000_000L;
+            yazicilar.add(new Thread(() -> {
+                for (long i = 1; i <= yorumBasina; i++) {
+                    tampon.ekle(taban + i, 1L, "k", "m", BASLANGIC);
+                }
+            }));
+        }
+        Thread okuyucu = new Thread(() -> {
+            while (!bitti.get()) {
+                List<SonYorumDTO> liste = tampon.sonYorumlar(KAPASITE);
+                if (liste.size() > KAPASITE) {
+                    hatalar.add("kapasiteden fazla: " + liste.size());
+                }
+                // Her yazıcının yorumları yeniden eskiye sıralı gelmeli (tekrar da bunu bozar)
+                long[] oncekiler = new long[yaziciSayisi + 1];
+                for (SonYorumDTO yorum : liste) {
+                    int yazici = (int) (yorum.getId() / 1_000_000L);
+                    if (oncekiler[yazici] != 0 && yorum.getId() >= oncekiler[yazici]) {
+                        hatalar.add("sıra/tekrar: " + oncekiler[yazici] + " -> " + yorum.getId());
+                    }
+                    oncekiler[yazici] = yorum.getId();
+                }
+            }
+        });
+
+        // When
+        okuyucu.start();
+        yazicilar.forEach(Thread::start);
+        for (Thread yazici : yazicilar) {
+            yazici.join(10_000);
+        }
+        bitti.set(true);
+        okuyucu.join(10_000);
+        tampon.ekle(99L, 1L, "k", "en yeni", BASLANGIC);
+
+        // Then
+        assertTrue(hatalar.isEmpty(), "Hatalı okuma: " + hatalar.peek());
+        List<SonYorumDTO> son = tampon.sonYorumlar(KAPASITE);
+        assertEquals(KAPASITE, son.size());
+        assertEquals(99L, son.get(0).getId());
+        assertEquals(KAPASITE, son.stream().map(SonYorumDTO::getId).distinct().count());
+    }
+
+    @Test
+    @DisplayName("Silme tamponu boşaltınca yeniden doldurulur; henüz commit edilmemiş silme geri gelmez")
+    void testCikarYenidenDoldurur() {
+        // Given: veritabanında 1..5 ve iki eski yorum; tamponda 1..5
+        for (long id = 1; id <= 5; id++) {
+            yorumKaydet(id, 1L);
+            tampon.ekle(id, 1L, "k", "m" + id, tarih(id));
+        }
+        veritabani.put(-2L, 1L);
+        veritabani.put(-1L, 1L);
+
+        // When: 1 silinir (4 görünür, doldurma yok), sonra 2 silinir ama silme henüz commit edilmedi
+        veritabani.remove(1L);
+        tampon.cikar(1L);
+        verify(yorumRepository, never()).findSonYorumOzetleri(any());
+        tampon.cikar(2L);
+
+        // Then: doldurma 2'yi (veritabanında hâlâ duruyor) geri getirmez
+        verify(yorumRepository).findSonYorumOzetleri(any());
+        assertEquals(List.of(5L, 4L, 3L, -1L, -2L), idler(tampon.sonYorumlar(KAPASITE)));
+    }
+
+    @Test
+    @DisplayName("Doldurma sırasında eklenen ve silinen yorumlar: tekrar yok, silinen yok, en yeni üstte")
+    void testDoldurmaCanliEklemeyleYarisir() {
+        // Given
+        for (long id = 1; id <= 8; id++) {
+            yorumKaydet(id, 1L);
+        }
+        // Veritabanı okunurken: 9 canlı eklenir, 10 commit edilir ama canlı eklemesi henüz gelmemiştir,
+        // 3 silinir (silme commit edilmeden önce okunan sonuç 3'ü hâlâ içerir)
+        when(yorumRepository.findSonYorumOzetleri(any())).thenAnswer(cagri -> {
+            yorumKaydet(9L, 1L);
+            tampon.ekle(9L, 1L, "k", "m9", tarih(9));
+            yorumKaydet(10L, 1L);
+            List<Object[]> satirlar = enSonSatirlar();
+            tampon.cikar(3L);
+            return satirlar;
+        });
+
+        // When
+        tampon.yenidenDoldur();
+        List<SonYorumDTO> doldurmaSonrasi = tampon.sonYorumlar(KAPASITE);
+        tampon.ekle(10L, 1L, "k", "m10", tarih(10));
+        List<SonYorumDTO> eklemeSonrasi = tampon.sonYorumlar(KAPASITE);
+
+        // Then: 10 canlı eklemesinden önce 9'un altına düşmez
+        assertEquals(List.of(9L, 8L, 7L, 6L, 5L, 4L, 2L, 1L), idler(doldurmaSonrasi));
+        assertEquals(List.of(10L, 9L, 8L, 7L, 6L, 5L, 4L, 2L, 1L), idler(eklemeSonrasi));
+    }
+
+    @Test
+    @DisplayName("Eşzamanlı ekleme, silme ve doldurma: okumalar tekrar ve silinmiş yorum içermez, sıra korunur")
+    void testEszamanliDoldurmaEklemeSilme() throws Exception {
+        // Given
+        AtomicBoolean bitti = new AtomicBoolean();
+        AtomicLong sonEklenen = new AtomicLong();
+        Set<Long> silinenler = ConcurrentHashMap.newKeySet();
+        ConcurrentLinkedQueue<String> hatalar = new ConcurrentLinkedQueue<>();
+
+        // Tek yazıcı: önce commit, sonra canlı ekleme (commit sonrası gibi)
+        Thread yazici = new Thread(() -> {
+            for (long id = 1; id <= 20_000; id++) {
+                yorumKaydet(id, 1L);
+                tampon.ekle(id, 1L, "k", "m", tarih(id));
+                sonEklenen.set(id);
+            }
+        });
+        // Silici: üstten uzak yorumları siler (tampondan çıkarma commit'ten önce)
+        Thread silici = new Thread(() -> {
+            while (!bitti.get()) {
+                long id = sonEklenen.get() - 6;
+                if (id > 0 && silinenler.add(id)) {
+                    tampon.cikar(id);
+                    veritabani.remove(id);
+                }
+                Thread.onSpinWait();
+            }
+        });
+        Thread doldurucu = new Thread(() -> {
+            while (!bitti.get()) {
+                tampon.yenidenDoldur();
+            }
+        });
+        Thread okuyucu = new Thread(() -> {
+            while (!bitti.get()) {
+                long enAz = sonEklenen.get();
+                Set<Long> oncedenSilinen = Set.copyOf(silinenler);
+                List<SonYorumDTO> liste = tampon.sonYorumlar(KAPASITE);
+                if (!liste.isEmpty() && liste.get(0).getId() < enAz) {
+                    hatalar.add("en yeni üstte değil: " + liste.get(0).getId() + " < " + enAz);
+                }
+                long onceki = Long.MAX_VALUE;
+                for (SonYorumDTO yorum : liste) {
+                    if (yorum.getId() >= onceki) {
+                        hatalar.add("sıra/tekrar: " + onceki + " -> " + yorum.getId());
+                    }
+                    if (oncedenSilinen.contains(yorum.getId())) {
+                        hatalar.add("silinen geri geldi: " + yorum.getId());
+                    }
+                    onceki = yorum.getId();
+                }
+            }
+        });
+
+        // When
+        List<Thread> hepsi = List.of(okuyucu, silici, doldurucu, yazici);
+        hepsi.forEach(Thread::start);
+        yazici.join(20_000);
+        bitti.set(true);
+        for (Thread thread : hepsi) {
+            thread.join(10_000);
+        }
+
+        // Then
+        assertTrue(hatalar.isEmpty(), hatalar.size() + " hatalı okuma, örn. " + hatalar.peek());
+        tampon.yenidenDoldur();
+        List<Long> son = idler(tampon.sonYorumlar(KAPASITE));
+        assertEquals(20_000L, son.get(0));
+        assertTrue(son.stream().noneMatch(silinenler::contains), "Silinen yorum: " + son);
+        assertEquals(son.size(), son.stream().distinct().count());
+    }
+
+    @Test
+    @DisplayName("Silinen maçın yorumları doldurmayla geri gelmez")
+    void testMacYorumlariniCikar() {
+        // Given
+        for (long id = 1; id <= 6; id++) {
+            long macId = id % 2 == 0 ? 2L : 1L;
+            yorumKaydet(id, macId);
+            tampon.ekle(id, macId, "k", "m", tarih(id));
+        }
+
+        // When: maç 2 silinir ama veritabanı okuması henüz yorumlarını döndürür
+        tampon.macYorumlariniCikar(2L);
+        tampon.yenidenDoldur();
+
+        // Then
+        assertEquals(List.of(5L, 3L, 1L), idler(tampon.sonYorumlar(KAPASITE)));
+    }
+
+    private void yorumKaydet(long id, long macId) {
+        veritabani.put(id, macId);
+    }
+
+    /**
+     * findSonYorumOzetleri satırları: [yorumId, macId, kullaniciAdi, mesaj, yorumTarihi] (yeniden eskiye)
+     */
+    private List<Object[]> enSonSatirlar() {
+        List<Object[]> satirlar = new ArrayList<>();
+        for (var kayit : veritabani.descendingMap().entrySet()) {
+            if (satirlar.size() == KAPASITE) {
+                break;
+            }
+            satirlar.add(new Object[]{kayit.getKey(), kayit.getValue(), "k", "m" + kayit.getKey(), tarih(kayit.getKey())});
+        }
+        return satirlar;
+    }
+
+    private static LocalDateTime tarih(long id) {
+        return BASLANGIC.plusSeconds(id);
+    }
+
+    private static List<Long> idler(List<SonYorumDTO> yorumlar) {
+        return yorumlar.stream().map(SonYorumDTO::getId).toList();
+    }
+}
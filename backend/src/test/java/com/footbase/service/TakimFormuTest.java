@@ -0,0 +1,178 @@
+package com.footbase.service;
+
+import com.footbase.repository.MacTakimlariRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Takım Formu Test Sınıfı
+ *
+ * Halka tamponun son K sonucu tutmasını, skor düzeltmesinin yerinde uygulanmasını,
+ * geri alınan maçtan sonra tamponun yeniden doldurulmasını ve form okumasını test eder.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class TakimFormuTest {
+
+    private static final long A = 10L;
+    private static final long B = 20L;
+
+    @Mock
+    private MacTakimlariRepository macTakimlariRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private TakimFormu takimFormu;
+
+    private SahteMacSonuclari sonuclar;
+
+    @BeforeEach
+    void setUp() {
+        sonuclar = new SahteMacSonuclari(macTakimlariRepository);
+        ReflectionTestUtils.setField(takimFormu, "kapasite", 3);
+        takimFormu.baslat();
+        takimFormu.yenidenOlustur();
+    }
+
+    @Test
+    @DisplayName("Halka tampon yalnızca son K sonucu tutar, en yeni önce")
+    void testHalkaTampon() {
+        // Given: A'nın 4 maçı (kapasite 3)
+        sonuclar.yaz(1L, 1, A, B, 1, 0);  // G
+        sonuclar.yaz(2L, 2, B, A, 1, 1);  // B
+        sonuclar.yaz(3L, 3, A, 30L, 0, 2); // M
+        sonuclar.yaz(4L, 4, 40L, A, 0, 3); // G (deplasmanda)
+
+        // When
+        for (long macId = 1; macId <= 4; macId++) {
+            takimFormu.sonucDegisti(macId);
+        }
+
+        // Then
+        List<TakimFormu.FormSonucu> son = takimFormu.sonSonuclar(A, 3);
+        assertEquals(List.of(4L, 3L, 2L), son.stream().map(TakimFormu.FormSonucu::getMacId).toList());
+        TakimFormu.FormSonucu enSon = son.get(0);
+        assertEquals(40L, enSon.getRakipId());
+        assertFalse(enSon.isEvSahibi());
+        assertEquals(3, enSon.getAtilanGol());
+        assertEquals("G", enSon.getSonuc());
+        assertEquals("GMB", takimFormu.form(A, 3).get("form"));
+        assertEquals(4, takimFormu.form(A, 3).get("puan"));
+        assertEquals("BM", takimFormu.form(B, 3).get("form"));
+        verify(macTakimlariRepository, never()).findTakimSonMacSonuclari(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Skor düzeltmesi kaydı yerinde değiştirir, geri alınan maç tamponu yeniden doldurur")
+    void testDuzeltmeVeGeriAlma() {
+        // Given
+        for (long macId = 1; macId <= 4; macId++) {
+            sonuclar.yaz(macId, (int) macId, A, B, 1, 0);
+            takimFormu.sonucDegisti(macId);
+        }
+
+        // When: 3. maçın skoru düzeltilir
+        sonuclar.yaz(3L, 3, A, B, 0, 2);
+        takimFormu.sonucDegisti(3L);
+
+        // Then
+        assertEquals("GMG", takimFormu.form(A, 3).get("form"));
+        assertEquals("MGM", takimFormu.form(B, 3).get("form"));
+        verify(macTakimlariRepository, never()).findTakimSonMacSonuclari(anyLong(), anyInt());
+
+        // When: en yeni maç geri alınır, tampondan düşen 1. maç geri gelir
+        sonuclar.sil(4L);
+        takimFormu.sonucDegisti(4L);
+
+        // Then
+        assertEquals(List.of(3L, 2L, 1L),
+                takimFormu.sonSonuclar(A, 3).stream().map(TakimFormu.FormSonucu::getMacId).toList());
+        verify(macTakimlariRepository).findTakimSonMacSonuclari(A, 3);
+        verify(macTakimlariRepository).findTakimSonMacSonuclari(B, 3);
+    }
+
+    @Test
+    @DisplayName("Geç sonuçlanan eski maç: tampon doluysa ve daha eskiyse yok sayılır, araya giriyorsa yeniden doldurulur")
+    void testGecSonuclananMac() {
+        // Given: 5, 6, 7. günlerde üç maç
+        for (long macId = 5; macId <= 7; macId++) {
+            sonuclar.yaz(macId, (int) macId, A, B, 2, 0);
+            takimFormu.sonucDegisti(macId);
+        }
+
+        // When: 1. günün maçı sonuçlanır (tampondakilerden eski)
+        sonuclar.yaz(1L, 1, A, B, 0, 1);
+        takimFormu.sonucDegisti(1L);
+
+        // Then
+        assertEquals("GGG", takimFormu.form(A, 3).get("form"));
+        verify(macTakimlariRepository, never()).findTakimSonMacSonuclari(anyLong(), anyInt());
+
+        // When: 6. ile 7. gün arasına giren maç
+        sonuclar.yaz(8L, 6, B, A, 3, 3);
+        takimFormu.sonucDegisti(8L);
+
+        // Then
+        assertEquals(List.of(7L, 8L, 6L),
+                takimFormu.sonSonuclar(A, 3).stream().map(TakimFormu.FormSonucu::getMacId).toList());
+    }
+
+    @Test
+    @DisplayName("Artımlı tamponlar sıfırdan kurulanla aynıdır; form okuması veritabanına gitmez")
+    void testYenidenOlusturmaTutarli() {
+        // Given
+        sonuclar.yaz(1L, 1, A, B, 1, 0);
+        takimFormu.sonucDegisti(1L);
+        sonuclar.yaz(2L, 2, B, 30L, 2, 2);
+        takimFormu.sonucDegisti(2L);
+        sonuclar.yaz(3L, 3, 30L, A, 0, 0);
+        takimFormu.sonucDegisti(3L);
+        sonuclar.yaz(4L, 4, A, 30L, 4, 1);
+        takimFormu.sonucDegisti(4L);
+        Map<Long, List<Long>> artimli = new LinkedHashMap<>();
+        for (long takimId : new long[]{A, B, 30L}) {
+            artimli.put(takimId, takimFormu.sonSonuclar(takimId, 3).stream()
+                    .map(TakimFormu.FormSonucu::getMacId).toList());
+        }
+
+        // When
+        Map<String, Object> sonuc = takimFormu.yenidenOlustur();
+
+        // Then
+        assertEquals(4, sonuc.get("mac"));
+        assertEquals(3, sonuc.get("takim"));
+        for (Map.Entry<Long, List<Long>> takim : artimli.entrySet()) {
+            assertEquals(takim.getValue(), takimFormu.sonSonuclar(takim.getKey(), 3).stream()
+                    .map(TakimFormu.FormSonucu::getMacId).toList());
+        }
+
+        clearInvocations(macTakimlariRepository);
+        assertEquals(List.of(), takimFormu.sonSonuclar(99L, 3));
+        takimFormu.form(A, 2);
+        verifyNoInteractions(macTakimlariRepository);
+        assertThrows(IllegalArgumentException.class, () -> takimFormu.sonSonuclar(A, 4));
+    }
+}
@@ -0,0 +1,268 @@
+package com.footbase.service;
+
+import com.footbase.entity.Yorum;
+import com.footbase.patterns.chain.HandlerResult;
+import com.footbase.patterns.chain.yorum.YorumModerationChain;
+import com.footbase.repository.KullaniciRepository;
+import com.footbase.repository.MacRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static com.footbase.test.EszamanliCalistirici.eszamanliCalistir;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * YorumAlimServisi Test Sınıfı
+ *
+ * Asenkron yorum alım kuyruğunun patlama yükü altında kayıpsız ve tekrarsız yazdığını,
+ * kuyruk dolunca geri basınç uyguladığını ve hatalı yorumları ayırdığını test eder.
+ * Veritabanı erişimi (JdbcTemplate) taklit edilir; ölçülen hız kuyruk + moderasyon + partileme hızıdır.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class YorumAlimServisiTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private YorumModerationChain yorumModerationChain;
+
+    @Mock
+    private MacRepository macRepository;
+
+    @Mock
+    private KullaniciRepository kullaniciRepository;
+
+    @Mock
+    private CanliYorumYayini canliYorumYayini;
+
+    @Mock
+    private SonYorumlarTamponu sonYorumlarTamponu;
+
+    @InjectMocks
+    private YorumAlimServisi yorumAlimServisi;
+
+    private final AtomicLong dizi = new AtomicLong(1000);
+    private final ConcurrentLinkedQueue<Long> yazilanIdler = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Integer> partiBoyutlari = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(yorumAlimServisi, "kuyrukKapasitesi", 50_000);
+        ReflectionTestUtils.setField(yorumAlimServisi, "partiBoyutu", 200);
+        ReflectionTestUtils.setField(yorumAlimServisi, "kimlikBlogu", 100);
+
+        lenient().when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any()))
+                .thenAnswer(inv -> {
+                    int adet = inv.getArgument(2);
+                    long ilk = dizi.getAndAdd(adet);
+                    return LongStream.range(ilk, ilk + adet).boxed().collect(Collectors.toList());
+                });
+        lenient().when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenAnswer(inv -> yaz(inv.getArgument(1)));
+        lenient().when(yorumModerationChain.moderate(any(Yorum.class)))
+                .thenAnswer(inv -> {
+                    Yorum yorum = inv.getArgument(0);
+                    return yorum.getMesaj().contains("RED")
+                            ? HandlerResult.failure("Uygunsuz içerik", "KufurFiltresiHandler")
+                            : HandlerResult.success();
+                });
+        lenient().when(macRepository.findMevcutIdler(anyCollection()))
+                .thenAnswer(inv -> idleriFiltrele(inv.getArgument(0), 99L));
+        lenient().when(kullaniciRepository.findKullaniciAdlari(anyCollection()))
+                .thenAnswer(inv -> idleriFiltrele(inv.getArgument(0), -1L).stream()
+                        .map(id -> new Object[]{id, "kullanici" + id})
+                        .collect(Collectors.toList()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        yorumAlimServisi.durdur();
+    }
+
+    @Test
+    @DisplayName("Patlama yükü: kabul edilen her yorum tam bir kez, partiler halinde yazılır")
+    void testPatlamaYukuKayipsizVeTekrarsizYazilir() throws Exception {
+        // Given
+        yorumAlimServisi.baslat();
+        int isParcacigi = 200;
+        int yorumBasina = 100;
+        ConcurrentLinkedQueue<Long> kabulEdilenIdler = new ConcurrentLinkedQueue<>();
+
+        // When
+        eszamanliCalistir(isParcacigi, sira -> {
+            for (int i = 0; i < yorumBasina; i++) {
+                Long yorumId = yorumAlimServisi.kuyrugaEkle(1L + (i % 3), (long) sira, "Gol! yorum " + sira + "-" + i);
+                if (yorumId != null) {
+                    kabulEdilenIdler.add(yorumId);
+                }
+            }
+        });
+        int toplam = isParcacigi * yorumBasina;
+        bekle(() -> yazilanIdler.size() >= toplam);
+
+        // Then
+        assertEquals(toplam, kabulEdilenIdler.size());
+        assertEquals(toplam, new HashSet<>(kabulEdilenIdler).size(), "Atanan ID'ler benzersiz olmalı");
+        assertEquals(toplam, yazilanIdler.size());
+        assertEquals(new HashSet<>(kabulEdilenIdler), new HashSet<>(yazilanIdler));
+
+        Map<String, Object> istatistik = yorumAlimServisi.istatistikler();
+        assertEquals((long) toplam, istatistik.get("kabulEdilen"));
+        assertEquals((long) toplam, istatistik.get("kaydedilen"));
+        assertEquals(0L, istatistik.get("kuyrukDoluReddi"));
+        assertEquals(0L, istatistik.get("hatali"));
+        assertEquals((long) partiBoyutlari.size(), istatistik.get("partiSayisi"));
+        assertTrue((long) istatistik.get("enBuyukParti") <= 200, "Parti boyutu sınırı aşıldı");
+        double ortalamaParti = partiBoyutlari.stream().mapToInt(Integer::intValue).average().orElse(0);
+        assertTrue(ortalamaParti > 1.0, "Yorumlar partiler halinde yazılmalı");
+        assertEquals(ortalamaParti, (double) istatistik.get("ortalamaPartiBoyutu"), 1e-9);
+        assertTrue((double) istatistik.get("yazmaHiziSatirSaniye") > 0);
+    }
+
+    @Test
+    @DisplayName("Kuyruk dolunca yeni yorumlar reddedilir (geri basınç), kabul edilenler kaybolmaz")
+    void testKuyrukDolununcaGeriBasinc() throws Exception {
+        // Given: yazıcı ilk partide bekletilir
+        ReflectionTestUtils.setField(yorumAlimServisi, "kuyrukKapasitesi", 10);
+        CountDownLatch yaziciBekle = new CountDownLatch(1);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenAnswer(inv -> {
+                    yaziciBekle.await(10, TimeUnit.SECONDS);
+                    return yaz(inv.getArgument(1));
+                });
+        yorumAlimServisi.baslat();
+
+        // When
+        assertNotNull(yorumAlimServisi.kuyrugaEkle(1L, 1L, "ilk yorum"));
+        bekle(() -> ((Number) yorumAlimServisi.istatistikler().get("kuyrukDerinligi")).intValue() == 0);
+        for (int i = 0; i < 10; i++) {
+            assertNotNull(yorumAlimServisi.kuyrugaEkle(1L, 1L, "yorum " + i));
+        }
+        Long reddedilen = yorumAlimServisi.kuyrugaEkle(1L, 1L, "fazla yorum");
+        yaziciBekle.countDown();
+
+        // Then
+        assertNull(reddedilen);
+        assertEquals(1L, yorumAlimServisi.istatistikler().get("kuyrukDoluReddi"));
+        bekle(() -> yazilanIdler.size() == 11);
+        assertEquals(11, yazilanIdler.size());
+    }
+
+    @Test
+    @DisplayName("Moderasyondan geçemeyen, maçı veya kullanıcısı olmayan yorumlar yazılmaz, ret olarak sayılır")
+    void testModerasyonVeGecersizMacReddedilir() {
+        // Given
+        yorumAlimServisi.baslat();
+        List<YorumAlimServisi.BekleyenYorum> parti = List.of(
+                bekleyen(1L, 1L, "güzel maç"),
+                bekleyen(2L, 1L, "RED içerik"),
+                bekleyen(3L, 99L, "olmayan maç"),
+                new YorumAlimServisi.BekleyenYorum(4L, 1L, -1L, "olmayan kullanıcı", java.time.LocalDateTime.now()));
+        for (YorumAlimServisi.BekleyenYorum b : parti) {
+            ReflectionTestUtils.invokeMethod(yorumAlimServisi, "durumYaz", b.yorumId, YorumAlimServisi.AlimDurumu.KUYRUKTA);
+        }
+
+        // When
+        yorumAlimServisi.partiyiIsle(parti);
+
+        // Then
+        assertEquals(List.of(1L), new ArrayList<>(yazilanIdler));
+        assertEquals("KAYDEDILDI", yorumAlimServisi.yorumDurumu(1L).getDurum());
+        assertEquals("REDDEDILDI", yorumAlimServisi.yorumDurumu(2L).getDurum());
+        assertEquals("Uygunsuz içerik", yorumAlimServisi.yorumDurumu(2L).getSebep());
+        assertEquals("REDDEDILDI", yorumAlimServisi.yorumDurumu(3L).getDurum());
+        assertEquals("Maç bulunamadı", yorumAlimServisi.yorumDurumu(3L).getSebep());
+        assertEquals("REDDEDILDI", yorumAlimServisi.yorumDurumu(4L).getDurum());
+        assertEquals("Kullanıcı bulunamadı", yorumAlimServisi.yorumDurumu(4L).getSebep());
+        Map<String, Object> istatistik = yorumAlimServisi.istatistikler();
+        assertEquals(1L, istatistik.get("moderasyonReddi"));
+        assertEquals(2L, istatistik.get("gecersizHedefReddi"));
+        assertEquals(0L, istatistik.get("hatali"));
+        verify(canliYorumYayini, times(1)).yorumYayinla(any());
+        verify(sonYorumlarTamponu, times(1)).ekle(eq(1L), eq(1L), any(), eq("güzel maç"), any());
+    }
+
+    @Test
+    @DisplayName("Parti eklenemezse yorumlar tek tek denenir, yalnızca hatalı olan ayrılır")
+    void testPartiHatasindaTekTekDenenir() {
+        // Given: ID 2 içeren her ekleme başarısız
+        yorumAlimServisi.baslat();
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenAnswer(inv -> {
+                    Collection<YorumAlimServisi.BekleyenYorum> yorumlar = inv.getArgument(1);
+                    if (yorumlar.stream().anyMatch(b -> b.yorumId == 2L)) {
+                        throw new DataIntegrityViolationException("çakışma");
+                    }
+                    return yaz(yorumlar);
+                });
+
+        // When
+        yorumAlimServisi.partiyiIsle(List.of(bekleyen(1L, 1L, "a"), bekleyen(2L, 1L, "b"), bekleyen(3L, 1L, "c")));
+
+        // Then
+        assertEquals(Set.of(1L, 3L), new HashSet<>(yazilanIdler));
+        assertEquals("KAYDEDILDI", yorumAlimServisi.yorumDurumu(1L).getDurum());
+        assertEquals("HATA", yorumAlimServisi.yorumDurumu(2L).getDurum());
+        assertEquals("KAYDEDILDI", yorumAlimServisi.yorumDurumu(3L).getDurum());
+        assertEquals(1L, yorumAlimServisi.istatistikler().get("hatali"));
+    }
+
+    private int[][] yaz(Collection<YorumAlimServisi.BekleyenYorum> yorumlar) {
+        for (YorumAlimServisi.BekleyenYorum b : yorumlar) {
+            yazilanIdler.add(b.yorumId);
+        }
+        partiBoyutlari.add(yorumlar.size());
+        return new int[0][];
+    }
+
+    private static List<Long> idleriFiltrele(Collection<Long> idler, long olmayan) {
+        return idler.stream().filter(id -> id != olmayan).collect(Collectors.toList());
+    }
+
+    private static YorumAlimServisi.BekleyenYorum bekleyen(Long yorumId, Long macId, String mesaj) {
+        return new YorumAlimServisi.BekleyenYorum(yorumId, macId, 7L, mesaj, java.time.LocalDateTime.now());
+    }
+
+    private static void bekle(BooleanSupplier kosul) throws InterruptedException {
+        long sonZaman = System.currentTimeMillis() + 30_000;
+        while (!kosul.getAsBoolean()) {
+            if (System.currentTimeMillis() > sonZaman) {
+                fail("Koşul zaman aşımına uğradı");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.footbase.service;
+
+import com.footbase.repository.YorumRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * YorumBegeniSayaci Test Sınıfı
+ *
+ * Biriktirilen farkların tek batch ile yazıldığını, yazma başarısız olunca farkların geri
+ * eklendiğini, okumada bekleyen farkın eklendiğini ve uzlaştırmanın sayım sırasında
+ * tamamlanan bir beğeniyi iki kez saymadığını test eder.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class YorumBegeniSayaciTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private YorumRepository yorumRepository;
+
+    private YorumBegeniSayaci sayac;
+
+    /**
+     * Her transaction'ın durumu (geri alma işaretini görmek için)
+     */
+    private final List<SimpleTransactionStatus> transactionlar = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        sayac = new YorumBegeniSayaci();
+        ReflectionTestUtils.setField(sayac, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(sayac, "yorumRepository", yorumRepository);
+        ReflectionTestUtils.setField(sayac, "transactionTemplate", new TransactionTemplate(transactionManager));
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(cagri -> {
+            SimpleTransactionStatus durum = new SimpleTransactionStatus();
+            transactionlar.add(durum);
+            return durum;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Farklar yorum başına toplanıp tek batch ile yazılmalı, net sıfır fark yazılmamalı")
+    void testYazTekBatch() {
+        // Given
+        sayac.degistir(1L, 1);
+        sayac.degistir(1L, 1);
+        sayac.degistir(2L, 1);
+        sayac.degistir(3L, 1);
+        sayac.degistir(3L, -1);
+
+        // When
+        int yazilan = sayac.yaz();
+
+        // Then
+        assertEquals(2, yazilan);
+        verify(jdbcTemplate).batchUpdate(anyString(), argThat((List<Object[]> satirlar) -> satirlar.size() == 2
+                && satirlar.stream().anyMatch(s -> s[0].equals(2L) && s[1].equals(1L))
+                && satirlar.stream().anyMatch(s -> s[0].equals(1L) && s[1].equals(2L))));
+        assertEquals(0, sayac.bekleyenFark(1L));
+        assertEquals(0, sayac.yaz());
+    }
+
+    @Test
+    @DisplayName("Yazma başarısız olursa farklar, yazma sırasında gelenlerle birleşerek geri eklenmeli")
+    void testYazmaHatasindaFarklarGeriEklenir() {
+        // Given: yazma sırasında aynı yoruma yeni bir beğeni gelir
+        sayac.degistir(1L, 3);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(cagri -> {
+            sayac.degistir(1L, 1);
+            throw new DataAccessResourceFailureException("bağlantı koptu");
+        });
+
+        // When & Then
+        assertThrows(DataAccessResourceFailureException.class, () -> sayac.yaz());
+        assertEquals(4, sayac.bekleyenFark(1L));
+        assertEquals(1L, sayac.istatistikler().get("hataliYazma"));
+
+        // When: sonraki yazma başarılı
+        reset(jdbcTemplate);
+        sayac.yaz();
+
+        // Then
+        verify(jdbcTemplate).batchUpdate(anyString(),
+                argThat((List<Object[]> satirlar) -> satirlar.size() == 1 && satirlar.get(0)[0].equals(4L)));
+        assertEquals(0, sayac.bekleyenFark(1L));
+    }
+
+    @Test
+    @DisplayName("Güncel sayı veritabanı değerine bekleyen farkı eklemeli ve negatife düşmemeli")
+    void testGuncelSayi() {
+        // Given
+        sayac.degistir(1L, 2);
+        sayac.degistir(2L, -3);
+
+        // When & Then
+        assertEquals(12, sayac.guncelSayi(1L, 10));
+        assertEquals(0, sayac.guncelSayi(2L, 1));
+        assertEquals(5, sayac.guncelSayi(3L, 5));
+    }
+
+    @Test
+    @DisplayName("Fark commit'ten sonra eklenmeli, geri alınan beğeni sayacı değiştirmemeli")
+    void testFarkCommitSonrasi() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        sayac.farkKaydet(1L, 1);
+        sayac.farkKaydet(2L, 1);
+        List<TransactionSynchronization> kayitlar = TransactionSynchronizationManager.getSynchronizations();
+
+        // Then: commit'ten önce fark yok
+        assertEquals(0, sayac.bekleyenFark(1L));
+        assertEquals(2, sayac.istatistikler().get("yoldakiFark"));
+
+        // When: birincisi commit, ikincisi geri alınır
+        kayitlar.get(0).afterCommit();
+        kayitlar.get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        kayitlar.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Then
+        assertEquals(1, sayac.bekleyenFark(1L));
+        assertEquals(0, sayac.bekleyenFark(2L));
+        assertEquals(0, sayac.istatistikler().get("yoldakiFark"));
+    }
+
+    @Test
+    @DisplayName("Uzlaştırma bekleyen farkları aynı transaction'da alıp silmeli (yeniden sayım onları içerir)")
+    void testUzlastirmaBekleyenFarklariAlir() {
+        // Given
+        sayac.degistir(1L, 1);
+        when(yorumRepository.begeniSayilariniUzlastir()).thenReturn(3);
+
+        // When
+        int duzeltilen = sayac.uzlastir();
+
+        // Then
+        assertEquals(3, duzeltilen);
+        assertEquals(0, sayac.bekleyenFark(1L));
+        assertEquals(1, transactionlar.size());
+        assertFalse(transactionlar.get(0).isRollbackOnly());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("Sayım sırasında tamamlanan beğeni iki kez sayılmamalı: deneme geri alınır ve tekrarlanır")
+    void testUzlastirmaSirasindaBegeni() {
+        // Given: ilk sayım sırasında bir beğeni commit edilir (satırı sayıma girmiş olabilir)
+        sayac.degistir(1L, 1);
+        when(yorumRepository.begeniSayilariniUzlastir())
+                .thenAnswer(cagri -> {
+                    sayac.farkKaydet(1L, 1);
+                    return 5;
+                })
+                .thenReturn(2);
+
+        // When
+        int duzeltilen = sayac.uzlastir();
+
+        // Then: ilk deneme geri alındı, ikinci deneme her iki farkı da sayıma bıraktı
+        assertEquals(2, duzeltilen);
+        assertEquals(2, transactionlar.size());
+        assertTrue(transactionlar.get(0).isRollbackOnly());
+        assertFalse(transactionlar.get(1).isRollbackOnly());
+        assertEquals(0, sayac.bekleyenFark(1L));
+        assertEquals(1L, sayac.istatistikler().get("uzlastirmaTekrari"));
+    }
+
+    @Test
+    @DisplayName("Açık bir beğeni transaction'ı sürerken uzlaştırma sayım yapmamalı")
+    void testAcikBegeniVarkenUzlastirmaYapilmaz() {
+        // Given: commit edilmemiş beğeni
+        TransactionSynchronizationManager.initSynchronization();
+        sayac.farkKaydet(1L, 1);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> sayac.uzlastir());
+        verify(yorumRepository, never()).begeniSayilariniUzlastir();
+
+        // When: beğeni commit edilir
+        TransactionSynchronization kayit = TransactionSynchronizationManager.getSynchronizations().get(0);
+        kayit.afterCommit();
+        kayit.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        when(yorumRepository.begeniSayilariniUzlastir()).thenReturn(0);
+
+        // Then
+        assertEquals(0, sayac.uzlastir());
+        assertEquals(0, sayac.bekleyenFark(1L));
+    }
+
+    @Test
+    @DisplayName("Sayım hata verirse alınan farklar geri eklenmeli")
+    void testUzlastirmaHatasindaFarklarKorunur() {
+        // Given
+        sayac.degistir(1L, 2);
+        when(yorumRepository.begeniSayilariniUzlastir()).thenThrow(new DataAccessResourceFailureException("zaman aşımı"));
+
+        // When & Then
+        assertThrows(DataAccessResourceFailureException.class, () -> sayac.uzlastir());
+        assertEquals(2, sayac.bekleyenFark(1L));
+    }
+}
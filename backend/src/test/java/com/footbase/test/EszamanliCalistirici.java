@@ -0,0 +1,78 @@
+package com.footbase.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Eşzamanlılık testleri için ortak çalıştırıcı
+ *
+ * Verilen işi N iş parçacığında aynı anda başlatır (başlangıç kilidiyle) ve hepsinin bitmesini
+ * bekler. Her iş en fazla ZAMAN_ASIMI_SANIYE bekler; takılan bir iş testi düşürür, build'i
+ * kilitlemez. Havuz her durumda kapatılır ve iş parçacıkları daemon'dur.
+ *
+ * @author FootBase Takımı
+ * @version 1.0
+ */
+public final class EszamanliCalistirici {
+
+    public static final long ZAMAN_ASIMI_SANIYE = 60;
+
+    private EszamanliCalistirici() {
+    }
+
+    /**
+     * Sıra numarası alan iş (0..N-1)
+     */
+    @FunctionalInterface
+    public interface SiraliIs {
+        void calistir(int sira) throws Exception;
+    }
+
+    /**
+     * İşi isParcacigiSayisi iş parçacığında aynı anda çalıştırır
+     * İşlerden biri hata verirse (ör. başarısız assert) hatanın kendisi fırlatılır
+     * @param isParcacigiSayisi İş parçacığı sayısı
+     * @param is Her iş parçacığının çalıştıracağı iş
+     */
+    public static void eszamanliCalistir(int isParcacigiSayisi, SiraliIs is) throws Exception {
+        ExecutorService havuz = Executors.newFixedThreadPool(isParcacigiSayisi, r -> {
+            Thread thread = new Thread(r, "eszamanli-test");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CountDownLatch baslangic = new CountDownLatch(1);
+        List<Future<?>> sonuclar = new ArrayList<>();
+        try {
+            for (int i = 0; i < isParcacigiSayisi; i++) {
+                int sira = i;
+                sonuclar.add(havuz.submit(() -> {
+                    baslangic.await();
+                    is.calistir(sira);
+                    return null;
+                }));
+            }
+            baslangic.countDown();
+            for (Future<?> sonuc : sonuclar) {
+                try {
+                    sonuc.get(ZAMAN_ASIMI_SANIYE, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Exception hata) {
+                        throw hata;
+                    }
+                    if (e.getCause() instanceof Error hata) {
+                        throw hata;
+                    }
+                    throw e;
+                }
+            }
+        } finally {
+            havuz.shutdownNow();
+        }
+    }
+}
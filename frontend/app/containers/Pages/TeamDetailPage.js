@@ -28,16 +28,18 @@ function TeamDetailPage() {
   const [players, setPlayers] = useState([]);
   const [matches, setMatches] = useState([]);
   const [statistics, setStatistics] = useState(null);
+  const [form, setForm] = useState(null);
 
   useEffect(() => {
     let mounted = true;
     (async () => {
       try {
-        const [teamRes, playersRes, matchesRes, statisticsRes] = await Promise.allSettled([
+        const [teamRes, playersRes, matchesRes, statisticsRes, formRes] = await Promise.allSettled([
           teamsAPI.get(id),
           teamsAPI.getPlayers(id),
           teamsAPI.getMatches(id),
           teamsAPI.getStatistics(id),
+          teamsAPI.getForm(id, 5),
         ]);
         
         if (teamRes.status === 'fulfilled' && mounted) {
@@ -47,11 +49,14 @@ function TeamDetailPage() {
           setPlayers(Array.isArray(playersRes.value) ? playersRes.value : []);
         }
         if (matchesRes.status === 'fulfilled' && mounted) {
-          setMatches(Array.isArray(matchesRes.value) ? matchesRes.value : []);
+          setMatches(Array.isArray(matchesRes.value?.maclar) ? matchesRes.value.maclar : []);
         }
         if (statisticsRes.status === 'fulfilled' && mounted) {
           setStatistics(statisticsRes.value);
         }
+        if (formRes.status === 'fulfilled' && mounted) {
+          setForm(formRes.value);
+        }
       } catch (e) {
         if (mounted) setError('Veri yüklenemedi. Lütfen tekrar deneyin.');
       } finally {
@@ -63,6 +68,11 @@ function TeamDetailPage() {
     };
   }, [id]);
 
+  // Maç listesi sayfalıdır (ilk 10 maç); toplam sayı istatistiklerden, listeyle aynı filtreyle gelir
+  const totalMatches = statistics?.toplam_mac ?? matches.length;
+  const formResults = Array.isArray(form?.sonuclar) ? form.sonuclar : [];
+  const formColors = { G: 'success', B: 'default', M: 'error' };
+
   if (loading) {
     return (
       <Box display="flex" justifyContent="center" mt={4}>
@@ -129,16 +139,36 @@ function TeamDetailPage() {
                   )}
                   
                   {/* Takım İstatistikleri */}
-                  {statistics && (
+                  {(statistics || formResults.length > 0) && (
                     <>
                       <Divider />
                       <Typography variant="subtitle2" fontWeight="bold" color="text.secondary">
                         <BarChartIcon sx={{ verticalAlign: 'middle', mr: 0.5, fontSize: 18 }} />
                         İstatistikler
                       </Typography>
-                      {statistics.toplam_mac !== undefined && (
+                      {statistics?.toplam_mac !== undefined && (
                         <Typography color="text.secondary">Toplam Maç: {statistics.toplam_mac || 0}</Typography>
                       )}
+                      {formResults.length > 0 && (
+                        <Stack direction="row" spacing={1} alignItems="center" flexWrap="wrap">
+                          <Typography color="text.secondary">Son {formResults.length} Maç:</Typography>
+                          {formResults.map((sonuc) => (
+                            <Chip
+                              key={sonuc.macId}
+                              label={sonuc.sonuc}
+                              size="small"
+                              color={formColors[sonuc.sonuc] || 'default'}
+                              title={`${sonuc.evSahibi ? 'vs' : '@'} ${sonuc.rakipAdi || '-'} ${sonuc.atilanGol}-${sonuc.yenilenGol}`}
+                              component={Link}
+                              to={`/app/matches/${sonuc.macId}`}
+                              clickable
+                            />
+                          ))}
+                          {form.puan !== undefined && (
+                            <Typography variant="caption" color="text.secondary">({form.puan} puan)</Typography>
+                          )}
+                        </Stack>
+                      )}
                     </>
                   )}
                 </>
@@ -264,11 +294,11 @@ function TeamDetailPage() {
           <Stack spacing={2}>
             <Typography variant="subtitle1" fontWeight="bold">
               <SportsSoccerIcon sx={{ verticalAlign: 'middle', mr: 1 }} />
-              Takım Maçları ({matches.length})
+              Takım Maçları ({totalMatches})
             </Typography>
             {matches.length > 0 ? (
               <Stack spacing={1}>
-                {matches.slice(0, 10).map((match) => {
+                {matches.map((match) => {
                   const homeTeamName = match.homeTeam || (match.evSahibiTakim?.ad) || 'Bilinmiyor';
                   const awayTeamName = match.awayTeam || (match.deplasmanTakim?.ad) || 'Bilinmiyor';
                   const homeScore = match.homeScore != null ? match.homeScore : (match.evSahibiSkor != null ? match.evSahibiSkor : null);
@@ -307,9 +337,9 @@ function TeamDetailPage() {
                     </Box>
                   );
                 })}
-                {matches.length > 10 && (
+                {totalMatches > matches.length && (
                   <Typography variant="caption" color="text.secondary">
-                    ... ve {matches.length - 10} maç daha
+                    ... ve {totalMatches - matches.length} maç daha
                   </Typography>
                 )}
               </Stack>
@@ -137,7 +137,8 @@ export const teamsAPI = {
   list: () => request(`${API_BASE_URL}${API_ENDPOINTS.TEAMS.LIST}`),
   get: (id) => request(`${API_BASE_URL}${API_ENDPOINTS.TEAMS.GET(id)}`),
   getPlayers: (id) => request(`${API_BASE_URL}${API_ENDPOINTS.TEAMS.PLAYERS(id)}`),
-  getMatches: (id) => request(`${API_BASE_URL}${API_ENDPOINTS.TEAMS.MATCHES(id)}`),
+  getMatches: (id, size = 10) => request(`${API_BASE_URL}${API_ENDPOINTS.TEAMS.MATCHES(id)}?size=${size}`),
+  getForm: (id, count = 5) => request(`${API_BASE_URL}${API_ENDPOINTS.TEAMS.FORM(id)}?adet=${count}`),
   getStatistics: (id) => request(`${API_BASE_URL}${API_ENDPOINTS.TEAMS.STATISTICS(id)}`),
 };
 
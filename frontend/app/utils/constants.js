@@ -38,6 +38,7 @@ export const API_ENDPOINTS = {
     GET: (id) => `/teams/${id}`,
     PLAYERS: (id) => `/teams/${id}/players`,
     MATCHES: (id) => `/teams/${id}/matches`,
+    FORM: (id) => `/teams/${id}/form`,
     STATISTICS: (id) => `/teams/${id}/statistics`,
   },
   USERS: {